@@ -0,0 +1,31 @@
+package com.a00n.benchmarks;
+
+import com.a00n.entities.Student;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic test data shared by the benchmarks, shaped like the seeded students.
+ */
+final class Fixtures {
+
+    private static final String[] FIRST_NAMES = {"Mohamed", "Sara", "Youssef", "Fatima", "Adam", "Lina", "Omar", "Emma"};
+    private static final String[] LAST_NAMES = {"El Amrani", "Smith", "Benali", "Garcia", "Nouri", "Martin", "Alaoui"};
+
+    private Fixtures() {
+    }
+
+    static List<Student> students(int count) {
+        SplittableRandom random = new SplittableRandom(count);
+        List<Student> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            students.add(new Student((long) i + 1,
+                    FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                    LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+                    (long) random.nextInt(18, 30)));
+        }
+        return students;
+    }
+}
@@ -0,0 +1,87 @@
+package com.a00n.benchmarks;
+
+import com.a00n.entities.Student;
+import com.a00n.grpc.stubs.StudentOuterClass;
+import com.a00n.grpc.stubs.StudentServiceGrpc;
+import com.a00n.mappers.StudentMapper;
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.grpc.Drainable;
+import io.grpc.MethodDescriptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building, encoding and decoding a {@code ListStudentsResponse}. {@link #marshal()} measures the path gRPC takes
+ * when writing a response, through the method's marshaller.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ListStudentsResponseBenchmark {
+
+    @Param({"1", "100", "10000", "1000000"})
+    int size;
+
+    private final StudentMapper mapper = new StudentMapper();
+    private final MethodDescriptor.Marshaller<StudentOuterClass.ListStudentsResponse> marshaller =
+            StudentServiceGrpc.getListStudentsMethod().getResponseMarshaller();
+    private List<Student> entities;
+    private StudentOuterClass.ListStudentsResponse response;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        entities = Fixtures.students(size);
+        response = build();
+        encoded = response.toByteArray();
+    }
+
+    @Benchmark
+    public StudentOuterClass.ListStudentsResponse build() {
+        StudentOuterClass.ListStudentsResponse.Builder builder = StudentOuterClass.ListStudentsResponse.newBuilder();
+        for (Student student : entities) {
+            builder.addStudents(mapper.toGrpcStudent(student));
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public byte[] toByteArray() {
+        return response.toByteArray();
+    }
+
+    @Benchmark
+    public int marshal() throws IOException {
+        InputStream stream = marshaller.stream(response);
+        return ((Drainable) stream).drainTo(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public StudentOuterClass.ListStudentsResponse parseFrom() throws InvalidProtocolBufferException {
+        return StudentOuterClass.ListStudentsResponse.parseFrom(encoded);
+    }
+
+    @Benchmark
+    public StudentOuterClass.ListStudentsResponse unmarshal() {
+        return marshaller.parse(new ByteArrayInputStream(encoded));
+    }
+}
@@ -0,0 +1,81 @@
+package com.a00n.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leeuw.codec.ProtobufCodecConfiguration;
+import com.leeuw.dto.Student;
+import com.leeuw.grpc.stubs.StudentOuterClass;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing a ListStudentsResponse as the gateway's JSON: {@code direct} is the protobuf serializer the controller
+ * uses now, {@code viaDtos} the earlier copy into {@code com.leeuw.dto.Student} objects followed by plain Jackson.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class StudentJsonBenchmark {
+
+    @Param({"1", "100", "10000", "1000000"})
+    int size;
+
+    private final ObjectMapper dtoMapper = new ObjectMapper();
+    private final ObjectMapper protobufMapper = new ObjectMapper()
+            .registerModule(new ProtobufCodecConfiguration().protobufJsonModule());
+    private StudentOuterClass.ListStudentsResponse page;
+
+    @Setup
+    public void setUp() {
+        StudentOuterClass.ListStudentsResponse.Builder builder = StudentOuterClass.ListStudentsResponse.newBuilder();
+        for (com.a00n.entities.Student student : Fixtures.students(size)) {
+            builder.addStudents(StudentOuterClass.Student.newBuilder()
+                    .setId(student.getId())
+                    .setFirstName(student.getFirstName())
+                    .setLastName(student.getLastName())
+                    .setAge(student.getAge()));
+        }
+        page = builder.setNextPageToken("AQAAAAAAAAAD").build();
+    }
+
+    @Benchmark
+    public void direct() throws IOException {
+        protobufMapper.writeValue(OutputStream.nullOutputStream(), page);
+    }
+
+    @Benchmark
+    public void viaDtos() throws IOException {
+        List<Student> students = new ArrayList<>();
+        for (StudentOuterClass.Student student : page.getStudentsList()) {
+            Student studentDTO = new Student();
+            studentDTO.setId(student.getId());
+            studentDTO.setFirstName(student.getFirstName());
+            studentDTO.setLastName(student.getLastName());
+            studentDTO.setAge(student.getAge());
+            students.add(studentDTO);
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("students", students);
+        body.put("nextPageToken", page.getNextPageToken());
+        dtoMapper.writeValue(OutputStream.nullOutputStream(), body);
+    }
+}
@@ -0,0 +1,63 @@
+package com.a00n.benchmarks;
+
+import com.a00n.entities.Student;
+import com.a00n.grpc.stubs.StudentOuterClass;
+import com.a00n.mappers.StudentMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link StudentMapper} in both directions over a whole list, as done for every ListStudents page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class StudentMapperBenchmark {
+
+    @Param({"1", "100", "10000", "1000000"})
+    int size;
+
+    private final StudentMapper mapper = new StudentMapper();
+    private List<Student> entities;
+    private List<StudentOuterClass.Student> messages;
+
+    @Setup
+    public void setUp() {
+        entities = Fixtures.students(size);
+        messages = entities.stream().map(mapper::toGrpcStudent).toList();
+    }
+
+    @Benchmark
+    public List<StudentOuterClass.Student> toGrpcStudent() {
+        List<StudentOuterClass.Student> result = new ArrayList<>(entities.size());
+        for (Student student : entities) {
+            result.add(mapper.toGrpcStudent(student));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Student> fromGrpcStudent() {
+        List<Student> result = new ArrayList<>(messages.size());
+        for (StudentOuterClass.Student student : messages) {
+            result.add(mapper.fromGrpcStudent(student));
+        }
+        return result;
+    }
+}
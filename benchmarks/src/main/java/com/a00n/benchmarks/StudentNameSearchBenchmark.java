@@ -0,0 +1,74 @@
+package com.a00n.benchmarks;
+
+import com.a00n.entities.Student;
+import com.a00n.search.StudentNameIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SearchStudents on a {@link StudentNameIndex} of {@code size} students whose names are drawn from {@code distinct}
+ * full names: the fixture names, then numbered variants of them ("Smith 12"). Each call runs the next query of a
+ * mix of exact first names, word starts, substrings and a rare numbered name, with the server's default limit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class StudentNameSearchBenchmark {
+
+    private static final String[] FIRST_NAMES = {"Mohamed", "Sara", "Youssef", "Fatima", "Adam", "Lina", "Omar", "Emma"};
+    private static final String[] LAST_NAMES = {"El Amrani", "Smith", "Benali", "Garcia", "Nouri", "Martin", "Alaoui"};
+    private static final String[] QUERIES = {"sara", "amrani", "ouss", "mith", "garcia 41", "lina benali"};
+
+    @Param({"1000000", "5000000"})
+    int size;
+
+    @Param({"56", "1000000"})
+    int distinct;
+
+    @Param({"10"})
+    int limit;
+
+    private final StudentNameIndex index = new StudentNameIndex();
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(size);
+        int base = FIRST_NAMES.length * LAST_NAMES.length;
+        List<List<Student>> pages = new ArrayList<>();
+        for (int offset = 0; offset < size; offset += 10_000) {
+            List<Student> page = new ArrayList<>(10_000);
+            for (int i = offset; i < Math.min(size, offset + 10_000); i++) {
+                int name = random.nextInt(distinct);
+                String lastName = LAST_NAMES[name / FIRST_NAMES.length % LAST_NAMES.length];
+                page.add(new Student((long) i + 1, FIRST_NAMES[name % FIRST_NAMES.length],
+                        name < base ? lastName : lastName + " " + name / base, (long) random.nextInt(18, 30)));
+            }
+            pages.add(page);
+        }
+        index.rebuild(pages, Runtime.getRuntime().availableProcessors());
+    }
+
+    @Benchmark
+    public List<Student> search() {
+        next = next == QUERIES.length - 1 ? 0 : next + 1;
+        return index.search(QUERIES[next], limit);
+    }
+}
@@ -0,0 +1,84 @@
+package com.a00n.benchmarks;
+
+import com.a00n.entities.Student;
+import com.a00n.store.InMemoryStudentStore;
+import com.a00n.store.OffHeapStudentStore;
+import com.a00n.store.StudentQuery;
+import com.a00n.store.StudentStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full-table reads on the {@code memory} and {@code offheap} stores: walking every student in id pages of 1000, as
+ * ListStudentsStream does, and a filtered top 100 by age, which scans every row. Setup prints the heap each store
+ * retains per student; names are copied per row, as a JDBC driver would return them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g", "-XX:MaxDirectMemorySize=1g"})
+public class StudentStoreScanBenchmark {
+
+    private static final StudentQuery YOUNG_S = new StudentQuery(null, 20L, "S", null, StudentQuery.Sort.AGE, false);
+
+    @Param({"memory", "offheap"})
+    String store;
+
+    @Param({"1000000", "5000000"})
+    int size;
+
+    private StudentStore students;
+
+    @Setup
+    public void setUp() {
+        long heapBefore = usedHeap();
+        students = store.equals("memory") ? new InMemoryStudentStore() : new OffHeapStudentStore(65536);
+        for (int offset = 0; offset < size; offset += 10_000) {
+            List<Student> batch = new ArrayList<>(10_000);
+            for (Student student : Fixtures.students(Math.min(10_000, size - offset))) {
+                batch.add(Student.builder().firstName(new String(student.getFirstName()))
+                        .lastName(new String(student.getLastName())).age(student.getAge()).build());
+            }
+            students.insertAll(batch);
+        }
+        System.out.printf("%n%s retains %d heap bytes per student%n", store, (usedHeap() - heapBefore) / size);
+    }
+
+    @Benchmark
+    public long pageThroughById() {
+        long seen = 0;
+        long afterId = 0;
+        List<Student> page;
+        while (!(page = students.findPage(afterId, 1000)).isEmpty()) {
+            seen += page.size();
+            afterId = page.get(page.size() - 1).getId();
+        }
+        return seen;
+    }
+
+    @Benchmark
+    public List<Student> youngestWhoseNameStartsWithS() {
+        return students.findPage(YOUNG_S, null, 100);
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,166 @@
+package com.a00n.benchmarks.load;
+
+import com.a00n.grpc.stubs.StudentOuterClass;
+import com.a00n.grpc.stubs.StudentServiceGrpc;
+import com.a00n.grpcstudentserver.GrpcStudentServerApplication;
+import com.a00n.store.StudentStore;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares the {@code fixed} and {@code virtual} server executors on GetStudent with 1k to 50k calls in flight.
+ * The server runs in this JVM on the in-process transport with the memory store, the student cache disabled and
+ * every store call delayed by {@code --store-latency-ms}, standing in for a blocking JDBC round trip.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.a00n.benchmarks.load.ExecutorComparison --store-latency-ms=5 --threads=200
+ * </pre>
+ */
+public class ExecutorComparison {
+
+    private static final int[] IN_FLIGHT = {1_000, 5_000, 10_000, 50_000};
+    private static final int SEEDED = 10_000;
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        long storeLatencyMillis = 5;
+        int threads = 200;
+        int callsPerClient = 5;
+        List<String> modes = List.of("fixed", "virtual");
+        for (String arg : args) {
+            String[] parts = arg.replaceFirst("^--", "").split("=", 2);
+            switch (parts[0]) {
+                case "store-latency-ms" -> storeLatencyMillis = Long.parseLong(parts[1]);
+                case "threads" -> threads = Integer.parseInt(parts[1]);
+                case "calls-per-client" -> callsPerClient = Integer.parseInt(parts[1]);
+                case "modes" -> modes = List.of(parts[1].split(","));
+                default -> throw new IllegalArgumentException("unknown option " + arg);
+            }
+        }
+        System.setProperty("bench.store-latency-ms", String.valueOf(storeLatencyMillis));
+
+        System.out.printf("%-8s %10s %10s %8s %10s %10s %10s %10s%n",
+                "executor", "in-flight", "calls", "errors", "calls/s", "p50 ms", "p99 ms", "max ms");
+        for (String mode : modes) {
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                    GrpcStudentServerApplication.class, StoreLatency.class)
+                    .run("--spring.profiles.active=embedded",
+                            "--spring.jpa.show-sql=false",
+                            "--logging.level.root=WARN",
+                            "--spring.main.web-application-type=none",
+                            "--grpc.server.port=-1",
+                            "--grpc.server.security.enabled=false",
+                            "--grpc.server.in-process-name=executor-comparison",
+                            "--students.store=memory",
+                            "--students.seed.count=" + SEEDED,
+                            "--students.cache.maximum-size=0",
+                            "--students.metrics.port=-1",
+                            "--students.auth.audit.granted-sample-rate=0",
+                            "--students.server.executor=" + mode,
+                            "--students.server.executor.threads=" + threads)) {
+                ManagedChannel channel = InProcessChannelBuilder.forName("executor-comparison").directExecutor().build();
+                try {
+                    Metadata headers = new Metadata();
+                    headers.put(Metadata.Key.of("grpc-api-key", Metadata.ASCII_STRING_MARSHALLER), "ay0ub");
+                    StudentServiceGrpc.StudentServiceStub stub = StudentServiceGrpc.newStub(channel)
+                            .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+                    run(stub, 1_000, 5_000, null);
+                    for (int inFlight : IN_FLIGHT) {
+                        run(stub, inFlight, inFlight * callsPerClient, mode);
+                    }
+                } finally {
+                    channel.shutdownNow().awaitTermination(10, TimeUnit.SECONDS);
+                }
+            }
+        }
+    }
+
+    private static void run(StudentServiceGrpc.StudentServiceStub stub, int inFlight, int calls, String mode)
+            throws InterruptedException {
+        Semaphore slots = new Semaphore(inFlight);
+        Recorder recorder = new Recorder(3);
+        LongAdder errors = new LongAdder();
+        long start = System.nanoTime();
+        for (int i = 0; i < calls; i++) {
+            slots.acquire();
+            long callStart = System.nanoTime();
+            stub.getStudent(StudentOuterClass.GetStudentRequest.newBuilder()
+                    .setId(ThreadLocalRandom.current().nextLong(1, SEEDED + 1)).build(), new StreamObserver<>() {
+                @Override
+                public void onNext(StudentOuterClass.Student student) {
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    errors.increment();
+                    done();
+                }
+
+                @Override
+                public void onCompleted() {
+                    done();
+                }
+
+                private void done() {
+                    recorder.recordValue((System.nanoTime() - callStart) / 1_000);
+                    slots.release();
+                }
+            });
+        }
+        slots.acquire(inFlight);
+        long elapsed = System.nanoTime() - start;
+        Histogram histogram = recorder.getIntervalHistogram();
+        if (mode != null) {
+            System.out.printf("%-8s %10d %10d %8d %10.0f %10.2f %10.2f %10.2f%n", mode, inFlight, calls, errors.sum(),
+                    calls * 1e9 / elapsed, histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0, histogram.getMaxValue() / 1000.0);
+        }
+    }
+
+    /**
+     * Delays every {@link StudentStore} call by {@code bench.store-latency-ms} with a plain sleep.
+     */
+    @Configuration(proxyBeanMethods = false)
+    static class StoreLatency {
+
+        @Bean
+        static BeanPostProcessor storeLatencyPostProcessor() {
+            long latencyMillis = Long.getLong("bench.store-latency-ms", 5);
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof StudentStore store)) {
+                        return bean;
+                    }
+                    return Proxy.newProxyInstance(StudentStore.class.getClassLoader(), new Class<?>[]{StudentStore.class},
+                            (proxy, method, methodArgs) -> {
+                                Thread.sleep(latencyMillis);
+                                try {
+                                    return method.invoke(store, methodArgs);
+                                } catch (InvocationTargetException e) {
+                                    throw e.getCause();
+                                }
+                            });
+                }
+            };
+        }
+    }
+}
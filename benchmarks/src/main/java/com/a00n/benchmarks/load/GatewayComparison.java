@@ -0,0 +1,187 @@
+package com.a00n.benchmarks.load;
+
+import com.a00n.grpcstudentserver.GrpcStudentServerApplication;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.leeuw.grpc.stubs.StudentOuterClass;
+import com.leeuw.grpc.stubs.StudentServiceGrpc;
+import com.leeuw.grpcClient.GrpcClientApplication;
+import com.leeuw.service.GrpcClientService;
+import io.grpc.Channel;
+import net.devh.boot.grpc.client.channelfactory.GrpcChannelFactory;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares the ways the REST gateway can wait for GetStudent: a blocking stub on a bounded pool of
+ * {@code --threads} workers, which is what the Spring MVC controller did on Tomcat's 200 threads, the future
+ * stub, and the {@code Mono} returned by {@link GrpcClientService}, which is what the WebFlux controller uses.
+ * The server and the gateway's Spring context both run in this JVM, connected over the in-process transport.
+ * On the server every store call sleeps {@code --store-latency-ms} on a virtual thread, so the server itself is
+ * not the bottleneck.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.a00n.benchmarks.load.GatewayComparison --threads=200 --store-latency-ms=5
+ * </pre>
+ */
+public class GatewayComparison {
+
+    private static final int[] IN_FLIGHT = {100, 1_000, 5_000, 10_000};
+    private static final int SEEDED = 10_000;
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        long storeLatencyMillis = 5;
+        int threads = 200;
+        int callsPerClient = 5;
+        List<String> modes = List.of("blocking", "future", "reactive");
+        for (String arg : args) {
+            String[] parts = arg.replaceFirst("^--", "").split("=", 2);
+            switch (parts[0]) {
+                case "store-latency-ms" -> storeLatencyMillis = Long.parseLong(parts[1]);
+                case "threads" -> threads = Integer.parseInt(parts[1]);
+                case "calls-per-client" -> callsPerClient = Integer.parseInt(parts[1]);
+                case "modes" -> modes = List.of(parts[1].split(","));
+                default -> throw new IllegalArgumentException("unknown option " + arg);
+            }
+        }
+        System.setProperty("bench.store-latency-ms", String.valueOf(storeLatencyMillis));
+
+        try (ConfigurableApplicationContext server = new SpringApplicationBuilder(
+                GrpcStudentServerApplication.class, ExecutorComparison.StoreLatency.class)
+                .run("--spring.profiles.active=embedded",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--spring.main.web-application-type=none",
+                        "--grpc.server.port=-1",
+                        "--grpc.server.security.enabled=false",
+                        "--grpc.server.in-process-name=gateway-comparison",
+                        "--students.store=memory",
+                        "--students.seed.count=" + SEEDED,
+                        "--students.cache.maximum-size=0",
+                        "--students.metrics.port=-1",
+                        "--students.auth.audit.granted-sample-rate=0",
+                        "--students.server.executor=virtual");
+             ConfigurableApplicationContext gateway = new SpringApplicationBuilder(GrpcClientApplication.class)
+                     .run("--logging.level.root=WARN",
+                             "--spring.main.web-application-type=none",
+                             // The server's jar is on the classpath too; keep its server and JPA setup out.
+                             "--grpc.server.port=-1",
+                             "--spring.autoconfigure.exclude="
+                                     + "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration,"
+                                     + "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration",
+                             "--grpc.client.service.address=in-process:gateway-comparison",
+                             "--grpc.client.service.negotiation-type=plaintext")) {
+            Channel channel = gateway.getBean(GrpcChannelFactory.class).createChannel("service");
+            Gateway[] gateways = {
+                    blocking(StudentServiceGrpc.newBlockingStub(channel), threads),
+                    future(StudentServiceGrpc.newFutureStub(channel)),
+                    reactive(gateway.getBean(GrpcClientService.class))
+            };
+            System.out.printf("%-9s %10s %10s %8s %10s %10s %10s %10s %8s%n",
+                    "gateway", "in-flight", "calls", "errors", "calls/s", "p50 ms", "p99 ms", "max ms", "threads");
+            for (Gateway candidate : gateways) {
+                if (!modes.contains(candidate.name())) {
+                    continue;
+                }
+                run(candidate, 1_000, 5_000, false);
+                for (int inFlight : IN_FLIGHT) {
+                    run(candidate, inFlight, inFlight * callsPerClient, true);
+                }
+                candidate.close().run();
+            }
+        }
+    }
+
+    private static void run(Gateway gateway, int inFlight, int calls, boolean report) throws InterruptedException {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        threadBean.resetPeakThreadCount();
+        Semaphore slots = new Semaphore(inFlight);
+        Recorder recorder = new Recorder(3);
+        LongAdder errors = new LongAdder();
+        long start = System.nanoTime();
+        for (int i = 0; i < calls; i++) {
+            slots.acquire();
+            long callStart = System.nanoTime();
+            gateway.call().getStudent(ThreadLocalRandom.current().nextLong(1, SEEDED + 1), failed -> {
+                if (failed) {
+                    errors.increment();
+                }
+                recorder.recordValue((System.nanoTime() - callStart) / 1_000);
+                slots.release();
+            });
+        }
+        slots.acquire(inFlight);
+        long elapsed = System.nanoTime() - start;
+        Histogram histogram = recorder.getIntervalHistogram();
+        if (report) {
+            System.out.printf("%-9s %10d %10d %8d %10.0f %10.2f %10.2f %10.2f %8d%n", gateway.name(), inFlight, calls,
+                    errors.sum(), calls * 1e9 / elapsed, histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0, histogram.getMaxValue() / 1000.0,
+                    threadBean.getPeakThreadCount());
+        }
+    }
+
+    private static Gateway blocking(StudentServiceGrpc.StudentServiceBlockingStub stub, int threads) {
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        return new Gateway("blocking", (id, completion) -> workers.execute(() -> {
+            boolean failed = false;
+            try {
+                stub.getStudent(request(id));
+            } catch (RuntimeException e) {
+                failed = true;
+            }
+            completion.done(failed);
+        }), workers::shutdownNow);
+    }
+
+    private static Gateway future(StudentServiceGrpc.StudentServiceFutureStub stub) {
+        return new Gateway("future", (id, completion) -> Futures.addCallback(stub.getStudent(request(id)),
+                new FutureCallback<>() {
+                    @Override
+                    public void onSuccess(StudentOuterClass.Student student) {
+                        completion.done(false);
+                    }
+
+                    @Override
+                    public void onFailure(Throwable t) {
+                        completion.done(true);
+                    }
+                }, MoreExecutors.directExecutor()), () -> {
+        });
+    }
+
+    private static Gateway reactive(GrpcClientService service) {
+        return new Gateway("reactive", (id, completion) -> service.getStudentById(id)
+                .subscribe(student -> completion.done(false), e -> completion.done(true)), () -> {
+        });
+    }
+
+    private static StudentOuterClass.GetStudentRequest request(long id) {
+        return StudentOuterClass.GetStudentRequest.newBuilder().setId(id).build();
+    }
+
+    interface Completion {
+        void done(boolean failed);
+    }
+
+    interface Call {
+        void getStudent(long id, Completion completion);
+    }
+
+    record Gateway(String name, Call call, Runnable close) {
+    }
+}
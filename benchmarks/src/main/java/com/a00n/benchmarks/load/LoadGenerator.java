@@ -0,0 +1,328 @@
+package com.a00n.benchmarks.load;
+
+import com.a00n.grpc.stubs.StudentOuterClass;
+import com.a00n.grpc.stubs.StudentServiceGrpc;
+import io.grpc.ChannelCredentials;
+import io.grpc.ClientInterceptor;
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.TlsChannelCredentials;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the {@code StudentService} RPCs of a running server through the async stubs and reports per-method
+ * throughput, errors and latency percentiles.
+ *
+ * <p>At most {@code --concurrency} calls are in flight. With {@code --rps} the calls are issued on a fixed schedule
+ * and latency is measured from the scheduled start, so time spent waiting for a free slot counts (no coordinated
+ * omission); without it every finished call immediately frees a slot for the next one.
+ *
+ * <p>Get and update target ids read from the server before the run, list walks the page tokens seen then, and
+ * delete only removes students created by this run (it turns into a create when there is none left to delete).
+ */
+public class LoadGenerator {
+
+    private static final Metadata.Key<String> API_KEY = Metadata.Key.of("grpc-api-key", Metadata.ASCII_STRING_MARSHALLER);
+
+    private final LoadOptions options;
+    private final List<ManagedChannel> channels = new ArrayList<>();
+    private final List<StudentServiceGrpc.StudentServiceStub> stubs = new ArrayList<>();
+    private final Map<Operation, MethodStats> stats = new EnumMap<>(Operation.class);
+    private final Operation[] schedule;
+    private final Semaphore slots;
+    private final AtomicLong calls = new AtomicLong();
+    private final ConcurrentLinkedQueue<Long> createdIds = new ConcurrentLinkedQueue<>();
+    private long[] knownIds;
+    private List<String> pageTokens;
+
+    LoadGenerator(LoadOptions options) throws IOException {
+        this.options = options;
+        this.slots = new Semaphore(options.concurrency);
+        ChannelCredentials credentials = options.plaintext ? InsecureChannelCredentials.create()
+                : TlsChannelCredentials.newBuilder().trustManager(new File(options.trustCertificate)).build();
+        ClientInterceptor auth = MetadataUtils.newAttachHeadersInterceptor(apiKeyHeaders());
+        for (int i = 0; i < options.channels; i++) {
+            ManagedChannel channel = Grpc.newChannelBuilder(options.target, credentials).build();
+            channels.add(channel);
+            stubs.add(StudentServiceGrpc.newStub(channel).withInterceptors(auth));
+        }
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new MethodStats());
+        }
+        List<Operation> weighted = new ArrayList<>();
+        options.mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(operation);
+            }
+        });
+        schedule = weighted.toArray(Operation[]::new);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadGenerator generator = new LoadGenerator(LoadOptions.parse(args));
+        try {
+            generator.run();
+        } finally {
+            generator.close();
+        }
+    }
+
+    void run() throws InterruptedException {
+        prefetch();
+        System.out.printf("target %s, %d channels, concurrency %d, %s, mix %s%n", options.target, options.channels,
+                options.concurrency, options.rps > 0 ? options.rps + " rps" : "unthrottled", options.mix);
+
+        long start = System.nanoTime();
+        long warmupEnd = start + options.warmup.toNanos();
+        long end = warmupEnd + options.duration.toNanos();
+        long interval = options.rps > 0 ? TimeUnit.SECONDS.toNanos(1) / options.rps : 0;
+        long nextReport = warmupEnd + options.reportInterval.toNanos();
+        boolean warm = options.warmup.isZero();
+        long measuredStart = warm ? start : 0;
+
+        for (long sequence = 0; ; sequence++) {
+            long intended = interval > 0 ? start + sequence * interval : 0;
+            if (intended > 0) {
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            }
+            slots.acquire();
+            long now = System.nanoTime();
+            if (!warm && now >= warmupEnd) {
+                stats.values().forEach(MethodStats::reset);
+                calls.set(0);
+                warm = true;
+                measuredStart = now;
+                System.out.println("warmup done");
+            }
+            if (warm && now >= nextReport) {
+                report(now - (nextReport - options.reportInterval.toNanos()));
+                nextReport += options.reportInterval.toNanos();
+            }
+            if (now >= end) {
+                slots.release();
+                break;
+            }
+            issue(schedule[ThreadLocalRandom.current().nextInt(schedule.length)], intended > 0 ? intended : now);
+        }
+        slots.acquire(options.concurrency);
+        long measured = System.nanoTime() - measuredStart;
+        stats.values().forEach(MethodStats::roll);
+        summary(measured);
+    }
+
+    /**
+     * Reads up to {@code --id-pool} ids and the page tokens along the way with the same page size list calls use.
+     */
+    private void prefetch() {
+        StudentServiceGrpc.StudentServiceBlockingStub stub = StudentServiceGrpc.newBlockingStub(channels.get(0))
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(apiKeyHeaders()));
+        List<Long> ids = new ArrayList<>();
+        List<String> tokens = new ArrayList<>();
+        String token = "";
+        do {
+            tokens.add(token);
+            StudentOuterClass.ListStudentsResponse page = stub.listStudents(StudentOuterClass.ListStudentsRequest.newBuilder()
+                    .setPageSize(options.pageSize).setPageToken(token).build());
+            page.getStudentsList().forEach(student -> ids.add(student.getId()));
+            token = page.getNextPageToken();
+        } while (!token.isEmpty() && ids.size() < options.idPoolSize);
+        if (ids.isEmpty() && (options.mix.containsKey(Operation.GET) || options.mix.containsKey(Operation.UPDATE))) {
+            throw new IllegalStateException("the server has no students to get or update, seed it first");
+        }
+        knownIds = ids.stream().mapToLong(Long::longValue).toArray();
+        pageTokens = tokens;
+        System.out.printf("prefetched %d ids and %d page tokens%n", knownIds.length, pageTokens.size());
+    }
+
+    private Metadata apiKeyHeaders() {
+        Metadata headers = new Metadata();
+        headers.put(API_KEY, options.apiKey);
+        return headers;
+    }
+
+    private void issue(Operation operation, long startNanos) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StudentServiceGrpc.StudentServiceStub stub = stubs.get((int) (calls.getAndIncrement() % stubs.size()))
+                .withDeadlineAfter(options.deadline.toMillis(), TimeUnit.MILLISECONDS);
+        if (operation == Operation.DELETE && createdIds.isEmpty()) {
+            operation = Operation.CREATE;
+        }
+        switch (operation) {
+            case LIST -> stub.listStudents(StudentOuterClass.ListStudentsRequest.newBuilder()
+                            .setPageSize(options.pageSize)
+                            .setPageToken(pageTokens.get(random.nextInt(pageTokens.size())))
+                            .build(),
+                    new UnaryObserver<>(operation, startNanos));
+            case GET -> stub.getStudent(StudentOuterClass.GetStudentRequest.newBuilder()
+                    .setId(knownIds[random.nextInt(knownIds.length)]).build(), new UnaryObserver<>(operation, startNanos));
+            case STREAM -> stub.listStudentsStream(StudentOuterClass.ListStudentsStreamRequest.getDefaultInstance(),
+                    new LimitedStreamObserver(startNanos));
+            case CREATE -> stub.createStudent(StudentOuterClass.CreateStudentRequest.newBuilder()
+                            .setFirstName("load").setLastName("test " + random.nextInt(1_000_000)).setAge(random.nextLong(18, 30))
+                            .build(),
+                    new UnaryObserver<StudentOuterClass.Student>(operation, startNanos) {
+                        @Override
+                        public void onNext(StudentOuterClass.Student student) {
+                            createdIds.add(student.getId());
+                        }
+                    });
+            case UPDATE -> stub.updateStudent(StudentOuterClass.Student.newBuilder()
+                    .setId(knownIds[random.nextInt(knownIds.length)])
+                    .setFirstName("load").setLastName("updated").setAge(random.nextLong(18, 30))
+                    .build(), new UnaryObserver<>(operation, startNanos));
+            case DELETE -> {
+                Long id = createdIds.poll();
+                if (id == null) {
+                    // Another call took the last created id in the meantime.
+                    slots.release();
+                    return;
+                }
+                stub.deleteStudent(StudentOuterClass.DeleteStudentRequest.newBuilder().setId(id).build(),
+                        new UnaryObserver<>(operation, startNanos));
+            }
+        }
+    }
+
+    private void complete(Operation operation, long startNanos, Status status) {
+        stats.get(operation).record(System.nanoTime() - startNanos, status);
+        slots.release();
+    }
+
+    private void report(long intervalNanos) {
+        long count = 0;
+        long errors = 0;
+        double p99 = 0;
+        for (MethodStats methodStats : stats.values()) {
+            Histogram histogram = methodStats.roll();
+            count += histogram.getTotalCount();
+            p99 = Math.max(p99, histogram.getValueAtPercentile(99) / 1000.0);
+        }
+        for (MethodStats methodStats : stats.values()) {
+            errors += methodStats.errorCount();
+        }
+        System.out.printf("%,10.0f calls/s, worst p99 %.3f ms, %d errors so far%n",
+                count * 1e9 / intervalNanos, p99, errors);
+    }
+
+    private void summary(long measuredNanos) {
+        System.out.printf("%n%-20s %10s %8s %10s %10s %10s %10s %10s%n",
+                "method", "calls", "errors", "calls/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        stats.forEach((operation, methodStats) -> {
+            Histogram histogram = methodStats.total();
+            if (histogram == null || histogram.getTotalCount() == 0) {
+                return;
+            }
+            System.out.printf("%-20s %10d %8d %10.1f %10.3f %10.3f %10.3f %10.3f%n",
+                    operation.method,
+                    histogram.getTotalCount(),
+                    methodStats.errorCount(),
+                    histogram.getTotalCount() * 1e9 / measuredNanos,
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getValueAtPercentile(99.9) / 1000.0,
+                    histogram.getMaxValue() / 1000.0);
+            methodStats.errors().forEach((code, errorCount) ->
+                    System.out.printf("%-20s %10s %8d%n", "  " + code, "", errorCount.sum()));
+        });
+    }
+
+    void close() throws InterruptedException {
+        for (ManagedChannel channel : channels) {
+            channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private class UnaryObserver<T> implements StreamObserver<T> {
+
+        private final Operation operation;
+        private final long startNanos;
+
+        UnaryObserver(Operation operation, long startNanos) {
+            this.operation = operation;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void onNext(T value) {
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            complete(operation, startNanos, Status.fromThrowable(t));
+        }
+
+        @Override
+        public void onCompleted() {
+            complete(operation, startNanos, Status.OK);
+        }
+    }
+
+    /**
+     * Counts a stream as done after {@code --stream-limit} students, cancelling the rest, or when it ends earlier.
+     */
+    private class LimitedStreamObserver implements ClientResponseObserver<StudentOuterClass.ListStudentsStreamRequest, StudentOuterClass.Student> {
+
+        private final long startNanos;
+        private final AtomicBoolean done = new AtomicBoolean();
+        private ClientCallStreamObserver<StudentOuterClass.ListStudentsStreamRequest> call;
+        private int received;
+
+        LimitedStreamObserver(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void beforeStart(ClientCallStreamObserver<StudentOuterClass.ListStudentsStreamRequest> requestStream) {
+            this.call = requestStream;
+        }
+
+        @Override
+        public void onNext(StudentOuterClass.Student student) {
+            if (++received == options.streamLimit && finish(Status.OK)) {
+                call.cancel("stream limit reached", null);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            finish(Status.fromThrowable(t));
+        }
+
+        @Override
+        public void onCompleted() {
+            finish(Status.OK);
+        }
+
+        private boolean finish(Status status) {
+            if (done.compareAndSet(false, true)) {
+                complete(Operation.STREAM, startNanos, status);
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.a00n.benchmarks.load;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command line of {@link LoadGenerator}, as {@code --name=value} pairs.
+ */
+class LoadOptions {
+
+    String target = "localhost:9090";
+    boolean plaintext = false;
+    String trustCertificate = "../gRPCServer/certs/localhost.crt";
+    String apiKey = "ay0ub";
+    int channels = 4;
+    int concurrency = 64;
+    int rps = 0;
+    Duration warmup = Duration.ofSeconds(5);
+    Duration duration = Duration.ofSeconds(30);
+    Duration reportInterval = Duration.ofSeconds(5);
+    Duration deadline = Duration.ofSeconds(10);
+    Map<Operation, Integer> mix = parseMix("get=60,list=20,stream=5,create=5,update=5,delete=5");
+    int pageSize = 100;
+    int streamLimit = 100;
+    int idPoolSize = 100_000;
+
+    static LoadOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("unexpected argument '" + arg + "', expected --name=value");
+            }
+            int equals = arg.indexOf('=');
+            values.put(equals < 0 ? arg.substring(2) : arg.substring(2, equals), equals < 0 ? "true" : arg.substring(equals + 1));
+        }
+        LoadOptions options = new LoadOptions();
+        options.target = take(values, "target", options.target);
+        options.plaintext = Boolean.parseBoolean(take(values, "plaintext", String.valueOf(options.plaintext)));
+        options.trustCertificate = take(values, "trust-cert", options.trustCertificate);
+        options.apiKey = take(values, "api-key", options.apiKey);
+        options.channels = intValue(values, "channels", options.channels);
+        options.concurrency = intValue(values, "concurrency", options.concurrency);
+        options.rps = intValue(values, "rps", options.rps);
+        options.warmup = Duration.ofSeconds(intValue(values, "warmup", (int) options.warmup.toSeconds()));
+        options.duration = Duration.ofSeconds(intValue(values, "duration", (int) options.duration.toSeconds()));
+        options.reportInterval = Duration.ofSeconds(intValue(values, "report-interval", (int) options.reportInterval.toSeconds()));
+        options.deadline = Duration.ofMillis(intValue(values, "deadline-ms", (int) options.deadline.toMillis()));
+        String mix = values.remove("mix");
+        if (mix != null) {
+            options.mix = parseMix(mix);
+        }
+        options.pageSize = intValue(values, "page-size", options.pageSize);
+        options.streamLimit = intValue(values, "stream-limit", options.streamLimit);
+        options.idPoolSize = intValue(values, "id-pool", options.idPoolSize);
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("unknown options " + values.keySet());
+        }
+        return options;
+    }
+
+    private static String take(Map<String, String> values, String name, String defaultValue) {
+        String value = values.remove(name);
+        return value == null ? defaultValue : value;
+    }
+
+    private static int intValue(Map<String, String> values, String name, int defaultValue) {
+        return Integer.parseInt(take(values, name, String.valueOf(defaultValue)));
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("[=:]");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("invalid mix entry '" + entry + "', expected operation=weight");
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(Operation.fromKey(parts[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("mix must give at least one operation a positive weight");
+        }
+        return weights;
+    }
+}
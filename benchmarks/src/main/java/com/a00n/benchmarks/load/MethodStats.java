@@ -0,0 +1,63 @@
+package com.a00n.benchmarks.load;
+
+import io.grpc.Status;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and outcome counters of one RPC. Latencies are recorded in microseconds into a {@link Recorder}, so
+ * completions from any thread can record while the reporter takes interval snapshots.
+ */
+class MethodStats {
+
+    private final Recorder recorder = new Recorder(3);
+    private final Map<Status.Code, LongAdder> errors = new ConcurrentHashMap<>();
+    private Histogram total;
+    private Histogram interval;
+
+    void record(long latencyNanos, Status status) {
+        recorder.recordValue(Math.max(1, latencyNanos / 1_000));
+        if (!status.isOk()) {
+            errors.computeIfAbsent(status.getCode(), code -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Moves everything recorded since the last call into the interval and the running total. Only called from the
+     * reporting thread.
+     */
+    Histogram roll() {
+        interval = recorder.getIntervalHistogram(interval);
+        if (total == null) {
+            total = interval.copy();
+        } else {
+            total.add(interval);
+        }
+        return interval;
+    }
+
+    /**
+     * Drops what was recorded so far, used at the end of the warmup.
+     */
+    void reset() {
+        interval = recorder.getIntervalHistogram(interval);
+        total = null;
+        errors.clear();
+    }
+
+    Histogram total() {
+        return total;
+    }
+
+    long errorCount() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    Map<Status.Code, LongAdder> errors() {
+        return errors;
+    }
+}
@@ -0,0 +1,30 @@
+package com.a00n.benchmarks.load;
+
+/**
+ * The {@code StudentService} RPCs the load generator drives, keyed by the name used in {@code --mix}.
+ */
+enum Operation {
+    LIST("list", "ListStudents"),
+    GET("get", "GetStudent"),
+    STREAM("stream", "ListStudentsStream"),
+    CREATE("create", "CreateStudent"),
+    UPDATE("update", "UpdateStudent"),
+    DELETE("delete", "DeleteStudent");
+
+    final String key;
+    final String method;
+
+    Operation(String key, String method) {
+        this.key = key;
+        this.method = method;
+    }
+
+    static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equalsIgnoreCase(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("unknown operation '" + key + "', expected one of list, get, stream, create, update, delete");
+    }
+}
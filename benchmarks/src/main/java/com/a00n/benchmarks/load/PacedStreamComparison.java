@@ -0,0 +1,151 @@
+package com.a00n.benchmarks.load;
+
+import com.a00n.grpc.scheduler.HashedWheelScheduler;
+import com.a00n.grpc.stubs.StudentOuterClass;
+import com.a00n.grpc.stubs.StudentServiceGrpc;
+import com.a00n.grpcstudentserver.GrpcStudentServerApplication;
+import io.grpc.Context;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds 1k to 10k paced ListStudentsStream calls open at once and reports the JVM's peak live threads and used heap
+ * for each count. The server runs in this JVM on the in-process transport with the memory store; every stream asks
+ * for {@code --burst} students every {@code --interval-ms} and is cancelled after {@code --seconds}. The gRPC handlers
+ * run on {@code --executor} ({@code default}, {@code fixed} or {@code virtual}), which starts every call, while the
+ * pacing itself runs on the {@code stream-pacer} wheel, whose threads are counted separately.
+ *
+ * <pre>
+ * java -Xmx2g -cp target/benchmarks.jar com.a00n.benchmarks.load.PacedStreamComparison --interval-ms=100 --burst=1
+ * </pre>
+ */
+public class PacedStreamComparison {
+
+    private static final int[] STREAMS = {0, 1_000, 2_500, 5_000, 10_000};
+    private static final int SEEDED = 10_000;
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        long intervalMillis = 100;
+        int burst = 1;
+        int seconds = 10;
+        String executor = "default";
+        for (String arg : args) {
+            String[] parts = arg.replaceFirst("^--", "").split("=", 2);
+            switch (parts[0]) {
+                case "interval-ms" -> intervalMillis = Long.parseLong(parts[1]);
+                case "burst" -> burst = Integer.parseInt(parts[1]);
+                case "seconds" -> seconds = Integer.parseInt(parts[1]);
+                case "executor" -> executor = parts[1];
+                default -> throw new IllegalArgumentException("unknown option " + arg);
+            }
+        }
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(GrpcStudentServerApplication.class)
+                .run("--spring.profiles.active=embedded",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--spring.main.web-application-type=none",
+                        "--grpc.server.port=-1",
+                        "--grpc.server.security.enabled=false",
+                        "--grpc.server.in-process-name=paced-stream-comparison",
+                        "--students.store=memory",
+                        "--students.seed.count=" + SEEDED,
+                        "--students.metrics.port=-1",
+                        "--students.auth.audit.granted-sample-rate=0",
+                        "--students.server.executor=" + executor)) {
+            HashedWheelScheduler scheduler = context.getBean(HashedWheelScheduler.class);
+            ManagedChannel channel = InProcessChannelBuilder.forName("paced-stream-comparison").directExecutor().build();
+            try {
+                Metadata headers = new Metadata();
+                headers.put(Metadata.Key.of("grpc-api-key", Metadata.ASCII_STRING_MARSHALLER), "ay0ub");
+                StudentServiceGrpc.StudentServiceStub stub = StudentServiceGrpc.newStub(channel)
+                        .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+                StudentOuterClass.ListStudentsStreamRequest request = StudentOuterClass.ListStudentsStreamRequest
+                        .newBuilder().setIntervalMillis(intervalMillis).setBurst(burst).build();
+
+                run(stub, request, scheduler, 1_000, 2, false);
+                System.out.printf("%8s %8s %8s %12s %8s %8s %14s %14s%n", "streams", "paced", "errors", "students/s",
+                        "threads", "pacer", "peak heap MB", "live heap MB");
+                for (int streams : STREAMS) {
+                    run(stub, request, scheduler, streams, seconds, true);
+                }
+            } finally {
+                channel.shutdownNow().awaitTermination(10, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    private static void run(StudentServiceGrpc.StudentServiceStub stub,
+                            StudentOuterClass.ListStudentsStreamRequest request, HashedWheelScheduler scheduler,
+                            int streams, int seconds, boolean report) throws InterruptedException {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        threadBean.resetPeakThreadCount();
+        LongAdder received = new LongAdder();
+        LongAdder errors = new LongAdder();
+        Context.CancellableContext calls = Context.current().withCancellation();
+        calls.run(() -> {
+            for (int i = 0; i < streams; i++) {
+                stub.listStudentsStream(request, new StreamObserver<>() {
+                    @Override
+                    public void onNext(StudentOuterClass.Student student) {
+                        received.increment();
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        if (!calls.isCancelled()) {
+                            errors.increment();
+                        }
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                    }
+                });
+            }
+        });
+
+        long peakHeap = 0;
+        int paced = 0;
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(seconds);
+        while (System.nanoTime() < end) {
+            Thread.sleep(100);
+            peakHeap = Math.max(peakHeap, memoryBean.getHeapMemoryUsage().getUsed());
+            paced = Math.max(paced, scheduler.activeTasks());
+        }
+        long elapsed = System.nanoTime() - start;
+        long studentsPerSecond = received.sum() * TimeUnit.SECONDS.toNanos(1) / elapsed;
+        // Collected while the streams are still open, so this is what they hold rather than transient garbage.
+        System.gc();
+        long liveHeap = memoryBean.getHeapMemoryUsage().getUsed();
+        int peakThreads = threadBean.getPeakThreadCount();
+        long pacerThreads = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().startsWith("stream-pacer-"))
+                .count();
+
+        calls.cancel(null);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (scheduler.activeTasks() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        if (report) {
+            System.out.printf("%8d %8d %8d %12d %8d %8d %14d %14d%n", streams, paced, errors.sum(), studentsPerSecond,
+                    peakThreads, pacerThreads, peakHeap / (1024 * 1024), liveHeap / (1024 * 1024));
+        }
+    }
+}
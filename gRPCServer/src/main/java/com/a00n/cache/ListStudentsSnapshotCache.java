@@ -0,0 +1,55 @@
+package com.a00n.cache;
+
+import com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest;
+import com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Encoded {@link ListStudentsResponse} pages keyed by request. Every entry is tagged with the data version it was
+ * built from; {@link #invalidate()} bumps the version after a committed write, so older entries are rebuilt on
+ * their next read rather than served stale.
+ */
+@Component
+public class ListStudentsSnapshotCache {
+
+    private final AtomicLong version = new AtomicLong();
+    private final Cache<ListStudentsRequest, Snapshot> snapshots;
+
+    public ListStudentsSnapshotCache(@Value("${students.list.snapshot.max-size:64MB}") DataSize maxSize) {
+        this.snapshots = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((ListStudentsRequest request, Snapshot snapshot) -> snapshot.bytes().length)
+                .recordStats()
+                .build();
+    }
+
+    public byte[] get(ListStudentsRequest request, Supplier<ListStudentsResponse> builder) {
+        long current = version.get();
+        Snapshot snapshot = snapshots.getIfPresent(request);
+        if (snapshot != null && snapshot.version() == current) {
+            return snapshot.bytes();
+        }
+        byte[] bytes = builder.get().toByteArray();
+        snapshots.put(request, new Snapshot(current, bytes));
+        return bytes;
+    }
+
+    public void invalidate() {
+        version.incrementAndGet();
+        snapshots.invalidateAll();
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    private record Snapshot(long version, byte[] bytes) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.a00n.cache;
+
+import com.a00n.grpc.stubs.StudentOuterClass;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of students by id. Caffeine uses W-TinyLFU admission, so a burst of one-off reads
+ * does not push hot students out. Writers must call {@link #put} or {@link #invalidate} after a successful write;
+ * both replace an in-flight load of the same id, so a load started before the write cannot overwrite it.
+ *
+ * <p>Entries are futures: the first reader of a missing id installs one and runs the loader on its own thread,
+ * outside any cache lock, and concurrent readers of the same id wait on it. Running the loader inside Caffeine's
+ * compute would hold a {@code ConcurrentHashMap} bin lock across the database call, which pins virtual threads.
+ */
+@Component
+public class StudentCache {
+
+    private final AsyncCache<Long, StudentOuterClass.Student> cache;
+
+    public StudentCache(@Value("${students.cache.maximum-size:100000}") long maximumSize,
+                        @Value("${students.cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * Returns the cached student or loads it; a {@code null} result from the loader is not cached.
+     */
+    public StudentOuterClass.Student get(long id, Function<Long, StudentOuterClass.Student> loader) {
+        CompletableFuture<StudentOuterClass.Student> created = new CompletableFuture<>();
+        CompletableFuture<StudentOuterClass.Student> future = cache.get(id, (key, executor) -> created);
+        if (future == created) {
+            try {
+                created.complete(loader.apply(id));
+            } catch (RuntimeException | Error e) {
+                created.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public void put(StudentOuterClass.Student student) {
+        cache.put(student.getId(), CompletableFuture.completedFuture(student));
+    }
+
+    public void invalidate(long id) {
+        cache.synchronous().invalidate(id);
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    public long size() {
+        return cache.synchronous().estimatedSize();
+    }
+}
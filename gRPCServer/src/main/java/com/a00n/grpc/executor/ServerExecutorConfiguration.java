@@ -0,0 +1,67 @@
+package com.a00n.grpc.executor;
+
+import net.devh.boot.grpc.server.serverfactory.GrpcServerConfigurer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Selects the executor that runs the gRPC handlers with {@code students.server.executor}:
+ * <ul>
+ *     <li>{@code default}: grpc-java's shared cached pool,</li>
+ *     <li>{@code fixed}: {@code students.server.executor.threads} platform threads; calls beyond that many blocked
+ *     handlers queue,</li>
+ *     <li>{@code virtual}: a virtual thread per call, so a handler blocked on JDBC does not hold a platform thread.
+ *     Pinned virtual threads are reported by {@link VirtualThreadPinningMonitor}.</li>
+ * </ul>
+ */
+@Configuration(proxyBeanMethods = false)
+public class ServerExecutorConfiguration {
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(name = "students.server.executor", havingValue = "fixed")
+    static class Fixed {
+
+        @Bean(destroyMethod = "shutdown")
+        ExecutorService grpcHandlerExecutor(@Value("${students.server.executor.threads:200}") int threads) {
+            AtomicInteger counter = new AtomicInteger();
+            return Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "grpc-handler-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        @Bean
+        GrpcServerConfigurer grpcHandlerExecutorConfigurer(ExecutorService grpcHandlerExecutor) {
+            return serverBuilder -> serverBuilder.executor(grpcHandlerExecutor);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(name = "students.server.executor", havingValue = "virtual")
+    static class Virtual {
+
+        @Bean(destroyMethod = "shutdown")
+        ExecutorService grpcHandlerExecutor() {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("grpc-handler-", 0).factory());
+        }
+
+        @Bean
+        GrpcServerConfigurer grpcHandlerExecutorConfigurer(ExecutorService grpcHandlerExecutor) {
+            return serverBuilder -> serverBuilder.executor(grpcHandlerExecutor);
+        }
+
+        @Bean
+        VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+                @Value("${students.server.executor.pinned-threshold:20ms}") Duration threshold) {
+            return new VirtualThreadPinningMonitor(threshold);
+        }
+    }
+}
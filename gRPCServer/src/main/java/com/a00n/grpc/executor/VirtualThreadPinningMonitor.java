@@ -0,0 +1,80 @@
+package com.a00n.grpc.executor;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Streams the JFR {@code jdk.VirtualThreadPinned} event, raised when a virtual thread blocks for longer than the
+ * threshold while it cannot unmount, typically inside a {@code synchronized} block of a JDBC driver or pool. Each
+ * distinct pinning stack is logged once; all of them are counted.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final int LOGGED_FRAMES = 12;
+    private static final int MAX_DISTINCT_STACKS = 256;
+
+    private final Duration threshold;
+    private final LongAdder pinned = new LongAdder();
+    private final Set<String> reportedStacks = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", this::onPinned);
+        stream.startAsync();
+        log.info("reporting virtual threads pinned for more than {}", threshold);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.increment();
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null) {
+            return;
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        String stack = frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + "(line " + frame.getLineNumber() + ")")
+                .collect(Collectors.joining("\n"));
+        if (reportedStacks.size() < MAX_DISTINCT_STACKS && reportedStacks.add(stack)) {
+            log.warn("virtual thread pinned for {} ms on {}:\n{}", event.getDuration().toMillis(),
+                    event.getThread() == null ? "?" : event.getThread().getJavaName(), stack);
+        }
+    }
+
+    public long pinnedCount() {
+        return pinned.sum();
+    }
+
+    @Override
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+}
@@ -0,0 +1,153 @@
+package com.a00n.grpc.interceptors;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Sampled audit trail of authentication outcomes. Callers only copy a few references into a preallocated slot of
+ * a ring buffer; a background thread turns slots into log lines. When the buffer is full the event is dropped and
+ * counted rather than blocking the call.
+ */
+@Slf4j
+@Component
+public class AuthAuditLog implements SmartLifecycle {
+
+    private static final long IDLE_PARK_NANOS = 1_000_000;
+
+    private final Slot[] slots;
+    private final int mask;
+    private final double grantedSampleRate;
+    private final double deniedSampleRate;
+    private final Consumer<AuthAuditEvent> sink;
+    private final AtomicLong head = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private volatile long tail;
+    private volatile Thread consumer;
+
+    @Autowired
+    public AuthAuditLog(@Value("${students.auth.audit.buffer-size:4096}") int bufferSize,
+                        @Value("${students.auth.audit.granted-sample-rate:0.01}") double grantedSampleRate,
+                        @Value("${students.auth.audit.denied-sample-rate:1.0}") double deniedSampleRate) {
+        this(bufferSize, grantedSampleRate, deniedSampleRate, event -> log.info("auth {} method={} remote={} at={}",
+                event.granted() ? "granted" : "denied", event.method(), event.remoteAddress(), event.timestampMillis()));
+    }
+
+    AuthAuditLog(int bufferSize, double grantedSampleRate, double deniedSampleRate, Consumer<AuthAuditEvent> sink) {
+        int capacity = Integer.highestOneBit(Math.max(2, bufferSize - 1)) << 1;
+        this.slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+        }
+        this.mask = capacity - 1;
+        this.grantedSampleRate = grantedSampleRate;
+        this.deniedSampleRate = deniedSampleRate;
+        this.sink = sink;
+    }
+
+    /**
+     * Records the outcome if it is sampled. Never blocks and does not allocate.
+     */
+    public void record(String method, Object remoteAddress, boolean granted) {
+        double rate = granted ? grantedSampleRate : deniedSampleRate;
+        if (rate <= 0 || (rate < 1 && ThreadLocalRandom.current().nextDouble() >= rate)) {
+            return;
+        }
+        long sequence;
+        do {
+            sequence = head.get();
+            if (sequence - tail >= slots.length) {
+                dropped.increment();
+                return;
+            }
+        } while (!head.compareAndSet(sequence, sequence + 1));
+        Slot slot = slots[(int) (sequence & mask)];
+        slot.timestampMillis = System.currentTimeMillis();
+        slot.method = method;
+        slot.remoteAddress = remoteAddress;
+        slot.granted = granted;
+        slot.published = sequence;
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Hands every published event to the sink; returns how many there were.
+     */
+    int drain() {
+        int drained = 0;
+        long next = tail;
+        while (true) {
+            Slot slot = slots[(int) (next & mask)];
+            if (slot.published != next) {
+                return drained;
+            }
+            AuthAuditEvent event = new AuthAuditEvent(slot.timestampMillis, slot.method, slot.remoteAddress, slot.granted);
+            slot.method = null;
+            slot.remoteAddress = null;
+            tail = ++next;
+            drained++;
+            try {
+                sink.accept(event);
+            } catch (RuntimeException e) {
+                log.warn("auth audit sink failed", e);
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        Thread thread = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (drain() == 0) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            }
+            drain();
+        }, "auth-audit");
+        thread.setDaemon(true);
+        consumer = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        Thread thread = consumer;
+        consumer = null;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return consumer != null;
+    }
+
+    record AuthAuditEvent(long timestampMillis, String method, Object remoteAddress, boolean granted) {
+    }
+
+    private static final class Slot {
+        // Sequence of the event in this slot; written last, so a reader that sees it also sees the fields.
+        volatile long published = -1;
+        long timestampMillis;
+        String method;
+        Object remoteAddress;
+        boolean granted;
+    }
+}
@@ -1,30 +1,73 @@
 package com.a00n.grpc.interceptors;
 
 import io.grpc.*;
+import net.devh.boot.grpc.common.util.InterceptorOrder;
 import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
 
-import java.util.Objects;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
+/**
+ * Accepts calls whose {@code grpc-api-key} header is one of {@code students.auth.api-keys}. Keys are compared in
+ * constant time, and nothing on the call path logs or builds strings; outcomes go to the sampled
+ * {@link AuthAuditLog}.
+ */
 @GrpcGlobalServerInterceptor
+@Order(InterceptorOrder.ORDER_SECURITY_AUTHENTICATION)
 public class AuthInterceptor implements ServerInterceptor {
 
+    static final Metadata.Key<String> API_KEY = Metadata.Key.of("grpc-api-key", Metadata.ASCII_STRING_MARSHALLER);
+    private static final Status INVALID_API_KEY = Status.UNAUTHENTICATED.withDescription("Invalid api-key");
+    private static final ServerCall.Listener<?> NOOP_LISTENER = new ServerCall.Listener<>() {
+    };
+
+    private final byte[][] apiKeys;
+    private final AuthAuditLog auditLog;
+
+    public AuthInterceptor(@Value("${students.auth.api-keys:ay0ub}") List<String> apiKeys, AuthAuditLog auditLog) {
+        this.apiKeys = apiKeys.stream().map(key -> key.getBytes(StandardCharsets.US_ASCII)).toArray(byte[][]::new);
+        this.auditLog = auditLog;
+    }
+
     @Override
+    @SuppressWarnings("unchecked")
     public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> serverCall, Metadata metadata,
                                                                  ServerCallHandler<ReqT, RespT> serverCallHandler) {
-        System.out.println("Sever interceptor " + serverCall.getMethodDescriptor());
+        boolean granted = isValid(metadata.get(API_KEY));
+        auditLog.record(serverCall.getMethodDescriptor().getFullMethodName(),
+                serverCall.getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR), granted);
+        if (granted) {
+            return serverCallHandler.startCall(serverCall, metadata);
+        }
+        // Fresh trailers: echoing the request headers back would return the rejected key to the caller.
+        serverCall.close(INVALID_API_KEY, new Metadata());
+        return (ServerCall.Listener<ReqT>) NOOP_LISTENER;
+    }
 
-        Metadata.Key<String> apiKeyMetadata = Metadata.Key.of("grpc-api-key",
-                Metadata.ASCII_STRING_MARSHALLER);
-        String apiKey = metadata.get(apiKeyMetadata);
-        System.out.println("grpc-api-key from client " + apiKey);
+    /**
+     * Checks the candidate against every configured key without stopping at the first match or mismatch, so the
+     * time taken does not tell which key, or how much of it, matched.
+     */
+    boolean isValid(String candidate) {
+        if (candidate == null) {
+            return false;
+        }
+        int matches = 0;
+        for (byte[] key : apiKeys) {
+            matches |= constantTimeEquals(key, candidate) ? 1 : 0;
+        }
+        return matches != 0;
+    }
 
-        if (Objects.nonNull(apiKey) && apiKey.equals("ay0ub")) {
-            return serverCallHandler.startCall(serverCall, metadata);
-        } else {
-            Status status = Status.UNAUTHENTICATED.withDescription("Invalid api-key");
-            serverCall.close(status, metadata);
+    static boolean constantTimeEquals(byte[] expected, String actual) {
+        int length = actual.length();
+        int diff = expected.length ^ length;
+        for (int i = 0; i < expected.length; i++) {
+            char c = i < length ? actual.charAt(i) : 0;
+            diff |= expected[i] ^ c;
         }
-        return new ServerCall.Listener<>() {
-        };
+        return diff == 0;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,105 @@
+package com.a00n.grpc.interceptors;
+
+import com.a00n.metrics.GrpcServerMetrics;
+import com.a00n.metrics.MethodMetrics;
+import com.google.protobuf.MessageLite;
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import lombok.RequiredArgsConstructor;
+import net.devh.boot.grpc.common.util.InterceptorOrder;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+import org.springframework.core.annotation.Order;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Records per-method call, status, latency and message metrics. Ordered before {@link AuthInterceptor}, so
+ * rejected calls are counted too.
+ */
+@GrpcGlobalServerInterceptor
+@Order(InterceptorOrder.ORDER_TRACING_METRICS)
+@RequiredArgsConstructor
+public class MetricsInterceptor implements ServerInterceptor {
+
+    private final GrpcServerMetrics metrics;
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> serverCall, Metadata metadata,
+                                                                 ServerCallHandler<ReqT, RespT> serverCallHandler) {
+        MethodMetrics methodMetrics = metrics.forMethod(serverCall.getMethodDescriptor());
+        MonitoredCall<ReqT, RespT> call = new MonitoredCall<>(serverCall, methodMetrics);
+        methodMetrics.callStarted();
+        ServerCall.Listener<ReqT> listener;
+        try {
+            listener = serverCallHandler.startCall(call, metadata);
+        } catch (RuntimeException e) {
+            call.finish(Status.Code.UNKNOWN);
+            throw e;
+        }
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(listener) {
+            @Override
+            public void onMessage(ReqT message) {
+                methodMetrics.messageReceived(sizeOf(message));
+                super.onMessage(message);
+            }
+
+            @Override
+            public void onCancel() {
+                call.finish(Status.Code.CANCELLED);
+                super.onCancel();
+            }
+
+            @Override
+            public void onComplete() {
+                // close() has normally recorded the real status already; this is only a fallback.
+                call.finish(Status.Code.OK);
+                super.onComplete();
+            }
+        };
+    }
+
+    private static int sizeOf(Object message) {
+        if (message instanceof MessageLite messageLite) {
+            return messageLite.getSerializedSize();
+        }
+        if (message instanceof byte[] bytes) {
+            return bytes.length;
+        }
+        return -1;
+    }
+
+    private static class MonitoredCall<ReqT, RespT> extends ForwardingServerCall.SimpleForwardingServerCall<ReqT, RespT> {
+
+        private final MethodMetrics methodMetrics;
+        private final long startNanos = System.nanoTime();
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        MonitoredCall(ServerCall<ReqT, RespT> delegate, MethodMetrics methodMetrics) {
+            super(delegate);
+            this.methodMetrics = methodMetrics;
+        }
+
+        @Override
+        public void sendMessage(RespT message) {
+            methodMetrics.messageSent(sizeOf(message));
+            super.sendMessage(message);
+        }
+
+        @Override
+        public void close(Status status, Metadata trailers) {
+            finish(status.getCode());
+            super.close(status, trailers);
+        }
+
+        void finish(Status.Code code) {
+            if (finished.compareAndSet(false, true)) {
+                methodMetrics.callFinished(code, System.nanoTime() - startNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package com.a00n.grpc.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Timing wheel for periodic, paced work such as throttled server streams. A single tick thread owns the wheel and
+ * hands expired tasks to a fixed pool of workers, so the number of threads stays constant no matter how many
+ * tasks are scheduled. A task runs at most once at a time and is rescheduled after it returns.
+ */
+@Slf4j
+public class HashedWheelScheduler implements AutoCloseable {
+
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final ExecutorService workers;
+    private final Queue<PacedTask> pending = new ConcurrentLinkedQueue<>();
+    private final Queue<PacedTask> cancelled = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger activeTasks = new AtomicInteger();
+    private final Thread tickThread;
+    private final long startNanos;
+    private volatile boolean running = true;
+    private long tick;
+
+    public HashedWheelScheduler(String name, Duration tickDuration, int wheelSize, int workerThreads) {
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException("tickDuration must be positive");
+        }
+        if (workerThreads < 1) {
+            throw new IllegalArgumentException("workerThreads must be at least 1");
+        }
+        this.tickNanos = tickDuration.toNanos();
+        this.wheel = new Bucket[normalize(wheelSize)];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = wheel.length - 1;
+        this.workers = Executors.newFixedThreadPool(workerThreads, daemonThreads(name + "-worker-"));
+        this.tickThread = daemonThreads(name + "-tick-").newThread(this::runWheel);
+        this.startNanos = System.nanoTime();
+        this.tickThread.start();
+    }
+
+    /**
+     * Schedules {@code step} to run now and then every {@code interval} for as long as it returns {@code true}.
+     * Intervals shorter than one tick are rounded up to a tick.
+     */
+    public PacedTask schedule(Duration interval, BooleanSupplier step) {
+        if (!running) {
+            throw new IllegalStateException("scheduler is closed");
+        }
+        PacedTask task = new PacedTask(Math.max(interval.toNanos(), tickNanos), step);
+        task.deadline = elapsedNanos();
+        activeTasks.incrementAndGet();
+        pending.add(task);
+        return task;
+    }
+
+    public int activeTasks() {
+        return activeTasks.get();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        tickThread.interrupt();
+        workers.shutdownNow();
+        try {
+            tickThread.join(TimeUnit.SECONDS.toMillis(5));
+            workers.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runWheel() {
+        while (running) {
+            long deadline = tickNanos * (tick + 1);
+            if (!waitForTick(deadline)) {
+                return;
+            }
+            removeCancelled();
+            transferPending();
+            expire(wheel[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    private boolean waitForTick(long deadline) {
+        long remaining;
+        while ((remaining = deadline - elapsedNanos()) > 0) {
+            LockSupport.parkNanos(this, remaining);
+            if (!running) {
+                return false;
+            }
+        }
+        return running;
+    }
+
+    private void removeCancelled() {
+        PacedTask task;
+        while ((task = cancelled.poll()) != null) {
+            if (task.bucket != null) {
+                task.bucket.remove(task);
+            }
+        }
+    }
+
+    private void transferPending() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            PacedTask task = pending.poll();
+            if (task == null) {
+                return;
+            }
+            if (task.state.get() != PacedTask.WAITING) {
+                continue;
+            }
+            long dueTick = task.deadline / tickNanos;
+            task.remainingRounds = (dueTick - tick) / wheel.length;
+            wheel[(int) (Math.max(dueTick, tick) & mask)].add(task);
+        }
+    }
+
+    private void expire(Bucket bucket) {
+        PacedTask task = bucket.head;
+        while (task != null) {
+            PacedTask next = task.next;
+            if (task.state.get() == PacedTask.CANCELLED) {
+                bucket.remove(task);
+            } else if (task.remainingRounds <= 0) {
+                bucket.remove(task);
+                if (task.state.compareAndSet(PacedTask.WAITING, PacedTask.RUNNING)) {
+                    dispatch(task);
+                }
+            } else {
+                task.remainingRounds--;
+            }
+            task = next;
+        }
+    }
+
+    private void dispatch(PacedTask task) {
+        try {
+            workers.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.finish();
+        }
+    }
+
+    private long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    private static int normalize(int wheelSize) {
+        if (wheelSize < 1 || wheelSize > (1 << 30)) {
+            throw new IllegalArgumentException("wheelSize must be between 1 and 2^30");
+        }
+        return wheelSize == 1 ? 1 : Integer.highestOneBit(wheelSize - 1) << 1;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public final class PacedTask implements Runnable {
+
+        private static final int WAITING = 0;
+        private static final int RUNNING = 1;
+        private static final int CANCELLED = 2;
+        private static final int DONE = 3;
+
+        private final long intervalNanos;
+        private final BooleanSupplier step;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+
+        // Owned by the tick thread.
+        private long deadline;
+        private long remainingRounds;
+        private Bucket bucket;
+        private PacedTask prev;
+        private PacedTask next;
+
+        private PacedTask(long intervalNanos, BooleanSupplier step) {
+            this.intervalNanos = intervalNanos;
+            this.step = step;
+        }
+
+        /**
+         * Stops the task. It will not be dispatched again once this returns; a run already in progress is not
+         * interrupted but is not rescheduled.
+         */
+        public void cancel() {
+            while (true) {
+                int current = state.get();
+                if (current == CANCELLED || current == DONE) {
+                    return;
+                }
+                if (state.compareAndSet(current, CANCELLED)) {
+                    activeTasks.decrementAndGet();
+                    if (current == WAITING) {
+                        cancelled.add(this);
+                    }
+                    return;
+                }
+            }
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        @Override
+        public void run() {
+            boolean again;
+            try {
+                again = step.getAsBoolean();
+            } catch (RuntimeException e) {
+                log.warn("paced task failed, not rescheduling", e);
+                again = false;
+            }
+            if (!again) {
+                finish();
+                return;
+            }
+            deadline = elapsedNanos() + intervalNanos;
+            if (state.compareAndSet(RUNNING, WAITING)) {
+                pending.add(this);
+            }
+        }
+
+        private void finish() {
+            if (state.compareAndSet(RUNNING, DONE)) {
+                activeTasks.decrementAndGet();
+            }
+        }
+    }
+
+    private static final class Bucket {
+
+        private PacedTask head;
+        private PacedTask tail;
+
+        void add(PacedTask task) {
+            task.bucket = this;
+            task.prev = tail;
+            task.next = null;
+            if (tail == null) {
+                head = task;
+            } else {
+                tail.next = task;
+            }
+            tail = task;
+        }
+
+        void remove(PacedTask task) {
+            if (task.bucket != this) {
+                return;
+            }
+            if (task.prev == null) {
+                head = task.next;
+            } else {
+                task.prev.next = task.next;
+            }
+            if (task.next == null) {
+                tail = task.prev;
+            } else {
+                task.next.prev = task.prev;
+            }
+            task.bucket = null;
+            task.prev = null;
+            task.next = null;
+        }
+    }
+}
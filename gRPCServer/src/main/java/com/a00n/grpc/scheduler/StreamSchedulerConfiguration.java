@@ -0,0 +1,18 @@
+package com.a00n.grpc.scheduler;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class StreamSchedulerConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public HashedWheelScheduler streamScheduler(@Value("${students.stream.pacing.tick-ms:10}") long tickMillis,
+                                                @Value("${students.stream.pacing.wheel-size:512}") int wheelSize,
+                                                @Value("${students.stream.pacing.worker-threads:4}") int workerThreads) {
+        return new HashedWheelScheduler("stream-pacer", Duration.ofMillis(tickMillis), wheelSize, workerThreads);
+    }
+}
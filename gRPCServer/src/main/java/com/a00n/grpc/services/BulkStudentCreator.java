@@ -0,0 +1,95 @@
+package com.a00n.grpc.services;
+
+import com.a00n.entities.Student;
+import com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse;
+import com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest;
+import com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange;
+import com.a00n.store.StudentStore;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Collects streamed create requests into batches and inserts each batch as one unit of work, so database stores
+ * can send it as a JDBC batch. Batches committed before a failure stay committed.
+ */
+@Slf4j
+class BulkStudentCreator implements StreamObserver<CreateStudentRequest> {
+
+    private final StreamObserver<BulkCreateStudentsResponse> responseObserver;
+    private final StudentStore studentStore;
+    private final int batchSize;
+    private final Consumer<List<Student>> onBatchSaved;
+    private final List<Student> batch;
+    private final BulkCreateStudentsResponse.Builder response = BulkCreateStudentsResponse.newBuilder();
+    private long createdCount;
+    private boolean failed;
+
+    BulkStudentCreator(StreamObserver<BulkCreateStudentsResponse> responseObserver,
+                       StudentStore studentStore, int batchSize, Consumer<List<Student>> onBatchSaved) {
+        this.responseObserver = responseObserver;
+        this.studentStore = studentStore;
+        this.batchSize = batchSize;
+        this.onBatchSaved = onBatchSaved;
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    @Override
+    public void onNext(CreateStudentRequest request) {
+        if (failed) {
+            return;
+        }
+        batch.add(Student.builder().firstName(request.getFirstName()).lastName(request.getLastName()).age(request.getAge()).build());
+        if (batch.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        log.warn("bulk create cancelled by client after {} students", createdCount, t);
+        batch.clear();
+    }
+
+    @Override
+    public void onCompleted() {
+        if (failed) {
+            return;
+        }
+        if (!batch.isEmpty()) {
+            flush();
+            if (failed) {
+                return;
+            }
+        }
+        responseObserver.onNext(response.setCreatedCount(createdCount).build());
+        responseObserver.onCompleted();
+    }
+
+    private void flush() {
+        try {
+            List<Student> saved = studentStore.insertAll(batch);
+            onBatchSaved.accept(saved);
+            long firstId = Long.MAX_VALUE;
+            long lastId = Long.MIN_VALUE;
+            for (Student student : saved) {
+                firstId = Math.min(firstId, student.getId());
+                lastId = Math.max(lastId, student.getId());
+            }
+            response.addBatches(StudentIdRange.newBuilder().setFirstId(firstId).setLastId(lastId).setCount(saved.size()));
+            createdCount += saved.size();
+        } catch (RuntimeException e) {
+            failed = true;
+            responseObserver.onError(Status.INTERNAL
+                    .withDescription("bulk create failed after " + createdCount + " students")
+                    .withCause(e)
+                    .asException());
+        } finally {
+            batch.clear();
+        }
+    }
+}
@@ -1,95 +1,202 @@
 package com.a00n.grpc.services;
 
+import com.a00n.cache.ListStudentsSnapshotCache;
+import com.a00n.cache.StudentCache;
 import com.a00n.entities.Student;
+import com.a00n.grpc.scheduler.HashedWheelScheduler;
 import com.a00n.grpc.stubs.StudentOuterClass;
 import com.a00n.grpc.stubs.StudentOuterClass.*;
 import com.a00n.grpc.stubs.StudentServiceGrpc;
 import com.a00n.mappers.StudentMapper;
-import com.a00n.repositories.StudentRepository;
+import com.a00n.search.StudentNameIndex;
+import com.a00n.store.StudentQuery;
+import com.a00n.store.StudentStore;
 import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import lombok.RequiredArgsConstructor;
-import net.devh.boot.grpc.server.service.GrpcService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Stack;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
-@GrpcService
+@Service
+@ConditionalOnProperty(name = "students.service.mode", havingValue = "blocking", matchIfMissing = true)
 @RequiredArgsConstructor
 public class GrpcStudentServiceIml extends StudentServiceGrpc.StudentServiceImplBase {
 
-    private final StudentRepository studentRepository;
+    private final StudentStore studentStore;
     private final StudentMapper studentMapper;
+    private final HashedWheelScheduler streamScheduler;
+    private final StudentCache studentCache;
+    private final ListStudentsSnapshotCache listSnapshots;
+    private final StudentNameIndex nameIndex;
 
-    @Override
-    public void listStudents(Empty request, StreamObserver<ListStudentsResponse> responseObserver) {
-        List<Student> students = studentRepository.findAll();
-        List<StudentOuterClass.Student> listStudents = students.stream()
-                .map(studentMapper::toGrpcStudent)
-                .toList();
-        ListStudentsResponse listStudentsResponse = ListStudentsResponse.newBuilder()
-                .addAllStudents(listStudents)
-                .build();
-        responseObserver.onNext(listStudentsResponse);
+    @Value("${students.list.default-page-size:100}")
+    private int defaultListPageSize;
+
+    @Value("${students.list.max-page-size:1000}")
+    private int maxListPageSize;
+
+    @Value("${students.batch-get.max-ids:1000}")
+    private int maxBatchGetIds;
+
+    @Value("${students.batch-get.chunk-size:500}")
+    private int batchGetChunkSize;
+
+    @Value("${students.bulk.batch-size:1000}")
+    private int bulkBatchSize;
+
+    @Value("${students.search.default-limit:10}")
+    private int defaultSearchLimit;
+
+    @Value("${students.search.max-limit:100}")
+    private int maxSearchLimit;
+
+    @Value("${students.stream.page-size:100}")
+    private int streamPageSize;
+
+    @Value("${students.stream.pacing.default-interval-ms:0}")
+    private long defaultPacingIntervalMillis;
+
+    @Value("${students.stream.pacing.default-burst:1}")
+    private int defaultPacingBurst;
+
+    @Value("${students.stream.pacing.max-burst:1000}")
+    private int maxPacingBurst;
+
+    // Bound in place of listStudents() by StudentServiceBinding.
+    void listStudentsEncoded(ListStudentsRequest request, StreamObserver<byte[]> responseObserver) {
+        StudentQuery query;
+        try {
+            query = StudentQueries.fromRequest(request);
+        } catch (IllegalArgumentException e) {
+            responseObserver.onError(Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asException());
+            return;
+        }
+        Student after;
+        try {
+            after = PageTokens.decode(request.getPageToken(), query);
+        } catch (IllegalArgumentException e) {
+            responseObserver.onError(Status.INVALID_ARGUMENT.withDescription("invalid page token").asException());
+            return;
+        }
+        int pageSize = request.getPageSize() > 0 ? Math.min(request.getPageSize(), maxListPageSize) : defaultListPageSize;
+        responseObserver.onNext(listSnapshots.get(request, () -> listPage(query, after, pageSize)));
         responseObserver.onCompleted();
     }
 
+    private ListStudentsResponse listPage(StudentQuery query, Student after, int pageSize) {
+        List<Student> students = studentStore.findPage(query, after, pageSize + 1);
+        ListStudentsResponse.Builder listStudentsResponse = ListStudentsResponse.newBuilder();
+        for (Student student : students.subList(0, Math.min(pageSize, students.size()))) {
+            listStudentsResponse.addStudents(studentMapper.toGrpcStudent(student));
+        }
+        if (students.size() > pageSize) {
+            listStudentsResponse.setNextPageToken(PageTokens.encode(query, students.get(pageSize - 1)));
+        }
+        return listStudentsResponse.build();
+    }
+
     @Override
-    public void listStudentsStream(Empty request,
+    public void listStudentsStream(ListStudentsStreamRequest request,
                                    StreamObserver<StudentOuterClass.Student> responseObserver) {
-        List<Student> students = studentRepository.findAll();
-        List<StudentOuterClass.Student> listStudents = students.stream()
-                .map(studentMapper::toGrpcStudent)
-                .toList();
-        if (listStudents.isEmpty()) {
-            responseObserver.onError(Status.INTERNAL.withDescription("no student found").asException());
+        StudentStreamer streamer = new StudentStreamer(
+                (ServerCallStreamObserver<StudentOuterClass.Student>) responseObserver,
+                studentStore, studentMapper, streamPageSize);
+        long intervalMillis = request.getIntervalMillis() > 0 ? request.getIntervalMillis() : defaultPacingIntervalMillis;
+        if (intervalMillis > 0) {
+            int burst = Math.min(request.getBurst() > 0 ? request.getBurst() : defaultPacingBurst, maxPacingBurst);
+            streamer.startPaced(streamScheduler, Duration.ofMillis(intervalMillis), burst);
         } else {
-            Stack<StudentOuterClass.Student> stackStudents = new Stack<>();
-            stackStudents.addAll(listStudents);
-            Timer timer = new Timer("students timer");
-            timer.schedule(new TimerTask() {
-
-                @Override
-                public void run() {
-                    responseObserver.onNext(stackStudents.pop());
-                    if (stackStudents.isEmpty()) {
-                        responseObserver.onCompleted();
-                        timer.cancel();
-                    }
-                }
-
-            }, 0, 1000);
+            streamer.start();
         }
     }
 
     @Override
     public void getStudent(GetStudentRequest request,
                            StreamObserver<StudentOuterClass.Student> responseObserver) {
-        Student student = studentRepository.findById(request.getId()).orElse(null);
+        StudentOuterClass.Student student = studentCache.get(request.getId(),
+                id -> studentStore.findById(id).map(studentMapper::toGrpcStudent).orElse(null));
         if (student == null) {
             responseObserver.onError(Status.INTERNAL.withDescription("student not found").asException());
         } else {
-            responseObserver.onNext(studentMapper.toGrpcStudent(student));
+            responseObserver.onNext(student);
             responseObserver.onCompleted();
         }
     }
 
+    @Override
+    public void batchGetStudents(BatchGetStudentsRequest request,
+                                 StreamObserver<BatchGetStudentsResponse> responseObserver) {
+        Set<Long> ids = new LinkedHashSet<>(request.getIdsList());
+        if (ids.size() > maxBatchGetIds) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("at most " + maxBatchGetIds + " ids per request").asException());
+            return;
+        }
+        Map<Long, Student> found = new HashMap<>(ids.size() * 2);
+        List<Long> chunk = new ArrayList<>(batchGetChunkSize);
+        for (Long id : ids) {
+            chunk.add(id);
+            if (chunk.size() == batchGetChunkSize) {
+                studentStore.findAllById(chunk).forEach(student -> found.put(student.getId(), student));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            studentStore.findAllById(chunk).forEach(student -> found.put(student.getId(), student));
+        }
+        BatchGetStudentsResponse.Builder response = BatchGetStudentsResponse.newBuilder();
+        for (Long id : ids) {
+            Student student = found.get(id);
+            if (student == null) {
+                response.addMissingIds(id);
+            } else {
+                response.addStudents(studentMapper.toGrpcStudent(student));
+            }
+        }
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
+
     @Override
     public void createStudent(CreateStudentRequest request,
                               StreamObserver<StudentOuterClass.Student> responseObserver) {
         Student student = Student.builder().firstName(request.getFirstName()).lastName(request.getLastName()).age(request.getAge()).build();
-        responseObserver.onNext(studentMapper.toGrpcStudent(studentRepository.save(student)));
+        student = studentStore.insert(student);
+        listSnapshots.invalidate();
+        nameIndex.put(student);
+        responseObserver.onNext(studentMapper.toGrpcStudent(student));
         responseObserver.onCompleted();
     }
 
+    @Override
+    public StreamObserver<CreateStudentRequest> bulkCreateStudents(StreamObserver<BulkCreateStudentsResponse> responseObserver) {
+        return new BulkStudentCreator(responseObserver, studentStore, bulkBatchSize, saved -> {
+            listSnapshots.invalidate();
+            nameIndex.putAll(saved);
+        });
+    }
+
     @Override
     public void updateStudent(StudentOuterClass.Student request,
                               StreamObserver<StudentOuterClass.Student> responseObserver) {
-        if (studentRepository.existsById(request.getId())) {
-            Student student = studentRepository.save(studentMapper.fromGrpcStudent(request));
-            responseObserver.onNext(studentMapper.toGrpcStudent(student));
+        Optional<Student> updated = studentStore.update(studentMapper.fromGrpcStudent(request));
+        if (updated.isPresent()) {
+            StudentOuterClass.Student student = studentMapper.toGrpcStudent(updated.get());
+            studentCache.put(student);
+            listSnapshots.invalidate();
+            nameIndex.put(updated.get());
+            responseObserver.onNext(student);
             responseObserver.onCompleted();
         } else {
             responseObserver.onError(Status.INTERNAL.withDescription("student not found").asException());
@@ -99,8 +206,10 @@ public class GrpcStudentServiceIml extends StudentServiceGrpc.StudentServiceImpl
     @Override
     public void deleteStudent(DeleteStudentRequest request,
                               StreamObserver<DeleteStudentResponse> responseObserver) {
-        if (studentRepository.existsById(request.getId())) {
-            studentRepository.deleteById(request.getId());
+        if (studentStore.deleteById(request.getId())) {
+            studentCache.invalidate(request.getId());
+            listSnapshots.invalidate();
+            nameIndex.remove(request.getId());
             DeleteStudentResponse deleteStudentResponse = DeleteStudentResponse.newBuilder()
                     .setMessage("Student Deleted").build();
             responseObserver.onNext(deleteStudentResponse);
@@ -109,4 +218,20 @@ public class GrpcStudentServiceIml extends StudentServiceGrpc.StudentServiceImpl
             responseObserver.onError(Status.INTERNAL.withDescription("student not found").asException());
         }
     }
+
+    @Override
+    public void searchStudents(SearchStudentsRequest request, StreamObserver<SearchStudentsResponse> responseObserver) {
+        int limit = request.getLimit() > 0 ? Math.min(request.getLimit(), maxSearchLimit) : defaultSearchLimit;
+        List<Student> students;
+        try {
+            students = nameIndex.search(request.getQuery(), limit);
+        } catch (IllegalArgumentException e) {
+            responseObserver.onError(Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asException());
+            return;
+        }
+        SearchStudentsResponse.Builder response = SearchStudentsResponse.newBuilder();
+        students.forEach(student -> response.addStudents(studentMapper.toGrpcStudent(student)));
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
 }
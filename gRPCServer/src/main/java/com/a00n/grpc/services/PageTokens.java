@@ -0,0 +1,114 @@
+package com.a00n.grpc.services;
+
+import com.a00n.entities.Student;
+import com.a00n.store.StudentQuery;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Opaque keyset page tokens, URL-safe base64 encoded: a version byte, a fingerprint of the filter and sort the
+ * pages are listed with, and the sort key of the last student of the previous page. A token only continues the
+ * listing it came from. Names are written as a length and their UTF-8 bytes, so they can be of any length; version
+ * 2 tokens wrote them with {@link DataOutputStream#writeUTF}, which stops at 65535 bytes. Tokens of version 2, and
+ * of version 1, which held just the last id and only continue an unfiltered id order, are still read. Clients must
+ * treat them as opaque strings.
+ */
+final class PageTokens {
+
+    private static final byte VERSION_1 = 1;
+    private static final byte VERSION_2 = 2;
+    private static final byte VERSION = 3;
+
+    private PageTokens() {
+    }
+
+    static String encode(StudentQuery query, Student last) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(32);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeInt(fingerprint(query));
+            for (Object value : query.sort().key(last)) {
+                if (value instanceof String name) {
+                    byte[] utf8 = name.getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(utf8.length);
+                    out.write(utf8);
+                } else {
+                    out.writeLong((Long) value);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * Returns a student holding the sort key to continue after, or null for an empty token.
+     *
+     * @throws IllegalArgumentException if the token was not produced by {@link #encode} for the same query
+     */
+    static Student decode(String token, StudentQuery query) {
+        if (token.isEmpty()) {
+            return null;
+        }
+        byte[] bytes = Base64.getUrlDecoder().decode(token);
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            Student after = new Student();
+            byte version = in.readByte();
+            if (version == VERSION_1 && query.equals(StudentQuery.ALL)) {
+                after.setId(in.readLong());
+            } else if ((version == VERSION || version == VERSION_2) && in.readInt() == fingerprint(query)) {
+                switch (query.sort()) {
+                    case ID -> after.setId(in.readLong());
+                    case LAST_NAME -> {
+                        after.setLastName(readName(in, version));
+                        after.setFirstName(readName(in, version));
+                        after.setId(in.readLong());
+                    }
+                    case FIRST_NAME -> {
+                        after.setFirstName(readName(in, version));
+                        after.setLastName(readName(in, version));
+                        after.setId(in.readLong());
+                    }
+                    case AGE -> {
+                        after.setAge(in.readLong());
+                        after.setId(in.readLong());
+                    }
+                }
+            } else {
+                throw new IllegalArgumentException("page token does not belong to this query");
+            }
+            if (in.available() > 0) {
+                throw new IllegalArgumentException("malformed page token");
+            }
+            return after;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("malformed page token", e);
+        }
+    }
+
+    private static String readName(DataInputStream in, byte version) throws IOException {
+        if (version == VERSION_2) {
+            return in.readUTF();
+        }
+        int length = in.readInt();
+        if (length < 0 || length > in.available()) {
+            throw new IllegalArgumentException("malformed page token");
+        }
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+    // Only built from strings, numbers and enum names, so it is the same on every server.
+    private static int fingerprint(StudentQuery query) {
+        return Objects.hash(query.minAge(), query.maxAge(), query.firstNamePrefix(), query.lastNamePrefix(),
+                query.sort().name(), query.descending());
+    }
+}
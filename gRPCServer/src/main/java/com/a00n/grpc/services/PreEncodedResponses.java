@@ -0,0 +1,74 @@
+package com.a00n.grpc.services;
+
+import io.grpc.Drainable;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.stub.ServerCalls;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Rebinds a unary method so its handler answers with already encoded protobuf bytes. The bytes are written to the
+ * transport as they are; the client still sees the method's declared response type.
+ */
+final class PreEncodedResponses {
+
+    private static final MethodDescriptor.Marshaller<byte[]> MARSHALLER = new MethodDescriptor.Marshaller<>() {
+        @Override
+        public InputStream stream(byte[] value) {
+            return new EncodedStream(value);
+        }
+
+        @Override
+        public byte[] parse(InputStream stream) {
+            try {
+                return stream.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    };
+
+    private PreEncodedResponses() {
+    }
+
+    static <ReqT> ServerServiceDefinition rebind(ServerServiceDefinition definition, MethodDescriptor<ReqT, ?> method,
+                                                 ServerCalls.UnaryMethod<ReqT, byte[]> handler) {
+        MethodDescriptor<ReqT, byte[]> encodedMethod = method.toBuilder(method.getRequestMarshaller(), MARSHALLER).build();
+        ServiceDescriptor original = definition.getServiceDescriptor();
+        ServiceDescriptor.Builder descriptor = ServiceDescriptor.newBuilder(original.getName())
+                .setSchemaDescriptor(original.getSchemaDescriptor());
+        for (MethodDescriptor<?, ?> existing : original.getMethods()) {
+            descriptor.addMethod(existing.getFullMethodName().equals(method.getFullMethodName()) ? encodedMethod : existing);
+        }
+        ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(descriptor.build());
+        for (ServerMethodDefinition<?, ?> existing : definition.getMethods()) {
+            if (!existing.getMethodDescriptor().getFullMethodName().equals(method.getFullMethodName())) {
+                builder.addMethod(existing);
+            }
+        }
+        return builder.addMethod(encodedMethod, ServerCalls.asyncUnaryCall(handler)).build();
+    }
+
+    private static final class EncodedStream extends ByteArrayInputStream implements KnownLength, Drainable {
+
+        EncodedStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public int drainTo(OutputStream target) throws IOException {
+            int length = count - pos;
+            target.write(buf, pos, length);
+            pos = count;
+            return length;
+        }
+    }
+}
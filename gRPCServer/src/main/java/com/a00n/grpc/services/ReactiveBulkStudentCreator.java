@@ -0,0 +1,98 @@
+package com.a00n.grpc.services;
+
+import com.a00n.entities.Student;
+import com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse;
+import com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest;
+import com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange;
+import com.a00n.reactive.ReactiveStudentStore;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reactive variant of {@link BulkStudentCreator}. Batches are inserted one at a time off the inbound message
+ * path, and inbound flow control is manual: the client may run at most two batches ahead of the inserts, one
+ * being collected while the previous one is written.
+ */
+@Slf4j
+class ReactiveBulkStudentCreator implements StreamObserver<CreateStudentRequest> {
+
+    private final ServerCallStreamObserver<BulkCreateStudentsResponse> call;
+    private final int batchSize;
+    private final Sinks.Many<List<Student>> batches = Sinks.many().unicast().onBackpressureBuffer();
+    private final Consumer<List<Student>> onBatchSaved;
+    private final BulkCreateStudentsResponse.Builder response = BulkCreateStudentsResponse.newBuilder();
+    private final Disposable inserts;
+    private List<Student> batch;
+    private long createdCount;
+
+    ReactiveBulkStudentCreator(StreamObserver<BulkCreateStudentsResponse> responseObserver,
+                               ReactiveStudentStore studentStore, int batchSize,
+                               Consumer<List<Student>> onBatchSaved) {
+        this.call = (ServerCallStreamObserver<BulkCreateStudentsResponse>) responseObserver;
+        this.batchSize = batchSize;
+        this.onBatchSaved = onBatchSaved;
+        this.batch = new ArrayList<>(batchSize);
+        call.disableAutoRequest();
+        inserts = batches.asFlux()
+                .concatMap(studentStore::insertAll, 1)
+                .subscribe(this::recordBatch, this::fail, this::complete);
+        call.setOnCancelHandler(inserts::dispose);
+        call.request(2 * batchSize);
+    }
+
+    @Override
+    public void onNext(CreateStudentRequest request) {
+        batch.add(Student.builder().firstName(request.getFirstName()).lastName(request.getLastName()).age(request.getAge()).build());
+        if (batch.size() >= batchSize) {
+            batches.tryEmitNext(batch);
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        log.warn("bulk create cancelled by client after {} students", createdCount, t);
+        inserts.dispose();
+    }
+
+    @Override
+    public void onCompleted() {
+        if (!batch.isEmpty()) {
+            batches.tryEmitNext(batch);
+        }
+        batches.tryEmitComplete();
+    }
+
+    private void recordBatch(List<Student> saved) {
+        onBatchSaved.accept(saved);
+        long firstId = Long.MAX_VALUE;
+        long lastId = Long.MIN_VALUE;
+        for (Student student : saved) {
+            firstId = Math.min(firstId, student.getId());
+            lastId = Math.max(lastId, student.getId());
+        }
+        response.addBatches(StudentIdRange.newBuilder().setFirstId(firstId).setLastId(lastId).setCount(saved.size()));
+        createdCount += saved.size();
+        call.request(batchSize);
+    }
+
+    private void fail(Throwable e) {
+        call.onError(Status.INTERNAL
+                .withDescription("bulk create failed after " + createdCount + " students")
+                .withCause(e)
+                .asException());
+    }
+
+    private void complete() {
+        call.onNext(response.setCreatedCount(createdCount).build());
+        call.onCompleted();
+    }
+}
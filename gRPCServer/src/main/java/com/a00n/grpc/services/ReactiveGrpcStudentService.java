@@ -0,0 +1,204 @@
+package com.a00n.grpc.services;
+
+import com.a00n.entities.Student;
+import com.a00n.grpc.stubs.StudentOuterClass;
+import com.a00n.grpc.stubs.StudentOuterClass.*;
+import com.a00n.grpc.stubs.StudentServiceGrpc;
+import com.a00n.mappers.StudentMapper;
+import com.a00n.reactive.ReactiveStudentStore;
+import com.a00n.search.StudentNameIndex;
+import com.a00n.store.StudentQuery;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import net.devh.boot.grpc.server.service.GrpcService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * StudentService over R2DBC, selected with {@code students.service.mode=reactive}. Handlers only assemble and
+ * subscribe to a pipeline, so no call holds a thread while waiting for the database, and ListStudentsStream reads
+ * further pages only as the client's flow-control window opens. Responses are not cached in this mode.
+ */
+@GrpcService
+@ConditionalOnProperty(name = "students.service.mode", havingValue = "reactive")
+@RequiredArgsConstructor
+public class ReactiveGrpcStudentService extends StudentServiceGrpc.StudentServiceImplBase {
+
+    private final ReactiveStudentStore studentStore;
+    private final StudentMapper studentMapper;
+    private final StudentNameIndex nameIndex;
+
+    @Value("${students.list.default-page-size:100}")
+    private int defaultListPageSize;
+
+    @Value("${students.list.max-page-size:1000}")
+    private int maxListPageSize;
+
+    @Value("${students.batch-get.max-ids:1000}")
+    private int maxBatchGetIds;
+
+    @Value("${students.batch-get.chunk-size:500}")
+    private int batchGetChunkSize;
+
+    @Value("${students.bulk.batch-size:1000}")
+    private int bulkBatchSize;
+
+    @Value("${students.search.default-limit:10}")
+    private int defaultSearchLimit;
+
+    @Value("${students.search.max-limit:100}")
+    private int maxSearchLimit;
+
+    @Value("${students.stream.page-size:100}")
+    private int streamPageSize;
+
+    @Value("${students.stream.pacing.default-interval-ms:0}")
+    private long defaultPacingIntervalMillis;
+
+    @Value("${students.stream.pacing.default-burst:1}")
+    private int defaultPacingBurst;
+
+    @Value("${students.stream.pacing.max-burst:1000}")
+    private int maxPacingBurst;
+
+    @Override
+    public void listStudents(ListStudentsRequest request, StreamObserver<ListStudentsResponse> responseObserver) {
+        StudentQuery query;
+        try {
+            query = StudentQueries.fromRequest(request);
+        } catch (IllegalArgumentException e) {
+            responseObserver.onError(Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asException());
+            return;
+        }
+        Student after;
+        try {
+            after = PageTokens.decode(request.getPageToken(), query);
+        } catch (IllegalArgumentException e) {
+            responseObserver.onError(Status.INVALID_ARGUMENT.withDescription("invalid page token").asException());
+            return;
+        }
+        int pageSize = request.getPageSize() > 0 ? Math.min(request.getPageSize(), maxListPageSize) : defaultListPageSize;
+        ReactorServerCalls.oneToOne(studentStore.findPage(query, after, pageSize + 1).collectList().map(students -> {
+            ListStudentsResponse.Builder listStudentsResponse = ListStudentsResponse.newBuilder();
+            for (Student student : students.subList(0, Math.min(pageSize, students.size()))) {
+                listStudentsResponse.addStudents(studentMapper.toGrpcStudent(student));
+            }
+            if (students.size() > pageSize) {
+                listStudentsResponse.setNextPageToken(PageTokens.encode(query, students.get(pageSize - 1)));
+            }
+            return listStudentsResponse.build();
+        }), responseObserver);
+    }
+
+    @Override
+    public void listStudentsStream(ListStudentsStreamRequest request,
+                                   StreamObserver<StudentOuterClass.Student> responseObserver) {
+        Flux<StudentOuterClass.Student> students = studentStore.findPage(0, streamPageSize).collectList()
+                .expand(page -> page.size() < streamPageSize ? Mono.empty()
+                        : studentStore.findPage(page.get(page.size() - 1).getId(), streamPageSize).collectList())
+                .flatMapIterable(Function.identity(), 1)
+                .map(studentMapper::toGrpcStudent)
+                .switchIfEmpty(Mono.error(() -> Status.INTERNAL.withDescription("no student found").asException()));
+        long intervalMillis = request.getIntervalMillis() > 0 ? request.getIntervalMillis() : defaultPacingIntervalMillis;
+        if (intervalMillis > 0) {
+            int burst = Math.min(request.getBurst() > 0 ? request.getBurst() : defaultPacingBurst, maxPacingBurst);
+            students = students.buffer(burst)
+                    .delayElements(Duration.ofMillis(intervalMillis))
+                    .flatMapIterable(Function.identity(), 1);
+        }
+        ReactorServerCalls.oneToMany(students, responseObserver, streamPageSize);
+    }
+
+    @Override
+    public void getStudent(GetStudentRequest request, StreamObserver<StudentOuterClass.Student> responseObserver) {
+        ReactorServerCalls.oneToOne(studentStore.findById(request.getId())
+                .map(studentMapper::toGrpcStudent)
+                .switchIfEmpty(notFound()), responseObserver);
+    }
+
+    @Override
+    public void batchGetStudents(BatchGetStudentsRequest request,
+                                 StreamObserver<BatchGetStudentsResponse> responseObserver) {
+        Set<Long> ids = new LinkedHashSet<>(request.getIdsList());
+        if (ids.size() > maxBatchGetIds) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("at most " + maxBatchGetIds + " ids per request").asException());
+            return;
+        }
+        ReactorServerCalls.oneToOne(Flux.fromIterable(ids)
+                .buffer(batchGetChunkSize)
+                .concatMap(studentStore::findAllById)
+                .collectMap(Student::getId)
+                .map(found -> {
+                    BatchGetStudentsResponse.Builder response = BatchGetStudentsResponse.newBuilder();
+                    for (Long id : ids) {
+                        Student student = found.get(id);
+                        if (student == null) {
+                            response.addMissingIds(id);
+                        } else {
+                            response.addStudents(studentMapper.toGrpcStudent(student));
+                        }
+                    }
+                    return response.build();
+                }), responseObserver);
+    }
+
+    @Override
+    public void createStudent(CreateStudentRequest request, StreamObserver<StudentOuterClass.Student> responseObserver) {
+        Student student = Student.builder().firstName(request.getFirstName()).lastName(request.getLastName()).age(request.getAge()).build();
+        ReactorServerCalls.oneToOne(studentStore.insert(student)
+                .doOnNext(nameIndex::put)
+                .map(studentMapper::toGrpcStudent), responseObserver);
+    }
+
+    @Override
+    public StreamObserver<CreateStudentRequest> bulkCreateStudents(StreamObserver<BulkCreateStudentsResponse> responseObserver) {
+        return new ReactiveBulkStudentCreator(responseObserver, studentStore, bulkBatchSize, nameIndex::putAll);
+    }
+
+    @Override
+    public void updateStudent(StudentOuterClass.Student request, StreamObserver<StudentOuterClass.Student> responseObserver) {
+        ReactorServerCalls.oneToOne(studentStore.update(studentMapper.fromGrpcStudent(request))
+                .doOnNext(nameIndex::put)
+                .map(studentMapper::toGrpcStudent)
+                .switchIfEmpty(notFound()), responseObserver);
+    }
+
+    @Override
+    public void deleteStudent(DeleteStudentRequest request, StreamObserver<DeleteStudentResponse> responseObserver) {
+        ReactorServerCalls.oneToOne(studentStore.deleteById(request.getId())
+                .filter(Boolean::booleanValue)
+                .doOnNext(deleted -> nameIndex.remove(request.getId()))
+                .map(deleted -> DeleteStudentResponse.newBuilder().setMessage("Student Deleted").build())
+                .switchIfEmpty(notFound()), responseObserver);
+    }
+
+    @Override
+    public void searchStudents(SearchStudentsRequest request, StreamObserver<SearchStudentsResponse> responseObserver) {
+        int limit = request.getLimit() > 0 ? Math.min(request.getLimit(), maxSearchLimit) : defaultSearchLimit;
+        List<Student> students;
+        try {
+            students = nameIndex.search(request.getQuery(), limit);
+        } catch (IllegalArgumentException e) {
+            responseObserver.onError(Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asException());
+            return;
+        }
+        SearchStudentsResponse.Builder response = SearchStudentsResponse.newBuilder();
+        students.forEach(student -> response.addStudents(studentMapper.toGrpcStudent(student)));
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
+
+    private static <T> Mono<T> notFound() {
+        return Mono.error(() -> Status.INTERNAL.withDescription("student not found").asException());
+    }
+}
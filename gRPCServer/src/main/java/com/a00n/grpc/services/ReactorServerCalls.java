@@ -0,0 +1,104 @@
+package com.a00n.grpc.services;
+
+import io.grpc.Status;
+import io.grpc.StatusException;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.reactivestreams.Subscription;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adapts Reactor publishers to gRPC server calls: the response is subscribed to from the handler, the
+ * subscription is cancelled with the call, and errors that are not already a gRPC status become INTERNAL.
+ */
+final class ReactorServerCalls {
+
+    private ReactorServerCalls() {
+    }
+
+    /**
+     * Completes a unary call with the single value of {@code response}, which must not complete empty.
+     */
+    static <T> void oneToOne(Mono<T> response, StreamObserver<T> responseObserver) {
+        ServerCallStreamObserver<T> call = (ServerCallStreamObserver<T>) responseObserver;
+        Disposable.Swap subscription = Disposables.swap();
+        call.setOnCancelHandler(subscription::dispose);
+        subscription.update(response.subscribe(value -> {
+            call.onNext(value);
+            call.onCompleted();
+        }, error -> call.onError(toStatus(error))));
+    }
+
+    /**
+     * Streams {@code response} to a server-streaming call, requesting elements only as fast as the transport
+     * reports the call ready.
+     */
+    static <T> void oneToMany(Flux<T> response, StreamObserver<T> responseObserver, int prefetch) {
+        response.subscribe(new ReadySubscriber<>((ServerCallStreamObserver<T>) responseObserver, prefetch));
+    }
+
+    static Throwable toStatus(Throwable error) {
+        if (error instanceof StatusException || error instanceof StatusRuntimeException) {
+            return error;
+        }
+        return Status.INTERNAL.withDescription(error.getMessage()).withCause(error).asException();
+    }
+
+    /**
+     * Keeps at most {@code prefetch} elements requested. Each element sent returns one unit of demand, which is
+     * passed back upstream once the call is ready again; the onReady handler picks up what accumulated meanwhile.
+     */
+    private static final class ReadySubscriber<T> extends BaseSubscriber<T> implements Runnable {
+
+        private final ServerCallStreamObserver<T> call;
+        private final int prefetch;
+        private final AtomicInteger owed = new AtomicInteger();
+
+        ReadySubscriber(ServerCallStreamObserver<T> call, int prefetch) {
+            this.call = call;
+            this.prefetch = prefetch;
+            // Both handlers must be set before the service method returns.
+            call.setOnReadyHandler(this);
+            call.setOnCancelHandler(this::dispose);
+        }
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            subscription.request(prefetch);
+        }
+
+        @Override
+        protected void hookOnNext(T value) {
+            call.onNext(value);
+            owed.incrementAndGet();
+            run();
+        }
+
+        @Override
+        public void run() {
+            if (call.isReady() && !isDisposed()) {
+                int demand = owed.getAndSet(0);
+                if (demand > 0) {
+                    request(demand);
+                }
+            }
+        }
+
+        @Override
+        protected void hookOnComplete() {
+            call.onCompleted();
+        }
+
+        @Override
+        protected void hookOnError(Throwable error) {
+            call.onError(toStatus(error));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.a00n.grpc.services;
+
+import com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest;
+import com.a00n.grpc.stubs.StudentOuterClass.StudentFilter;
+import com.a00n.store.StudentQuery;
+
+/**
+ * Converts the filter and sort of a ListStudents request into a {@link StudentQuery}.
+ */
+final class StudentQueries {
+
+    private StudentQueries() {
+    }
+
+    /**
+     * @throws IllegalArgumentException with a message for the client if the filter or sort is invalid
+     */
+    static StudentQuery fromRequest(ListStudentsRequest request) {
+        StudentFilter filter = request.getFilter();
+        if (filter.getMinAge() < 0 || filter.getMaxAge() < 0) {
+            throw new IllegalArgumentException("age bounds must not be negative");
+        }
+        if (filter.getMinAge() > 0 && filter.getMaxAge() > 0 && filter.getMinAge() > filter.getMaxAge()) {
+            throw new IllegalArgumentException("min_age is greater than max_age");
+        }
+        StudentQuery.Sort sort = switch (request.getSort().getField()) {
+            case ID -> StudentQuery.Sort.ID;
+            case LAST_NAME -> StudentQuery.Sort.LAST_NAME;
+            case FIRST_NAME -> StudentQuery.Sort.FIRST_NAME;
+            case AGE -> StudentQuery.Sort.AGE;
+            case UNRECOGNIZED -> throw new IllegalArgumentException("unknown sort field");
+        };
+        return new StudentQuery(
+                filter.getMinAge() > 0 ? filter.getMinAge() : null,
+                filter.getMaxAge() > 0 ? filter.getMaxAge() : null,
+                filter.getFirstNamePrefix().isEmpty() ? null : filter.getFirstNamePrefix(),
+                filter.getLastNamePrefix().isEmpty() ? null : filter.getLastNamePrefix(),
+                sort, request.getSort().getDescending());
+    }
+}
@@ -0,0 +1,26 @@
+package com.a00n.grpc.services;
+
+import com.a00n.grpc.stubs.StudentServiceGrpc;
+import io.grpc.BindableService;
+import io.grpc.ServerServiceDefinition;
+import lombok.RequiredArgsConstructor;
+import net.devh.boot.grpc.server.service.GrpcService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+/**
+ * Registers {@link GrpcStudentServiceIml} with the server. The generated {@code bindService()} is final, so the
+ * ListStudents method is swapped here for the variant that writes cached, already encoded pages.
+ */
+@GrpcService
+@ConditionalOnProperty(name = "students.service.mode", havingValue = "blocking", matchIfMissing = true)
+@RequiredArgsConstructor
+public class StudentServiceBinding implements BindableService {
+
+    private final GrpcStudentServiceIml studentService;
+
+    @Override
+    public ServerServiceDefinition bindService() {
+        return PreEncodedResponses.rebind(studentService.bindService(), StudentServiceGrpc.getListStudentsMethod(),
+                studentService::listStudentsEncoded);
+    }
+}
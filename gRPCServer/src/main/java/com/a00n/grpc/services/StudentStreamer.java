@@ -0,0 +1,110 @@
+package com.a00n.grpc.services;
+
+import com.a00n.entities.Student;
+import com.a00n.grpc.scheduler.HashedWheelScheduler;
+import com.a00n.grpc.stubs.StudentOuterClass;
+import com.a00n.mappers.StudentMapper;
+import com.a00n.store.StudentStore;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Streams all students in id order, reading one keyset page at a time and only while the call is ready
+ * to accept more messages, so a stream never holds more than a single page regardless of the table size.
+ * A paced stream additionally emits at most {@code burst} students per interval from the shared scheduler.
+ */
+class StudentStreamer implements Runnable {
+
+    private final ServerCallStreamObserver<StudentOuterClass.Student> responseObserver;
+    private final StudentStore studentStore;
+    private final StudentMapper studentMapper;
+    private final int pageSize;
+    private final Deque<Student> page = new ArrayDeque<>();
+
+    private long lastId;
+    private boolean lastPage;
+    private boolean emitted;
+    private volatile boolean done;
+    private volatile HashedWheelScheduler.PacedTask pacedTask;
+
+    StudentStreamer(ServerCallStreamObserver<StudentOuterClass.Student> responseObserver,
+                    StudentStore studentStore, StudentMapper studentMapper, int pageSize) {
+        this.responseObserver = responseObserver;
+        this.studentStore = studentStore;
+        this.studentMapper = studentMapper;
+        this.pageSize = pageSize;
+    }
+
+    void start() {
+        responseObserver.setOnCancelHandler(() -> done = true);
+        responseObserver.setOnReadyHandler(this);
+    }
+
+    void startPaced(HashedWheelScheduler scheduler, Duration interval, int burst) {
+        responseObserver.setOnCancelHandler(() -> {
+            done = true;
+            HashedWheelScheduler.PacedTask task = pacedTask;
+            if (task != null) {
+                task.cancel();
+            }
+        });
+        pacedTask = scheduler.schedule(interval, () -> drain(burst));
+        if (done) {
+            pacedTask.cancel();
+        }
+    }
+
+    @Override
+    public void run() {
+        drain(Integer.MAX_VALUE);
+    }
+
+    private boolean drain(int max) {
+        if (done) {
+            return false;
+        }
+        try {
+            for (int sent = 0; sent < max && responseObserver.isReady(); sent++) {
+                if (page.isEmpty() && !fetchNextPage()) {
+                    finish();
+                    return false;
+                }
+                responseObserver.onNext(studentMapper.toGrpcStudent(page.poll()));
+                emitted = true;
+            }
+            return true;
+        } catch (RuntimeException e) {
+            done = true;
+            responseObserver.onError(Status.INTERNAL.withDescription("failed to stream students").withCause(e).asException());
+            return false;
+        }
+    }
+
+    private boolean fetchNextPage() {
+        if (lastPage) {
+            return false;
+        }
+        List<Student> students = studentStore.findPage(lastId, pageSize);
+        lastPage = students.size() < pageSize;
+        if (students.isEmpty()) {
+            return false;
+        }
+        lastId = students.get(students.size() - 1).getId();
+        page.addAll(students);
+        return true;
+    }
+
+    private void finish() {
+        done = true;
+        if (emitted) {
+            responseObserver.onCompleted();
+        } else {
+            responseObserver.onError(Status.INTERNAL.withDescription("no student found").asException());
+        }
+    }
+}
@@ -1284,55 +1284,93 @@ public final class StudentOuterClass {
 
   }
 
-  public interface ListStudentsResponseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:ListStudentsResponse)
+  public interface ListStudentsRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ListStudentsRequest)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>repeated .Student students = 1;</code>
+     * <pre>
+     * 0 uses the server default; larger values are capped by the server.
+     * </pre>
+     *
+     * <code>int32 page_size = 1;</code>
+     * @return The pageSize.
      */
-    java.util.List<com.a00n.grpc.stubs.StudentOuterClass.Student> 
-        getStudentsList();
+    int getPageSize();
+
     /**
-     * <code>repeated .Student students = 1;</code>
+     * <pre>
+     * next_page_token of the previous page, empty for the first page. A token is only valid with the same
+     * filter and sort it was issued for.
+     * </pre>
+     *
+     * <code>string page_token = 2;</code>
+     * @return The pageToken.
      */
-    com.a00n.grpc.stubs.StudentOuterClass.Student getStudents(int index);
+    java.lang.String getPageToken();
     /**
-     * <code>repeated .Student students = 1;</code>
+     * <pre>
+     * next_page_token of the previous page, empty for the first page. A token is only valid with the same
+     * filter and sort it was issued for.
+     * </pre>
+     *
+     * <code>string page_token = 2;</code>
+     * @return The bytes for pageToken.
      */
-    int getStudentsCount();
+    com.google.protobuf.ByteString
+        getPageTokenBytes();
+
     /**
-     * <code>repeated .Student students = 1;</code>
+     * <code>.StudentFilter filter = 3;</code>
+     * @return Whether the filter field is set.
      */
-    java.util.List<? extends com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder> 
-        getStudentsOrBuilderList();
+    boolean hasFilter();
     /**
-     * <code>repeated .Student students = 1;</code>
+     * <code>.StudentFilter filter = 3;</code>
+     * @return The filter.
      */
-    com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder getStudentsOrBuilder(
-        int index);
+    com.a00n.grpc.stubs.StudentOuterClass.StudentFilter getFilter();
+    /**
+     * <code>.StudentFilter filter = 3;</code>
+     */
+    com.a00n.grpc.stubs.StudentOuterClass.StudentFilterOrBuilder getFilterOrBuilder();
+
+    /**
+     * <code>.StudentSort sort = 4;</code>
+     * @return Whether the sort field is set.
+     */
+    boolean hasSort();
+    /**
+     * <code>.StudentSort sort = 4;</code>
+     * @return The sort.
+     */
+    com.a00n.grpc.stubs.StudentOuterClass.StudentSort getSort();
+    /**
+     * <code>.StudentSort sort = 4;</code>
+     */
+    com.a00n.grpc.stubs.StudentOuterClass.StudentSortOrBuilder getSortOrBuilder();
   }
   /**
-   * Protobuf type {@code ListStudentsResponse}
+   * Protobuf type {@code ListStudentsRequest}
    */
-  public  static final class ListStudentsResponse extends
+  public  static final class ListStudentsRequest extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:ListStudentsResponse)
-      ListStudentsResponseOrBuilder {
+      // @@protoc_insertion_point(message_implements:ListStudentsRequest)
+      ListStudentsRequestOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use ListStudentsResponse.newBuilder() to construct.
-    private ListStudentsResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use ListStudentsRequest.newBuilder() to construct.
+    private ListStudentsRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private ListStudentsResponse() {
-      students_ = java.util.Collections.emptyList();
+    private ListStudentsRequest() {
+      pageToken_ = "";
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new ListStudentsResponse();
+      return new ListStudentsRequest();
     }
 
     @java.lang.Override
@@ -1340,7 +1378,7 @@ public final class StudentOuterClass {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private ListStudentsResponse(
+    private ListStudentsRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -1348,7 +1386,6 @@ public final class StudentOuterClass {
       if (extensionRegistry == null) {
         throw new java.lang.NullPointerException();
       }
-      int mutable_bitField0_ = 0;
       com.google.protobuf.UnknownFieldSet.Builder unknownFields =
           com.google.protobuf.UnknownFieldSet.newBuilder();
       try {
@@ -1359,13 +1396,41 @@ public final class StudentOuterClass {
             case 0:
               done = true;
               break;
-            case 10: {
-              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
-                students_ = new java.util.ArrayList<com.a00n.grpc.stubs.StudentOuterClass.Student>();
-                mutable_bitField0_ |= 0x00000001;
+            case 8: {
+
+              pageSize_ = input.readInt32();
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              pageToken_ = s;
+              break;
+            }
+            case 26: {
+              com.a00n.grpc.stubs.StudentOuterClass.StudentFilter.Builder subBuilder = null;
+              if (filter_ != null) {
+                subBuilder = filter_.toBuilder();
               }
-              students_.add(
-                  input.readMessage(com.a00n.grpc.stubs.StudentOuterClass.Student.parser(), extensionRegistry));
+              filter_ = input.readMessage(com.a00n.grpc.stubs.StudentOuterClass.StudentFilter.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(filter_);
+                filter_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 34: {
+              com.a00n.grpc.stubs.StudentOuterClass.StudentSort.Builder subBuilder = null;
+              if (sort_ != null) {
+                subBuilder = sort_.toBuilder();
+              }
+              sort_ = input.readMessage(com.a00n.grpc.stubs.StudentOuterClass.StudentSort.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(sort_);
+                sort_ = subBuilder.buildPartial();
+              }
+
               break;
             }
             default: {
@@ -1383,59 +1448,127 @@ public final class StudentOuterClass {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField0_ & 0x00000001) != 0)) {
-          students_ = java.util.Collections.unmodifiableList(students_);
-        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_ListStudentsResponse_descriptor;
+      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_ListStudentsRequest_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_ListStudentsResponse_fieldAccessorTable
+      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_ListStudentsRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse.class, com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse.Builder.class);
+              com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest.class, com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest.Builder.class);
     }
 
-    public static final int STUDENTS_FIELD_NUMBER = 1;
-    private java.util.List<com.a00n.grpc.stubs.StudentOuterClass.Student> students_;
+    public static final int PAGE_SIZE_FIELD_NUMBER = 1;
+    private int pageSize_;
     /**
-     * <code>repeated .Student students = 1;</code>
+     * <pre>
+     * 0 uses the server default; larger values are capped by the server.
+     * </pre>
+     *
+     * <code>int32 page_size = 1;</code>
+     * @return The pageSize.
      */
-    public java.util.List<com.a00n.grpc.stubs.StudentOuterClass.Student> getStudentsList() {
-      return students_;
+    public int getPageSize() {
+      return pageSize_;
     }
+
+    public static final int PAGE_TOKEN_FIELD_NUMBER = 2;
+    private volatile java.lang.Object pageToken_;
     /**
-     * <code>repeated .Student students = 1;</code>
+     * <pre>
+     * next_page_token of the previous page, empty for the first page. A token is only valid with the same
+     * filter and sort it was issued for.
+     * </pre>
+     *
+     * <code>string page_token = 2;</code>
+     * @return The pageToken.
      */
-    public java.util.List<? extends com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder> 
-        getStudentsOrBuilderList() {
-      return students_;
+    public java.lang.String getPageToken() {
+      java.lang.Object ref = pageToken_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        pageToken_ = s;
+        return s;
+      }
     }
     /**
-     * <code>repeated .Student students = 1;</code>
+     * <pre>
+     * next_page_token of the previous page, empty for the first page. A token is only valid with the same
+     * filter and sort it was issued for.
+     * </pre>
+     *
+     * <code>string page_token = 2;</code>
+     * @return The bytes for pageToken.
      */
-    public int getStudentsCount() {
-      return students_.size();
+    public com.google.protobuf.ByteString
+        getPageTokenBytes() {
+      java.lang.Object ref = pageToken_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        pageToken_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
+
+    public static final int FILTER_FIELD_NUMBER = 3;
+    private com.a00n.grpc.stubs.StudentOuterClass.StudentFilter filter_;
     /**
-     * <code>repeated .Student students = 1;</code>
+     * <code>.StudentFilter filter = 3;</code>
+     * @return Whether the filter field is set.
      */
-    public com.a00n.grpc.stubs.StudentOuterClass.Student getStudents(int index) {
-      return students_.get(index);
+    public boolean hasFilter() {
+      return filter_ != null;
     }
     /**
-     * <code>repeated .Student students = 1;</code>
+     * <code>.StudentFilter filter = 3;</code>
+     * @return The filter.
      */
-    public com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder getStudentsOrBuilder(
-        int index) {
-      return students_.get(index);
+    public com.a00n.grpc.stubs.StudentOuterClass.StudentFilter getFilter() {
+      return filter_ == null ? com.a00n.grpc.stubs.StudentOuterClass.StudentFilter.getDefaultInstance() : filter_;
+    }
+    /**
+     * <code>.StudentFilter filter = 3;</code>
+     */
+    public com.a00n.grpc.stubs.StudentOuterClass.StudentFilterOrBuilder getFilterOrBuilder() {
+      return getFilter();
+    }
+
+    public static final int SORT_FIELD_NUMBER = 4;
+    private com.a00n.grpc.stubs.StudentOuterClass.StudentSort sort_;
+    /**
+     * <code>.StudentSort sort = 4;</code>
+     * @return Whether the sort field is set.
+     */
+    public boolean hasSort() {
+      return sort_ != null;
+    }
+    /**
+     * <code>.StudentSort sort = 4;</code>
+     * @return The sort.
+     */
+    public com.a00n.grpc.stubs.StudentOuterClass.StudentSort getSort() {
+      return sort_ == null ? com.a00n.grpc.stubs.StudentOuterClass.StudentSort.getDefaultInstance() : sort_;
+    }
+    /**
+     * <code>.StudentSort sort = 4;</code>
+     */
+    public com.a00n.grpc.stubs.StudentOuterClass.StudentSortOrBuilder getSortOrBuilder() {
+      return getSort();
     }
 
     private byte memoizedIsInitialized = -1;
@@ -1452,8 +1585,17 @@ public final class StudentOuterClass {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      for (int i = 0; i < students_.size(); i++) {
-        output.writeMessage(1, students_.get(i));
+      if (pageSize_ != 0) {
+        output.writeInt32(1, pageSize_);
+      }
+      if (!getPageTokenBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, pageToken_);
+      }
+      if (filter_ != null) {
+        output.writeMessage(3, getFilter());
+      }
+      if (sort_ != null) {
+        output.writeMessage(4, getSort());
       }
       unknownFields.writeTo(output);
     }
@@ -1464,9 +1606,20 @@ public final class StudentOuterClass {
       if (size != -1) return size;
 
       size = 0;
-      for (int i = 0; i < students_.size(); i++) {
+      if (pageSize_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, students_.get(i));
+          .computeInt32Size(1, pageSize_);
+      }
+      if (!getPageTokenBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, pageToken_);
+      }
+      if (filter_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getFilter());
+      }
+      if (sort_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, getSort());
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -1478,13 +1631,25 @@ public final class StudentOuterClass {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse)) {
+      if (!(obj instanceof com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest)) {
         return super.equals(obj);
       }
-      com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse other = (com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse) obj;
+      com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest other = (com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest) obj;
 
-      if (!getStudentsList()
-          .equals(other.getStudentsList())) return false;
+      if (getPageSize()
+          != other.getPageSize()) return false;
+      if (!getPageToken()
+          .equals(other.getPageToken())) return false;
+      if (hasFilter() != other.hasFilter()) return false;
+      if (hasFilter()) {
+        if (!getFilter()
+            .equals(other.getFilter())) return false;
+      }
+      if (hasSort() != other.hasSort()) return false;
+      if (hasSort()) {
+        if (!getSort()
+            .equals(other.getSort())) return false;
+      }
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -1496,78 +1661,86 @@ public final class StudentOuterClass {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      if (getStudentsCount() > 0) {
-        hash = (37 * hash) + STUDENTS_FIELD_NUMBER;
-        hash = (53 * hash) + getStudentsList().hashCode();
+      hash = (37 * hash) + PAGE_SIZE_FIELD_NUMBER;
+      hash = (53 * hash) + getPageSize();
+      hash = (37 * hash) + PAGE_TOKEN_FIELD_NUMBER;
+      hash = (53 * hash) + getPageToken().hashCode();
+      if (hasFilter()) {
+        hash = (37 * hash) + FILTER_FIELD_NUMBER;
+        hash = (53 * hash) + getFilter().hashCode();
+      }
+      if (hasSort()) {
+        hash = (37 * hash) + SORT_FIELD_NUMBER;
+        hash = (53 * hash) + getSort().hashCode();
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse parseFrom(byte[] data)
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse parseFrom(java.io.InputStream input)
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse parseDelimitedFrom(java.io.InputStream input)
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse parseDelimitedFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -1580,7 +1753,7 @@ public final class StudentOuterClass {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse prototype) {
+    public static Builder newBuilder(com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -1596,26 +1769,26 @@ public final class StudentOuterClass {
       return builder;
     }
     /**
-     * Protobuf type {@code ListStudentsResponse}
+     * Protobuf type {@code ListStudentsRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:ListStudentsResponse)
-        com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponseOrBuilder {
+        // @@protoc_insertion_point(builder_implements:ListStudentsRequest)
+        com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_ListStudentsResponse_descriptor;
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_ListStudentsRequest_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_ListStudentsResponse_fieldAccessorTable
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_ListStudentsRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse.class, com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse.Builder.class);
+                com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest.class, com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest.Builder.class);
       }
 
-      // Construct using com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse.newBuilder()
+      // Construct using com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -1628,17 +1801,26 @@ public final class StudentOuterClass {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
-          getStudentsFieldBuilder();
         }
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        if (studentsBuilder_ == null) {
-          students_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
+        pageSize_ = 0;
+
+        pageToken_ = "";
+
+        if (filterBuilder_ == null) {
+          filter_ = null;
         } else {
-          studentsBuilder_.clear();
+          filter_ = null;
+          filterBuilder_ = null;
+        }
+        if (sortBuilder_ == null) {
+          sort_ = null;
+        } else {
+          sort_ = null;
+          sortBuilder_ = null;
         }
         return this;
       }
@@ -1646,17 +1828,17 @@ public final class StudentOuterClass {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_ListStudentsResponse_descriptor;
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_ListStudentsRequest_descriptor;
       }
 
       @java.lang.Override
-      public com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse getDefaultInstanceForType() {
-        return com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse.getDefaultInstance();
+      public com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest getDefaultInstanceForType() {
+        return com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest.getDefaultInstance();
       }
 
       @java.lang.Override
-      public com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse build() {
-        com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse result = buildPartial();
+      public com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest build() {
+        com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -1664,17 +1846,19 @@ public final class StudentOuterClass {
       }
 
       @java.lang.Override
-      public com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse buildPartial() {
-        com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse result = new com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse(this);
-        int from_bitField0_ = bitField0_;
-        if (studentsBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) != 0)) {
-            students_ = java.util.Collections.unmodifiableList(students_);
-            bitField0_ = (bitField0_ & ~0x00000001);
-          }
-          result.students_ = students_;
+      public com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest buildPartial() {
+        com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest result = new com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest(this);
+        result.pageSize_ = pageSize_;
+        result.pageToken_ = pageToken_;
+        if (filterBuilder_ == null) {
+          result.filter_ = filter_;
         } else {
-          result.students_ = studentsBuilder_.build();
+          result.filter_ = filterBuilder_.build();
+        }
+        if (sortBuilder_ == null) {
+          result.sort_ = sort_;
+        } else {
+          result.sort_ = sortBuilder_.build();
         }
         onBuilt();
         return result;
@@ -1714,41 +1898,28 @@ public final class StudentOuterClass {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse) {
-          return mergeFrom((com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse)other);
+        if (other instanceof com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest) {
+          return mergeFrom((com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse other) {
-        if (other == com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse.getDefaultInstance()) return this;
-        if (studentsBuilder_ == null) {
-          if (!other.students_.isEmpty()) {
-            if (students_.isEmpty()) {
-              students_ = other.students_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-            } else {
-              ensureStudentsIsMutable();
-              students_.addAll(other.students_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.students_.isEmpty()) {
-            if (studentsBuilder_.isEmpty()) {
-              studentsBuilder_.dispose();
-              studentsBuilder_ = null;
-              students_ = other.students_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-              studentsBuilder_ = 
-                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
-                   getStudentsFieldBuilder() : null;
-            } else {
-              studentsBuilder_.addAllMessages(other.students_);
-            }
-          }
+      public Builder mergeFrom(com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest other) {
+        if (other == com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest.getDefaultInstance()) return this;
+        if (other.getPageSize() != 0) {
+          setPageSize(other.getPageSize());
+        }
+        if (!other.getPageToken().isEmpty()) {
+          pageToken_ = other.pageToken_;
+          onChanged();
+        }
+        if (other.hasFilter()) {
+          mergeFilter(other.getFilter());
+        }
+        if (other.hasSort()) {
+          mergeSort(other.getSort());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -1765,11 +1936,11 @@ public final class StudentOuterClass {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse parsedMessage = null;
+        com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse) e.getUnfinishedMessage();
+          parsedMessage = (com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -1778,246 +1949,386 @@ public final class StudentOuterClass {
         }
         return this;
       }
-      private int bitField0_;
-
-      private java.util.List<com.a00n.grpc.stubs.StudentOuterClass.Student> students_ =
-        java.util.Collections.emptyList();
-      private void ensureStudentsIsMutable() {
-        if (!((bitField0_ & 0x00000001) != 0)) {
-          students_ = new java.util.ArrayList<com.a00n.grpc.stubs.StudentOuterClass.Student>(students_);
-          bitField0_ |= 0x00000001;
-         }
-      }
-
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          com.a00n.grpc.stubs.StudentOuterClass.Student, com.a00n.grpc.stubs.StudentOuterClass.Student.Builder, com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder> studentsBuilder_;
 
+      private int pageSize_ ;
       /**
-       * <code>repeated .Student students = 1;</code>
+       * <pre>
+       * 0 uses the server default; larger values are capped by the server.
+       * </pre>
+       *
+       * <code>int32 page_size = 1;</code>
+       * @return The pageSize.
        */
-      public java.util.List<com.a00n.grpc.stubs.StudentOuterClass.Student> getStudentsList() {
-        if (studentsBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(students_);
-        } else {
-          return studentsBuilder_.getMessageList();
-        }
+      public int getPageSize() {
+        return pageSize_;
       }
       /**
-       * <code>repeated .Student students = 1;</code>
+       * <pre>
+       * 0 uses the server default; larger values are capped by the server.
+       * </pre>
+       *
+       * <code>int32 page_size = 1;</code>
+       * @param value The pageSize to set.
+       * @return This builder for chaining.
        */
-      public int getStudentsCount() {
-        if (studentsBuilder_ == null) {
-          return students_.size();
-        } else {
-          return studentsBuilder_.getCount();
-        }
+      public Builder setPageSize(int value) {
+        
+        pageSize_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .Student students = 1;</code>
+       * <pre>
+       * 0 uses the server default; larger values are capped by the server.
+       * </pre>
+       *
+       * <code>int32 page_size = 1;</code>
+       * @return This builder for chaining.
        */
-      public com.a00n.grpc.stubs.StudentOuterClass.Student getStudents(int index) {
-        if (studentsBuilder_ == null) {
-          return students_.get(index);
+      public Builder clearPageSize() {
+        
+        pageSize_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object pageToken_ = "";
+      /**
+       * <pre>
+       * next_page_token of the previous page, empty for the first page. A token is only valid with the same
+       * filter and sort it was issued for.
+       * </pre>
+       *
+       * <code>string page_token = 2;</code>
+       * @return The pageToken.
+       */
+      public java.lang.String getPageToken() {
+        java.lang.Object ref = pageToken_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          pageToken_ = s;
+          return s;
         } else {
-          return studentsBuilder_.getMessage(index);
+          return (java.lang.String) ref;
         }
       }
       /**
-       * <code>repeated .Student students = 1;</code>
+       * <pre>
+       * next_page_token of the previous page, empty for the first page. A token is only valid with the same
+       * filter and sort it was issued for.
+       * </pre>
+       *
+       * <code>string page_token = 2;</code>
+       * @return The bytes for pageToken.
        */
-      public Builder setStudents(
-          int index, com.a00n.grpc.stubs.StudentOuterClass.Student value) {
-        if (studentsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureStudentsIsMutable();
-          students_.set(index, value);
-          onChanged();
+      public com.google.protobuf.ByteString
+          getPageTokenBytes() {
+        java.lang.Object ref = pageToken_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          pageToken_ = b;
+          return b;
         } else {
-          studentsBuilder_.setMessage(index, value);
+          return (com.google.protobuf.ByteString) ref;
         }
+      }
+      /**
+       * <pre>
+       * next_page_token of the previous page, empty for the first page. A token is only valid with the same
+       * filter and sort it was issued for.
+       * </pre>
+       *
+       * <code>string page_token = 2;</code>
+       * @param value The pageToken to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPageToken(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        pageToken_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .Student students = 1;</code>
+       * <pre>
+       * next_page_token of the previous page, empty for the first page. A token is only valid with the same
+       * filter and sort it was issued for.
+       * </pre>
+       *
+       * <code>string page_token = 2;</code>
+       * @return This builder for chaining.
        */
-      public Builder setStudents(
-          int index, com.a00n.grpc.stubs.StudentOuterClass.Student.Builder builderForValue) {
-        if (studentsBuilder_ == null) {
-          ensureStudentsIsMutable();
-          students_.set(index, builderForValue.build());
-          onChanged();
+      public Builder clearPageToken() {
+        
+        pageToken_ = getDefaultInstance().getPageToken();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * next_page_token of the previous page, empty for the first page. A token is only valid with the same
+       * filter and sort it was issued for.
+       * </pre>
+       *
+       * <code>string page_token = 2;</code>
+       * @param value The bytes for pageToken to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPageTokenBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        pageToken_ = value;
+        onChanged();
+        return this;
+      }
+
+      private com.a00n.grpc.stubs.StudentOuterClass.StudentFilter filter_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.a00n.grpc.stubs.StudentOuterClass.StudentFilter, com.a00n.grpc.stubs.StudentOuterClass.StudentFilter.Builder, com.a00n.grpc.stubs.StudentOuterClass.StudentFilterOrBuilder> filterBuilder_;
+      /**
+       * <code>.StudentFilter filter = 3;</code>
+       * @return Whether the filter field is set.
+       */
+      public boolean hasFilter() {
+        return filterBuilder_ != null || filter_ != null;
+      }
+      /**
+       * <code>.StudentFilter filter = 3;</code>
+       * @return The filter.
+       */
+      public com.a00n.grpc.stubs.StudentOuterClass.StudentFilter getFilter() {
+        if (filterBuilder_ == null) {
+          return filter_ == null ? com.a00n.grpc.stubs.StudentOuterClass.StudentFilter.getDefaultInstance() : filter_;
         } else {
-          studentsBuilder_.setMessage(index, builderForValue.build());
+          return filterBuilder_.getMessage();
         }
-        return this;
       }
       /**
-       * <code>repeated .Student students = 1;</code>
+       * <code>.StudentFilter filter = 3;</code>
        */
-      public Builder addStudents(com.a00n.grpc.stubs.StudentOuterClass.Student value) {
-        if (studentsBuilder_ == null) {
+      public Builder setFilter(com.a00n.grpc.stubs.StudentOuterClass.StudentFilter value) {
+        if (filterBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          ensureStudentsIsMutable();
-          students_.add(value);
+          filter_ = value;
           onChanged();
         } else {
-          studentsBuilder_.addMessage(value);
+          filterBuilder_.setMessage(value);
         }
+
         return this;
       }
       /**
-       * <code>repeated .Student students = 1;</code>
+       * <code>.StudentFilter filter = 3;</code>
        */
-      public Builder addStudents(
-          int index, com.a00n.grpc.stubs.StudentOuterClass.Student value) {
-        if (studentsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureStudentsIsMutable();
-          students_.add(index, value);
+      public Builder setFilter(
+          com.a00n.grpc.stubs.StudentOuterClass.StudentFilter.Builder builderForValue) {
+        if (filterBuilder_ == null) {
+          filter_ = builderForValue.build();
           onChanged();
         } else {
-          studentsBuilder_.addMessage(index, value);
+          filterBuilder_.setMessage(builderForValue.build());
         }
+
         return this;
       }
       /**
-       * <code>repeated .Student students = 1;</code>
+       * <code>.StudentFilter filter = 3;</code>
        */
-      public Builder addStudents(
-          com.a00n.grpc.stubs.StudentOuterClass.Student.Builder builderForValue) {
-        if (studentsBuilder_ == null) {
-          ensureStudentsIsMutable();
-          students_.add(builderForValue.build());
+      public Builder mergeFilter(com.a00n.grpc.stubs.StudentOuterClass.StudentFilter value) {
+        if (filterBuilder_ == null) {
+          if (filter_ != null) {
+            filter_ =
+              com.a00n.grpc.stubs.StudentOuterClass.StudentFilter.newBuilder(filter_).mergeFrom(value).buildPartial();
+          } else {
+            filter_ = value;
+          }
           onChanged();
         } else {
-          studentsBuilder_.addMessage(builderForValue.build());
+          filterBuilder_.mergeFrom(value);
         }
+
         return this;
       }
       /**
-       * <code>repeated .Student students = 1;</code>
+       * <code>.StudentFilter filter = 3;</code>
        */
-      public Builder addStudents(
-          int index, com.a00n.grpc.stubs.StudentOuterClass.Student.Builder builderForValue) {
-        if (studentsBuilder_ == null) {
-          ensureStudentsIsMutable();
-          students_.add(index, builderForValue.build());
+      public Builder clearFilter() {
+        if (filterBuilder_ == null) {
+          filter_ = null;
           onChanged();
         } else {
-          studentsBuilder_.addMessage(index, builderForValue.build());
+          filter_ = null;
+          filterBuilder_ = null;
         }
+
         return this;
       }
       /**
-       * <code>repeated .Student students = 1;</code>
+       * <code>.StudentFilter filter = 3;</code>
        */
-      public Builder addAllStudents(
-          java.lang.Iterable<? extends com.a00n.grpc.stubs.StudentOuterClass.Student> values) {
-        if (studentsBuilder_ == null) {
-          ensureStudentsIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, students_);
-          onChanged();
+      public com.a00n.grpc.stubs.StudentOuterClass.StudentFilter.Builder getFilterBuilder() {
+        
+        onChanged();
+        return getFilterFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.StudentFilter filter = 3;</code>
+       */
+      public com.a00n.grpc.stubs.StudentOuterClass.StudentFilterOrBuilder getFilterOrBuilder() {
+        if (filterBuilder_ != null) {
+          return filterBuilder_.getMessageOrBuilder();
         } else {
-          studentsBuilder_.addAllMessages(values);
+          return filter_ == null ?
+              com.a00n.grpc.stubs.StudentOuterClass.StudentFilter.getDefaultInstance() : filter_;
         }
-        return this;
       }
       /**
-       * <code>repeated .Student students = 1;</code>
+       * <code>.StudentFilter filter = 3;</code>
        */
-      public Builder clearStudents() {
-        if (studentsBuilder_ == null) {
-          students_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
-          onChanged();
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.a00n.grpc.stubs.StudentOuterClass.StudentFilter, com.a00n.grpc.stubs.StudentOuterClass.StudentFilter.Builder, com.a00n.grpc.stubs.StudentOuterClass.StudentFilterOrBuilder> 
+          getFilterFieldBuilder() {
+        if (filterBuilder_ == null) {
+          filterBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.a00n.grpc.stubs.StudentOuterClass.StudentFilter, com.a00n.grpc.stubs.StudentOuterClass.StudentFilter.Builder, com.a00n.grpc.stubs.StudentOuterClass.StudentFilterOrBuilder>(
+                  getFilter(),
+                  getParentForChildren(),
+                  isClean());
+          filter_ = null;
+        }
+        return filterBuilder_;
+      }
+
+      private com.a00n.grpc.stubs.StudentOuterClass.StudentSort sort_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.a00n.grpc.stubs.StudentOuterClass.StudentSort, com.a00n.grpc.stubs.StudentOuterClass.StudentSort.Builder, com.a00n.grpc.stubs.StudentOuterClass.StudentSortOrBuilder> sortBuilder_;
+      /**
+       * <code>.StudentSort sort = 4;</code>
+       * @return Whether the sort field is set.
+       */
+      public boolean hasSort() {
+        return sortBuilder_ != null || sort_ != null;
+      }
+      /**
+       * <code>.StudentSort sort = 4;</code>
+       * @return The sort.
+       */
+      public com.a00n.grpc.stubs.StudentOuterClass.StudentSort getSort() {
+        if (sortBuilder_ == null) {
+          return sort_ == null ? com.a00n.grpc.stubs.StudentOuterClass.StudentSort.getDefaultInstance() : sort_;
         } else {
-          studentsBuilder_.clear();
+          return sortBuilder_.getMessage();
         }
-        return this;
       }
       /**
-       * <code>repeated .Student students = 1;</code>
+       * <code>.StudentSort sort = 4;</code>
        */
-      public Builder removeStudents(int index) {
-        if (studentsBuilder_ == null) {
-          ensureStudentsIsMutable();
-          students_.remove(index);
+      public Builder setSort(com.a00n.grpc.stubs.StudentOuterClass.StudentSort value) {
+        if (sortBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          sort_ = value;
           onChanged();
         } else {
-          studentsBuilder_.remove(index);
+          sortBuilder_.setMessage(value);
         }
+
         return this;
       }
       /**
-       * <code>repeated .Student students = 1;</code>
+       * <code>.StudentSort sort = 4;</code>
        */
-      public com.a00n.grpc.stubs.StudentOuterClass.Student.Builder getStudentsBuilder(
-          int index) {
-        return getStudentsFieldBuilder().getBuilder(index);
+      public Builder setSort(
+          com.a00n.grpc.stubs.StudentOuterClass.StudentSort.Builder builderForValue) {
+        if (sortBuilder_ == null) {
+          sort_ = builderForValue.build();
+          onChanged();
+        } else {
+          sortBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
       }
       /**
-       * <code>repeated .Student students = 1;</code>
+       * <code>.StudentSort sort = 4;</code>
        */
-      public com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder getStudentsOrBuilder(
-          int index) {
-        if (studentsBuilder_ == null) {
-          return students_.get(index);  } else {
-          return studentsBuilder_.getMessageOrBuilder(index);
+      public Builder mergeSort(com.a00n.grpc.stubs.StudentOuterClass.StudentSort value) {
+        if (sortBuilder_ == null) {
+          if (sort_ != null) {
+            sort_ =
+              com.a00n.grpc.stubs.StudentOuterClass.StudentSort.newBuilder(sort_).mergeFrom(value).buildPartial();
+          } else {
+            sort_ = value;
+          }
+          onChanged();
+        } else {
+          sortBuilder_.mergeFrom(value);
         }
+
+        return this;
       }
       /**
-       * <code>repeated .Student students = 1;</code>
+       * <code>.StudentSort sort = 4;</code>
        */
-      public java.util.List<? extends com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder> 
-           getStudentsOrBuilderList() {
-        if (studentsBuilder_ != null) {
-          return studentsBuilder_.getMessageOrBuilderList();
+      public Builder clearSort() {
+        if (sortBuilder_ == null) {
+          sort_ = null;
+          onChanged();
         } else {
-          return java.util.Collections.unmodifiableList(students_);
+          sort_ = null;
+          sortBuilder_ = null;
         }
+
+        return this;
       }
       /**
-       * <code>repeated .Student students = 1;</code>
+       * <code>.StudentSort sort = 4;</code>
        */
-      public com.a00n.grpc.stubs.StudentOuterClass.Student.Builder addStudentsBuilder() {
-        return getStudentsFieldBuilder().addBuilder(
-            com.a00n.grpc.stubs.StudentOuterClass.Student.getDefaultInstance());
+      public com.a00n.grpc.stubs.StudentOuterClass.StudentSort.Builder getSortBuilder() {
+        
+        onChanged();
+        return getSortFieldBuilder().getBuilder();
       }
       /**
-       * <code>repeated .Student students = 1;</code>
+       * <code>.StudentSort sort = 4;</code>
        */
-      public com.a00n.grpc.stubs.StudentOuterClass.Student.Builder addStudentsBuilder(
-          int index) {
-        return getStudentsFieldBuilder().addBuilder(
-            index, com.a00n.grpc.stubs.StudentOuterClass.Student.getDefaultInstance());
+      public com.a00n.grpc.stubs.StudentOuterClass.StudentSortOrBuilder getSortOrBuilder() {
+        if (sortBuilder_ != null) {
+          return sortBuilder_.getMessageOrBuilder();
+        } else {
+          return sort_ == null ?
+              com.a00n.grpc.stubs.StudentOuterClass.StudentSort.getDefaultInstance() : sort_;
+        }
       }
       /**
-       * <code>repeated .Student students = 1;</code>
+       * <code>.StudentSort sort = 4;</code>
        */
-      public java.util.List<com.a00n.grpc.stubs.StudentOuterClass.Student.Builder> 
-           getStudentsBuilderList() {
-        return getStudentsFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          com.a00n.grpc.stubs.StudentOuterClass.Student, com.a00n.grpc.stubs.StudentOuterClass.Student.Builder, com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder> 
-          getStudentsFieldBuilder() {
-        if (studentsBuilder_ == null) {
-          studentsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
-              com.a00n.grpc.stubs.StudentOuterClass.Student, com.a00n.grpc.stubs.StudentOuterClass.Student.Builder, com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder>(
-                  students_,
-                  ((bitField0_ & 0x00000001) != 0),
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.a00n.grpc.stubs.StudentOuterClass.StudentSort, com.a00n.grpc.stubs.StudentOuterClass.StudentSort.Builder, com.a00n.grpc.stubs.StudentOuterClass.StudentSortOrBuilder> 
+          getSortFieldBuilder() {
+        if (sortBuilder_ == null) {
+          sortBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.a00n.grpc.stubs.StudentOuterClass.StudentSort, com.a00n.grpc.stubs.StudentOuterClass.StudentSort.Builder, com.a00n.grpc.stubs.StudentOuterClass.StudentSortOrBuilder>(
+                  getSort(),
                   getParentForChildren(),
                   isClean());
-          students_ = null;
+          sort_ = null;
         }
-        return studentsBuilder_;
+        return sortBuilder_;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -2032,76 +2343,7528 @@ public final class StudentOuterClass {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:ListStudentsResponse)
+      // @@protoc_insertion_point(builder_scope:ListStudentsRequest)
     }
 
-    // @@protoc_insertion_point(class_scope:ListStudentsResponse)
-    private static final com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:ListStudentsRequest)
+    private static final com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest();
+    }
+
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ListStudentsRequest>
+        PARSER = new com.google.protobuf.AbstractParser<ListStudentsRequest>() {
+      @java.lang.Override
+      public ListStudentsRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ListStudentsRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ListStudentsRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ListStudentsRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface StudentFilterOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:StudentFilter)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Inclusive age bounds; 0 leaves that side open.
+     * </pre>
+     *
+     * <code>int64 min_age = 1;</code>
+     * @return The minAge.
+     */
+    long getMinAge();
+
+    /**
+     * <code>int64 max_age = 2;</code>
+     * @return The maxAge.
+     */
+    long getMaxAge();
+
+    /**
+     * <pre>
+     * Case-sensitive prefixes; empty matches every name.
+     * </pre>
+     *
+     * <code>string first_name_prefix = 3;</code>
+     * @return The firstNamePrefix.
+     */
+    java.lang.String getFirstNamePrefix();
+    /**
+     * <pre>
+     * Case-sensitive prefixes; empty matches every name.
+     * </pre>
+     *
+     * <code>string first_name_prefix = 3;</code>
+     * @return The bytes for firstNamePrefix.
+     */
+    com.google.protobuf.ByteString
+        getFirstNamePrefixBytes();
+
+    /**
+     * <code>string last_name_prefix = 4;</code>
+     * @return The lastNamePrefix.
+     */
+    java.lang.String getLastNamePrefix();
+    /**
+     * <code>string last_name_prefix = 4;</code>
+     * @return The bytes for lastNamePrefix.
+     */
+    com.google.protobuf.ByteString
+        getLastNamePrefixBytes();
+  }
+  /**
+   * Protobuf type {@code StudentFilter}
+   */
+  public  static final class StudentFilter extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:StudentFilter)
+      StudentFilterOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use StudentFilter.newBuilder() to construct.
+    private StudentFilter(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private StudentFilter() {
+      firstNamePrefix_ = "";
+      lastNamePrefix_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new StudentFilter();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private StudentFilter(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              minAge_ = input.readInt64();
+              break;
+            }
+            case 16: {
+
+              maxAge_ = input.readInt64();
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              firstNamePrefix_ = s;
+              break;
+            }
+            case 34: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              lastNamePrefix_ = s;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_StudentFilter_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_StudentFilter_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.a00n.grpc.stubs.StudentOuterClass.StudentFilter.class, com.a00n.grpc.stubs.StudentOuterClass.StudentFilter.Builder.class);
+    }
+
+    public static final int MIN_AGE_FIELD_NUMBER = 1;
+    private long minAge_;
+    /**
+     * <pre>
+     * Inclusive age bounds; 0 leaves that side open.
+     * </pre>
+     *
+     * <code>int64 min_age = 1;</code>
+     * @return The minAge.
+     */
+    public long getMinAge() {
+      return minAge_;
+    }
+
+    public static final int MAX_AGE_FIELD_NUMBER = 2;
+    private long maxAge_;
+    /**
+     * <code>int64 max_age = 2;</code>
+     * @return The maxAge.
+     */
+    public long getMaxAge() {
+      return maxAge_;
+    }
+
+    public static final int FIRST_NAME_PREFIX_FIELD_NUMBER = 3;
+    private volatile java.lang.Object firstNamePrefix_;
+    /**
+     * <pre>
+     * Case-sensitive prefixes; empty matches every name.
+     * </pre>
+     *
+     * <code>string first_name_prefix = 3;</code>
+     * @return The firstNamePrefix.
+     */
+    public java.lang.String getFirstNamePrefix() {
+      java.lang.Object ref = firstNamePrefix_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        firstNamePrefix_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Case-sensitive prefixes; empty matches every name.
+     * </pre>
+     *
+     * <code>string first_name_prefix = 3;</code>
+     * @return The bytes for firstNamePrefix.
+     */
+    public com.google.protobuf.ByteString
+        getFirstNamePrefixBytes() {
+      java.lang.Object ref = firstNamePrefix_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        firstNamePrefix_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LAST_NAME_PREFIX_FIELD_NUMBER = 4;
+    private volatile java.lang.Object lastNamePrefix_;
+    /**
+     * <code>string last_name_prefix = 4;</code>
+     * @return The lastNamePrefix.
+     */
+    public java.lang.String getLastNamePrefix() {
+      java.lang.Object ref = lastNamePrefix_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        lastNamePrefix_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string last_name_prefix = 4;</code>
+     * @return The bytes for lastNamePrefix.
+     */
+    public com.google.protobuf.ByteString
+        getLastNamePrefixBytes() {
+      java.lang.Object ref = lastNamePrefix_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        lastNamePrefix_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (minAge_ != 0L) {
+        output.writeInt64(1, minAge_);
+      }
+      if (maxAge_ != 0L) {
+        output.writeInt64(2, maxAge_);
+      }
+      if (!getFirstNamePrefixBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, firstNamePrefix_);
+      }
+      if (!getLastNamePrefixBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, lastNamePrefix_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (minAge_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, minAge_);
+      }
+      if (maxAge_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, maxAge_);
+      }
+      if (!getFirstNamePrefixBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, firstNamePrefix_);
+      }
+      if (!getLastNamePrefixBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, lastNamePrefix_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.a00n.grpc.stubs.StudentOuterClass.StudentFilter)) {
+        return super.equals(obj);
+      }
+      com.a00n.grpc.stubs.StudentOuterClass.StudentFilter other = (com.a00n.grpc.stubs.StudentOuterClass.StudentFilter) obj;
+
+      if (getMinAge()
+          != other.getMinAge()) return false;
+      if (getMaxAge()
+          != other.getMaxAge()) return false;
+      if (!getFirstNamePrefix()
+          .equals(other.getFirstNamePrefix())) return false;
+      if (!getLastNamePrefix()
+          .equals(other.getLastNamePrefix())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + MIN_AGE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getMinAge());
+      hash = (37 * hash) + MAX_AGE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getMaxAge());
+      hash = (37 * hash) + FIRST_NAME_PREFIX_FIELD_NUMBER;
+      hash = (53 * hash) + getFirstNamePrefix().hashCode();
+      hash = (37 * hash) + LAST_NAME_PREFIX_FIELD_NUMBER;
+      hash = (53 * hash) + getLastNamePrefix().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentFilter parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentFilter parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentFilter parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentFilter parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentFilter parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentFilter parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentFilter parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentFilter parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentFilter parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentFilter parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentFilter parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentFilter parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.a00n.grpc.stubs.StudentOuterClass.StudentFilter prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code StudentFilter}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:StudentFilter)
+        com.a00n.grpc.stubs.StudentOuterClass.StudentFilterOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_StudentFilter_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_StudentFilter_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.a00n.grpc.stubs.StudentOuterClass.StudentFilter.class, com.a00n.grpc.stubs.StudentOuterClass.StudentFilter.Builder.class);
+      }
+
+      // Construct using com.a00n.grpc.stubs.StudentOuterClass.StudentFilter.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        minAge_ = 0L;
+
+        maxAge_ = 0L;
+
+        firstNamePrefix_ = "";
+
+        lastNamePrefix_ = "";
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_StudentFilter_descriptor;
+      }
+
+      @java.lang.Override
+      public com.a00n.grpc.stubs.StudentOuterClass.StudentFilter getDefaultInstanceForType() {
+        return com.a00n.grpc.stubs.StudentOuterClass.StudentFilter.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.a00n.grpc.stubs.StudentOuterClass.StudentFilter build() {
+        com.a00n.grpc.stubs.StudentOuterClass.StudentFilter result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.a00n.grpc.stubs.StudentOuterClass.StudentFilter buildPartial() {
+        com.a00n.grpc.stubs.StudentOuterClass.StudentFilter result = new com.a00n.grpc.stubs.StudentOuterClass.StudentFilter(this);
+        result.minAge_ = minAge_;
+        result.maxAge_ = maxAge_;
+        result.firstNamePrefix_ = firstNamePrefix_;
+        result.lastNamePrefix_ = lastNamePrefix_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.a00n.grpc.stubs.StudentOuterClass.StudentFilter) {
+          return mergeFrom((com.a00n.grpc.stubs.StudentOuterClass.StudentFilter)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.a00n.grpc.stubs.StudentOuterClass.StudentFilter other) {
+        if (other == com.a00n.grpc.stubs.StudentOuterClass.StudentFilter.getDefaultInstance()) return this;
+        if (other.getMinAge() != 0L) {
+          setMinAge(other.getMinAge());
+        }
+        if (other.getMaxAge() != 0L) {
+          setMaxAge(other.getMaxAge());
+        }
+        if (!other.getFirstNamePrefix().isEmpty()) {
+          firstNamePrefix_ = other.firstNamePrefix_;
+          onChanged();
+        }
+        if (!other.getLastNamePrefix().isEmpty()) {
+          lastNamePrefix_ = other.lastNamePrefix_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.a00n.grpc.stubs.StudentOuterClass.StudentFilter parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.a00n.grpc.stubs.StudentOuterClass.StudentFilter) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private long minAge_ ;
+      /**
+       * <pre>
+       * Inclusive age bounds; 0 leaves that side open.
+       * </pre>
+       *
+       * <code>int64 min_age = 1;</code>
+       * @return The minAge.
+       */
+      public long getMinAge() {
+        return minAge_;
+      }
+      /**
+       * <pre>
+       * Inclusive age bounds; 0 leaves that side open.
+       * </pre>
+       *
+       * <code>int64 min_age = 1;</code>
+       * @param value The minAge to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMinAge(long value) {
+        
+        minAge_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Inclusive age bounds; 0 leaves that side open.
+       * </pre>
+       *
+       * <code>int64 min_age = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMinAge() {
+        
+        minAge_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long maxAge_ ;
+      /**
+       * <code>int64 max_age = 2;</code>
+       * @return The maxAge.
+       */
+      public long getMaxAge() {
+        return maxAge_;
+      }
+      /**
+       * <code>int64 max_age = 2;</code>
+       * @param value The maxAge to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMaxAge(long value) {
+        
+        maxAge_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 max_age = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMaxAge() {
+        
+        maxAge_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object firstNamePrefix_ = "";
+      /**
+       * <pre>
+       * Case-sensitive prefixes; empty matches every name.
+       * </pre>
+       *
+       * <code>string first_name_prefix = 3;</code>
+       * @return The firstNamePrefix.
+       */
+      public java.lang.String getFirstNamePrefix() {
+        java.lang.Object ref = firstNamePrefix_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          firstNamePrefix_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Case-sensitive prefixes; empty matches every name.
+       * </pre>
+       *
+       * <code>string first_name_prefix = 3;</code>
+       * @return The bytes for firstNamePrefix.
+       */
+      public com.google.protobuf.ByteString
+          getFirstNamePrefixBytes() {
+        java.lang.Object ref = firstNamePrefix_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          firstNamePrefix_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Case-sensitive prefixes; empty matches every name.
+       * </pre>
+       *
+       * <code>string first_name_prefix = 3;</code>
+       * @param value The firstNamePrefix to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFirstNamePrefix(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        firstNamePrefix_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Case-sensitive prefixes; empty matches every name.
+       * </pre>
+       *
+       * <code>string first_name_prefix = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFirstNamePrefix() {
+        
+        firstNamePrefix_ = getDefaultInstance().getFirstNamePrefix();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Case-sensitive prefixes; empty matches every name.
+       * </pre>
+       *
+       * <code>string first_name_prefix = 3;</code>
+       * @param value The bytes for firstNamePrefix to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFirstNamePrefixBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        firstNamePrefix_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object lastNamePrefix_ = "";
+      /**
+       * <code>string last_name_prefix = 4;</code>
+       * @return The lastNamePrefix.
+       */
+      public java.lang.String getLastNamePrefix() {
+        java.lang.Object ref = lastNamePrefix_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          lastNamePrefix_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string last_name_prefix = 4;</code>
+       * @return The bytes for lastNamePrefix.
+       */
+      public com.google.protobuf.ByteString
+          getLastNamePrefixBytes() {
+        java.lang.Object ref = lastNamePrefix_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          lastNamePrefix_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string last_name_prefix = 4;</code>
+       * @param value The lastNamePrefix to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLastNamePrefix(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        lastNamePrefix_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string last_name_prefix = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLastNamePrefix() {
+        
+        lastNamePrefix_ = getDefaultInstance().getLastNamePrefix();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string last_name_prefix = 4;</code>
+       * @param value The bytes for lastNamePrefix to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLastNamePrefixBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        lastNamePrefix_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:StudentFilter)
+    }
+
+    // @@protoc_insertion_point(class_scope:StudentFilter)
+    private static final com.a00n.grpc.stubs.StudentOuterClass.StudentFilter DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.a00n.grpc.stubs.StudentOuterClass.StudentFilter();
+    }
+
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentFilter getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<StudentFilter>
+        PARSER = new com.google.protobuf.AbstractParser<StudentFilter>() {
+      @java.lang.Override
+      public StudentFilter parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new StudentFilter(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<StudentFilter> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<StudentFilter> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.a00n.grpc.stubs.StudentOuterClass.StudentFilter getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface StudentSortOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:StudentSort)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.StudentSort.Field field = 1;</code>
+     * @return The enum numeric value on the wire for field.
+     */
+    int getFieldValue();
+    /**
+     * <code>.StudentSort.Field field = 1;</code>
+     * @return The field.
+     */
+    com.a00n.grpc.stubs.StudentOuterClass.StudentSort.Field getField();
+
+    /**
+     * <code>bool descending = 2;</code>
+     * @return The descending.
+     */
+    boolean getDescending();
+  }
+  /**
+   * Protobuf type {@code StudentSort}
+   */
+  public  static final class StudentSort extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:StudentSort)
+      StudentSortOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use StudentSort.newBuilder() to construct.
+    private StudentSort(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private StudentSort() {
+      field_ = 0;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new StudentSort();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private StudentSort(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              int rawValue = input.readEnum();
+
+              field_ = rawValue;
+              break;
+            }
+            case 16: {
+
+              descending_ = input.readBool();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_StudentSort_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_StudentSort_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.a00n.grpc.stubs.StudentOuterClass.StudentSort.class, com.a00n.grpc.stubs.StudentOuterClass.StudentSort.Builder.class);
+    }
+
+    /**
+     * <pre>
+     * Name sorts break ties on the other name, and every sort breaks remaining ties on id. Students with no
+     * value for a sort field are left out.
+     * </pre>
+     *
+     * Protobuf enum {@code StudentSort.Field}
+     */
+    public enum Field
+        implements com.google.protobuf.ProtocolMessageEnum {
+      /**
+       * <code>ID = 0;</code>
+       */
+      ID(0),
+      /**
+       * <code>LAST_NAME = 1;</code>
+       */
+      LAST_NAME(1),
+      /**
+       * <code>FIRST_NAME = 2;</code>
+       */
+      FIRST_NAME(2),
+      /**
+       * <code>AGE = 3;</code>
+       */
+      AGE(3),
+      UNRECOGNIZED(-1),
+      ;
+
+      /**
+       * <code>ID = 0;</code>
+       */
+      public static final int ID_VALUE = 0;
+      /**
+       * <code>LAST_NAME = 1;</code>
+       */
+      public static final int LAST_NAME_VALUE = 1;
+      /**
+       * <code>FIRST_NAME = 2;</code>
+       */
+      public static final int FIRST_NAME_VALUE = 2;
+      /**
+       * <code>AGE = 3;</code>
+       */
+      public static final int AGE_VALUE = 3;
+
+
+      public final int getNumber() {
+        if (this == UNRECOGNIZED) {
+          throw new java.lang.IllegalArgumentException(
+              "Can't get the number of an unknown enum value.");
+        }
+        return value;
+      }
+
+      /**
+       * @param value The numeric wire value of the corresponding enum entry.
+       * @return The enum associated with the given numeric wire value.
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static Field valueOf(int value) {
+        return forNumber(value);
+      }
+
+      /**
+       * @param value The numeric wire value of the corresponding enum entry.
+       * @return The enum associated with the given numeric wire value.
+       */
+      public static Field forNumber(int value) {
+        switch (value) {
+          case 0: return ID;
+          case 1: return LAST_NAME;
+          case 2: return FIRST_NAME;
+          case 3: return AGE;
+          default: return null;
+        }
+      }
+
+      public static com.google.protobuf.Internal.EnumLiteMap<Field>
+          internalGetValueMap() {
+        return internalValueMap;
+      }
+      private static final com.google.protobuf.Internal.EnumLiteMap<
+          Field> internalValueMap =
+            new com.google.protobuf.Internal.EnumLiteMap<Field>() {
+              public Field findValueByNumber(int number) {
+                return Field.forNumber(number);
+              }
+            };
+
+      public final com.google.protobuf.Descriptors.EnumValueDescriptor
+          getValueDescriptor() {
+        return getDescriptor().getValues().get(ordinal());
+      }
+      public final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptorForType() {
+        return getDescriptor();
+      }
+      public static final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptor() {
+        return com.a00n.grpc.stubs.StudentOuterClass.StudentSort.getDescriptor().getEnumTypes().get(0);
+      }
+
+      private static final Field[] VALUES = values();
+
+      public static Field valueOf(
+          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+        if (desc.getType() != getDescriptor()) {
+          throw new java.lang.IllegalArgumentException(
+            "EnumValueDescriptor is not for this type.");
+        }
+        if (desc.getIndex() == -1) {
+          return UNRECOGNIZED;
+        }
+        return VALUES[desc.getIndex()];
+      }
+
+      private final int value;
+
+      private Field(int value) {
+        this.value = value;
+      }
+
+      // @@protoc_insertion_point(enum_scope:StudentSort.Field)
+    }
+
+    public static final int FIELD_FIELD_NUMBER = 1;
+    private int field_;
+    /**
+     * <code>.StudentSort.Field field = 1;</code>
+     * @return The enum numeric value on the wire for field.
+     */
+    public int getFieldValue() {
+      return field_;
+    }
+    /**
+     * <code>.StudentSort.Field field = 1;</code>
+     * @return The field.
+     */
+    public com.a00n.grpc.stubs.StudentOuterClass.StudentSort.Field getField() {
+      @SuppressWarnings("deprecation")
+      com.a00n.grpc.stubs.StudentOuterClass.StudentSort.Field result = com.a00n.grpc.stubs.StudentOuterClass.StudentSort.Field.valueOf(field_);
+      return result == null ? com.a00n.grpc.stubs.StudentOuterClass.StudentSort.Field.UNRECOGNIZED : result;
+    }
+
+    public static final int DESCENDING_FIELD_NUMBER = 2;
+    private boolean descending_;
+    /**
+     * <code>bool descending = 2;</code>
+     * @return The descending.
+     */
+    public boolean getDescending() {
+      return descending_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (field_ != com.a00n.grpc.stubs.StudentOuterClass.StudentSort.Field.ID.getNumber()) {
+        output.writeEnum(1, field_);
+      }
+      if (descending_ != false) {
+        output.writeBool(2, descending_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (field_ != com.a00n.grpc.stubs.StudentOuterClass.StudentSort.Field.ID.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, field_);
+      }
+      if (descending_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, descending_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.a00n.grpc.stubs.StudentOuterClass.StudentSort)) {
+        return super.equals(obj);
+      }
+      com.a00n.grpc.stubs.StudentOuterClass.StudentSort other = (com.a00n.grpc.stubs.StudentOuterClass.StudentSort) obj;
+
+      if (field_ != other.field_) return false;
+      if (getDescending()
+          != other.getDescending()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + FIELD_FIELD_NUMBER;
+      hash = (53 * hash) + field_;
+      hash = (37 * hash) + DESCENDING_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getDescending());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentSort parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentSort parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentSort parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentSort parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentSort parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentSort parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentSort parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentSort parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentSort parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentSort parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentSort parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentSort parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.a00n.grpc.stubs.StudentOuterClass.StudentSort prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code StudentSort}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:StudentSort)
+        com.a00n.grpc.stubs.StudentOuterClass.StudentSortOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_StudentSort_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_StudentSort_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.a00n.grpc.stubs.StudentOuterClass.StudentSort.class, com.a00n.grpc.stubs.StudentOuterClass.StudentSort.Builder.class);
+      }
+
+      // Construct using com.a00n.grpc.stubs.StudentOuterClass.StudentSort.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        field_ = 0;
+
+        descending_ = false;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_StudentSort_descriptor;
+      }
+
+      @java.lang.Override
+      public com.a00n.grpc.stubs.StudentOuterClass.StudentSort getDefaultInstanceForType() {
+        return com.a00n.grpc.stubs.StudentOuterClass.StudentSort.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.a00n.grpc.stubs.StudentOuterClass.StudentSort build() {
+        com.a00n.grpc.stubs.StudentOuterClass.StudentSort result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.a00n.grpc.stubs.StudentOuterClass.StudentSort buildPartial() {
+        com.a00n.grpc.stubs.StudentOuterClass.StudentSort result = new com.a00n.grpc.stubs.StudentOuterClass.StudentSort(this);
+        result.field_ = field_;
+        result.descending_ = descending_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.a00n.grpc.stubs.StudentOuterClass.StudentSort) {
+          return mergeFrom((com.a00n.grpc.stubs.StudentOuterClass.StudentSort)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.a00n.grpc.stubs.StudentOuterClass.StudentSort other) {
+        if (other == com.a00n.grpc.stubs.StudentOuterClass.StudentSort.getDefaultInstance()) return this;
+        if (other.field_ != 0) {
+          setFieldValue(other.getFieldValue());
+        }
+        if (other.getDescending() != false) {
+          setDescending(other.getDescending());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.a00n.grpc.stubs.StudentOuterClass.StudentSort parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.a00n.grpc.stubs.StudentOuterClass.StudentSort) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int field_ = 0;
+      /**
+       * <code>.StudentSort.Field field = 1;</code>
+       * @return The enum numeric value on the wire for field.
+       */
+      public int getFieldValue() {
+        return field_;
+      }
+      /**
+       * <code>.StudentSort.Field field = 1;</code>
+       * @param value The enum numeric value on the wire for field to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFieldValue(int value) {
+        field_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.StudentSort.Field field = 1;</code>
+       * @return The field.
+       */
+      public com.a00n.grpc.stubs.StudentOuterClass.StudentSort.Field getField() {
+        @SuppressWarnings("deprecation")
+        com.a00n.grpc.stubs.StudentOuterClass.StudentSort.Field result = com.a00n.grpc.stubs.StudentOuterClass.StudentSort.Field.valueOf(field_);
+        return result == null ? com.a00n.grpc.stubs.StudentOuterClass.StudentSort.Field.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.StudentSort.Field field = 1;</code>
+       * @param value The field to set.
+       * @return This builder for chaining.
+       */
+      public Builder setField(com.a00n.grpc.stubs.StudentOuterClass.StudentSort.Field value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        field_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.StudentSort.Field field = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearField() {
+        
+        field_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean descending_ ;
+      /**
+       * <code>bool descending = 2;</code>
+       * @return The descending.
+       */
+      public boolean getDescending() {
+        return descending_;
+      }
+      /**
+       * <code>bool descending = 2;</code>
+       * @param value The descending to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDescending(boolean value) {
+        
+        descending_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool descending = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDescending() {
+        
+        descending_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:StudentSort)
+    }
+
+    // @@protoc_insertion_point(class_scope:StudentSort)
+    private static final com.a00n.grpc.stubs.StudentOuterClass.StudentSort DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.a00n.grpc.stubs.StudentOuterClass.StudentSort();
+    }
+
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentSort getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<StudentSort>
+        PARSER = new com.google.protobuf.AbstractParser<StudentSort>() {
+      @java.lang.Override
+      public StudentSort parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new StudentSort(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<StudentSort> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<StudentSort> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.a00n.grpc.stubs.StudentOuterClass.StudentSort getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ListStudentsResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ListStudentsResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .Student students = 1;</code>
+     */
+    java.util.List<com.a00n.grpc.stubs.StudentOuterClass.Student> 
+        getStudentsList();
+    /**
+     * <code>repeated .Student students = 1;</code>
+     */
+    com.a00n.grpc.stubs.StudentOuterClass.Student getStudents(int index);
+    /**
+     * <code>repeated .Student students = 1;</code>
+     */
+    int getStudentsCount();
+    /**
+     * <code>repeated .Student students = 1;</code>
+     */
+    java.util.List<? extends com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder> 
+        getStudentsOrBuilderList();
+    /**
+     * <code>repeated .Student students = 1;</code>
+     */
+    com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder getStudentsOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * Empty when there are no more pages.
+     * </pre>
+     *
+     * <code>string next_page_token = 2;</code>
+     * @return The nextPageToken.
+     */
+    java.lang.String getNextPageToken();
+    /**
+     * <pre>
+     * Empty when there are no more pages.
+     * </pre>
+     *
+     * <code>string next_page_token = 2;</code>
+     * @return The bytes for nextPageToken.
+     */
+    com.google.protobuf.ByteString
+        getNextPageTokenBytes();
+  }
+  /**
+   * Protobuf type {@code ListStudentsResponse}
+   */
+  public  static final class ListStudentsResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ListStudentsResponse)
+      ListStudentsResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ListStudentsResponse.newBuilder() to construct.
+    private ListStudentsResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ListStudentsResponse() {
+      students_ = java.util.Collections.emptyList();
+      nextPageToken_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ListStudentsResponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ListStudentsResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                students_ = new java.util.ArrayList<com.a00n.grpc.stubs.StudentOuterClass.Student>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              students_.add(
+                  input.readMessage(com.a00n.grpc.stubs.StudentOuterClass.Student.parser(), extensionRegistry));
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              nextPageToken_ = s;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          students_ = java.util.Collections.unmodifiableList(students_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_ListStudentsResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_ListStudentsResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse.class, com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse.Builder.class);
+    }
+
+    public static final int STUDENTS_FIELD_NUMBER = 1;
+    private java.util.List<com.a00n.grpc.stubs.StudentOuterClass.Student> students_;
+    /**
+     * <code>repeated .Student students = 1;</code>
+     */
+    public java.util.List<com.a00n.grpc.stubs.StudentOuterClass.Student> getStudentsList() {
+      return students_;
+    }
+    /**
+     * <code>repeated .Student students = 1;</code>
+     */
+    public java.util.List<? extends com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder> 
+        getStudentsOrBuilderList() {
+      return students_;
+    }
+    /**
+     * <code>repeated .Student students = 1;</code>
+     */
+    public int getStudentsCount() {
+      return students_.size();
+    }
+    /**
+     * <code>repeated .Student students = 1;</code>
+     */
+    public com.a00n.grpc.stubs.StudentOuterClass.Student getStudents(int index) {
+      return students_.get(index);
+    }
+    /**
+     * <code>repeated .Student students = 1;</code>
+     */
+    public com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder getStudentsOrBuilder(
+        int index) {
+      return students_.get(index);
+    }
+
+    public static final int NEXT_PAGE_TOKEN_FIELD_NUMBER = 2;
+    private volatile java.lang.Object nextPageToken_;
+    /**
+     * <pre>
+     * Empty when there are no more pages.
+     * </pre>
+     *
+     * <code>string next_page_token = 2;</code>
+     * @return The nextPageToken.
+     */
+    public java.lang.String getNextPageToken() {
+      java.lang.Object ref = nextPageToken_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        nextPageToken_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Empty when there are no more pages.
+     * </pre>
+     *
+     * <code>string next_page_token = 2;</code>
+     * @return The bytes for nextPageToken.
+     */
+    public com.google.protobuf.ByteString
+        getNextPageTokenBytes() {
+      java.lang.Object ref = nextPageToken_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        nextPageToken_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < students_.size(); i++) {
+        output.writeMessage(1, students_.get(i));
+      }
+      if (!getNextPageTokenBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, nextPageToken_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < students_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, students_.get(i));
+      }
+      if (!getNextPageTokenBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, nextPageToken_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse)) {
+        return super.equals(obj);
+      }
+      com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse other = (com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse) obj;
+
+      if (!getStudentsList()
+          .equals(other.getStudentsList())) return false;
+      if (!getNextPageToken()
+          .equals(other.getNextPageToken())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getStudentsCount() > 0) {
+        hash = (37 * hash) + STUDENTS_FIELD_NUMBER;
+        hash = (53 * hash) + getStudentsList().hashCode();
+      }
+      hash = (37 * hash) + NEXT_PAGE_TOKEN_FIELD_NUMBER;
+      hash = (53 * hash) + getNextPageToken().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ListStudentsResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ListStudentsResponse)
+        com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_ListStudentsResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_ListStudentsResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse.class, com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse.Builder.class);
+      }
+
+      // Construct using com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getStudentsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (studentsBuilder_ == null) {
+          students_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          studentsBuilder_.clear();
+        }
+        nextPageToken_ = "";
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_ListStudentsResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse getDefaultInstanceForType() {
+        return com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse build() {
+        com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse buildPartial() {
+        com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse result = new com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse(this);
+        int from_bitField0_ = bitField0_;
+        if (studentsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            students_ = java.util.Collections.unmodifiableList(students_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.students_ = students_;
+        } else {
+          result.students_ = studentsBuilder_.build();
+        }
+        result.nextPageToken_ = nextPageToken_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse) {
+          return mergeFrom((com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse other) {
+        if (other == com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse.getDefaultInstance()) return this;
+        if (studentsBuilder_ == null) {
+          if (!other.students_.isEmpty()) {
+            if (students_.isEmpty()) {
+              students_ = other.students_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureStudentsIsMutable();
+              students_.addAll(other.students_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.students_.isEmpty()) {
+            if (studentsBuilder_.isEmpty()) {
+              studentsBuilder_.dispose();
+              studentsBuilder_ = null;
+              students_ = other.students_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              studentsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getStudentsFieldBuilder() : null;
+            } else {
+              studentsBuilder_.addAllMessages(other.students_);
+            }
+          }
+        }
+        if (!other.getNextPageToken().isEmpty()) {
+          nextPageToken_ = other.nextPageToken_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.a00n.grpc.stubs.StudentOuterClass.Student> students_ =
+        java.util.Collections.emptyList();
+      private void ensureStudentsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          students_ = new java.util.ArrayList<com.a00n.grpc.stubs.StudentOuterClass.Student>(students_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.a00n.grpc.stubs.StudentOuterClass.Student, com.a00n.grpc.stubs.StudentOuterClass.Student.Builder, com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder> studentsBuilder_;
+
+      /**
+       * <code>repeated .Student students = 1;</code>
+       */
+      public java.util.List<com.a00n.grpc.stubs.StudentOuterClass.Student> getStudentsList() {
+        if (studentsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(students_);
+        } else {
+          return studentsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .Student students = 1;</code>
+       */
+      public int getStudentsCount() {
+        if (studentsBuilder_ == null) {
+          return students_.size();
+        } else {
+          return studentsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .Student students = 1;</code>
+       */
+      public com.a00n.grpc.stubs.StudentOuterClass.Student getStudents(int index) {
+        if (studentsBuilder_ == null) {
+          return students_.get(index);
+        } else {
+          return studentsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .Student students = 1;</code>
+       */
+      public Builder setStudents(
+          int index, com.a00n.grpc.stubs.StudentOuterClass.Student value) {
+        if (studentsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureStudentsIsMutable();
+          students_.set(index, value);
+          onChanged();
+        } else {
+          studentsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Student students = 1;</code>
+       */
+      public Builder setStudents(
+          int index, com.a00n.grpc.stubs.StudentOuterClass.Student.Builder builderForValue) {
+        if (studentsBuilder_ == null) {
+          ensureStudentsIsMutable();
+          students_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          studentsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Student students = 1;</code>
+       */
+      public Builder addStudents(com.a00n.grpc.stubs.StudentOuterClass.Student value) {
+        if (studentsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureStudentsIsMutable();
+          students_.add(value);
+          onChanged();
+        } else {
+          studentsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Student students = 1;</code>
+       */
+      public Builder addStudents(
+          int index, com.a00n.grpc.stubs.StudentOuterClass.Student value) {
+        if (studentsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureStudentsIsMutable();
+          students_.add(index, value);
+          onChanged();
+        } else {
+          studentsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Student students = 1;</code>
+       */
+      public Builder addStudents(
+          com.a00n.grpc.stubs.StudentOuterClass.Student.Builder builderForValue) {
+        if (studentsBuilder_ == null) {
+          ensureStudentsIsMutable();
+          students_.add(builderForValue.build());
+          onChanged();
+        } else {
+          studentsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Student students = 1;</code>
+       */
+      public Builder addStudents(
+          int index, com.a00n.grpc.stubs.StudentOuterClass.Student.Builder builderForValue) {
+        if (studentsBuilder_ == null) {
+          ensureStudentsIsMutable();
+          students_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          studentsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Student students = 1;</code>
+       */
+      public Builder addAllStudents(
+          java.lang.Iterable<? extends com.a00n.grpc.stubs.StudentOuterClass.Student> values) {
+        if (studentsBuilder_ == null) {
+          ensureStudentsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, students_);
+          onChanged();
+        } else {
+          studentsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Student students = 1;</code>
+       */
+      public Builder clearStudents() {
+        if (studentsBuilder_ == null) {
+          students_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          studentsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Student students = 1;</code>
+       */
+      public Builder removeStudents(int index) {
+        if (studentsBuilder_ == null) {
+          ensureStudentsIsMutable();
+          students_.remove(index);
+          onChanged();
+        } else {
+          studentsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Student students = 1;</code>
+       */
+      public com.a00n.grpc.stubs.StudentOuterClass.Student.Builder getStudentsBuilder(
+          int index) {
+        return getStudentsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .Student students = 1;</code>
+       */
+      public com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder getStudentsOrBuilder(
+          int index) {
+        if (studentsBuilder_ == null) {
+          return students_.get(index);  } else {
+          return studentsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .Student students = 1;</code>
+       */
+      public java.util.List<? extends com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder> 
+           getStudentsOrBuilderList() {
+        if (studentsBuilder_ != null) {
+          return studentsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(students_);
+        }
+      }
+      /**
+       * <code>repeated .Student students = 1;</code>
+       */
+      public com.a00n.grpc.stubs.StudentOuterClass.Student.Builder addStudentsBuilder() {
+        return getStudentsFieldBuilder().addBuilder(
+            com.a00n.grpc.stubs.StudentOuterClass.Student.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Student students = 1;</code>
+       */
+      public com.a00n.grpc.stubs.StudentOuterClass.Student.Builder addStudentsBuilder(
+          int index) {
+        return getStudentsFieldBuilder().addBuilder(
+            index, com.a00n.grpc.stubs.StudentOuterClass.Student.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Student students = 1;</code>
+       */
+      public java.util.List<com.a00n.grpc.stubs.StudentOuterClass.Student.Builder> 
+           getStudentsBuilderList() {
+        return getStudentsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.a00n.grpc.stubs.StudentOuterClass.Student, com.a00n.grpc.stubs.StudentOuterClass.Student.Builder, com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder> 
+          getStudentsFieldBuilder() {
+        if (studentsBuilder_ == null) {
+          studentsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.a00n.grpc.stubs.StudentOuterClass.Student, com.a00n.grpc.stubs.StudentOuterClass.Student.Builder, com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder>(
+                  students_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          students_ = null;
+        }
+        return studentsBuilder_;
+      }
+
+      private java.lang.Object nextPageToken_ = "";
+      /**
+       * <pre>
+       * Empty when there are no more pages.
+       * </pre>
+       *
+       * <code>string next_page_token = 2;</code>
+       * @return The nextPageToken.
+       */
+      public java.lang.String getNextPageToken() {
+        java.lang.Object ref = nextPageToken_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          nextPageToken_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Empty when there are no more pages.
+       * </pre>
+       *
+       * <code>string next_page_token = 2;</code>
+       * @return The bytes for nextPageToken.
+       */
+      public com.google.protobuf.ByteString
+          getNextPageTokenBytes() {
+        java.lang.Object ref = nextPageToken_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          nextPageToken_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Empty when there are no more pages.
+       * </pre>
+       *
+       * <code>string next_page_token = 2;</code>
+       * @param value The nextPageToken to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNextPageToken(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        nextPageToken_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Empty when there are no more pages.
+       * </pre>
+       *
+       * <code>string next_page_token = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNextPageToken() {
+        
+        nextPageToken_ = getDefaultInstance().getNextPageToken();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Empty when there are no more pages.
+       * </pre>
+       *
+       * <code>string next_page_token = 2;</code>
+       * @param value The bytes for nextPageToken to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNextPageTokenBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        nextPageToken_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ListStudentsResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:ListStudentsResponse)
+    private static final com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse();
+    }
+
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ListStudentsResponse>
+        PARSER = new com.google.protobuf.AbstractParser<ListStudentsResponse>() {
+      @java.lang.Override
+      public ListStudentsResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ListStudentsResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ListStudentsResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ListStudentsResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ListStudentsStreamRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ListStudentsStreamRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Emit at most `burst` students every `interval_millis`; 0 uses the server defaults.
+     * </pre>
+     *
+     * <code>int64 interval_millis = 1;</code>
+     * @return The intervalMillis.
+     */
+    long getIntervalMillis();
+
+    /**
+     * <code>int32 burst = 2;</code>
+     * @return The burst.
+     */
+    int getBurst();
+  }
+  /**
+   * Protobuf type {@code ListStudentsStreamRequest}
+   */
+  public  static final class ListStudentsStreamRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ListStudentsStreamRequest)
+      ListStudentsStreamRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ListStudentsStreamRequest.newBuilder() to construct.
+    private ListStudentsStreamRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ListStudentsStreamRequest() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ListStudentsStreamRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ListStudentsStreamRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              intervalMillis_ = input.readInt64();
+              break;
+            }
+            case 16: {
+
+              burst_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_ListStudentsStreamRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_ListStudentsStreamRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest.class, com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest.Builder.class);
+    }
+
+    public static final int INTERVAL_MILLIS_FIELD_NUMBER = 1;
+    private long intervalMillis_;
+    /**
+     * <pre>
+     * Emit at most `burst` students every `interval_millis`; 0 uses the server defaults.
+     * </pre>
+     *
+     * <code>int64 interval_millis = 1;</code>
+     * @return The intervalMillis.
+     */
+    public long getIntervalMillis() {
+      return intervalMillis_;
+    }
+
+    public static final int BURST_FIELD_NUMBER = 2;
+    private int burst_;
+    /**
+     * <code>int32 burst = 2;</code>
+     * @return The burst.
+     */
+    public int getBurst() {
+      return burst_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (intervalMillis_ != 0L) {
+        output.writeInt64(1, intervalMillis_);
+      }
+      if (burst_ != 0) {
+        output.writeInt32(2, burst_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (intervalMillis_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, intervalMillis_);
+      }
+      if (burst_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, burst_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest)) {
+        return super.equals(obj);
+      }
+      com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest other = (com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest) obj;
+
+      if (getIntervalMillis()
+          != other.getIntervalMillis()) return false;
+      if (getBurst()
+          != other.getBurst()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + INTERVAL_MILLIS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getIntervalMillis());
+      hash = (37 * hash) + BURST_FIELD_NUMBER;
+      hash = (53 * hash) + getBurst();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ListStudentsStreamRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ListStudentsStreamRequest)
+        com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_ListStudentsStreamRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_ListStudentsStreamRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest.class, com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest.Builder.class);
+      }
+
+      // Construct using com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        intervalMillis_ = 0L;
+
+        burst_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_ListStudentsStreamRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest getDefaultInstanceForType() {
+        return com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest build() {
+        com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest buildPartial() {
+        com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest result = new com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest(this);
+        result.intervalMillis_ = intervalMillis_;
+        result.burst_ = burst_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest) {
+          return mergeFrom((com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest other) {
+        if (other == com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest.getDefaultInstance()) return this;
+        if (other.getIntervalMillis() != 0L) {
+          setIntervalMillis(other.getIntervalMillis());
+        }
+        if (other.getBurst() != 0) {
+          setBurst(other.getBurst());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private long intervalMillis_ ;
+      /**
+       * <pre>
+       * Emit at most `burst` students every `interval_millis`; 0 uses the server defaults.
+       * </pre>
+       *
+       * <code>int64 interval_millis = 1;</code>
+       * @return The intervalMillis.
+       */
+      public long getIntervalMillis() {
+        return intervalMillis_;
+      }
+      /**
+       * <pre>
+       * Emit at most `burst` students every `interval_millis`; 0 uses the server defaults.
+       * </pre>
+       *
+       * <code>int64 interval_millis = 1;</code>
+       * @param value The intervalMillis to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIntervalMillis(long value) {
+        
+        intervalMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Emit at most `burst` students every `interval_millis`; 0 uses the server defaults.
+       * </pre>
+       *
+       * <code>int64 interval_millis = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIntervalMillis() {
+        
+        intervalMillis_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int burst_ ;
+      /**
+       * <code>int32 burst = 2;</code>
+       * @return The burst.
+       */
+      public int getBurst() {
+        return burst_;
+      }
+      /**
+       * <code>int32 burst = 2;</code>
+       * @param value The burst to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBurst(int value) {
+        
+        burst_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 burst = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBurst() {
+        
+        burst_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ListStudentsStreamRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:ListStudentsStreamRequest)
+    private static final com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest();
+    }
+
+    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ListStudentsStreamRequest>
+        PARSER = new com.google.protobuf.AbstractParser<ListStudentsStreamRequest>() {
+      @java.lang.Override
+      public ListStudentsStreamRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ListStudentsStreamRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ListStudentsStreamRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ListStudentsStreamRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GetStudentRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:GetStudentRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 id = 1;</code>
+     * @return The id.
+     */
+    long getId();
+  }
+  /**
+   * Protobuf type {@code GetStudentRequest}
+   */
+  public  static final class GetStudentRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:GetStudentRequest)
+      GetStudentRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GetStudentRequest.newBuilder() to construct.
+    private GetStudentRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GetStudentRequest() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GetStudentRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetStudentRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              id_ = input.readInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_GetStudentRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_GetStudentRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest.class, com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest.Builder.class);
+    }
+
+    public static final int ID_FIELD_NUMBER = 1;
+    private long id_;
+    /**
+     * <code>int64 id = 1;</code>
+     * @return The id.
+     */
+    public long getId() {
+      return id_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (id_ != 0L) {
+        output.writeInt64(1, id_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (id_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, id_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest)) {
+        return super.equals(obj);
+      }
+      com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest other = (com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest) obj;
+
+      if (getId()
+          != other.getId()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getId());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code GetStudentRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:GetStudentRequest)
+        com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_GetStudentRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_GetStudentRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest.class, com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest.Builder.class);
+      }
+
+      // Construct using com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        id_ = 0L;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_GetStudentRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest getDefaultInstanceForType() {
+        return com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest build() {
+        com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest buildPartial() {
+        com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest result = new com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest(this);
+        result.id_ = id_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest) {
+          return mergeFrom((com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest other) {
+        if (other == com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest.getDefaultInstance()) return this;
+        if (other.getId() != 0L) {
+          setId(other.getId());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private long id_ ;
+      /**
+       * <code>int64 id = 1;</code>
+       * @return The id.
+       */
+      public long getId() {
+        return id_;
+      }
+      /**
+       * <code>int64 id = 1;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(long value) {
+        
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        
+        id_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:GetStudentRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:GetStudentRequest)
+    private static final com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest();
+    }
+
+    public static com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetStudentRequest>
+        PARSER = new com.google.protobuf.AbstractParser<GetStudentRequest>() {
+      @java.lang.Override
+      public GetStudentRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetStudentRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetStudentRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetStudentRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BatchGetStudentsRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:BatchGetStudentsRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated int64 ids = 1;</code>
+     * @return A list containing the ids.
+     */
+    java.util.List<java.lang.Long> getIdsList();
+    /**
+     * <code>repeated int64 ids = 1;</code>
+     * @return The count of ids.
+     */
+    int getIdsCount();
+    /**
+     * <code>repeated int64 ids = 1;</code>
+     * @param index The index of the element to return.
+     * @return The ids at the given index.
+     */
+    long getIds(int index);
+  }
+  /**
+   * Protobuf type {@code BatchGetStudentsRequest}
+   */
+  public  static final class BatchGetStudentsRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:BatchGetStudentsRequest)
+      BatchGetStudentsRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BatchGetStudentsRequest.newBuilder() to construct.
+    private BatchGetStudentsRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BatchGetStudentsRequest() {
+      ids_ = emptyLongList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BatchGetStudentsRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BatchGetStudentsRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                ids_ = newLongList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              ids_.addLong(input.readInt64());
+              break;
+            }
+            case 10: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+                ids_ = newLongList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                ids_.addLong(input.readInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          ids_.makeImmutable(); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_BatchGetStudentsRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_BatchGetStudentsRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest.class, com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest.Builder.class);
+    }
+
+    public static final int IDS_FIELD_NUMBER = 1;
+    private com.google.protobuf.Internal.LongList ids_;
+    /**
+     * <code>repeated int64 ids = 1;</code>
+     * @return A list containing the ids.
+     */
+    public java.util.List<java.lang.Long>
+        getIdsList() {
+      return ids_;
+    }
+    /**
+     * <code>repeated int64 ids = 1;</code>
+     * @return The count of ids.
+     */
+    public int getIdsCount() {
+      return ids_.size();
+    }
+    /**
+     * <code>repeated int64 ids = 1;</code>
+     * @param index The index of the element to return.
+     * @return The ids at the given index.
+     */
+    public long getIds(int index) {
+      return ids_.getLong(index);
+    }
+    private int idsMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (getIdsList().size() > 0) {
+        output.writeUInt32NoTag(10);
+        output.writeUInt32NoTag(idsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < ids_.size(); i++) {
+        output.writeInt64NoTag(ids_.getLong(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < ids_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt64SizeNoTag(ids_.getLong(i));
+        }
+        size += dataSize;
+        if (!getIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        idsMemoizedSerializedSize = dataSize;
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest)) {
+        return super.equals(obj);
+      }
+      com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest other = (com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest) obj;
+
+      if (!getIdsList()
+          .equals(other.getIdsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getIdsCount() > 0) {
+        hash = (37 * hash) + IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getIdsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code BatchGetStudentsRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:BatchGetStudentsRequest)
+        com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_BatchGetStudentsRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_BatchGetStudentsRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest.class, com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest.Builder.class);
+      }
+
+      // Construct using com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        ids_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_BatchGetStudentsRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest getDefaultInstanceForType() {
+        return com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest build() {
+        com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest buildPartial() {
+        com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest result = new com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          ids_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.ids_ = ids_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest) {
+          return mergeFrom((com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest other) {
+        if (other == com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest.getDefaultInstance()) return this;
+        if (!other.ids_.isEmpty()) {
+          if (ids_.isEmpty()) {
+            ids_ = other.ids_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureIdsIsMutable();
+            ids_.addAll(other.ids_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.Internal.LongList ids_ = emptyLongList();
+      private void ensureIdsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          ids_ = mutableCopy(ids_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated int64 ids = 1;</code>
+       * @return A list containing the ids.
+       */
+      public java.util.List<java.lang.Long>
+          getIdsList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(ids_) : ids_;
+      }
+      /**
+       * <code>repeated int64 ids = 1;</code>
+       * @return The count of ids.
+       */
+      public int getIdsCount() {
+        return ids_.size();
+      }
+      /**
+       * <code>repeated int64 ids = 1;</code>
+       * @param index The index of the element to return.
+       * @return The ids at the given index.
+       */
+      public long getIds(int index) {
+        return ids_.getLong(index);
+      }
+      /**
+       * <code>repeated int64 ids = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The ids to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIds(
+          int index, long value) {
+        ensureIdsIsMutable();
+        ids_.setLong(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 ids = 1;</code>
+       * @param value The ids to add.
+       * @return This builder for chaining.
+       */
+      public Builder addIds(long value) {
+        ensureIdsIsMutable();
+        ids_.addLong(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 ids = 1;</code>
+       * @param values The ids to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllIds(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, ids_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 ids = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIds() {
+        ids_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:BatchGetStudentsRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:BatchGetStudentsRequest)
+    private static final com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest();
+    }
+
+    public static com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BatchGetStudentsRequest>
+        PARSER = new com.google.protobuf.AbstractParser<BatchGetStudentsRequest>() {
+      @java.lang.Override
+      public BatchGetStudentsRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BatchGetStudentsRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<BatchGetStudentsRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BatchGetStudentsRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BatchGetStudentsResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:BatchGetStudentsResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Found students in request order, duplicates removed.
+     * </pre>
+     *
+     * <code>repeated .Student students = 1;</code>
+     */
+    java.util.List<com.a00n.grpc.stubs.StudentOuterClass.Student> 
+        getStudentsList();
+    /**
+     * <pre>
+     * Found students in request order, duplicates removed.
+     * </pre>
+     *
+     * <code>repeated .Student students = 1;</code>
+     */
+    com.a00n.grpc.stubs.StudentOuterClass.Student getStudents(int index);
+    /**
+     * <pre>
+     * Found students in request order, duplicates removed.
+     * </pre>
+     *
+     * <code>repeated .Student students = 1;</code>
+     */
+    int getStudentsCount();
+    /**
+     * <pre>
+     * Found students in request order, duplicates removed.
+     * </pre>
+     *
+     * <code>repeated .Student students = 1;</code>
+     */
+    java.util.List<? extends com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder> 
+        getStudentsOrBuilderList();
+    /**
+     * <pre>
+     * Found students in request order, duplicates removed.
+     * </pre>
+     *
+     * <code>repeated .Student students = 1;</code>
+     */
+    com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder getStudentsOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated int64 missing_ids = 2;</code>
+     * @return A list containing the missingIds.
+     */
+    java.util.List<java.lang.Long> getMissingIdsList();
+    /**
+     * <code>repeated int64 missing_ids = 2;</code>
+     * @return The count of missingIds.
+     */
+    int getMissingIdsCount();
+    /**
+     * <code>repeated int64 missing_ids = 2;</code>
+     * @param index The index of the element to return.
+     * @return The missingIds at the given index.
+     */
+    long getMissingIds(int index);
+  }
+  /**
+   * Protobuf type {@code BatchGetStudentsResponse}
+   */
+  public  static final class BatchGetStudentsResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:BatchGetStudentsResponse)
+      BatchGetStudentsResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BatchGetStudentsResponse.newBuilder() to construct.
+    private BatchGetStudentsResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BatchGetStudentsResponse() {
+      students_ = java.util.Collections.emptyList();
+      missingIds_ = emptyLongList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BatchGetStudentsResponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BatchGetStudentsResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                students_ = new java.util.ArrayList<com.a00n.grpc.stubs.StudentOuterClass.Student>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              students_.add(
+                  input.readMessage(com.a00n.grpc.stubs.StudentOuterClass.Student.parser(), extensionRegistry));
+              break;
+            }
+            case 16: {
+              if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+                missingIds_ = newLongList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              missingIds_.addLong(input.readInt64());
+              break;
+            }
+            case 18: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000002) != 0) && input.getBytesUntilLimit() > 0) {
+                missingIds_ = newLongList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                missingIds_.addLong(input.readInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          students_ = java.util.Collections.unmodifiableList(students_);
+        }
+        if (((mutable_bitField0_ & 0x00000002) != 0)) {
+          missingIds_.makeImmutable(); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_BatchGetStudentsResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_BatchGetStudentsResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse.class, com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse.Builder.class);
+    }
+
+    public static final int STUDENTS_FIELD_NUMBER = 1;
+    private java.util.List<com.a00n.grpc.stubs.StudentOuterClass.Student> students_;
+    /**
+     * <pre>
+     * Found students in request order, duplicates removed.
+     * </pre>
+     *
+     * <code>repeated .Student students = 1;</code>
+     */
+    public java.util.List<com.a00n.grpc.stubs.StudentOuterClass.Student> getStudentsList() {
+      return students_;
+    }
+    /**
+     * <pre>
+     * Found students in request order, duplicates removed.
+     * </pre>
+     *
+     * <code>repeated .Student students = 1;</code>
+     */
+    public java.util.List<? extends com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder> 
+        getStudentsOrBuilderList() {
+      return students_;
+    }
+    /**
+     * <pre>
+     * Found students in request order, duplicates removed.
+     * </pre>
+     *
+     * <code>repeated .Student students = 1;</code>
+     */
+    public int getStudentsCount() {
+      return students_.size();
+    }
+    /**
+     * <pre>
+     * Found students in request order, duplicates removed.
+     * </pre>
+     *
+     * <code>repeated .Student students = 1;</code>
+     */
+    public com.a00n.grpc.stubs.StudentOuterClass.Student getStudents(int index) {
+      return students_.get(index);
+    }
+    /**
+     * <pre>
+     * Found students in request order, duplicates removed.
+     * </pre>
+     *
+     * <code>repeated .Student students = 1;</code>
+     */
+    public com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder getStudentsOrBuilder(
+        int index) {
+      return students_.get(index);
+    }
+
+    public static final int MISSING_IDS_FIELD_NUMBER = 2;
+    private com.google.protobuf.Internal.LongList missingIds_;
+    /**
+     * <code>repeated int64 missing_ids = 2;</code>
+     * @return A list containing the missingIds.
+     */
+    public java.util.List<java.lang.Long>
+        getMissingIdsList() {
+      return missingIds_;
+    }
+    /**
+     * <code>repeated int64 missing_ids = 2;</code>
+     * @return The count of missingIds.
+     */
+    public int getMissingIdsCount() {
+      return missingIds_.size();
+    }
+    /**
+     * <code>repeated int64 missing_ids = 2;</code>
+     * @param index The index of the element to return.
+     * @return The missingIds at the given index.
+     */
+    public long getMissingIds(int index) {
+      return missingIds_.getLong(index);
+    }
+    private int missingIdsMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < students_.size(); i++) {
+        output.writeMessage(1, students_.get(i));
+      }
+      if (getMissingIdsList().size() > 0) {
+        output.writeUInt32NoTag(18);
+        output.writeUInt32NoTag(missingIdsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < missingIds_.size(); i++) {
+        output.writeInt64NoTag(missingIds_.getLong(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < students_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, students_.get(i));
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < missingIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt64SizeNoTag(missingIds_.getLong(i));
+        }
+        size += dataSize;
+        if (!getMissingIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        missingIdsMemoizedSerializedSize = dataSize;
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse)) {
+        return super.equals(obj);
+      }
+      com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse other = (com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse) obj;
+
+      if (!getStudentsList()
+          .equals(other.getStudentsList())) return false;
+      if (!getMissingIdsList()
+          .equals(other.getMissingIdsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getStudentsCount() > 0) {
+        hash = (37 * hash) + STUDENTS_FIELD_NUMBER;
+        hash = (53 * hash) + getStudentsList().hashCode();
+      }
+      if (getMissingIdsCount() > 0) {
+        hash = (37 * hash) + MISSING_IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getMissingIdsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code BatchGetStudentsResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:BatchGetStudentsResponse)
+        com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_BatchGetStudentsResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_BatchGetStudentsResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse.class, com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse.Builder.class);
+      }
+
+      // Construct using com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getStudentsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (studentsBuilder_ == null) {
+          students_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          studentsBuilder_.clear();
+        }
+        missingIds_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_BatchGetStudentsResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse getDefaultInstanceForType() {
+        return com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse build() {
+        com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse buildPartial() {
+        com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse result = new com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse(this);
+        int from_bitField0_ = bitField0_;
+        if (studentsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            students_ = java.util.Collections.unmodifiableList(students_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.students_ = students_;
+        } else {
+          result.students_ = studentsBuilder_.build();
+        }
+        if (((bitField0_ & 0x00000002) != 0)) {
+          missingIds_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.missingIds_ = missingIds_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse) {
+          return mergeFrom((com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse other) {
+        if (other == com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse.getDefaultInstance()) return this;
+        if (studentsBuilder_ == null) {
+          if (!other.students_.isEmpty()) {
+            if (students_.isEmpty()) {
+              students_ = other.students_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureStudentsIsMutable();
+              students_.addAll(other.students_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.students_.isEmpty()) {
+            if (studentsBuilder_.isEmpty()) {
+              studentsBuilder_.dispose();
+              studentsBuilder_ = null;
+              students_ = other.students_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              studentsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getStudentsFieldBuilder() : null;
+            } else {
+              studentsBuilder_.addAllMessages(other.students_);
+            }
+          }
+        }
+        if (!other.missingIds_.isEmpty()) {
+          if (missingIds_.isEmpty()) {
+            missingIds_ = other.missingIds_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureMissingIdsIsMutable();
+            missingIds_.addAll(other.missingIds_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.a00n.grpc.stubs.StudentOuterClass.Student> students_ =
+        java.util.Collections.emptyList();
+      private void ensureStudentsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          students_ = new java.util.ArrayList<com.a00n.grpc.stubs.StudentOuterClass.Student>(students_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.a00n.grpc.stubs.StudentOuterClass.Student, com.a00n.grpc.stubs.StudentOuterClass.Student.Builder, com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder> studentsBuilder_;
+
+      /**
+       * <pre>
+       * Found students in request order, duplicates removed.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public java.util.List<com.a00n.grpc.stubs.StudentOuterClass.Student> getStudentsList() {
+        if (studentsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(students_);
+        } else {
+          return studentsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * Found students in request order, duplicates removed.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public int getStudentsCount() {
+        if (studentsBuilder_ == null) {
+          return students_.size();
+        } else {
+          return studentsBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * Found students in request order, duplicates removed.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public com.a00n.grpc.stubs.StudentOuterClass.Student getStudents(int index) {
+        if (studentsBuilder_ == null) {
+          return students_.get(index);
+        } else {
+          return studentsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * Found students in request order, duplicates removed.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public Builder setStudents(
+          int index, com.a00n.grpc.stubs.StudentOuterClass.Student value) {
+        if (studentsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureStudentsIsMutable();
+          students_.set(index, value);
+          onChanged();
+        } else {
+          studentsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Found students in request order, duplicates removed.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public Builder setStudents(
+          int index, com.a00n.grpc.stubs.StudentOuterClass.Student.Builder builderForValue) {
+        if (studentsBuilder_ == null) {
+          ensureStudentsIsMutable();
+          students_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          studentsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Found students in request order, duplicates removed.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public Builder addStudents(com.a00n.grpc.stubs.StudentOuterClass.Student value) {
+        if (studentsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureStudentsIsMutable();
+          students_.add(value);
+          onChanged();
+        } else {
+          studentsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Found students in request order, duplicates removed.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public Builder addStudents(
+          int index, com.a00n.grpc.stubs.StudentOuterClass.Student value) {
+        if (studentsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureStudentsIsMutable();
+          students_.add(index, value);
+          onChanged();
+        } else {
+          studentsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Found students in request order, duplicates removed.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public Builder addStudents(
+          com.a00n.grpc.stubs.StudentOuterClass.Student.Builder builderForValue) {
+        if (studentsBuilder_ == null) {
+          ensureStudentsIsMutable();
+          students_.add(builderForValue.build());
+          onChanged();
+        } else {
+          studentsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Found students in request order, duplicates removed.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public Builder addStudents(
+          int index, com.a00n.grpc.stubs.StudentOuterClass.Student.Builder builderForValue) {
+        if (studentsBuilder_ == null) {
+          ensureStudentsIsMutable();
+          students_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          studentsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Found students in request order, duplicates removed.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public Builder addAllStudents(
+          java.lang.Iterable<? extends com.a00n.grpc.stubs.StudentOuterClass.Student> values) {
+        if (studentsBuilder_ == null) {
+          ensureStudentsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, students_);
+          onChanged();
+        } else {
+          studentsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Found students in request order, duplicates removed.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public Builder clearStudents() {
+        if (studentsBuilder_ == null) {
+          students_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          studentsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Found students in request order, duplicates removed.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public Builder removeStudents(int index) {
+        if (studentsBuilder_ == null) {
+          ensureStudentsIsMutable();
+          students_.remove(index);
+          onChanged();
+        } else {
+          studentsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Found students in request order, duplicates removed.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public com.a00n.grpc.stubs.StudentOuterClass.Student.Builder getStudentsBuilder(
+          int index) {
+        return getStudentsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * Found students in request order, duplicates removed.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder getStudentsOrBuilder(
+          int index) {
+        if (studentsBuilder_ == null) {
+          return students_.get(index);  } else {
+          return studentsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * Found students in request order, duplicates removed.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public java.util.List<? extends com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder> 
+           getStudentsOrBuilderList() {
+        if (studentsBuilder_ != null) {
+          return studentsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(students_);
+        }
+      }
+      /**
+       * <pre>
+       * Found students in request order, duplicates removed.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public com.a00n.grpc.stubs.StudentOuterClass.Student.Builder addStudentsBuilder() {
+        return getStudentsFieldBuilder().addBuilder(
+            com.a00n.grpc.stubs.StudentOuterClass.Student.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Found students in request order, duplicates removed.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public com.a00n.grpc.stubs.StudentOuterClass.Student.Builder addStudentsBuilder(
+          int index) {
+        return getStudentsFieldBuilder().addBuilder(
+            index, com.a00n.grpc.stubs.StudentOuterClass.Student.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Found students in request order, duplicates removed.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public java.util.List<com.a00n.grpc.stubs.StudentOuterClass.Student.Builder> 
+           getStudentsBuilderList() {
+        return getStudentsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.a00n.grpc.stubs.StudentOuterClass.Student, com.a00n.grpc.stubs.StudentOuterClass.Student.Builder, com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder> 
+          getStudentsFieldBuilder() {
+        if (studentsBuilder_ == null) {
+          studentsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.a00n.grpc.stubs.StudentOuterClass.Student, com.a00n.grpc.stubs.StudentOuterClass.Student.Builder, com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder>(
+                  students_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          students_ = null;
+        }
+        return studentsBuilder_;
+      }
+
+      private com.google.protobuf.Internal.LongList missingIds_ = emptyLongList();
+      private void ensureMissingIdsIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          missingIds_ = mutableCopy(missingIds_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated int64 missing_ids = 2;</code>
+       * @return A list containing the missingIds.
+       */
+      public java.util.List<java.lang.Long>
+          getMissingIdsList() {
+        return ((bitField0_ & 0x00000002) != 0) ?
+                 java.util.Collections.unmodifiableList(missingIds_) : missingIds_;
+      }
+      /**
+       * <code>repeated int64 missing_ids = 2;</code>
+       * @return The count of missingIds.
+       */
+      public int getMissingIdsCount() {
+        return missingIds_.size();
+      }
+      /**
+       * <code>repeated int64 missing_ids = 2;</code>
+       * @param index The index of the element to return.
+       * @return The missingIds at the given index.
+       */
+      public long getMissingIds(int index) {
+        return missingIds_.getLong(index);
+      }
+      /**
+       * <code>repeated int64 missing_ids = 2;</code>
+       * @param index The index to set the value at.
+       * @param value The missingIds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMissingIds(
+          int index, long value) {
+        ensureMissingIdsIsMutable();
+        missingIds_.setLong(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 missing_ids = 2;</code>
+       * @param value The missingIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addMissingIds(long value) {
+        ensureMissingIdsIsMutable();
+        missingIds_.addLong(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 missing_ids = 2;</code>
+       * @param values The missingIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllMissingIds(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureMissingIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, missingIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 missing_ids = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMissingIds() {
+        missingIds_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:BatchGetStudentsResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:BatchGetStudentsResponse)
+    private static final com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse();
+    }
+
+    public static com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BatchGetStudentsResponse>
+        PARSER = new com.google.protobuf.AbstractParser<BatchGetStudentsResponse>() {
+      @java.lang.Override
+      public BatchGetStudentsResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BatchGetStudentsResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<BatchGetStudentsResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BatchGetStudentsResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SearchStudentsRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:SearchStudentsRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Part of a student's "first last" name, at least 3 characters. Case and repeated spaces are ignored.
+     * </pre>
+     *
+     * <code>string query = 1;</code>
+     * @return The query.
+     */
+    java.lang.String getQuery();
+    /**
+     * <pre>
+     * Part of a student's "first last" name, at least 3 characters. Case and repeated spaces are ignored.
+     * </pre>
+     *
+     * <code>string query = 1;</code>
+     * @return The bytes for query.
+     */
+    com.google.protobuf.ByteString
+        getQueryBytes();
+
+    /**
+     * <pre>
+     * 0 uses the server default; larger values are capped by the server.
+     * </pre>
+     *
+     * <code>int32 limit = 2;</code>
+     * @return The limit.
+     */
+    int getLimit();
+  }
+  /**
+   * Protobuf type {@code SearchStudentsRequest}
+   */
+  public  static final class SearchStudentsRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:SearchStudentsRequest)
+      SearchStudentsRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SearchStudentsRequest.newBuilder() to construct.
+    private SearchStudentsRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SearchStudentsRequest() {
+      query_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SearchStudentsRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SearchStudentsRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              query_ = s;
+              break;
+            }
+            case 16: {
+
+              limit_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_SearchStudentsRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_SearchStudentsRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest.class, com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest.Builder.class);
+    }
+
+    public static final int QUERY_FIELD_NUMBER = 1;
+    private volatile java.lang.Object query_;
+    /**
+     * <pre>
+     * Part of a student's "first last" name, at least 3 characters. Case and repeated spaces are ignored.
+     * </pre>
+     *
+     * <code>string query = 1;</code>
+     * @return The query.
+     */
+    public java.lang.String getQuery() {
+      java.lang.Object ref = query_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        query_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Part of a student's "first last" name, at least 3 characters. Case and repeated spaces are ignored.
+     * </pre>
+     *
+     * <code>string query = 1;</code>
+     * @return The bytes for query.
+     */
+    public com.google.protobuf.ByteString
+        getQueryBytes() {
+      java.lang.Object ref = query_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        query_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LIMIT_FIELD_NUMBER = 2;
+    private int limit_;
+    /**
+     * <pre>
+     * 0 uses the server default; larger values are capped by the server.
+     * </pre>
+     *
+     * <code>int32 limit = 2;</code>
+     * @return The limit.
+     */
+    public int getLimit() {
+      return limit_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getQueryBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, query_);
+      }
+      if (limit_ != 0) {
+        output.writeInt32(2, limit_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getQueryBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, query_);
+      }
+      if (limit_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, limit_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest)) {
+        return super.equals(obj);
+      }
+      com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest other = (com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest) obj;
+
+      if (!getQuery()
+          .equals(other.getQuery())) return false;
+      if (getLimit()
+          != other.getLimit()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + QUERY_FIELD_NUMBER;
+      hash = (53 * hash) + getQuery().hashCode();
+      hash = (37 * hash) + LIMIT_FIELD_NUMBER;
+      hash = (53 * hash) + getLimit();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code SearchStudentsRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:SearchStudentsRequest)
+        com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_SearchStudentsRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_SearchStudentsRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest.class, com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest.Builder.class);
+      }
+
+      // Construct using com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        query_ = "";
+
+        limit_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_SearchStudentsRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest getDefaultInstanceForType() {
+        return com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest build() {
+        com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest buildPartial() {
+        com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest result = new com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest(this);
+        result.query_ = query_;
+        result.limit_ = limit_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest) {
+          return mergeFrom((com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest other) {
+        if (other == com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest.getDefaultInstance()) return this;
+        if (!other.getQuery().isEmpty()) {
+          query_ = other.query_;
+          onChanged();
+        }
+        if (other.getLimit() != 0) {
+          setLimit(other.getLimit());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object query_ = "";
+      /**
+       * <pre>
+       * Part of a student's "first last" name, at least 3 characters. Case and repeated spaces are ignored.
+       * </pre>
+       *
+       * <code>string query = 1;</code>
+       * @return The query.
+       */
+      public java.lang.String getQuery() {
+        java.lang.Object ref = query_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          query_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Part of a student's "first last" name, at least 3 characters. Case and repeated spaces are ignored.
+       * </pre>
+       *
+       * <code>string query = 1;</code>
+       * @return The bytes for query.
+       */
+      public com.google.protobuf.ByteString
+          getQueryBytes() {
+        java.lang.Object ref = query_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          query_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Part of a student's "first last" name, at least 3 characters. Case and repeated spaces are ignored.
+       * </pre>
+       *
+       * <code>string query = 1;</code>
+       * @param value The query to set.
+       * @return This builder for chaining.
+       */
+      public Builder setQuery(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        query_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Part of a student's "first last" name, at least 3 characters. Case and repeated spaces are ignored.
+       * </pre>
+       *
+       * <code>string query = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearQuery() {
+        
+        query_ = getDefaultInstance().getQuery();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Part of a student's "first last" name, at least 3 characters. Case and repeated spaces are ignored.
+       * </pre>
+       *
+       * <code>string query = 1;</code>
+       * @param value The bytes for query to set.
+       * @return This builder for chaining.
+       */
+      public Builder setQueryBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        query_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int limit_ ;
+      /**
+       * <pre>
+       * 0 uses the server default; larger values are capped by the server.
+       * </pre>
+       *
+       * <code>int32 limit = 2;</code>
+       * @return The limit.
+       */
+      public int getLimit() {
+        return limit_;
+      }
+      /**
+       * <pre>
+       * 0 uses the server default; larger values are capped by the server.
+       * </pre>
+       *
+       * <code>int32 limit = 2;</code>
+       * @param value The limit to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLimit(int value) {
+        
+        limit_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 0 uses the server default; larger values are capped by the server.
+       * </pre>
+       *
+       * <code>int32 limit = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLimit() {
+        
+        limit_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:SearchStudentsRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:SearchStudentsRequest)
+    private static final com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest();
+    }
+
+    public static com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<SearchStudentsRequest>
+        PARSER = new com.google.protobuf.AbstractParser<SearchStudentsRequest>() {
+      @java.lang.Override
+      public SearchStudentsRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SearchStudentsRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<SearchStudentsRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SearchStudentsRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SearchStudentsResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:SearchStudentsResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Best matches first: an exact first, last or full name, then a match at the start of a word, then anywhere.
+     * </pre>
+     *
+     * <code>repeated .Student students = 1;</code>
+     */
+    java.util.List<com.a00n.grpc.stubs.StudentOuterClass.Student> 
+        getStudentsList();
+    /**
+     * <pre>
+     * Best matches first: an exact first, last or full name, then a match at the start of a word, then anywhere.
+     * </pre>
+     *
+     * <code>repeated .Student students = 1;</code>
+     */
+    com.a00n.grpc.stubs.StudentOuterClass.Student getStudents(int index);
+    /**
+     * <pre>
+     * Best matches first: an exact first, last or full name, then a match at the start of a word, then anywhere.
+     * </pre>
+     *
+     * <code>repeated .Student students = 1;</code>
+     */
+    int getStudentsCount();
+    /**
+     * <pre>
+     * Best matches first: an exact first, last or full name, then a match at the start of a word, then anywhere.
+     * </pre>
+     *
+     * <code>repeated .Student students = 1;</code>
+     */
+    java.util.List<? extends com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder> 
+        getStudentsOrBuilderList();
+    /**
+     * <pre>
+     * Best matches first: an exact first, last or full name, then a match at the start of a word, then anywhere.
+     * </pre>
+     *
+     * <code>repeated .Student students = 1;</code>
+     */
+    com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder getStudentsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code SearchStudentsResponse}
+   */
+  public  static final class SearchStudentsResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:SearchStudentsResponse)
+      SearchStudentsResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SearchStudentsResponse.newBuilder() to construct.
+    private SearchStudentsResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SearchStudentsResponse() {
+      students_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SearchStudentsResponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SearchStudentsResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                students_ = new java.util.ArrayList<com.a00n.grpc.stubs.StudentOuterClass.Student>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              students_.add(
+                  input.readMessage(com.a00n.grpc.stubs.StudentOuterClass.Student.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          students_ = java.util.Collections.unmodifiableList(students_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_SearchStudentsResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_SearchStudentsResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse.class, com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse.Builder.class);
+    }
+
+    public static final int STUDENTS_FIELD_NUMBER = 1;
+    private java.util.List<com.a00n.grpc.stubs.StudentOuterClass.Student> students_;
+    /**
+     * <pre>
+     * Best matches first: an exact first, last or full name, then a match at the start of a word, then anywhere.
+     * </pre>
+     *
+     * <code>repeated .Student students = 1;</code>
+     */
+    public java.util.List<com.a00n.grpc.stubs.StudentOuterClass.Student> getStudentsList() {
+      return students_;
+    }
+    /**
+     * <pre>
+     * Best matches first: an exact first, last or full name, then a match at the start of a word, then anywhere.
+     * </pre>
+     *
+     * <code>repeated .Student students = 1;</code>
+     */
+    public java.util.List<? extends com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder> 
+        getStudentsOrBuilderList() {
+      return students_;
+    }
+    /**
+     * <pre>
+     * Best matches first: an exact first, last or full name, then a match at the start of a word, then anywhere.
+     * </pre>
+     *
+     * <code>repeated .Student students = 1;</code>
+     */
+    public int getStudentsCount() {
+      return students_.size();
+    }
+    /**
+     * <pre>
+     * Best matches first: an exact first, last or full name, then a match at the start of a word, then anywhere.
+     * </pre>
+     *
+     * <code>repeated .Student students = 1;</code>
+     */
+    public com.a00n.grpc.stubs.StudentOuterClass.Student getStudents(int index) {
+      return students_.get(index);
+    }
+    /**
+     * <pre>
+     * Best matches first: an exact first, last or full name, then a match at the start of a word, then anywhere.
+     * </pre>
+     *
+     * <code>repeated .Student students = 1;</code>
+     */
+    public com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder getStudentsOrBuilder(
+        int index) {
+      return students_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < students_.size(); i++) {
+        output.writeMessage(1, students_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < students_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, students_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse)) {
+        return super.equals(obj);
+      }
+      com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse other = (com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse) obj;
+
+      if (!getStudentsList()
+          .equals(other.getStudentsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getStudentsCount() > 0) {
+        hash = (37 * hash) + STUDENTS_FIELD_NUMBER;
+        hash = (53 * hash) + getStudentsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code SearchStudentsResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:SearchStudentsResponse)
+        com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_SearchStudentsResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_SearchStudentsResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse.class, com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse.Builder.class);
+      }
+
+      // Construct using com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getStudentsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (studentsBuilder_ == null) {
+          students_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          studentsBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_SearchStudentsResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse getDefaultInstanceForType() {
+        return com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse build() {
+        com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse buildPartial() {
+        com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse result = new com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse(this);
+        int from_bitField0_ = bitField0_;
+        if (studentsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            students_ = java.util.Collections.unmodifiableList(students_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.students_ = students_;
+        } else {
+          result.students_ = studentsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse) {
+          return mergeFrom((com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse other) {
+        if (other == com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse.getDefaultInstance()) return this;
+        if (studentsBuilder_ == null) {
+          if (!other.students_.isEmpty()) {
+            if (students_.isEmpty()) {
+              students_ = other.students_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureStudentsIsMutable();
+              students_.addAll(other.students_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.students_.isEmpty()) {
+            if (studentsBuilder_.isEmpty()) {
+              studentsBuilder_.dispose();
+              studentsBuilder_ = null;
+              students_ = other.students_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              studentsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getStudentsFieldBuilder() : null;
+            } else {
+              studentsBuilder_.addAllMessages(other.students_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.a00n.grpc.stubs.StudentOuterClass.Student> students_ =
+        java.util.Collections.emptyList();
+      private void ensureStudentsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          students_ = new java.util.ArrayList<com.a00n.grpc.stubs.StudentOuterClass.Student>(students_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.a00n.grpc.stubs.StudentOuterClass.Student, com.a00n.grpc.stubs.StudentOuterClass.Student.Builder, com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder> studentsBuilder_;
+
+      /**
+       * <pre>
+       * Best matches first: an exact first, last or full name, then a match at the start of a word, then anywhere.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public java.util.List<com.a00n.grpc.stubs.StudentOuterClass.Student> getStudentsList() {
+        if (studentsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(students_);
+        } else {
+          return studentsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * Best matches first: an exact first, last or full name, then a match at the start of a word, then anywhere.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public int getStudentsCount() {
+        if (studentsBuilder_ == null) {
+          return students_.size();
+        } else {
+          return studentsBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * Best matches first: an exact first, last or full name, then a match at the start of a word, then anywhere.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public com.a00n.grpc.stubs.StudentOuterClass.Student getStudents(int index) {
+        if (studentsBuilder_ == null) {
+          return students_.get(index);
+        } else {
+          return studentsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * Best matches first: an exact first, last or full name, then a match at the start of a word, then anywhere.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public Builder setStudents(
+          int index, com.a00n.grpc.stubs.StudentOuterClass.Student value) {
+        if (studentsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureStudentsIsMutable();
+          students_.set(index, value);
+          onChanged();
+        } else {
+          studentsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Best matches first: an exact first, last or full name, then a match at the start of a word, then anywhere.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public Builder setStudents(
+          int index, com.a00n.grpc.stubs.StudentOuterClass.Student.Builder builderForValue) {
+        if (studentsBuilder_ == null) {
+          ensureStudentsIsMutable();
+          students_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          studentsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Best matches first: an exact first, last or full name, then a match at the start of a word, then anywhere.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public Builder addStudents(com.a00n.grpc.stubs.StudentOuterClass.Student value) {
+        if (studentsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureStudentsIsMutable();
+          students_.add(value);
+          onChanged();
+        } else {
+          studentsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Best matches first: an exact first, last or full name, then a match at the start of a word, then anywhere.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public Builder addStudents(
+          int index, com.a00n.grpc.stubs.StudentOuterClass.Student value) {
+        if (studentsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureStudentsIsMutable();
+          students_.add(index, value);
+          onChanged();
+        } else {
+          studentsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Best matches first: an exact first, last or full name, then a match at the start of a word, then anywhere.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public Builder addStudents(
+          com.a00n.grpc.stubs.StudentOuterClass.Student.Builder builderForValue) {
+        if (studentsBuilder_ == null) {
+          ensureStudentsIsMutable();
+          students_.add(builderForValue.build());
+          onChanged();
+        } else {
+          studentsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Best matches first: an exact first, last or full name, then a match at the start of a word, then anywhere.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public Builder addStudents(
+          int index, com.a00n.grpc.stubs.StudentOuterClass.Student.Builder builderForValue) {
+        if (studentsBuilder_ == null) {
+          ensureStudentsIsMutable();
+          students_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          studentsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Best matches first: an exact first, last or full name, then a match at the start of a word, then anywhere.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public Builder addAllStudents(
+          java.lang.Iterable<? extends com.a00n.grpc.stubs.StudentOuterClass.Student> values) {
+        if (studentsBuilder_ == null) {
+          ensureStudentsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, students_);
+          onChanged();
+        } else {
+          studentsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Best matches first: an exact first, last or full name, then a match at the start of a word, then anywhere.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public Builder clearStudents() {
+        if (studentsBuilder_ == null) {
+          students_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          studentsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Best matches first: an exact first, last or full name, then a match at the start of a word, then anywhere.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public Builder removeStudents(int index) {
+        if (studentsBuilder_ == null) {
+          ensureStudentsIsMutable();
+          students_.remove(index);
+          onChanged();
+        } else {
+          studentsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Best matches first: an exact first, last or full name, then a match at the start of a word, then anywhere.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public com.a00n.grpc.stubs.StudentOuterClass.Student.Builder getStudentsBuilder(
+          int index) {
+        return getStudentsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * Best matches first: an exact first, last or full name, then a match at the start of a word, then anywhere.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder getStudentsOrBuilder(
+          int index) {
+        if (studentsBuilder_ == null) {
+          return students_.get(index);  } else {
+          return studentsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * Best matches first: an exact first, last or full name, then a match at the start of a word, then anywhere.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public java.util.List<? extends com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder> 
+           getStudentsOrBuilderList() {
+        if (studentsBuilder_ != null) {
+          return studentsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(students_);
+        }
+      }
+      /**
+       * <pre>
+       * Best matches first: an exact first, last or full name, then a match at the start of a word, then anywhere.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public com.a00n.grpc.stubs.StudentOuterClass.Student.Builder addStudentsBuilder() {
+        return getStudentsFieldBuilder().addBuilder(
+            com.a00n.grpc.stubs.StudentOuterClass.Student.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Best matches first: an exact first, last or full name, then a match at the start of a word, then anywhere.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public com.a00n.grpc.stubs.StudentOuterClass.Student.Builder addStudentsBuilder(
+          int index) {
+        return getStudentsFieldBuilder().addBuilder(
+            index, com.a00n.grpc.stubs.StudentOuterClass.Student.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Best matches first: an exact first, last or full name, then a match at the start of a word, then anywhere.
+       * </pre>
+       *
+       * <code>repeated .Student students = 1;</code>
+       */
+      public java.util.List<com.a00n.grpc.stubs.StudentOuterClass.Student.Builder> 
+           getStudentsBuilderList() {
+        return getStudentsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.a00n.grpc.stubs.StudentOuterClass.Student, com.a00n.grpc.stubs.StudentOuterClass.Student.Builder, com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder> 
+          getStudentsFieldBuilder() {
+        if (studentsBuilder_ == null) {
+          studentsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.a00n.grpc.stubs.StudentOuterClass.Student, com.a00n.grpc.stubs.StudentOuterClass.Student.Builder, com.a00n.grpc.stubs.StudentOuterClass.StudentOrBuilder>(
+                  students_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          students_ = null;
+        }
+        return studentsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:SearchStudentsResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:SearchStudentsResponse)
+    private static final com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse();
+    }
+
+    public static com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<SearchStudentsResponse>
+        PARSER = new com.google.protobuf.AbstractParser<SearchStudentsResponse>() {
+      @java.lang.Override
+      public SearchStudentsResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SearchStudentsResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<SearchStudentsResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SearchStudentsResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DeleteStudentRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:DeleteStudentRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 id = 1;</code>
+     * @return The id.
+     */
+    long getId();
+  }
+  /**
+   * Protobuf type {@code DeleteStudentRequest}
+   */
+  public  static final class DeleteStudentRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:DeleteStudentRequest)
+      DeleteStudentRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use DeleteStudentRequest.newBuilder() to construct.
+    private DeleteStudentRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DeleteStudentRequest() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DeleteStudentRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private DeleteStudentRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              id_ = input.readInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_DeleteStudentRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_DeleteStudentRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest.class, com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest.Builder.class);
+    }
+
+    public static final int ID_FIELD_NUMBER = 1;
+    private long id_;
+    /**
+     * <code>int64 id = 1;</code>
+     * @return The id.
+     */
+    public long getId() {
+      return id_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (id_ != 0L) {
+        output.writeInt64(1, id_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (id_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, id_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest)) {
+        return super.equals(obj);
+      }
+      com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest other = (com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest) obj;
+
+      if (getId()
+          != other.getId()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getId());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code DeleteStudentRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:DeleteStudentRequest)
+        com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_DeleteStudentRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_DeleteStudentRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest.class, com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest.Builder.class);
+      }
+
+      // Construct using com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        id_ = 0L;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_DeleteStudentRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest getDefaultInstanceForType() {
+        return com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest build() {
+        com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest buildPartial() {
+        com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest result = new com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest(this);
+        result.id_ = id_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest) {
+          return mergeFrom((com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest other) {
+        if (other == com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest.getDefaultInstance()) return this;
+        if (other.getId() != 0L) {
+          setId(other.getId());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private long id_ ;
+      /**
+       * <code>int64 id = 1;</code>
+       * @return The id.
+       */
+      public long getId() {
+        return id_;
+      }
+      /**
+       * <code>int64 id = 1;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(long value) {
+        
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        
+        id_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:DeleteStudentRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:DeleteStudentRequest)
+    private static final com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse();
+      DEFAULT_INSTANCE = new com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest();
     }
 
-    public static com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse getDefaultInstance() {
+    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<ListStudentsResponse>
-        PARSER = new com.google.protobuf.AbstractParser<ListStudentsResponse>() {
+    private static final com.google.protobuf.Parser<DeleteStudentRequest>
+        PARSER = new com.google.protobuf.AbstractParser<DeleteStudentRequest>() {
       @java.lang.Override
-      public ListStudentsResponse parsePartialFrom(
+      public DeleteStudentRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new ListStudentsResponse(input, extensionRegistry);
+        return new DeleteStudentRequest(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<ListStudentsResponse> parser() {
+    public static com.google.protobuf.Parser<DeleteStudentRequest> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<ListStudentsResponse> getParserForType() {
+    public com.google.protobuf.Parser<DeleteStudentRequest> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse getDefaultInstanceForType() {
+    public com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface GetStudentRequestOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:GetStudentRequest)
+  public interface DeleteStudentResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:DeleteStudentResponse)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>int64 id = 1;</code>
-     * @return The id.
+     * <code>string message = 1;</code>
+     * @return The message.
      */
-    long getId();
+    java.lang.String getMessage();
+    /**
+     * <code>string message = 1;</code>
+     * @return The bytes for message.
+     */
+    com.google.protobuf.ByteString
+        getMessageBytes();
   }
   /**
-   * Protobuf type {@code GetStudentRequest}
+   * Protobuf type {@code DeleteStudentResponse}
    */
-  public  static final class GetStudentRequest extends
+  public  static final class DeleteStudentResponse extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:GetStudentRequest)
-      GetStudentRequestOrBuilder {
+      // @@protoc_insertion_point(message_implements:DeleteStudentResponse)
+      DeleteStudentResponseOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use GetStudentRequest.newBuilder() to construct.
-    private GetStudentRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use DeleteStudentResponse.newBuilder() to construct.
+    private DeleteStudentResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private GetStudentRequest() {
+    private DeleteStudentResponse() {
+      message_ = "";
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new GetStudentRequest();
+      return new DeleteStudentResponse();
     }
 
     @java.lang.Override
@@ -2109,7 +9872,7 @@ public final class StudentOuterClass {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private GetStudentRequest(
+    private DeleteStudentResponse(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -2127,9 +9890,10 @@ public final class StudentOuterClass {
             case 0:
               done = true;
               break;
-            case 8: {
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
 
-              id_ = input.readInt64();
+              message_ = s;
               break;
             }
             default: {
@@ -2153,25 +9917,51 @@ public final class StudentOuterClass {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_GetStudentRequest_descriptor;
+      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_DeleteStudentResponse_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_GetStudentRequest_fieldAccessorTable
+      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_DeleteStudentResponse_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest.class, com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest.Builder.class);
+              com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse.class, com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse.Builder.class);
     }
 
-    public static final int ID_FIELD_NUMBER = 1;
-    private long id_;
+    public static final int MESSAGE_FIELD_NUMBER = 1;
+    private volatile java.lang.Object message_;
     /**
-     * <code>int64 id = 1;</code>
-     * @return The id.
+     * <code>string message = 1;</code>
+     * @return The message.
      */
-    public long getId() {
-      return id_;
+    public java.lang.String getMessage() {
+      java.lang.Object ref = message_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        message_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string message = 1;</code>
+     * @return The bytes for message.
+     */
+    public com.google.protobuf.ByteString
+        getMessageBytes() {
+      java.lang.Object ref = message_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        message_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
 
     private byte memoizedIsInitialized = -1;
@@ -2188,8 +9978,8 @@ public final class StudentOuterClass {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (id_ != 0L) {
-        output.writeInt64(1, id_);
+      if (!getMessageBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, message_);
       }
       unknownFields.writeTo(output);
     }
@@ -2200,9 +9990,8 @@ public final class StudentOuterClass {
       if (size != -1) return size;
 
       size = 0;
-      if (id_ != 0L) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(1, id_);
+      if (!getMessageBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, message_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -2214,13 +10003,13 @@ public final class StudentOuterClass {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest)) {
+      if (!(obj instanceof com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse)) {
         return super.equals(obj);
       }
-      com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest other = (com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest) obj;
+      com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse other = (com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse) obj;
 
-      if (getId()
-          != other.getId()) return false;
+      if (!getMessage()
+          .equals(other.getMessage())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -2232,77 +10021,76 @@ public final class StudentOuterClass {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + ID_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          getId());
+      hash = (37 * hash) + MESSAGE_FIELD_NUMBER;
+      hash = (53 * hash) + getMessage().hashCode();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest parseFrom(byte[] data)
+    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest parseFrom(java.io.InputStream input)
+    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest parseDelimitedFrom(java.io.InputStream input)
+    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest parseDelimitedFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -2315,7 +10103,7 @@ public final class StudentOuterClass {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest prototype) {
+    public static Builder newBuilder(com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -2331,26 +10119,26 @@ public final class StudentOuterClass {
       return builder;
     }
     /**
-     * Protobuf type {@code GetStudentRequest}
+     * Protobuf type {@code DeleteStudentResponse}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:GetStudentRequest)
-        com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequestOrBuilder {
+        // @@protoc_insertion_point(builder_implements:DeleteStudentResponse)
+        com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponseOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_GetStudentRequest_descriptor;
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_DeleteStudentResponse_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_GetStudentRequest_fieldAccessorTable
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_DeleteStudentResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest.class, com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest.Builder.class);
+                com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse.class, com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse.Builder.class);
       }
 
-      // Construct using com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest.newBuilder()
+      // Construct using com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -2368,7 +10156,7 @@ public final class StudentOuterClass {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        id_ = 0L;
+        message_ = "";
 
         return this;
       }
@@ -2376,17 +10164,17 @@ public final class StudentOuterClass {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_GetStudentRequest_descriptor;
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_DeleteStudentResponse_descriptor;
       }
 
       @java.lang.Override
-      public com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest getDefaultInstanceForType() {
-        return com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest.getDefaultInstance();
+      public com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse getDefaultInstanceForType() {
+        return com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse.getDefaultInstance();
       }
 
       @java.lang.Override
-      public com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest build() {
-        com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest result = buildPartial();
+      public com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse build() {
+        com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -2394,9 +10182,9 @@ public final class StudentOuterClass {
       }
 
       @java.lang.Override
-      public com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest buildPartial() {
-        com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest result = new com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest(this);
-        result.id_ = id_;
+      public com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse buildPartial() {
+        com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse result = new com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse(this);
+        result.message_ = message_;
         onBuilt();
         return result;
       }
@@ -2435,18 +10223,19 @@ public final class StudentOuterClass {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest) {
-          return mergeFrom((com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest)other);
+        if (other instanceof com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse) {
+          return mergeFrom((com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest other) {
-        if (other == com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest.getDefaultInstance()) return this;
-        if (other.getId() != 0L) {
-          setId(other.getId());
+      public Builder mergeFrom(com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse other) {
+        if (other == com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse.getDefaultInstance()) return this;
+        if (!other.getMessage().isEmpty()) {
+          message_ = other.message_;
+          onChanged();
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -2463,11 +10252,11 @@ public final class StudentOuterClass {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest parsedMessage = null;
+        com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest) e.getUnfinishedMessage();
+          parsedMessage = (com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -2477,32 +10266,78 @@ public final class StudentOuterClass {
         return this;
       }
 
-      private long id_ ;
+      private java.lang.Object message_ = "";
       /**
-       * <code>int64 id = 1;</code>
-       * @return The id.
+       * <code>string message = 1;</code>
+       * @return The message.
        */
-      public long getId() {
-        return id_;
+      public java.lang.String getMessage() {
+        java.lang.Object ref = message_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          message_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
       /**
-       * <code>int64 id = 1;</code>
-       * @param value The id to set.
+       * <code>string message = 1;</code>
+       * @return The bytes for message.
+       */
+      public com.google.protobuf.ByteString
+          getMessageBytes() {
+        java.lang.Object ref = message_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          message_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string message = 1;</code>
+       * @param value The message to set.
        * @return This builder for chaining.
        */
-      public Builder setId(long value) {
+      public Builder setMessage(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        message_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string message = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMessage() {
         
-        id_ = value;
+        message_ = getDefaultInstance().getMessage();
         onChanged();
         return this;
       }
       /**
-       * <code>int64 id = 1;</code>
+       * <code>string message = 1;</code>
+       * @param value The bytes for message to set.
        * @return This builder for chaining.
        */
-      public Builder clearId() {
+      public Builder setMessageBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
         
-        id_ = 0L;
+        message_ = value;
         onChanged();
         return this;
       }
@@ -2519,76 +10354,102 @@ public final class StudentOuterClass {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:GetStudentRequest)
+      // @@protoc_insertion_point(builder_scope:DeleteStudentResponse)
     }
 
-    // @@protoc_insertion_point(class_scope:GetStudentRequest)
-    private static final com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:DeleteStudentResponse)
+    private static final com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest();
+      DEFAULT_INSTANCE = new com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse();
     }
 
-    public static com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest getDefaultInstance() {
+    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<GetStudentRequest>
-        PARSER = new com.google.protobuf.AbstractParser<GetStudentRequest>() {
+    private static final com.google.protobuf.Parser<DeleteStudentResponse>
+        PARSER = new com.google.protobuf.AbstractParser<DeleteStudentResponse>() {
       @java.lang.Override
-      public GetStudentRequest parsePartialFrom(
+      public DeleteStudentResponse parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new GetStudentRequest(input, extensionRegistry);
+        return new DeleteStudentResponse(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<GetStudentRequest> parser() {
+    public static com.google.protobuf.Parser<DeleteStudentResponse> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<GetStudentRequest> getParserForType() {
+    public com.google.protobuf.Parser<DeleteStudentResponse> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest getDefaultInstanceForType() {
+    public com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface DeleteStudentRequestOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:DeleteStudentRequest)
+  public interface CreateStudentRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CreateStudentRequest)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>int64 id = 1;</code>
-     * @return The id.
+     * <code>string firstName = 1;</code>
+     * @return The firstName.
      */
-    long getId();
+    java.lang.String getFirstName();
+    /**
+     * <code>string firstName = 1;</code>
+     * @return The bytes for firstName.
+     */
+    com.google.protobuf.ByteString
+        getFirstNameBytes();
+
+    /**
+     * <code>string lastName = 2;</code>
+     * @return The lastName.
+     */
+    java.lang.String getLastName();
+    /**
+     * <code>string lastName = 2;</code>
+     * @return The bytes for lastName.
+     */
+    com.google.protobuf.ByteString
+        getLastNameBytes();
+
+    /**
+     * <code>int64 age = 3;</code>
+     * @return The age.
+     */
+    long getAge();
   }
   /**
-   * Protobuf type {@code DeleteStudentRequest}
+   * Protobuf type {@code CreateStudentRequest}
    */
-  public  static final class DeleteStudentRequest extends
+  public  static final class CreateStudentRequest extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:DeleteStudentRequest)
-      DeleteStudentRequestOrBuilder {
+      // @@protoc_insertion_point(message_implements:CreateStudentRequest)
+      CreateStudentRequestOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use DeleteStudentRequest.newBuilder() to construct.
-    private DeleteStudentRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use CreateStudentRequest.newBuilder() to construct.
+    private CreateStudentRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private DeleteStudentRequest() {
+    private CreateStudentRequest() {
+      firstName_ = "";
+      lastName_ = "";
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new DeleteStudentRequest();
+      return new CreateStudentRequest();
     }
 
     @java.lang.Override
@@ -2596,7 +10457,7 @@ public final class StudentOuterClass {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private DeleteStudentRequest(
+    private CreateStudentRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -2614,9 +10475,21 @@ public final class StudentOuterClass {
             case 0:
               done = true;
               break;
-            case 8: {
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
 
-              id_ = input.readInt64();
+              firstName_ = s;
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              lastName_ = s;
+              break;
+            }
+            case 24: {
+
+              age_ = input.readInt64();
               break;
             }
             default: {
@@ -2640,25 +10513,97 @@ public final class StudentOuterClass {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_DeleteStudentRequest_descriptor;
+      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_CreateStudentRequest_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_DeleteStudentRequest_fieldAccessorTable
+      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_CreateStudentRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest.class, com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest.Builder.class);
+              com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest.class, com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest.Builder.class);
     }
 
-    public static final int ID_FIELD_NUMBER = 1;
-    private long id_;
+    public static final int FIRSTNAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object firstName_;
     /**
-     * <code>int64 id = 1;</code>
-     * @return The id.
+     * <code>string firstName = 1;</code>
+     * @return The firstName.
      */
-    public long getId() {
-      return id_;
+    public java.lang.String getFirstName() {
+      java.lang.Object ref = firstName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        firstName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string firstName = 1;</code>
+     * @return The bytes for firstName.
+     */
+    public com.google.protobuf.ByteString
+        getFirstNameBytes() {
+      java.lang.Object ref = firstName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        firstName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LASTNAME_FIELD_NUMBER = 2;
+    private volatile java.lang.Object lastName_;
+    /**
+     * <code>string lastName = 2;</code>
+     * @return The lastName.
+     */
+    public java.lang.String getLastName() {
+      java.lang.Object ref = lastName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        lastName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string lastName = 2;</code>
+     * @return The bytes for lastName.
+     */
+    public com.google.protobuf.ByteString
+        getLastNameBytes() {
+      java.lang.Object ref = lastName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        lastName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int AGE_FIELD_NUMBER = 3;
+    private long age_;
+    /**
+     * <code>int64 age = 3;</code>
+     * @return The age.
+     */
+    public long getAge() {
+      return age_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -2675,8 +10620,14 @@ public final class StudentOuterClass {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (id_ != 0L) {
-        output.writeInt64(1, id_);
+      if (!getFirstNameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, firstName_);
+      }
+      if (!getLastNameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, lastName_);
+      }
+      if (age_ != 0L) {
+        output.writeInt64(3, age_);
       }
       unknownFields.writeTo(output);
     }
@@ -2687,9 +10638,15 @@ public final class StudentOuterClass {
       if (size != -1) return size;
 
       size = 0;
-      if (id_ != 0L) {
+      if (!getFirstNameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, firstName_);
+      }
+      if (!getLastNameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, lastName_);
+      }
+      if (age_ != 0L) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(1, id_);
+          .computeInt64Size(3, age_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -2701,13 +10658,17 @@ public final class StudentOuterClass {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest)) {
+      if (!(obj instanceof com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest)) {
         return super.equals(obj);
       }
-      com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest other = (com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest) obj;
+      com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest other = (com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest) obj;
 
-      if (getId()
-          != other.getId()) return false;
+      if (!getFirstName()
+          .equals(other.getFirstName())) return false;
+      if (!getLastName()
+          .equals(other.getLastName())) return false;
+      if (getAge()
+          != other.getAge()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -2719,77 +10680,81 @@ public final class StudentOuterClass {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (37 * hash) + FIRSTNAME_FIELD_NUMBER;
+      hash = (53 * hash) + getFirstName().hashCode();
+      hash = (37 * hash) + LASTNAME_FIELD_NUMBER;
+      hash = (53 * hash) + getLastName().hashCode();
+      hash = (37 * hash) + AGE_FIELD_NUMBER;
       hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          getId());
+          getAge());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest parseFrom(byte[] data)
+    public static com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest parseFrom(java.io.InputStream input)
+    public static com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest parseDelimitedFrom(java.io.InputStream input)
+    public static com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest parseDelimitedFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -2802,7 +10767,7 @@ public final class StudentOuterClass {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest prototype) {
+    public static Builder newBuilder(com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -2818,26 +10783,26 @@ public final class StudentOuterClass {
       return builder;
     }
     /**
-     * Protobuf type {@code DeleteStudentRequest}
+     * Protobuf type {@code CreateStudentRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:DeleteStudentRequest)
-        com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequestOrBuilder {
+        // @@protoc_insertion_point(builder_implements:CreateStudentRequest)
+        com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_DeleteStudentRequest_descriptor;
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_CreateStudentRequest_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_DeleteStudentRequest_fieldAccessorTable
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_CreateStudentRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest.class, com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest.Builder.class);
+                com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest.class, com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest.Builder.class);
       }
 
-      // Construct using com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest.newBuilder()
+      // Construct using com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -2855,7 +10820,11 @@ public final class StudentOuterClass {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        id_ = 0L;
+        firstName_ = "";
+
+        lastName_ = "";
+
+        age_ = 0L;
 
         return this;
       }
@@ -2863,17 +10832,17 @@ public final class StudentOuterClass {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_DeleteStudentRequest_descriptor;
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_CreateStudentRequest_descriptor;
       }
 
       @java.lang.Override
-      public com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest getDefaultInstanceForType() {
-        return com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest.getDefaultInstance();
+      public com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest getDefaultInstanceForType() {
+        return com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest.getDefaultInstance();
       }
 
       @java.lang.Override
-      public com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest build() {
-        com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest result = buildPartial();
+      public com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest build() {
+        com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -2881,9 +10850,11 @@ public final class StudentOuterClass {
       }
 
       @java.lang.Override
-      public com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest buildPartial() {
-        com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest result = new com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest(this);
-        result.id_ = id_;
+      public com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest buildPartial() {
+        com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest result = new com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest(this);
+        result.firstName_ = firstName_;
+        result.lastName_ = lastName_;
+        result.age_ = age_;
         onBuilt();
         return result;
       }
@@ -2922,18 +10893,26 @@ public final class StudentOuterClass {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest) {
-          return mergeFrom((com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest)other);
+        if (other instanceof com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest) {
+          return mergeFrom((com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest other) {
-        if (other == com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest.getDefaultInstance()) return this;
-        if (other.getId() != 0L) {
-          setId(other.getId());
+      public Builder mergeFrom(com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest other) {
+        if (other == com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest.getDefaultInstance()) return this;
+        if (!other.getFirstName().isEmpty()) {
+          firstName_ = other.firstName_;
+          onChanged();
+        }
+        if (!other.getLastName().isEmpty()) {
+          lastName_ = other.lastName_;
+          onChanged();
+        }
+        if (other.getAge() != 0L) {
+          setAge(other.getAge());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -2950,11 +10929,11 @@ public final class StudentOuterClass {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest parsedMessage = null;
+        com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest) e.getUnfinishedMessage();
+          parsedMessage = (com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -2964,32 +10943,184 @@ public final class StudentOuterClass {
         return this;
       }
 
-      private long id_ ;
+      private java.lang.Object firstName_ = "";
       /**
-       * <code>int64 id = 1;</code>
-       * @return The id.
+       * <code>string firstName = 1;</code>
+       * @return The firstName.
        */
-      public long getId() {
-        return id_;
+      public java.lang.String getFirstName() {
+        java.lang.Object ref = firstName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          firstName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
       /**
-       * <code>int64 id = 1;</code>
-       * @param value The id to set.
+       * <code>string firstName = 1;</code>
+       * @return The bytes for firstName.
+       */
+      public com.google.protobuf.ByteString
+          getFirstNameBytes() {
+        java.lang.Object ref = firstName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          firstName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string firstName = 1;</code>
+       * @param value The firstName to set.
        * @return This builder for chaining.
        */
-      public Builder setId(long value) {
+      public Builder setFirstName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        firstName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string firstName = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFirstName() {
         
-        id_ = value;
+        firstName_ = getDefaultInstance().getFirstName();
         onChanged();
         return this;
       }
       /**
-       * <code>int64 id = 1;</code>
+       * <code>string firstName = 1;</code>
+       * @param value The bytes for firstName to set.
        * @return This builder for chaining.
        */
-      public Builder clearId() {
+      public Builder setFirstNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
         
-        id_ = 0L;
+        firstName_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object lastName_ = "";
+      /**
+       * <code>string lastName = 2;</code>
+       * @return The lastName.
+       */
+      public java.lang.String getLastName() {
+        java.lang.Object ref = lastName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          lastName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string lastName = 2;</code>
+       * @return The bytes for lastName.
+       */
+      public com.google.protobuf.ByteString
+          getLastNameBytes() {
+        java.lang.Object ref = lastName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          lastName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string lastName = 2;</code>
+       * @param value The lastName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLastName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        lastName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string lastName = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLastName() {
+        
+        lastName_ = getDefaultInstance().getLastName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string lastName = 2;</code>
+       * @param value The bytes for lastName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLastNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        lastName_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long age_ ;
+      /**
+       * <code>int64 age = 3;</code>
+       * @return The age.
+       */
+      public long getAge() {
+        return age_;
+      }
+      /**
+       * <code>int64 age = 3;</code>
+       * @param value The age to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAge(long value) {
+        
+        age_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 age = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAge() {
+        
+        age_ = 0L;
         onChanged();
         return this;
       }
@@ -3006,83 +11137,105 @@ public final class StudentOuterClass {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:DeleteStudentRequest)
+      // @@protoc_insertion_point(builder_scope:CreateStudentRequest)
     }
 
-    // @@protoc_insertion_point(class_scope:DeleteStudentRequest)
-    private static final com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:CreateStudentRequest)
+    private static final com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest();
+      DEFAULT_INSTANCE = new com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest();
     }
 
-    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest getDefaultInstance() {
+    public static com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<DeleteStudentRequest>
-        PARSER = new com.google.protobuf.AbstractParser<DeleteStudentRequest>() {
+    private static final com.google.protobuf.Parser<CreateStudentRequest>
+        PARSER = new com.google.protobuf.AbstractParser<CreateStudentRequest>() {
       @java.lang.Override
-      public DeleteStudentRequest parsePartialFrom(
+      public CreateStudentRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new DeleteStudentRequest(input, extensionRegistry);
+        return new CreateStudentRequest(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<DeleteStudentRequest> parser() {
+    public static com.google.protobuf.Parser<CreateStudentRequest> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<DeleteStudentRequest> getParserForType() {
+    public com.google.protobuf.Parser<CreateStudentRequest> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest getDefaultInstanceForType() {
+    public com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface DeleteStudentResponseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:DeleteStudentResponse)
+  public interface StudentIdRangeOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:StudentIdRange)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>string message = 1;</code>
-     * @return The message.
+     * <pre>
+     * Smallest id in the batch.
+     * </pre>
+     *
+     * <code>int64 first_id = 1;</code>
+     * @return The firstId.
      */
-    java.lang.String getMessage();
+    long getFirstId();
+
     /**
-     * <code>string message = 1;</code>
-     * @return The bytes for message.
+     * <pre>
+     * Largest id in the batch.
+     * </pre>
+     *
+     * <code>int64 last_id = 2;</code>
+     * @return The lastId.
      */
-    com.google.protobuf.ByteString
-        getMessageBytes();
+    long getLastId();
+
+    /**
+     * <pre>
+     * Number of students in the batch, which can be less than last_id - first_id + 1.
+     * </pre>
+     *
+     * <code>int32 count = 3;</code>
+     * @return The count.
+     */
+    int getCount();
   }
   /**
-   * Protobuf type {@code DeleteStudentResponse}
+   * <pre>
+   * Ids of one committed batch. Concurrent writers draw ids from the same generator, so the batch's ids are not
+   * necessarily contiguous: ids between first_id and last_id may belong to other clients' students.
+   * </pre>
+   *
+   * Protobuf type {@code StudentIdRange}
    */
-  public  static final class DeleteStudentResponse extends
+  public  static final class StudentIdRange extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:DeleteStudentResponse)
-      DeleteStudentResponseOrBuilder {
+      // @@protoc_insertion_point(message_implements:StudentIdRange)
+      StudentIdRangeOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use DeleteStudentResponse.newBuilder() to construct.
-    private DeleteStudentResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use StudentIdRange.newBuilder() to construct.
+    private StudentIdRange(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private DeleteStudentResponse() {
-      message_ = "";
+    private StudentIdRange() {
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new DeleteStudentResponse();
+      return new StudentIdRange();
     }
 
     @java.lang.Override
@@ -3090,7 +11243,7 @@ public final class StudentOuterClass {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private DeleteStudentResponse(
+    private StudentIdRange(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -3108,10 +11261,19 @@ public final class StudentOuterClass {
             case 0:
               done = true;
               break;
-            case 10: {
-              java.lang.String s = input.readStringRequireUtf8();
+            case 8: {
 
-              message_ = s;
+              firstId_ = input.readInt64();
+              break;
+            }
+            case 16: {
+
+              lastId_ = input.readInt64();
+              break;
+            }
+            case 24: {
+
+              count_ = input.readInt32();
               break;
             }
             default: {
@@ -3135,51 +11297,57 @@ public final class StudentOuterClass {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_DeleteStudentResponse_descriptor;
+      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_StudentIdRange_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_DeleteStudentResponse_fieldAccessorTable
+      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_StudentIdRange_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse.class, com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse.Builder.class);
+              com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange.class, com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange.Builder.class);
     }
 
-    public static final int MESSAGE_FIELD_NUMBER = 1;
-    private volatile java.lang.Object message_;
+    public static final int FIRST_ID_FIELD_NUMBER = 1;
+    private long firstId_;
     /**
-     * <code>string message = 1;</code>
-     * @return The message.
+     * <pre>
+     * Smallest id in the batch.
+     * </pre>
+     *
+     * <code>int64 first_id = 1;</code>
+     * @return The firstId.
      */
-    public java.lang.String getMessage() {
-      java.lang.Object ref = message_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        message_ = s;
-        return s;
-      }
+    public long getFirstId() {
+      return firstId_;
     }
+
+    public static final int LAST_ID_FIELD_NUMBER = 2;
+    private long lastId_;
     /**
-     * <code>string message = 1;</code>
-     * @return The bytes for message.
+     * <pre>
+     * Largest id in the batch.
+     * </pre>
+     *
+     * <code>int64 last_id = 2;</code>
+     * @return The lastId.
      */
-    public com.google.protobuf.ByteString
-        getMessageBytes() {
-      java.lang.Object ref = message_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        message_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public long getLastId() {
+      return lastId_;
+    }
+
+    public static final int COUNT_FIELD_NUMBER = 3;
+    private int count_;
+    /**
+     * <pre>
+     * Number of students in the batch, which can be less than last_id - first_id + 1.
+     * </pre>
+     *
+     * <code>int32 count = 3;</code>
+     * @return The count.
+     */
+    public int getCount() {
+      return count_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -3196,8 +11364,14 @@ public final class StudentOuterClass {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!getMessageBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, message_);
+      if (firstId_ != 0L) {
+        output.writeInt64(1, firstId_);
+      }
+      if (lastId_ != 0L) {
+        output.writeInt64(2, lastId_);
+      }
+      if (count_ != 0) {
+        output.writeInt32(3, count_);
       }
       unknownFields.writeTo(output);
     }
@@ -3208,8 +11382,17 @@ public final class StudentOuterClass {
       if (size != -1) return size;
 
       size = 0;
-      if (!getMessageBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, message_);
+      if (firstId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, firstId_);
+      }
+      if (lastId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, lastId_);
+      }
+      if (count_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, count_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -3221,13 +11404,17 @@ public final class StudentOuterClass {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse)) {
+      if (!(obj instanceof com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange)) {
         return super.equals(obj);
       }
-      com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse other = (com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse) obj;
+      com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange other = (com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange) obj;
 
-      if (!getMessage()
-          .equals(other.getMessage())) return false;
+      if (getFirstId()
+          != other.getFirstId()) return false;
+      if (getLastId()
+          != other.getLastId()) return false;
+      if (getCount()
+          != other.getCount()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -3239,76 +11426,82 @@ public final class StudentOuterClass {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + MESSAGE_FIELD_NUMBER;
-      hash = (53 * hash) + getMessage().hashCode();
+      hash = (37 * hash) + FIRST_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getFirstId());
+      hash = (37 * hash) + LAST_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getLastId());
+      hash = (37 * hash) + COUNT_FIELD_NUMBER;
+      hash = (53 * hash) + getCount();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse parseFrom(byte[] data)
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse parseFrom(java.io.InputStream input)
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse parseDelimitedFrom(java.io.InputStream input)
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse parseDelimitedFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3321,7 +11514,7 @@ public final class StudentOuterClass {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse prototype) {
+    public static Builder newBuilder(com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -3337,26 +11530,31 @@ public final class StudentOuterClass {
       return builder;
     }
     /**
-     * Protobuf type {@code DeleteStudentResponse}
+     * <pre>
+     * Ids of one committed batch. Concurrent writers draw ids from the same generator, so the batch's ids are not
+     * necessarily contiguous: ids between first_id and last_id may belong to other clients' students.
+     * </pre>
+     *
+     * Protobuf type {@code StudentIdRange}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:DeleteStudentResponse)
-        com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponseOrBuilder {
+        // @@protoc_insertion_point(builder_implements:StudentIdRange)
+        com.a00n.grpc.stubs.StudentOuterClass.StudentIdRangeOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_DeleteStudentResponse_descriptor;
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_StudentIdRange_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_DeleteStudentResponse_fieldAccessorTable
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_StudentIdRange_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse.class, com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse.Builder.class);
+                com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange.class, com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange.Builder.class);
       }
 
-      // Construct using com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse.newBuilder()
+      // Construct using com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -3374,7 +11572,11 @@ public final class StudentOuterClass {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        message_ = "";
+        firstId_ = 0L;
+
+        lastId_ = 0L;
+
+        count_ = 0;
 
         return this;
       }
@@ -3382,17 +11584,17 @@ public final class StudentOuterClass {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_DeleteStudentResponse_descriptor;
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_StudentIdRange_descriptor;
       }
 
       @java.lang.Override
-      public com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse getDefaultInstanceForType() {
-        return com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse.getDefaultInstance();
+      public com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange getDefaultInstanceForType() {
+        return com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange.getDefaultInstance();
       }
 
       @java.lang.Override
-      public com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse build() {
-        com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse result = buildPartial();
+      public com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange build() {
+        com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -3400,9 +11602,11 @@ public final class StudentOuterClass {
       }
 
       @java.lang.Override
-      public com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse buildPartial() {
-        com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse result = new com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse(this);
-        result.message_ = message_;
+      public com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange buildPartial() {
+        com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange result = new com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange(this);
+        result.firstId_ = firstId_;
+        result.lastId_ = lastId_;
+        result.count_ = count_;
         onBuilt();
         return result;
       }
@@ -3441,19 +11645,24 @@ public final class StudentOuterClass {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse) {
-          return mergeFrom((com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse)other);
+        if (other instanceof com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange) {
+          return mergeFrom((com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse other) {
-        if (other == com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse.getDefaultInstance()) return this;
-        if (!other.getMessage().isEmpty()) {
-          message_ = other.message_;
-          onChanged();
+      public Builder mergeFrom(com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange other) {
+        if (other == com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange.getDefaultInstance()) return this;
+        if (other.getFirstId() != 0L) {
+          setFirstId(other.getFirstId());
+        }
+        if (other.getLastId() != 0L) {
+          setLastId(other.getLastId());
+        }
+        if (other.getCount() != 0) {
+          setCount(other.getCount());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -3470,11 +11679,11 @@ public final class StudentOuterClass {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse parsedMessage = null;
+        com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse) e.getUnfinishedMessage();
+          parsedMessage = (com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -3484,78 +11693,128 @@ public final class StudentOuterClass {
         return this;
       }
 
-      private java.lang.Object message_ = "";
+      private long firstId_ ;
       /**
-       * <code>string message = 1;</code>
-       * @return The message.
+       * <pre>
+       * Smallest id in the batch.
+       * </pre>
+       *
+       * <code>int64 first_id = 1;</code>
+       * @return The firstId.
        */
-      public java.lang.String getMessage() {
-        java.lang.Object ref = message_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          message_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+      public long getFirstId() {
+        return firstId_;
       }
       /**
-       * <code>string message = 1;</code>
-       * @return The bytes for message.
+       * <pre>
+       * Smallest id in the batch.
+       * </pre>
+       *
+       * <code>int64 first_id = 1;</code>
+       * @param value The firstId to set.
+       * @return This builder for chaining.
        */
-      public com.google.protobuf.ByteString
-          getMessageBytes() {
-        java.lang.Object ref = message_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          message_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public Builder setFirstId(long value) {
+        
+        firstId_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>string message = 1;</code>
-       * @param value The message to set.
+       * <pre>
+       * Smallest id in the batch.
+       * </pre>
+       *
+       * <code>int64 first_id = 1;</code>
        * @return This builder for chaining.
        */
-      public Builder setMessage(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        message_ = value;
+      public Builder clearFirstId() {
+        
+        firstId_ = 0L;
         onChanged();
         return this;
       }
+
+      private long lastId_ ;
       /**
-       * <code>string message = 1;</code>
+       * <pre>
+       * Largest id in the batch.
+       * </pre>
+       *
+       * <code>int64 last_id = 2;</code>
+       * @return The lastId.
+       */
+      public long getLastId() {
+        return lastId_;
+      }
+      /**
+       * <pre>
+       * Largest id in the batch.
+       * </pre>
+       *
+       * <code>int64 last_id = 2;</code>
+       * @param value The lastId to set.
        * @return This builder for chaining.
        */
-      public Builder clearMessage() {
+      public Builder setLastId(long value) {
         
-        message_ = getDefaultInstance().getMessage();
+        lastId_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>string message = 1;</code>
-       * @param value The bytes for message to set.
+       * <pre>
+       * Largest id in the batch.
+       * </pre>
+       *
+       * <code>int64 last_id = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder setMessageBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
+      public Builder clearLastId() {
         
-        message_ = value;
+        lastId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int count_ ;
+      /**
+       * <pre>
+       * Number of students in the batch, which can be less than last_id - first_id + 1.
+       * </pre>
+       *
+       * <code>int32 count = 3;</code>
+       * @return The count.
+       */
+      public int getCount() {
+        return count_;
+      }
+      /**
+       * <pre>
+       * Number of students in the batch, which can be less than last_id - first_id + 1.
+       * </pre>
+       *
+       * <code>int32 count = 3;</code>
+       * @param value The count to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCount(int value) {
+        
+        count_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Number of students in the batch, which can be less than last_id - first_id + 1.
+       * </pre>
+       *
+       * <code>int32 count = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCount() {
+        
+        count_ = 0;
         onChanged();
         return this;
       }
@@ -3572,102 +11831,121 @@ public final class StudentOuterClass {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:DeleteStudentResponse)
+      // @@protoc_insertion_point(builder_scope:StudentIdRange)
     }
 
-    // @@protoc_insertion_point(class_scope:DeleteStudentResponse)
-    private static final com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:StudentIdRange)
+    private static final com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse();
+      DEFAULT_INSTANCE = new com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange();
     }
 
-    public static com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse getDefaultInstance() {
+    public static com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<DeleteStudentResponse>
-        PARSER = new com.google.protobuf.AbstractParser<DeleteStudentResponse>() {
+    private static final com.google.protobuf.Parser<StudentIdRange>
+        PARSER = new com.google.protobuf.AbstractParser<StudentIdRange>() {
       @java.lang.Override
-      public DeleteStudentResponse parsePartialFrom(
+      public StudentIdRange parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new DeleteStudentResponse(input, extensionRegistry);
+        return new StudentIdRange(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<DeleteStudentResponse> parser() {
+    public static com.google.protobuf.Parser<StudentIdRange> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<DeleteStudentResponse> getParserForType() {
+    public com.google.protobuf.Parser<StudentIdRange> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse getDefaultInstanceForType() {
+    public com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface CreateStudentRequestOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:CreateStudentRequest)
+  public interface BulkCreateStudentsResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:BulkCreateStudentsResponse)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>string firstName = 1;</code>
-     * @return The firstName.
+     * <pre>
+     * One entry per committed batch, in commit order.
+     * </pre>
+     *
+     * <code>repeated .StudentIdRange batches = 1;</code>
      */
-    java.lang.String getFirstName();
+    java.util.List<com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange> 
+        getBatchesList();
     /**
-     * <code>string firstName = 1;</code>
-     * @return The bytes for firstName.
+     * <pre>
+     * One entry per committed batch, in commit order.
+     * </pre>
+     *
+     * <code>repeated .StudentIdRange batches = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getFirstNameBytes();
-
+    com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange getBatches(int index);
     /**
-     * <code>string lastName = 2;</code>
-     * @return The lastName.
+     * <pre>
+     * One entry per committed batch, in commit order.
+     * </pre>
+     *
+     * <code>repeated .StudentIdRange batches = 1;</code>
      */
-    java.lang.String getLastName();
+    int getBatchesCount();
     /**
-     * <code>string lastName = 2;</code>
-     * @return The bytes for lastName.
+     * <pre>
+     * One entry per committed batch, in commit order.
+     * </pre>
+     *
+     * <code>repeated .StudentIdRange batches = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getLastNameBytes();
+    java.util.List<? extends com.a00n.grpc.stubs.StudentOuterClass.StudentIdRangeOrBuilder> 
+        getBatchesOrBuilderList();
+    /**
+     * <pre>
+     * One entry per committed batch, in commit order.
+     * </pre>
+     *
+     * <code>repeated .StudentIdRange batches = 1;</code>
+     */
+    com.a00n.grpc.stubs.StudentOuterClass.StudentIdRangeOrBuilder getBatchesOrBuilder(
+        int index);
 
     /**
-     * <code>int64 age = 3;</code>
-     * @return The age.
+     * <code>int64 created_count = 2;</code>
+     * @return The createdCount.
      */
-    long getAge();
+    long getCreatedCount();
   }
   /**
-   * Protobuf type {@code CreateStudentRequest}
+   * Protobuf type {@code BulkCreateStudentsResponse}
    */
-  public  static final class CreateStudentRequest extends
+  public  static final class BulkCreateStudentsResponse extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:CreateStudentRequest)
-      CreateStudentRequestOrBuilder {
+      // @@protoc_insertion_point(message_implements:BulkCreateStudentsResponse)
+      BulkCreateStudentsResponseOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use CreateStudentRequest.newBuilder() to construct.
-    private CreateStudentRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use BulkCreateStudentsResponse.newBuilder() to construct.
+    private BulkCreateStudentsResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private CreateStudentRequest() {
-      firstName_ = "";
-      lastName_ = "";
+    private BulkCreateStudentsResponse() {
+      batches_ = java.util.Collections.emptyList();
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new CreateStudentRequest();
+      return new BulkCreateStudentsResponse();
     }
 
     @java.lang.Override
@@ -3675,7 +11953,7 @@ public final class StudentOuterClass {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private CreateStudentRequest(
+    private BulkCreateStudentsResponse(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -3683,6 +11961,7 @@ public final class StudentOuterClass {
       if (extensionRegistry == null) {
         throw new java.lang.NullPointerException();
       }
+      int mutable_bitField0_ = 0;
       com.google.protobuf.UnknownFieldSet.Builder unknownFields =
           com.google.protobuf.UnknownFieldSet.newBuilder();
       try {
@@ -3694,20 +11973,17 @@ public final class StudentOuterClass {
               done = true;
               break;
             case 10: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              firstName_ = s;
-              break;
-            }
-            case 18: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              lastName_ = s;
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                batches_ = new java.util.ArrayList<com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              batches_.add(
+                  input.readMessage(com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange.parser(), extensionRegistry));
               break;
             }
-            case 24: {
+            case 16: {
 
-              age_ = input.readInt64();
+              createdCount_ = input.readInt64();
               break;
             }
             default: {
@@ -3725,103 +12001,89 @@ public final class StudentOuterClass {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          batches_ = java.util.Collections.unmodifiableList(batches_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_CreateStudentRequest_descriptor;
+      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_BulkCreateStudentsResponse_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_CreateStudentRequest_fieldAccessorTable
+      return com.a00n.grpc.stubs.StudentOuterClass.internal_static_BulkCreateStudentsResponse_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest.class, com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest.Builder.class);
+              com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse.class, com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse.Builder.class);
     }
 
-    public static final int FIRSTNAME_FIELD_NUMBER = 1;
-    private volatile java.lang.Object firstName_;
+    public static final int BATCHES_FIELD_NUMBER = 1;
+    private java.util.List<com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange> batches_;
     /**
-     * <code>string firstName = 1;</code>
-     * @return The firstName.
+     * <pre>
+     * One entry per committed batch, in commit order.
+     * </pre>
+     *
+     * <code>repeated .StudentIdRange batches = 1;</code>
      */
-    public java.lang.String getFirstName() {
-      java.lang.Object ref = firstName_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        firstName_ = s;
-        return s;
-      }
+    public java.util.List<com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange> getBatchesList() {
+      return batches_;
     }
     /**
-     * <code>string firstName = 1;</code>
-     * @return The bytes for firstName.
+     * <pre>
+     * One entry per committed batch, in commit order.
+     * </pre>
+     *
+     * <code>repeated .StudentIdRange batches = 1;</code>
      */
-    public com.google.protobuf.ByteString
-        getFirstNameBytes() {
-      java.lang.Object ref = firstName_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        firstName_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public java.util.List<? extends com.a00n.grpc.stubs.StudentOuterClass.StudentIdRangeOrBuilder> 
+        getBatchesOrBuilderList() {
+      return batches_;
     }
-
-    public static final int LASTNAME_FIELD_NUMBER = 2;
-    private volatile java.lang.Object lastName_;
     /**
-     * <code>string lastName = 2;</code>
-     * @return The lastName.
+     * <pre>
+     * One entry per committed batch, in commit order.
+     * </pre>
+     *
+     * <code>repeated .StudentIdRange batches = 1;</code>
      */
-    public java.lang.String getLastName() {
-      java.lang.Object ref = lastName_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        lastName_ = s;
-        return s;
-      }
+    public int getBatchesCount() {
+      return batches_.size();
     }
     /**
-     * <code>string lastName = 2;</code>
-     * @return The bytes for lastName.
+     * <pre>
+     * One entry per committed batch, in commit order.
+     * </pre>
+     *
+     * <code>repeated .StudentIdRange batches = 1;</code>
      */
-    public com.google.protobuf.ByteString
-        getLastNameBytes() {
-      java.lang.Object ref = lastName_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        lastName_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange getBatches(int index) {
+      return batches_.get(index);
+    }
+    /**
+     * <pre>
+     * One entry per committed batch, in commit order.
+     * </pre>
+     *
+     * <code>repeated .StudentIdRange batches = 1;</code>
+     */
+    public com.a00n.grpc.stubs.StudentOuterClass.StudentIdRangeOrBuilder getBatchesOrBuilder(
+        int index) {
+      return batches_.get(index);
     }
 
-    public static final int AGE_FIELD_NUMBER = 3;
-    private long age_;
+    public static final int CREATED_COUNT_FIELD_NUMBER = 2;
+    private long createdCount_;
     /**
-     * <code>int64 age = 3;</code>
-     * @return The age.
+     * <code>int64 created_count = 2;</code>
+     * @return The createdCount.
      */
-    public long getAge() {
-      return age_;
+    public long getCreatedCount() {
+      return createdCount_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -3838,14 +12100,11 @@ public final class StudentOuterClass {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!getFirstNameBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, firstName_);
-      }
-      if (!getLastNameBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, lastName_);
+      for (int i = 0; i < batches_.size(); i++) {
+        output.writeMessage(1, batches_.get(i));
       }
-      if (age_ != 0L) {
-        output.writeInt64(3, age_);
+      if (createdCount_ != 0L) {
+        output.writeInt64(2, createdCount_);
       }
       unknownFields.writeTo(output);
     }
@@ -3856,15 +12115,13 @@ public final class StudentOuterClass {
       if (size != -1) return size;
 
       size = 0;
-      if (!getFirstNameBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, firstName_);
-      }
-      if (!getLastNameBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, lastName_);
+      for (int i = 0; i < batches_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, batches_.get(i));
       }
-      if (age_ != 0L) {
+      if (createdCount_ != 0L) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(3, age_);
+          .computeInt64Size(2, createdCount_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -3876,17 +12133,15 @@ public final class StudentOuterClass {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest)) {
+      if (!(obj instanceof com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse)) {
         return super.equals(obj);
       }
-      com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest other = (com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest) obj;
+      com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse other = (com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse) obj;
 
-      if (!getFirstName()
-          .equals(other.getFirstName())) return false;
-      if (!getLastName()
-          .equals(other.getLastName())) return false;
-      if (getAge()
-          != other.getAge()) return false;
+      if (!getBatchesList()
+          .equals(other.getBatchesList())) return false;
+      if (getCreatedCount()
+          != other.getCreatedCount()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -3898,81 +12153,81 @@ public final class StudentOuterClass {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + FIRSTNAME_FIELD_NUMBER;
-      hash = (53 * hash) + getFirstName().hashCode();
-      hash = (37 * hash) + LASTNAME_FIELD_NUMBER;
-      hash = (53 * hash) + getLastName().hashCode();
-      hash = (37 * hash) + AGE_FIELD_NUMBER;
+      if (getBatchesCount() > 0) {
+        hash = (37 * hash) + BATCHES_FIELD_NUMBER;
+        hash = (53 * hash) + getBatchesList().hashCode();
+      }
+      hash = (37 * hash) + CREATED_COUNT_FIELD_NUMBER;
       hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          getAge());
+          getCreatedCount());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest parseFrom(byte[] data)
+    public static com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest parseFrom(java.io.InputStream input)
+    public static com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest parseDelimitedFrom(java.io.InputStream input)
+    public static com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest parseDelimitedFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest parseFrom(
+    public static com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3985,7 +12240,7 @@ public final class StudentOuterClass {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest prototype) {
+    public static Builder newBuilder(com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -4001,26 +12256,26 @@ public final class StudentOuterClass {
       return builder;
     }
     /**
-     * Protobuf type {@code CreateStudentRequest}
+     * Protobuf type {@code BulkCreateStudentsResponse}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:CreateStudentRequest)
-        com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequestOrBuilder {
+        // @@protoc_insertion_point(builder_implements:BulkCreateStudentsResponse)
+        com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponseOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_CreateStudentRequest_descriptor;
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_BulkCreateStudentsResponse_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_CreateStudentRequest_fieldAccessorTable
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_BulkCreateStudentsResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest.class, com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest.Builder.class);
+                com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse.class, com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse.Builder.class);
       }
 
-      // Construct using com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest.newBuilder()
+      // Construct using com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -4033,16 +12288,19 @@ public final class StudentOuterClass {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
+          getBatchesFieldBuilder();
         }
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        firstName_ = "";
-
-        lastName_ = "";
-
-        age_ = 0L;
+        if (batchesBuilder_ == null) {
+          batches_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          batchesBuilder_.clear();
+        }
+        createdCount_ = 0L;
 
         return this;
       }
@@ -4050,17 +12308,17 @@ public final class StudentOuterClass {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_CreateStudentRequest_descriptor;
+        return com.a00n.grpc.stubs.StudentOuterClass.internal_static_BulkCreateStudentsResponse_descriptor;
       }
 
       @java.lang.Override
-      public com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest getDefaultInstanceForType() {
-        return com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest.getDefaultInstance();
+      public com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse getDefaultInstanceForType() {
+        return com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse.getDefaultInstance();
       }
 
       @java.lang.Override
-      public com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest build() {
-        com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest result = buildPartial();
+      public com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse build() {
+        com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -4068,11 +12326,19 @@ public final class StudentOuterClass {
       }
 
       @java.lang.Override
-      public com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest buildPartial() {
-        com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest result = new com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest(this);
-        result.firstName_ = firstName_;
-        result.lastName_ = lastName_;
-        result.age_ = age_;
+      public com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse buildPartial() {
+        com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse result = new com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse(this);
+        int from_bitField0_ = bitField0_;
+        if (batchesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            batches_ = java.util.Collections.unmodifiableList(batches_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.batches_ = batches_;
+        } else {
+          result.batches_ = batchesBuilder_.build();
+        }
+        result.createdCount_ = createdCount_;
         onBuilt();
         return result;
       }
@@ -4111,234 +12377,413 @@ public final class StudentOuterClass {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest) {
-          return mergeFrom((com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest)other);
+        if (other instanceof com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse) {
+          return mergeFrom((com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest other) {
-        if (other == com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest.getDefaultInstance()) return this;
-        if (!other.getFirstName().isEmpty()) {
-          firstName_ = other.firstName_;
-          onChanged();
+      public Builder mergeFrom(com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse other) {
+        if (other == com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse.getDefaultInstance()) return this;
+        if (batchesBuilder_ == null) {
+          if (!other.batches_.isEmpty()) {
+            if (batches_.isEmpty()) {
+              batches_ = other.batches_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureBatchesIsMutable();
+              batches_.addAll(other.batches_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.batches_.isEmpty()) {
+            if (batchesBuilder_.isEmpty()) {
+              batchesBuilder_.dispose();
+              batchesBuilder_ = null;
+              batches_ = other.batches_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              batchesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getBatchesFieldBuilder() : null;
+            } else {
+              batchesBuilder_.addAllMessages(other.batches_);
+            }
+          }
         }
-        if (!other.getLastName().isEmpty()) {
-          lastName_ = other.lastName_;
-          onChanged();
+        if (other.getCreatedCount() != 0L) {
+          setCreatedCount(other.getCreatedCount());
         }
-        if (other.getAge() != 0L) {
-          setAge(other.getAge());
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange> batches_ =
+        java.util.Collections.emptyList();
+      private void ensureBatchesIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          batches_ = new java.util.ArrayList<com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange>(batches_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange, com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange.Builder, com.a00n.grpc.stubs.StudentOuterClass.StudentIdRangeOrBuilder> batchesBuilder_;
+
+      /**
+       * <pre>
+       * One entry per committed batch, in commit order.
+       * </pre>
+       *
+       * <code>repeated .StudentIdRange batches = 1;</code>
+       */
+      public java.util.List<com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange> getBatchesList() {
+        if (batchesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(batches_);
+        } else {
+          return batchesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * One entry per committed batch, in commit order.
+       * </pre>
+       *
+       * <code>repeated .StudentIdRange batches = 1;</code>
+       */
+      public int getBatchesCount() {
+        if (batchesBuilder_ == null) {
+          return batches_.size();
+        } else {
+          return batchesBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * One entry per committed batch, in commit order.
+       * </pre>
+       *
+       * <code>repeated .StudentIdRange batches = 1;</code>
+       */
+      public com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange getBatches(int index) {
+        if (batchesBuilder_ == null) {
+          return batches_.get(index);
+        } else {
+          return batchesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * One entry per committed batch, in commit order.
+       * </pre>
+       *
+       * <code>repeated .StudentIdRange batches = 1;</code>
+       */
+      public Builder setBatches(
+          int index, com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange value) {
+        if (batchesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBatchesIsMutable();
+          batches_.set(index, value);
+          onChanged();
+        } else {
+          batchesBuilder_.setMessage(index, value);
         }
-        this.mergeUnknownFields(other.unknownFields);
-        onChanged();
         return this;
       }
-
-      @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
+      /**
+       * <pre>
+       * One entry per committed batch, in commit order.
+       * </pre>
+       *
+       * <code>repeated .StudentIdRange batches = 1;</code>
+       */
+      public Builder setBatches(
+          int index, com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange.Builder builderForValue) {
+        if (batchesBuilder_ == null) {
+          ensureBatchesIsMutable();
+          batches_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          batchesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
       }
-
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest) e.getUnfinishedMessage();
-          throw e.unwrapIOException();
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
+      /**
+       * <pre>
+       * One entry per committed batch, in commit order.
+       * </pre>
+       *
+       * <code>repeated .StudentIdRange batches = 1;</code>
+       */
+      public Builder addBatches(com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange value) {
+        if (batchesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
+          ensureBatchesIsMutable();
+          batches_.add(value);
+          onChanged();
+        } else {
+          batchesBuilder_.addMessage(value);
         }
         return this;
       }
-
-      private java.lang.Object firstName_ = "";
       /**
-       * <code>string firstName = 1;</code>
-       * @return The firstName.
+       * <pre>
+       * One entry per committed batch, in commit order.
+       * </pre>
+       *
+       * <code>repeated .StudentIdRange batches = 1;</code>
        */
-      public java.lang.String getFirstName() {
-        java.lang.Object ref = firstName_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          firstName_ = s;
-          return s;
+      public Builder addBatches(
+          int index, com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange value) {
+        if (batchesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBatchesIsMutable();
+          batches_.add(index, value);
+          onChanged();
         } else {
-          return (java.lang.String) ref;
+          batchesBuilder_.addMessage(index, value);
         }
+        return this;
       }
       /**
-       * <code>string firstName = 1;</code>
-       * @return The bytes for firstName.
+       * <pre>
+       * One entry per committed batch, in commit order.
+       * </pre>
+       *
+       * <code>repeated .StudentIdRange batches = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getFirstNameBytes() {
-        java.lang.Object ref = firstName_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          firstName_ = b;
-          return b;
+      public Builder addBatches(
+          com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange.Builder builderForValue) {
+        if (batchesBuilder_ == null) {
+          ensureBatchesIsMutable();
+          batches_.add(builderForValue.build());
+          onChanged();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          batchesBuilder_.addMessage(builderForValue.build());
         }
+        return this;
       }
       /**
-       * <code>string firstName = 1;</code>
-       * @param value The firstName to set.
-       * @return This builder for chaining.
+       * <pre>
+       * One entry per committed batch, in commit order.
+       * </pre>
+       *
+       * <code>repeated .StudentIdRange batches = 1;</code>
        */
-      public Builder setFirstName(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        firstName_ = value;
-        onChanged();
+      public Builder addBatches(
+          int index, com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange.Builder builderForValue) {
+        if (batchesBuilder_ == null) {
+          ensureBatchesIsMutable();
+          batches_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          batchesBuilder_.addMessage(index, builderForValue.build());
+        }
         return this;
       }
       /**
-       * <code>string firstName = 1;</code>
-       * @return This builder for chaining.
+       * <pre>
+       * One entry per committed batch, in commit order.
+       * </pre>
+       *
+       * <code>repeated .StudentIdRange batches = 1;</code>
        */
-      public Builder clearFirstName() {
-        
-        firstName_ = getDefaultInstance().getFirstName();
-        onChanged();
+      public Builder addAllBatches(
+          java.lang.Iterable<? extends com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange> values) {
+        if (batchesBuilder_ == null) {
+          ensureBatchesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, batches_);
+          onChanged();
+        } else {
+          batchesBuilder_.addAllMessages(values);
+        }
         return this;
       }
       /**
-       * <code>string firstName = 1;</code>
-       * @param value The bytes for firstName to set.
-       * @return This builder for chaining.
+       * <pre>
+       * One entry per committed batch, in commit order.
+       * </pre>
+       *
+       * <code>repeated .StudentIdRange batches = 1;</code>
        */
-      public Builder setFirstNameBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        firstName_ = value;
-        onChanged();
+      public Builder clearBatches() {
+        if (batchesBuilder_ == null) {
+          batches_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          batchesBuilder_.clear();
+        }
         return this;
       }
-
-      private java.lang.Object lastName_ = "";
       /**
-       * <code>string lastName = 2;</code>
-       * @return The lastName.
+       * <pre>
+       * One entry per committed batch, in commit order.
+       * </pre>
+       *
+       * <code>repeated .StudentIdRange batches = 1;</code>
        */
-      public java.lang.String getLastName() {
-        java.lang.Object ref = lastName_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          lastName_ = s;
-          return s;
+      public Builder removeBatches(int index) {
+        if (batchesBuilder_ == null) {
+          ensureBatchesIsMutable();
+          batches_.remove(index);
+          onChanged();
         } else {
-          return (java.lang.String) ref;
+          batchesBuilder_.remove(index);
         }
+        return this;
       }
       /**
-       * <code>string lastName = 2;</code>
-       * @return The bytes for lastName.
+       * <pre>
+       * One entry per committed batch, in commit order.
+       * </pre>
+       *
+       * <code>repeated .StudentIdRange batches = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getLastNameBytes() {
-        java.lang.Object ref = lastName_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          lastName_ = b;
-          return b;
+      public com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange.Builder getBatchesBuilder(
+          int index) {
+        return getBatchesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * One entry per committed batch, in commit order.
+       * </pre>
+       *
+       * <code>repeated .StudentIdRange batches = 1;</code>
+       */
+      public com.a00n.grpc.stubs.StudentOuterClass.StudentIdRangeOrBuilder getBatchesOrBuilder(
+          int index) {
+        if (batchesBuilder_ == null) {
+          return batches_.get(index);  } else {
+          return batchesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * One entry per committed batch, in commit order.
+       * </pre>
+       *
+       * <code>repeated .StudentIdRange batches = 1;</code>
+       */
+      public java.util.List<? extends com.a00n.grpc.stubs.StudentOuterClass.StudentIdRangeOrBuilder> 
+           getBatchesOrBuilderList() {
+        if (batchesBuilder_ != null) {
+          return batchesBuilder_.getMessageOrBuilderList();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          return java.util.Collections.unmodifiableList(batches_);
         }
       }
       /**
-       * <code>string lastName = 2;</code>
-       * @param value The lastName to set.
-       * @return This builder for chaining.
+       * <pre>
+       * One entry per committed batch, in commit order.
+       * </pre>
+       *
+       * <code>repeated .StudentIdRange batches = 1;</code>
        */
-      public Builder setLastName(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        lastName_ = value;
-        onChanged();
-        return this;
+      public com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange.Builder addBatchesBuilder() {
+        return getBatchesFieldBuilder().addBuilder(
+            com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange.getDefaultInstance());
       }
       /**
-       * <code>string lastName = 2;</code>
-       * @return This builder for chaining.
+       * <pre>
+       * One entry per committed batch, in commit order.
+       * </pre>
+       *
+       * <code>repeated .StudentIdRange batches = 1;</code>
        */
-      public Builder clearLastName() {
-        
-        lastName_ = getDefaultInstance().getLastName();
-        onChanged();
-        return this;
+      public com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange.Builder addBatchesBuilder(
+          int index) {
+        return getBatchesFieldBuilder().addBuilder(
+            index, com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange.getDefaultInstance());
       }
       /**
-       * <code>string lastName = 2;</code>
-       * @param value The bytes for lastName to set.
-       * @return This builder for chaining.
+       * <pre>
+       * One entry per committed batch, in commit order.
+       * </pre>
+       *
+       * <code>repeated .StudentIdRange batches = 1;</code>
        */
-      public Builder setLastNameBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        lastName_ = value;
-        onChanged();
-        return this;
+      public java.util.List<com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange.Builder> 
+           getBatchesBuilderList() {
+        return getBatchesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange, com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange.Builder, com.a00n.grpc.stubs.StudentOuterClass.StudentIdRangeOrBuilder> 
+          getBatchesFieldBuilder() {
+        if (batchesBuilder_ == null) {
+          batchesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange, com.a00n.grpc.stubs.StudentOuterClass.StudentIdRange.Builder, com.a00n.grpc.stubs.StudentOuterClass.StudentIdRangeOrBuilder>(
+                  batches_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          batches_ = null;
+        }
+        return batchesBuilder_;
       }
 
-      private long age_ ;
+      private long createdCount_ ;
       /**
-       * <code>int64 age = 3;</code>
-       * @return The age.
+       * <code>int64 created_count = 2;</code>
+       * @return The createdCount.
        */
-      public long getAge() {
-        return age_;
+      public long getCreatedCount() {
+        return createdCount_;
       }
       /**
-       * <code>int64 age = 3;</code>
-       * @param value The age to set.
+       * <code>int64 created_count = 2;</code>
+       * @param value The createdCount to set.
        * @return This builder for chaining.
        */
-      public Builder setAge(long value) {
+      public Builder setCreatedCount(long value) {
         
-        age_ = value;
+        createdCount_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>int64 age = 3;</code>
+       * <code>int64 created_count = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder clearAge() {
+      public Builder clearCreatedCount() {
         
-        age_ = 0L;
+        createdCount_ = 0L;
         onChanged();
         return this;
       }
@@ -4355,41 +12800,41 @@ public final class StudentOuterClass {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:CreateStudentRequest)
+      // @@protoc_insertion_point(builder_scope:BulkCreateStudentsResponse)
     }
 
-    // @@protoc_insertion_point(class_scope:CreateStudentRequest)
-    private static final com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:BulkCreateStudentsResponse)
+    private static final com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest();
+      DEFAULT_INSTANCE = new com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse();
     }
 
-    public static com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest getDefaultInstance() {
+    public static com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<CreateStudentRequest>
-        PARSER = new com.google.protobuf.AbstractParser<CreateStudentRequest>() {
+    private static final com.google.protobuf.Parser<BulkCreateStudentsResponse>
+        PARSER = new com.google.protobuf.AbstractParser<BulkCreateStudentsResponse>() {
       @java.lang.Override
-      public CreateStudentRequest parsePartialFrom(
+      public BulkCreateStudentsResponse parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new CreateStudentRequest(input, extensionRegistry);
+        return new BulkCreateStudentsResponse(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<CreateStudentRequest> parser() {
+    public static com.google.protobuf.Parser<BulkCreateStudentsResponse> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<CreateStudentRequest> getParserForType() {
+    public com.google.protobuf.Parser<BulkCreateStudentsResponse> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest getDefaultInstanceForType() {
+    public com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -4405,16 +12850,56 @@ public final class StudentOuterClass {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_Empty_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ListStudentsRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ListStudentsRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StudentFilter_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_StudentFilter_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StudentSort_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_StudentSort_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_ListStudentsResponse_descriptor;
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_ListStudentsResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ListStudentsStreamRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ListStudentsStreamRequest_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_GetStudentRequest_descriptor;
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_GetStudentRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_BatchGetStudentsRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_BatchGetStudentsRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_BatchGetStudentsResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_BatchGetStudentsResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SearchStudentsRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_SearchStudentsRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SearchStudentsResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_SearchStudentsResponse_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_DeleteStudentRequest_descriptor;
   private static final 
@@ -4430,6 +12915,16 @@ public final class StudentOuterClass {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_CreateStudentRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StudentIdRange_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_StudentIdRange_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_BulkCreateStudentsResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_BulkCreateStudentsResponse_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -4441,21 +12936,48 @@ public final class StudentOuterClass {
     java.lang.String[] descriptorData = {
       "\n\rstudent.proto\"G\n\007Student\022\n\n\002id\030\001 \001(\003\022\021" +
       "\n\tfirstName\030\002 \001(\t\022\020\n\010lastName\030\003 \001(\t\022\013\n\003a" +
-      "ge\030\004 \001(\003\"\007\n\005Empty\"2\n\024ListStudentsRespons" +
-      "e\022\032\n\010students\030\001 \003(\0132\010.Student\"\037\n\021GetStud" +
-      "entRequest\022\n\n\002id\030\001 \001(\003\"\"\n\024DeleteStudentR" +
-      "equest\022\n\n\002id\030\001 \001(\003\"(\n\025DeleteStudentRespo" +
-      "nse\022\017\n\007message\030\001 \001(\t\"H\n\024CreateStudentReq" +
-      "uest\022\021\n\tfirstName\030\001 \001(\t\022\020\n\010lastName\030\002 \001(" +
-      "\t\022\013\n\003age\030\003 \001(\0032\254\002\n\016StudentService\022-\n\014Lis" +
-      "tStudents\022\006.Empty\032\025.ListStudentsResponse" +
-      "\022*\n\nGetStudent\022\022.GetStudentRequest\032\010.Stu" +
-      "dent\022(\n\022ListStudentsStream\022\006.Empty\032\010.Stu" +
-      "dent0\001\0220\n\rCreateStudent\022\025.CreateStudentR" +
-      "equest\032\010.Student\022#\n\rUpdateStudent\022\010.Stud" +
-      "ent\032\010.Student\022>\n\rDeleteStudent\022\025.DeleteS" +
-      "tudentRequest\032\026.DeleteStudentResponseB\025\n" +
-      "\023com.a00n.grpc.stubsb\006proto3"
+      "ge\030\004 \001(\003\"\007\n\005Empty\"x\n\023ListStudentsRequest" +
+      "\022\021\n\tpage_size\030\001 \001(\005\022\022\n\npage_token\030\002 \001(\t\022" +
+      "\036\n\006filter\030\003 \001(\0132\016.StudentFilter\022\032\n\004sort\030" +
+      "\004 \001(\0132\014.StudentSort\"f\n\rStudentFilter\022\017\n\007" +
+      "min_age\030\001 \001(\003\022\017\n\007max_age\030\002 \001(\003\022\031\n\021first_" +
+      "name_prefix\030\003 \001(\t\022\030\n\020last_name_prefix\030\004 " +
+      "\001(\t\"}\n\013StudentSort\022!\n\005field\030\001 \001(\0162\022.Stud" +
+      "entSort.Field\022\022\n\ndescending\030\002 \001(\010\"7\n\005Fie" +
+      "ld\022\006\n\002ID\020\000\022\r\n\tLAST_NAME\020\001\022\016\n\nFIRST_NAME\020" +
+      "\002\022\007\n\003AGE\020\003\"K\n\024ListStudentsResponse\022\032\n\010st" +
+      "udents\030\001 \003(\0132\010.Student\022\027\n\017next_page_toke" +
+      "n\030\002 \001(\t\"C\n\031ListStudentsStreamRequest\022\027\n\017" +
+      "interval_millis\030\001 \001(\003\022\r\n\005burst\030\002 \001(\005\"\037\n\021" +
+      "GetStudentRequest\022\n\n\002id\030\001 \001(\003\"&\n\027BatchGe" +
+      "tStudentsRequest\022\013\n\003ids\030\001 \003(\003\"K\n\030BatchGe" +
+      "tStudentsResponse\022\032\n\010students\030\001 \003(\0132\010.St" +
+      "udent\022\023\n\013missing_ids\030\002 \003(\003\"5\n\025SearchStud" +
+      "entsRequest\022\r\n\005query\030\001 \001(\t\022\r\n\005limit\030\002 \001(" +
+      "\005\"4\n\026SearchStudentsResponse\022\032\n\010students\030" +
+      "\001 \003(\0132\010.Student\"\"\n\024DeleteStudentRequest\022" +
+      "\n\n\002id\030\001 \001(\003\"(\n\025DeleteStudentResponse\022\017\n\007" +
+      "message\030\001 \001(\t\"H\n\024CreateStudentRequest\022\021\n" +
+      "\tfirstName\030\001 \001(\t\022\020\n\010lastName\030\002 \001(\t\022\013\n\003ag" +
+      "e\030\003 \001(\003\"B\n\016StudentIdRange\022\020\n\010first_id\030\001 " +
+      "\001(\003\022\017\n\007last_id\030\002 \001(\003\022\r\n\005count\030\003 \001(\005\"U\n\032B" +
+      "ulkCreateStudentsResponse\022 \n\007batches\030\001 \003" +
+      "(\0132\017.StudentIdRange\022\025\n\rcreated_count\030\002 \001" +
+      "(\0032\246\004\n\016StudentService\022;\n\014ListStudents\022\024." +
+      "ListStudentsRequest\032\025.ListStudentsRespon" +
+      "se\022*\n\nGetStudent\022\022.GetStudentRequest\032\010.S" +
+      "tudent\022G\n\020BatchGetStudents\022\030.BatchGetStu" +
+      "dentsRequest\032\031.BatchGetStudentsResponse\022" +
+      "<\n\022ListStudentsStream\022\032.ListStudentsStre" +
+      "amRequest\032\010.Student0\001\0220\n\rCreateStudent\022\025" +
+      ".CreateStudentRequest\032\010.Student\022J\n\022BulkC" +
+      "reateStudents\022\025.CreateStudentRequest\032\033.B" +
+      "ulkCreateStudentsResponse(\001\022#\n\rUpdateStu" +
+      "dent\022\010.Student\032\010.Student\022>\n\rDeleteStuden" +
+      "t\022\025.DeleteStudentRequest\032\026.DeleteStudent" +
+      "Response\022A\n\016SearchStudents\022\026.SearchStude" +
+      "ntsRequest\032\027.SearchStudentsResponseB\025\n\023c" +
+      "om.a00n.grpc.stubsb\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -4473,36 +12995,96 @@ public final class StudentOuterClass {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_Empty_descriptor,
         new java.lang.String[] { });
-    internal_static_ListStudentsResponse_descriptor =
+    internal_static_ListStudentsRequest_descriptor =
       getDescriptor().getMessageTypes().get(2);
+    internal_static_ListStudentsRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ListStudentsRequest_descriptor,
+        new java.lang.String[] { "PageSize", "PageToken", "Filter", "Sort", });
+    internal_static_StudentFilter_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_StudentFilter_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_StudentFilter_descriptor,
+        new java.lang.String[] { "MinAge", "MaxAge", "FirstNamePrefix", "LastNamePrefix", });
+    internal_static_StudentSort_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_StudentSort_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_StudentSort_descriptor,
+        new java.lang.String[] { "Field", "Descending", });
+    internal_static_ListStudentsResponse_descriptor =
+      getDescriptor().getMessageTypes().get(5);
     internal_static_ListStudentsResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_ListStudentsResponse_descriptor,
-        new java.lang.String[] { "Students", });
+        new java.lang.String[] { "Students", "NextPageToken", });
+    internal_static_ListStudentsStreamRequest_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_ListStudentsStreamRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ListStudentsStreamRequest_descriptor,
+        new java.lang.String[] { "IntervalMillis", "Burst", });
     internal_static_GetStudentRequest_descriptor =
-      getDescriptor().getMessageTypes().get(3);
+      getDescriptor().getMessageTypes().get(7);
     internal_static_GetStudentRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_GetStudentRequest_descriptor,
         new java.lang.String[] { "Id", });
+    internal_static_BatchGetStudentsRequest_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_BatchGetStudentsRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_BatchGetStudentsRequest_descriptor,
+        new java.lang.String[] { "Ids", });
+    internal_static_BatchGetStudentsResponse_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_BatchGetStudentsResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_BatchGetStudentsResponse_descriptor,
+        new java.lang.String[] { "Students", "MissingIds", });
+    internal_static_SearchStudentsRequest_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_SearchStudentsRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_SearchStudentsRequest_descriptor,
+        new java.lang.String[] { "Query", "Limit", });
+    internal_static_SearchStudentsResponse_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_SearchStudentsResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_SearchStudentsResponse_descriptor,
+        new java.lang.String[] { "Students", });
     internal_static_DeleteStudentRequest_descriptor =
-      getDescriptor().getMessageTypes().get(4);
+      getDescriptor().getMessageTypes().get(12);
     internal_static_DeleteStudentRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_DeleteStudentRequest_descriptor,
         new java.lang.String[] { "Id", });
     internal_static_DeleteStudentResponse_descriptor =
-      getDescriptor().getMessageTypes().get(5);
+      getDescriptor().getMessageTypes().get(13);
     internal_static_DeleteStudentResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_DeleteStudentResponse_descriptor,
         new java.lang.String[] { "Message", });
     internal_static_CreateStudentRequest_descriptor =
-      getDescriptor().getMessageTypes().get(6);
+      getDescriptor().getMessageTypes().get(14);
     internal_static_CreateStudentRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_CreateStudentRequest_descriptor,
         new java.lang.String[] { "FirstName", "LastName", "Age", });
+    internal_static_StudentIdRange_descriptor =
+      getDescriptor().getMessageTypes().get(15);
+    internal_static_StudentIdRange_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_StudentIdRange_descriptor,
+        new java.lang.String[] { "FirstId", "LastId", "Count", });
+    internal_static_BulkCreateStudentsResponse_descriptor =
+      getDescriptor().getMessageTypes().get(16);
+    internal_static_BulkCreateStudentsResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_BulkCreateStudentsResponse_descriptor,
+        new java.lang.String[] { "Batches", "CreatedCount", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -27,28 +27,28 @@ public final class StudentServiceGrpc {
   public static final String SERVICE_NAME = "StudentService";
 
   // Static method descriptors that strictly reflect the proto.
-  private static volatile io.grpc.MethodDescriptor<com.a00n.grpc.stubs.StudentOuterClass.Empty,
+  private static volatile io.grpc.MethodDescriptor<com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest,
       com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse> getListStudentsMethod;
 
   @io.grpc.stub.annotations.RpcMethod(
       fullMethodName = SERVICE_NAME + '/' + "ListStudents",
-      requestType = com.a00n.grpc.stubs.StudentOuterClass.Empty.class,
+      requestType = com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest.class,
       responseType = com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse.class,
       methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
-  public static io.grpc.MethodDescriptor<com.a00n.grpc.stubs.StudentOuterClass.Empty,
+  public static io.grpc.MethodDescriptor<com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest,
       com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse> getListStudentsMethod() {
-    io.grpc.MethodDescriptor<com.a00n.grpc.stubs.StudentOuterClass.Empty, com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse> getListStudentsMethod;
+    io.grpc.MethodDescriptor<com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest, com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse> getListStudentsMethod;
     if ((getListStudentsMethod = StudentServiceGrpc.getListStudentsMethod) == null) {
       synchronized (StudentServiceGrpc.class) {
         if ((getListStudentsMethod = StudentServiceGrpc.getListStudentsMethod) == null) {
           StudentServiceGrpc.getListStudentsMethod = getListStudentsMethod = 
-              io.grpc.MethodDescriptor.<com.a00n.grpc.stubs.StudentOuterClass.Empty, com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse>newBuilder()
+              io.grpc.MethodDescriptor.<com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest, com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse>newBuilder()
               .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
               .setFullMethodName(generateFullMethodName(
                   "StudentService", "ListStudents"))
               .setSampledToLocalTracing(true)
               .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
-                  com.a00n.grpc.stubs.StudentOuterClass.Empty.getDefaultInstance()))
+                  com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest.getDefaultInstance()))
               .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
                   com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse.getDefaultInstance()))
                   .setSchemaDescriptor(new StudentServiceMethodDescriptorSupplier("ListStudents"))
@@ -91,28 +91,60 @@ public final class StudentServiceGrpc {
      return getGetStudentMethod;
   }
 
-  private static volatile io.grpc.MethodDescriptor<com.a00n.grpc.stubs.StudentOuterClass.Empty,
+  private static volatile io.grpc.MethodDescriptor<com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest,
+      com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse> getBatchGetStudentsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "BatchGetStudents",
+      requestType = com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest.class,
+      responseType = com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest,
+      com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse> getBatchGetStudentsMethod() {
+    io.grpc.MethodDescriptor<com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest, com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse> getBatchGetStudentsMethod;
+    if ((getBatchGetStudentsMethod = StudentServiceGrpc.getBatchGetStudentsMethod) == null) {
+      synchronized (StudentServiceGrpc.class) {
+        if ((getBatchGetStudentsMethod = StudentServiceGrpc.getBatchGetStudentsMethod) == null) {
+          StudentServiceGrpc.getBatchGetStudentsMethod = getBatchGetStudentsMethod = 
+              io.grpc.MethodDescriptor.<com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest, com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(
+                  "StudentService", "BatchGetStudents"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse.getDefaultInstance()))
+                  .setSchemaDescriptor(new StudentServiceMethodDescriptorSupplier("BatchGetStudents"))
+                  .build();
+          }
+        }
+     }
+     return getBatchGetStudentsMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest,
       com.a00n.grpc.stubs.StudentOuterClass.Student> getListStudentsStreamMethod;
 
   @io.grpc.stub.annotations.RpcMethod(
       fullMethodName = SERVICE_NAME + '/' + "ListStudentsStream",
-      requestType = com.a00n.grpc.stubs.StudentOuterClass.Empty.class,
+      requestType = com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest.class,
       responseType = com.a00n.grpc.stubs.StudentOuterClass.Student.class,
       methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
-  public static io.grpc.MethodDescriptor<com.a00n.grpc.stubs.StudentOuterClass.Empty,
+  public static io.grpc.MethodDescriptor<com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest,
       com.a00n.grpc.stubs.StudentOuterClass.Student> getListStudentsStreamMethod() {
-    io.grpc.MethodDescriptor<com.a00n.grpc.stubs.StudentOuterClass.Empty, com.a00n.grpc.stubs.StudentOuterClass.Student> getListStudentsStreamMethod;
+    io.grpc.MethodDescriptor<com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest, com.a00n.grpc.stubs.StudentOuterClass.Student> getListStudentsStreamMethod;
     if ((getListStudentsStreamMethod = StudentServiceGrpc.getListStudentsStreamMethod) == null) {
       synchronized (StudentServiceGrpc.class) {
         if ((getListStudentsStreamMethod = StudentServiceGrpc.getListStudentsStreamMethod) == null) {
           StudentServiceGrpc.getListStudentsStreamMethod = getListStudentsStreamMethod = 
-              io.grpc.MethodDescriptor.<com.a00n.grpc.stubs.StudentOuterClass.Empty, com.a00n.grpc.stubs.StudentOuterClass.Student>newBuilder()
+              io.grpc.MethodDescriptor.<com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest, com.a00n.grpc.stubs.StudentOuterClass.Student>newBuilder()
               .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
               .setFullMethodName(generateFullMethodName(
                   "StudentService", "ListStudentsStream"))
               .setSampledToLocalTracing(true)
               .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
-                  com.a00n.grpc.stubs.StudentOuterClass.Empty.getDefaultInstance()))
+                  com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest.getDefaultInstance()))
               .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
                   com.a00n.grpc.stubs.StudentOuterClass.Student.getDefaultInstance()))
                   .setSchemaDescriptor(new StudentServiceMethodDescriptorSupplier("ListStudentsStream"))
@@ -155,6 +187,38 @@ public final class StudentServiceGrpc {
      return getCreateStudentMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest,
+      com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse> getBulkCreateStudentsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "BulkCreateStudents",
+      requestType = com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest.class,
+      responseType = com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING)
+  public static io.grpc.MethodDescriptor<com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest,
+      com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse> getBulkCreateStudentsMethod() {
+    io.grpc.MethodDescriptor<com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest, com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse> getBulkCreateStudentsMethod;
+    if ((getBulkCreateStudentsMethod = StudentServiceGrpc.getBulkCreateStudentsMethod) == null) {
+      synchronized (StudentServiceGrpc.class) {
+        if ((getBulkCreateStudentsMethod = StudentServiceGrpc.getBulkCreateStudentsMethod) == null) {
+          StudentServiceGrpc.getBulkCreateStudentsMethod = getBulkCreateStudentsMethod = 
+              io.grpc.MethodDescriptor.<com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest, com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING)
+              .setFullMethodName(generateFullMethodName(
+                  "StudentService", "BulkCreateStudents"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse.getDefaultInstance()))
+                  .setSchemaDescriptor(new StudentServiceMethodDescriptorSupplier("BulkCreateStudents"))
+                  .build();
+          }
+        }
+     }
+     return getBulkCreateStudentsMethod;
+  }
+
   private static volatile io.grpc.MethodDescriptor<com.a00n.grpc.stubs.StudentOuterClass.Student,
       com.a00n.grpc.stubs.StudentOuterClass.Student> getUpdateStudentMethod;
 
@@ -219,6 +283,38 @@ public final class StudentServiceGrpc {
      return getDeleteStudentMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest,
+      com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse> getSearchStudentsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "SearchStudents",
+      requestType = com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest.class,
+      responseType = com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest,
+      com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse> getSearchStudentsMethod() {
+    io.grpc.MethodDescriptor<com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest, com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse> getSearchStudentsMethod;
+    if ((getSearchStudentsMethod = StudentServiceGrpc.getSearchStudentsMethod) == null) {
+      synchronized (StudentServiceGrpc.class) {
+        if ((getSearchStudentsMethod = StudentServiceGrpc.getSearchStudentsMethod) == null) {
+          StudentServiceGrpc.getSearchStudentsMethod = getSearchStudentsMethod = 
+              io.grpc.MethodDescriptor.<com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest, com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(
+                  "StudentService", "SearchStudents"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse.getDefaultInstance()))
+                  .setSchemaDescriptor(new StudentServiceMethodDescriptorSupplier("SearchStudents"))
+                  .build();
+          }
+        }
+     }
+     return getSearchStudentsMethod;
+  }
+
   /**
    * Creates a new async stub that supports all call types for the service
    */
@@ -248,7 +344,7 @@ public final class StudentServiceGrpc {
 
     /**
      */
-    public void listStudents(com.a00n.grpc.stubs.StudentOuterClass.Empty request,
+    public void listStudents(com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest request,
         io.grpc.stub.StreamObserver<com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse> responseObserver) {
       asyncUnimplementedUnaryCall(getListStudentsMethod(), responseObserver);
     }
@@ -262,7 +358,14 @@ public final class StudentServiceGrpc {
 
     /**
      */
-    public void listStudentsStream(com.a00n.grpc.stubs.StudentOuterClass.Empty request,
+    public void batchGetStudents(com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest request,
+        io.grpc.stub.StreamObserver<com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(getBatchGetStudentsMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void listStudentsStream(com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest request,
         io.grpc.stub.StreamObserver<com.a00n.grpc.stubs.StudentOuterClass.Student> responseObserver) {
       asyncUnimplementedUnaryCall(getListStudentsStreamMethod(), responseObserver);
     }
@@ -274,6 +377,13 @@ public final class StudentServiceGrpc {
       asyncUnimplementedUnaryCall(getCreateStudentMethod(), responseObserver);
     }
 
+    /**
+     */
+    public io.grpc.stub.StreamObserver<com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest> bulkCreateStudents(
+        io.grpc.stub.StreamObserver<com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse> responseObserver) {
+      return asyncUnimplementedStreamingCall(getBulkCreateStudentsMethod(), responseObserver);
+    }
+
     /**
      */
     public void updateStudent(com.a00n.grpc.stubs.StudentOuterClass.Student request,
@@ -288,13 +398,20 @@ public final class StudentServiceGrpc {
       asyncUnimplementedUnaryCall(getDeleteStudentMethod(), responseObserver);
     }
 
+    /**
+     */
+    public void searchStudents(com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest request,
+        io.grpc.stub.StreamObserver<com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(getSearchStudentsMethod(), responseObserver);
+    }
+
     @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
       return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
           .addMethod(
             getListStudentsMethod(),
             asyncUnaryCall(
               new MethodHandlers<
-                com.a00n.grpc.stubs.StudentOuterClass.Empty,
+                com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest,
                 com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse>(
                   this, METHODID_LIST_STUDENTS)))
           .addMethod(
@@ -304,11 +421,18 @@ public final class StudentServiceGrpc {
                 com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest,
                 com.a00n.grpc.stubs.StudentOuterClass.Student>(
                   this, METHODID_GET_STUDENT)))
+          .addMethod(
+            getBatchGetStudentsMethod(),
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest,
+                com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse>(
+                  this, METHODID_BATCH_GET_STUDENTS)))
           .addMethod(
             getListStudentsStreamMethod(),
             asyncServerStreamingCall(
               new MethodHandlers<
-                com.a00n.grpc.stubs.StudentOuterClass.Empty,
+                com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest,
                 com.a00n.grpc.stubs.StudentOuterClass.Student>(
                   this, METHODID_LIST_STUDENTS_STREAM)))
           .addMethod(
@@ -318,6 +442,13 @@ public final class StudentServiceGrpc {
                 com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest,
                 com.a00n.grpc.stubs.StudentOuterClass.Student>(
                   this, METHODID_CREATE_STUDENT)))
+          .addMethod(
+            getBulkCreateStudentsMethod(),
+            asyncClientStreamingCall(
+              new MethodHandlers<
+                com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest,
+                com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse>(
+                  this, METHODID_BULK_CREATE_STUDENTS)))
           .addMethod(
             getUpdateStudentMethod(),
             asyncUnaryCall(
@@ -332,6 +463,13 @@ public final class StudentServiceGrpc {
                 com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest,
                 com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse>(
                   this, METHODID_DELETE_STUDENT)))
+          .addMethod(
+            getSearchStudentsMethod(),
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest,
+                com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse>(
+                  this, METHODID_SEARCH_STUDENTS)))
           .build();
     }
   }
@@ -356,7 +494,7 @@ public final class StudentServiceGrpc {
 
     /**
      */
-    public void listStudents(com.a00n.grpc.stubs.StudentOuterClass.Empty request,
+    public void listStudents(com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest request,
         io.grpc.stub.StreamObserver<com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse> responseObserver) {
       asyncUnaryCall(
           getChannel().newCall(getListStudentsMethod(), getCallOptions()), request, responseObserver);
@@ -372,7 +510,15 @@ public final class StudentServiceGrpc {
 
     /**
      */
-    public void listStudentsStream(com.a00n.grpc.stubs.StudentOuterClass.Empty request,
+    public void batchGetStudents(com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest request,
+        io.grpc.stub.StreamObserver<com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(getBatchGetStudentsMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void listStudentsStream(com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest request,
         io.grpc.stub.StreamObserver<com.a00n.grpc.stubs.StudentOuterClass.Student> responseObserver) {
       asyncServerStreamingCall(
           getChannel().newCall(getListStudentsStreamMethod(), getCallOptions()), request, responseObserver);
@@ -386,6 +532,14 @@ public final class StudentServiceGrpc {
           getChannel().newCall(getCreateStudentMethod(), getCallOptions()), request, responseObserver);
     }
 
+    /**
+     */
+    public io.grpc.stub.StreamObserver<com.a00n.grpc.stubs.StudentOuterClass.CreateStudentRequest> bulkCreateStudents(
+        io.grpc.stub.StreamObserver<com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse> responseObserver) {
+      return asyncClientStreamingCall(
+          getChannel().newCall(getBulkCreateStudentsMethod(), getCallOptions()), responseObserver);
+    }
+
     /**
      */
     public void updateStudent(com.a00n.grpc.stubs.StudentOuterClass.Student request,
@@ -401,6 +555,14 @@ public final class StudentServiceGrpc {
       asyncUnaryCall(
           getChannel().newCall(getDeleteStudentMethod(), getCallOptions()), request, responseObserver);
     }
+
+    /**
+     */
+    public void searchStudents(com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest request,
+        io.grpc.stub.StreamObserver<com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(getSearchStudentsMethod(), getCallOptions()), request, responseObserver);
+    }
   }
 
   /**
@@ -423,7 +585,7 @@ public final class StudentServiceGrpc {
 
     /**
      */
-    public com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse listStudents(com.a00n.grpc.stubs.StudentOuterClass.Empty request) {
+    public com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse listStudents(com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest request) {
       return blockingUnaryCall(
           getChannel(), getListStudentsMethod(), getCallOptions(), request);
     }
@@ -435,10 +597,17 @@ public final class StudentServiceGrpc {
           getChannel(), getGetStudentMethod(), getCallOptions(), request);
     }
 
+    /**
+     */
+    public com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse batchGetStudents(com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest request) {
+      return blockingUnaryCall(
+          getChannel(), getBatchGetStudentsMethod(), getCallOptions(), request);
+    }
+
     /**
      */
     public java.util.Iterator<com.a00n.grpc.stubs.StudentOuterClass.Student> listStudentsStream(
-        com.a00n.grpc.stubs.StudentOuterClass.Empty request) {
+        com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest request) {
       return blockingServerStreamingCall(
           getChannel(), getListStudentsStreamMethod(), getCallOptions(), request);
     }
@@ -463,6 +632,13 @@ public final class StudentServiceGrpc {
       return blockingUnaryCall(
           getChannel(), getDeleteStudentMethod(), getCallOptions(), request);
     }
+
+    /**
+     */
+    public com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse searchStudents(com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest request) {
+      return blockingUnaryCall(
+          getChannel(), getSearchStudentsMethod(), getCallOptions(), request);
+    }
   }
 
   /**
@@ -486,7 +662,7 @@ public final class StudentServiceGrpc {
     /**
      */
     public com.google.common.util.concurrent.ListenableFuture<com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse> listStudents(
-        com.a00n.grpc.stubs.StudentOuterClass.Empty request) {
+        com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest request) {
       return futureUnaryCall(
           getChannel().newCall(getListStudentsMethod(), getCallOptions()), request);
     }
@@ -499,6 +675,14 @@ public final class StudentServiceGrpc {
           getChannel().newCall(getGetStudentMethod(), getCallOptions()), request);
     }
 
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse> batchGetStudents(
+        com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(getBatchGetStudentsMethod(), getCallOptions()), request);
+    }
+
     /**
      */
     public com.google.common.util.concurrent.ListenableFuture<com.a00n.grpc.stubs.StudentOuterClass.Student> createStudent(
@@ -522,14 +706,25 @@ public final class StudentServiceGrpc {
       return futureUnaryCall(
           getChannel().newCall(getDeleteStudentMethod(), getCallOptions()), request);
     }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse> searchStudents(
+        com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(getSearchStudentsMethod(), getCallOptions()), request);
+    }
   }
 
   private static final int METHODID_LIST_STUDENTS = 0;
   private static final int METHODID_GET_STUDENT = 1;
-  private static final int METHODID_LIST_STUDENTS_STREAM = 2;
-  private static final int METHODID_CREATE_STUDENT = 3;
-  private static final int METHODID_UPDATE_STUDENT = 4;
-  private static final int METHODID_DELETE_STUDENT = 5;
+  private static final int METHODID_BATCH_GET_STUDENTS = 2;
+  private static final int METHODID_LIST_STUDENTS_STREAM = 3;
+  private static final int METHODID_CREATE_STUDENT = 4;
+  private static final int METHODID_UPDATE_STUDENT = 5;
+  private static final int METHODID_DELETE_STUDENT = 6;
+  private static final int METHODID_SEARCH_STUDENTS = 7;
+  private static final int METHODID_BULK_CREATE_STUDENTS = 8;
 
   private static final class MethodHandlers<Req, Resp> implements
       io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
@@ -549,15 +744,19 @@ public final class StudentServiceGrpc {
     public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
       switch (methodId) {
         case METHODID_LIST_STUDENTS:
-          serviceImpl.listStudents((com.a00n.grpc.stubs.StudentOuterClass.Empty) request,
+          serviceImpl.listStudents((com.a00n.grpc.stubs.StudentOuterClass.ListStudentsRequest) request,
               (io.grpc.stub.StreamObserver<com.a00n.grpc.stubs.StudentOuterClass.ListStudentsResponse>) responseObserver);
           break;
         case METHODID_GET_STUDENT:
           serviceImpl.getStudent((com.a00n.grpc.stubs.StudentOuterClass.GetStudentRequest) request,
               (io.grpc.stub.StreamObserver<com.a00n.grpc.stubs.StudentOuterClass.Student>) responseObserver);
           break;
+        case METHODID_BATCH_GET_STUDENTS:
+          serviceImpl.batchGetStudents((com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsRequest) request,
+              (io.grpc.stub.StreamObserver<com.a00n.grpc.stubs.StudentOuterClass.BatchGetStudentsResponse>) responseObserver);
+          break;
         case METHODID_LIST_STUDENTS_STREAM:
-          serviceImpl.listStudentsStream((com.a00n.grpc.stubs.StudentOuterClass.Empty) request,
+          serviceImpl.listStudentsStream((com.a00n.grpc.stubs.StudentOuterClass.ListStudentsStreamRequest) request,
               (io.grpc.stub.StreamObserver<com.a00n.grpc.stubs.StudentOuterClass.Student>) responseObserver);
           break;
         case METHODID_CREATE_STUDENT:
@@ -572,6 +771,10 @@ public final class StudentServiceGrpc {
           serviceImpl.deleteStudent((com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentRequest) request,
               (io.grpc.stub.StreamObserver<com.a00n.grpc.stubs.StudentOuterClass.DeleteStudentResponse>) responseObserver);
           break;
+        case METHODID_SEARCH_STUDENTS:
+          serviceImpl.searchStudents((com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsRequest) request,
+              (io.grpc.stub.StreamObserver<com.a00n.grpc.stubs.StudentOuterClass.SearchStudentsResponse>) responseObserver);
+          break;
         default:
           throw new AssertionError();
       }
@@ -582,6 +785,9 @@ public final class StudentServiceGrpc {
     public io.grpc.stub.StreamObserver<Req> invoke(
         io.grpc.stub.StreamObserver<Resp> responseObserver) {
       switch (methodId) {
+        case METHODID_BULK_CREATE_STUDENTS:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.bulkCreateStudents(
+              (io.grpc.stub.StreamObserver<com.a00n.grpc.stubs.StudentOuterClass.BulkCreateStudentsResponse>) responseObserver);
         default:
           throw new AssertionError();
       }
@@ -635,10 +841,13 @@ public final class StudentServiceGrpc {
               .setSchemaDescriptor(new StudentServiceFileDescriptorSupplier())
               .addMethod(getListStudentsMethod())
               .addMethod(getGetStudentMethod())
+              .addMethod(getBatchGetStudentsMethod())
               .addMethod(getListStudentsStreamMethod())
               .addMethod(getCreateStudentMethod())
+              .addMethod(getBulkCreateStudentsMethod())
               .addMethod(getUpdateStudentMethod())
               .addMethod(getDeleteStudentMethod())
+              .addMethod(getSearchStudentsMethod())
               .build();
         }
       }
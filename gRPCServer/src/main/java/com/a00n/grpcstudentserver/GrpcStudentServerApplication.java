@@ -1,36 +1,40 @@
 package com.a00n.grpcstudentserver;
 
-import com.a00n.entities.Student;
-import com.a00n.repositories.StudentRepository;
-import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.data.r2dbc.R2dbcDataAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.r2dbc.R2dbcRepositoriesAutoConfiguration;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
-import org.springframework.context.annotation.Bean;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 import org.springframework.context.annotation.ComponentScan;
-import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
-@SpringBootApplication
+// R2DBC is configured by com.a00n.reactive, and only in reactive mode.
+@SpringBootApplication(exclude = {
+        R2dbcAutoConfiguration.class,
+        R2dbcDataAutoConfiguration.class,
+        R2dbcRepositoriesAutoConfiguration.class,
+        R2dbcTransactionManagerAutoConfiguration.class
+})
 @EntityScan(basePackages = {"com.a00n.entities"})
 @ComponentScan(basePackages = {
         "com.a00n.grpc.services",
+        "com.a00n.grpc.scheduler",
+        "com.a00n.grpc.executor",
         "com.a00n.mappers",
+        "com.a00n.cache",
         "com.a00n.repositories",
-        "com.a00n.grpc.interceptors"
+        "com.a00n.store",
+        "com.a00n.seeding",
+        "com.a00n.search",
+        "com.a00n.metrics",
+        "com.a00n.grpc.interceptors",
+        "com.a00n.reactive"
 })
-@EnableJpaRepositories(basePackages = {"com.a00n.repositories"})
 public class GrpcStudentServerApplication {
 
     public static void main(String[] args) {
         SpringApplication.run(GrpcStudentServerApplication.class, args);
     }
 
-    @Bean
-    public CommandLineRunner startup(StudentRepository studentRepository) {
-        return args -> {
-            for (int i = 1; i <= 10; i++) {
-                studentRepository.save(Student.builder().firstName("ayoub " + i).lastName("nouri " + i).age((long) (i * 10)).build());
-            }
-        };
-    }
 }
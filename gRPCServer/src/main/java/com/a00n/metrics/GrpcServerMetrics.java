@@ -0,0 +1,26 @@
+package com.a00n.metrics;
+
+import io.grpc.MethodDescriptor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-method gRPC server metrics, keyed by full method name.
+ */
+@Component
+public class GrpcServerMetrics {
+
+    private final ConcurrentHashMap<String, MethodMetrics> methods = new ConcurrentHashMap<>();
+
+    public MethodMetrics forMethod(MethodDescriptor<?, ?> descriptor) {
+        MethodMetrics metrics = methods.get(descriptor.getFullMethodName());
+        return metrics != null ? metrics
+                : methods.computeIfAbsent(descriptor.getFullMethodName(), name -> new MethodMetrics(descriptor));
+    }
+
+    public Collection<MethodMetrics> methods() {
+        return methods.values();
+    }
+}
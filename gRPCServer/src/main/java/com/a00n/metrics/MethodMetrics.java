@@ -0,0 +1,122 @@
+package com.a00n.metrics;
+
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of one gRPC method.
+ */
+public class MethodMetrics {
+
+    private static final long[] LATENCY_BOUNDS_NANOS = nanos(0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1,
+            0.25, 0.5, 1, 2.5, 5, 10, 30, 60);
+    private static final long[] SIZE_BOUNDS_BYTES = {64, 256, 1 << 10, 4 << 10, 16 << 10, 64 << 10, 256 << 10,
+            1 << 20, 4 << 20, 16 << 20};
+
+    private final String service;
+    private final String method;
+    private final MethodDescriptor.MethodType type;
+    private final LongAdder started = new LongAdder();
+    private final LongAdder inFlight = new LongAdder();
+    private final LongAdder[] handled = new LongAdder[Status.Code.values().length];
+    private final StripedHistogram latencyNanos = new StripedHistogram(LATENCY_BOUNDS_NANOS);
+    private final LongAdder received = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final StripedHistogram receivedBytes = new StripedHistogram(SIZE_BOUNDS_BYTES);
+    private final StripedHistogram sentBytes = new StripedHistogram(SIZE_BOUNDS_BYTES);
+
+    MethodMetrics(MethodDescriptor<?, ?> descriptor) {
+        this.service = descriptor.getServiceName();
+        this.method = descriptor.getBareMethodName();
+        this.type = descriptor.getType();
+        for (int i = 0; i < handled.length; i++) {
+            handled[i] = new LongAdder();
+        }
+    }
+
+    public void callStarted() {
+        started.increment();
+        inFlight.increment();
+    }
+
+    public void callFinished(Status.Code code, long elapsedNanos) {
+        inFlight.decrement();
+        handled[code.value()].increment();
+        latencyNanos.record(elapsedNanos);
+    }
+
+    /**
+     * @param size serialized size in bytes, or a negative value when it is not known
+     */
+    public void messageReceived(int size) {
+        received.increment();
+        if (size >= 0) {
+            receivedBytes.record(size);
+        }
+    }
+
+    /**
+     * @param size serialized size in bytes, or a negative value when it is not known
+     */
+    public void messageSent(int size) {
+        sent.increment();
+        if (size >= 0) {
+            sentBytes.record(size);
+        }
+    }
+
+    public String service() {
+        return service;
+    }
+
+    public String method() {
+        return method;
+    }
+
+    public MethodDescriptor.MethodType type() {
+        return type;
+    }
+
+    public long started() {
+        return started.sum();
+    }
+
+    public long inFlight() {
+        return inFlight.sum();
+    }
+
+    public long handled(Status.Code code) {
+        return handled[code.value()].sum();
+    }
+
+    public StripedHistogram latencyNanos() {
+        return latencyNanos;
+    }
+
+    public long received() {
+        return received.sum();
+    }
+
+    public long sent() {
+        return sent.sum();
+    }
+
+    public StripedHistogram receivedBytes() {
+        return receivedBytes;
+    }
+
+    public StripedHistogram sentBytes() {
+        return sentBytes;
+    }
+
+    private static long[] nanos(double... seconds) {
+        long[] nanos = new long[seconds.length];
+        for (int i = 0; i < seconds.length; i++) {
+            nanos[i] = (long) (seconds[i] * TimeUnit.SECONDS.toNanos(1));
+        }
+        return nanos;
+    }
+}
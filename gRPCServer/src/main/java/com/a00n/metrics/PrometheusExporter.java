@@ -0,0 +1,209 @@
+package com.a00n.metrics;
+
+import com.a00n.cache.StudentCache;
+import com.a00n.grpc.executor.VirtualThreadPinningMonitor;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.grpc.Status;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves the gRPC server metrics (and the student cache stats) in the Prometheus text format on
+ * {@code http://<host>:<students.metrics.port>/metrics}, using the JDK HTTP server. A port of -1 disables it, 0
+ * picks a free port.
+ */
+@Slf4j
+@Component
+public class PrometheusExporter implements SmartLifecycle {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final GrpcServerMetrics metrics;
+    private final ObjectProvider<StudentCache> studentCache;
+    private final ObjectProvider<VirtualThreadPinningMonitor> pinningMonitor;
+    private final int port;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public PrometheusExporter(GrpcServerMetrics metrics, ObjectProvider<StudentCache> studentCache,
+                              ObjectProvider<VirtualThreadPinningMonitor> pinningMonitor,
+                              @Value("${students.metrics.port:9091}") int port) {
+        this.metrics = metrics;
+        this.studentCache = studentCache;
+        this.pinningMonitor = pinningMonitor;
+        this.port = port;
+    }
+
+    @Override
+    public void start() {
+        if (port < 0) {
+            return;
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress(port), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot listen for metrics scrapes on port " + port, e);
+        }
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-exporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/metrics", this::handle);
+        server.start();
+        log.info("serving metrics on port {}", server.getAddress().getPort());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            byte[] body = scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    /**
+     * Bound port, or -1 when the exporter is not running.
+     */
+    public int port() {
+        return server == null ? -1 : server.getAddress().getPort();
+    }
+
+    public String scrape() {
+        StringBuilder out = new StringBuilder(8192);
+        List<MethodMetrics> methods = new ArrayList<>(metrics.methods());
+        methods.sort(Comparator.comparing(MethodMetrics::service).thenComparing(MethodMetrics::method));
+
+        header(out, "grpc_server_started_total", "counter", "RPCs started on the server.");
+        for (MethodMetrics method : methods) {
+            sample(out, "grpc_server_started_total", labels(method), method.started());
+        }
+        header(out, "grpc_server_handled_total", "counter", "RPCs completed on the server, by status code.");
+        for (MethodMetrics method : methods) {
+            for (Status.Code code : Status.Code.values()) {
+                long handled = method.handled(code);
+                if (handled > 0) {
+                    sample(out, "grpc_server_handled_total", labels(method) + ",grpc_code=\"" + code + "\"", handled);
+                }
+            }
+        }
+        header(out, "grpc_server_in_flight", "gauge", "RPCs started but not yet completed.");
+        for (MethodMetrics method : methods) {
+            sample(out, "grpc_server_in_flight", labels(method), method.inFlight());
+        }
+        header(out, "grpc_server_handling_seconds", "histogram", "Time from call start to completion.");
+        for (MethodMetrics method : methods) {
+            histogram(out, "grpc_server_handling_seconds", labels(method), method.latencyNanos(), NANOS_PER_SECOND);
+        }
+        header(out, "grpc_server_msg_received_total", "counter", "Request messages received.");
+        for (MethodMetrics method : methods) {
+            sample(out, "grpc_server_msg_received_total", labels(method), method.received());
+        }
+        header(out, "grpc_server_msg_sent_total", "counter", "Response messages sent.");
+        for (MethodMetrics method : methods) {
+            sample(out, "grpc_server_msg_sent_total", labels(method), method.sent());
+        }
+        header(out, "grpc_server_msg_received_bytes", "histogram", "Serialized size of request messages.");
+        for (MethodMetrics method : methods) {
+            histogram(out, "grpc_server_msg_received_bytes", labels(method), method.receivedBytes(), 1);
+        }
+        header(out, "grpc_server_msg_sent_bytes", "histogram", "Serialized size of response messages.");
+        for (MethodMetrics method : methods) {
+            histogram(out, "grpc_server_msg_sent_bytes", labels(method), method.sentBytes(), 1);
+        }
+
+        StudentCache cache = studentCache.getIfAvailable();
+        if (cache != null) {
+            CacheStats stats = cache.stats();
+            header(out, "students_cache_requests_total", "counter", "Student cache lookups, by result.");
+            sample(out, "students_cache_requests_total", "result=\"hit\"", stats.hitCount());
+            sample(out, "students_cache_requests_total", "result=\"miss\"", stats.missCount());
+            header(out, "students_cache_evictions_total", "counter", "Students evicted from the cache.");
+            sample(out, "students_cache_evictions_total", "", stats.evictionCount());
+            header(out, "students_cache_size", "gauge", "Approximate number of cached students.");
+            sample(out, "students_cache_size", "", cache.size());
+        }
+        VirtualThreadPinningMonitor monitor = pinningMonitor.getIfAvailable();
+        if (monitor != null) {
+            header(out, "students_virtual_threads_pinned_total", "counter", "Virtual threads pinned beyond the threshold.");
+            sample(out, "students_virtual_threads_pinned_total", "", monitor.pinnedCount());
+        }
+        return out.toString();
+    }
+
+    private static String labels(MethodMetrics method) {
+        return "grpc_service=\"" + escape(method.service()) + "\",grpc_method=\"" + escape(method.method())
+                + "\",grpc_type=\"" + method.type() + "\"";
+    }
+
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, long value) {
+        out.append(name);
+        if (!labels.isEmpty()) {
+            out.append('{').append(labels).append('}');
+        }
+        out.append(' ').append(value).append('\n');
+    }
+
+    private static void histogram(StringBuilder out, String name, String labels, StripedHistogram histogram, double unit) {
+        long[] bounds = histogram.upperBounds();
+        long[] counts = histogram.cumulativeCounts();
+        for (int i = 0; i < bounds.length; i++) {
+            out.append(name).append("_bucket{").append(labels).append(",le=\"").append(decimal(bounds[i] / unit)).append("\"} ")
+                    .append(counts[i]).append('\n');
+        }
+        out.append(name).append("_bucket{").append(labels).append(",le=\"+Inf\"} ").append(counts[bounds.length]).append('\n');
+        out.append(name).append("_sum{").append(labels).append("} ").append(decimal(histogram.sum() / unit)).append('\n');
+        out.append(name).append("_count{").append(labels).append("} ").append(counts[bounds.length]).append('\n');
+    }
+
+    // Shortest plain decimal that reads back as the same double: 5.0E-4 becomes 0.0005 and 1024.0 becomes 1024.
+    private static String decimal(double value) {
+        return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    @Override
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+}
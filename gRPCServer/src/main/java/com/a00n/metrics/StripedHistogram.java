@@ -0,0 +1,53 @@
+package com.a00n.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram with fixed bucket bounds, in the shape Prometheus expects. Every bucket is a {@link LongAdder}, so
+ * concurrent recorders touch different cells instead of contending on one counter.
+ */
+public class StripedHistogram {
+
+    private final long[] upperBounds;
+    private final LongAdder[] buckets;
+    private final LongAdder sum = new LongAdder();
+
+    public StripedHistogram(long... upperBounds) {
+        this.upperBounds = upperBounds.clone();
+        Arrays.sort(this.upperBounds);
+        // The extra bucket is +Inf.
+        this.buckets = new LongAdder[upperBounds.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long value) {
+        int index = Arrays.binarySearch(upperBounds, value);
+        buckets[index >= 0 ? index : -index - 1].increment();
+        sum.add(value);
+    }
+
+    public long[] upperBounds() {
+        return upperBounds.clone();
+    }
+
+    /**
+     * Cumulative counts: element {@code i} is the number of values {@code <= upperBounds[i]}, the last element is
+     * the total count.
+     */
+    public long[] cumulativeCounts() {
+        long[] counts = new long[buckets.length];
+        long running = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            running += buckets[i].sum();
+            counts[i] = running;
+        }
+        return counts;
+    }
+
+    public long sum() {
+        return sum.sum();
+    }
+}
@@ -0,0 +1,82 @@
+package com.a00n.reactive;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of the JDBC store's id allocator: reserves blocks in {@code student_id_blocks} with the
+ * same read {@code v}, write {@code v + size}, own {@code v + 1 .. v + size} protocol, which is the one Hibernate's
+ * pooled-lo generator follows when it stores the last used id, so ids stay disjoint from the ones handed out by JPA
+ * and the other stores. Concurrent callers that find the block exhausted may each
+ * reserve a new one; the loser's remainder is dropped, which only leaves a gap in the ids.
+ */
+class ReactiveIdBlockAllocator {
+
+    private static final String SEGMENT = "student";
+    private static final String SELECT_FOR_UPDATE = "SELECT next_val FROM student_id_blocks WHERE name = :name FOR UPDATE";
+    private static final String ADVANCE = "UPDATE student_id_blocks SET next_val = :next WHERE name = :name";
+    private static final String INITIALIZE = "INSERT INTO student_id_blocks (name, next_val) VALUES (:name, :next)";
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactions;
+    private final int blockSize;
+    private long next;
+    private long limit;
+
+    ReactiveIdBlockAllocator(DatabaseClient databaseClient, TransactionalOperator transactions, int blockSize) {
+        this.databaseClient = databaseClient;
+        this.transactions = transactions;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Emits {@code count} consecutive ids.
+     */
+    Mono<Long> nextIds(int count) {
+        return Mono.defer(() -> {
+            long first = take(count);
+            if (first > 0) {
+                return Mono.just(first);
+            }
+            int size = Math.max(blockSize, count);
+            return reserve(size).map(start -> refill(start + 1, size, count));
+        });
+    }
+
+    private synchronized long take(int count) {
+        if (limit - next < count) {
+            return 0;
+        }
+        long first = next;
+        next += count;
+        return first;
+    }
+
+    private synchronized long refill(long first, int size, int count) {
+        next = first + count;
+        limit = first + size;
+        return first;
+    }
+
+    private Mono<Long> reserve(int size) {
+        Mono<Long> reservation = databaseClient.sql(SELECT_FOR_UPDATE)
+                .bind("name", SEGMENT)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .flatMap(start -> databaseClient.sql(ADVANCE)
+                        .bind("next", start + size)
+                        .bind("name", SEGMENT)
+                        .then()
+                        .thenReturn(start))
+                .switchIfEmpty(Mono.defer(() -> databaseClient.sql(INITIALIZE)
+                        .bind("name", SEGMENT)
+                        .bind("next", (long) size)
+                        .then()
+                        .thenReturn(0L)))
+                .as(transactions::transactional);
+        // Another node created the row first; it exists now.
+        return reservation.onErrorResume(DataIntegrityViolationException.class, e -> reservation);
+    }
+}
@@ -0,0 +1,57 @@
+package com.a00n.reactive;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * R2DBC wiring for {@code students.service.mode=reactive}. The connection pool and its transaction manager are
+ * deliberately not beans: Boot skips the JDBC DataSource when it sees a {@code ConnectionFactory}, and the JPA
+ * transaction manager when it sees a second {@code TransactionManager}, and the seeder and stores still need both.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "students.service.mode", havingValue = "reactive")
+@EnableR2dbcRepositories(basePackages = "com.a00n.reactive")
+public class ReactiveStudentConfiguration implements DisposableBean {
+
+    private final ConnectionPool connectionPool;
+
+    public ReactiveStudentConfiguration(@Value("${students.reactive.r2dbc.url}") String url,
+                                        @Value("${students.reactive.r2dbc.username:}") String username,
+                                        @Value("${students.reactive.r2dbc.password:}") String password,
+                                        @Value("${students.reactive.r2dbc.pool-size:20}") int poolSize) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .initialSize(Math.min(poolSize, 10))
+                .maxSize(poolSize)
+                .build());
+    }
+
+    @Bean
+    public R2dbcEntityTemplate r2dbcEntityTemplate() {
+        return new R2dbcEntityTemplate(connectionPool);
+    }
+
+    @Bean
+    public TransactionalOperator studentTransactions() {
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionPool));
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+}
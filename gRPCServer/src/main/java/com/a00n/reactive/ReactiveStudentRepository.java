@@ -0,0 +1,21 @@
+package com.a00n.reactive;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveStudentRepository extends R2dbcRepository<StudentRow, Long> {
+
+    @Query("SELECT id, first_name, last_name, age FROM student WHERE id > :afterId ORDER BY id LIMIT :limit")
+    Flux<StudentRow> findPage(long afterId, int limit);
+
+    @Modifying
+    @Query("UPDATE student SET first_name = :firstName, last_name = :lastName, age = :age WHERE id = :id")
+    Mono<Long> update(long id, String firstName, String lastName, Long age);
+
+    @Modifying
+    @Query("DELETE FROM student WHERE id = :id")
+    Mono<Long> deleteRow(long id);
+}
@@ -0,0 +1,105 @@
+package com.a00n.reactive;
+
+import com.a00n.entities.Student;
+import com.a00n.store.StudentQuery;
+import com.a00n.store.StudentQuerySql;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reactive counterpart of {@link com.a00n.store.StudentStore} over R2DBC. Results are signalled instead of
+ * returned, and an absent row is an empty {@link Mono} rather than an empty {@code Optional}.
+ */
+@Component
+@ConditionalOnProperty(name = "students.service.mode", havingValue = "reactive")
+public class ReactiveStudentStore {
+
+    private final ReactiveStudentRepository repository;
+    private final R2dbcEntityTemplate template;
+    private final TransactionalOperator transactions;
+    private final ReactiveIdBlockAllocator idAllocator;
+
+    public ReactiveStudentStore(ReactiveStudentRepository repository, R2dbcEntityTemplate template,
+                                TransactionalOperator transactions,
+                                @Value("${students.store.jdbc.id-block-size:100}") int idBlockSize) {
+        this.repository = repository;
+        this.template = template;
+        this.transactions = transactions;
+        this.idAllocator = new ReactiveIdBlockAllocator(template.getDatabaseClient(), transactions, idBlockSize);
+    }
+
+    public Mono<Student> findById(long id) {
+        return repository.findById(id).map(StudentRow::toStudent);
+    }
+
+    public Flux<Student> findAllById(Collection<Long> ids) {
+        return repository.findAllById(ids).map(StudentRow::toStudent);
+    }
+
+    /**
+     * Up to {@code limit} students with an id greater than {@code afterId}, in id order.
+     */
+    public Flux<Student> findPage(long afterId, int limit) {
+        return repository.findPage(afterId, limit).map(StudentRow::toStudent);
+    }
+
+    /**
+     * Up to {@code limit} students matching {@code query}, in its order, after {@code after} or from the start.
+     */
+    public Flux<Student> findPage(StudentQuery query, Student after, int limit) {
+        StudentQuerySql page = StudentQuerySql.page(query, after, limit);
+        DatabaseClient.GenericExecuteSpec statement = template.getDatabaseClient().sql(page.sql());
+        for (Map.Entry<String, Object> parameter : page.parameters().entrySet()) {
+            statement = statement.bind(parameter.getKey(), parameter.getValue());
+        }
+        return statement.map((row, metadata) -> new Student(row.get("id", Long.class), row.get("first_name", String.class),
+                row.get("last_name", String.class), row.get("age", Long.class))).all();
+    }
+
+    public Mono<Student> insert(Student student) {
+        return idAllocator.nextIds(1)
+                .flatMap(id -> template.insert(StudentRow.of(id, student)))
+                .map(StudentRow::toStudent);
+    }
+
+    /**
+     * Inserts all students in one transaction and emits them with their ids, in the given order.
+     */
+    public Mono<List<Student>> insertAll(List<Student> students) {
+        return idAllocator.nextIds(students.size()).flatMap(firstId -> {
+            List<StudentRow> rows = new ArrayList<>(students.size());
+            for (int i = 0; i < students.size(); i++) {
+                rows.add(StudentRow.of(firstId + i, students.get(i)));
+            }
+            return Flux.fromIterable(rows)
+                    .concatMap(template::insert)
+                    .map(StudentRow::toStudent)
+                    .collectList()
+                    .as(transactions::transactional);
+        });
+    }
+
+    /**
+     * Emits the updated student, or completes empty if there is no student with that id.
+     */
+    public Mono<Student> update(Student student) {
+        return repository.update(student.getId(), student.getFirstName(), student.getLastName(), student.getAge())
+                .filter(updated -> updated > 0)
+                .map(updated -> new Student(student.getId(), student.getFirstName(), student.getLastName(), student.getAge()));
+    }
+
+    public Mono<Boolean> deleteById(long id) {
+        return repository.deleteRow(id).map(deleted -> deleted > 0);
+    }
+}
@@ -0,0 +1,21 @@
+package com.a00n.reactive;
+
+import com.a00n.entities.Student;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * R2DBC mapping of the {@code student} table. The JPA {@link Student} entity stays the type the rest of the
+ * server works with; rows are converted at the repository boundary.
+ */
+@Table("student")
+public record StudentRow(@Id Long id, String firstName, String lastName, Long age) {
+
+    static StudentRow of(long id, Student student) {
+        return new StudentRow(id, student.getFirstName(), student.getLastName(), student.getAge());
+    }
+
+    Student toStudent() {
+        return new Student(id, firstName, lastName, age);
+    }
+}
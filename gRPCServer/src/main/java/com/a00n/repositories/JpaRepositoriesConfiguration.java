@@ -0,0 +1,12 @@
+package com.a00n.repositories;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+// Only the JPA store reads through Spring Data, so the other stores start without repositories or Hibernate.
+@Configuration
+@ConditionalOnProperty(name = "students.store", havingValue = "jpa", matchIfMissing = true)
+@EnableJpaRepositories(basePackages = {"com.a00n.repositories"})
+public class JpaRepositoriesConfiguration {
+}
@@ -0,0 +1,14 @@
+package com.a00n.repositories;
+
+import com.a00n.entities.Student;
+import com.a00n.store.StudentQuery;
+
+import java.util.List;
+
+public interface StudentPageRepository {
+
+    /**
+     * Keyset page for {@code query}, see {@link com.a00n.store.StudentStore#findPage(StudentQuery, Student, int)}.
+     */
+    List<Student> findPage(StudentQuery query, Student after, int limit);
+}
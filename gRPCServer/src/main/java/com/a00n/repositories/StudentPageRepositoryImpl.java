@@ -0,0 +1,26 @@
+package com.a00n.repositories;
+
+import com.a00n.entities.Student;
+import com.a00n.store.StudentQuery;
+import com.a00n.store.StudentQuerySql;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.util.List;
+
+// JPQL has no row value comparison, so the keyset condition is sent as native SQL to keep it an index range.
+class StudentPageRepositoryImpl implements StudentPageRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Student> findPage(StudentQuery query, Student after, int limit) {
+        StudentQuerySql page = StudentQuerySql.page(query, after, limit);
+        Query nativeQuery = entityManager.createNativeQuery(page.sql(), Student.class);
+        page.parameters().forEach(nativeQuery::setParameter);
+        return nativeQuery.getResultList();
+    }
+}
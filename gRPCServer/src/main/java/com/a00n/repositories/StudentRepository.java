@@ -1,11 +1,24 @@
 package com.a00n.repositories;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.a00n.entities.Student;
 
+import java.util.List;
+
 @Repository
-public interface StudentRepository extends JpaRepository<Student, Long> {
+public interface StudentRepository extends JpaRepository<Student, Long>, StudentPageRepository {
+
+    List<Student> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 
+    @Transactional
+    @Modifying
+    @Query("delete from Student s where s.id = :id")
+    int deleteByIdReturningCount(@Param("id") Long id);
 }
@@ -0,0 +1,102 @@
+package com.a00n.search;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from student id to document number, without boxing. Ids are positive, so
+ * {@link Long#MIN_VALUE} marks an empty slot.
+ */
+final class LongIntHashMap {
+
+    static final int MISSING = -1;
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+
+    LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 4 / 3) - 1) << 1;
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(long key) {
+        int mask = keys.length - 1;
+        for (int slot = slot(key, mask); ; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            if (keys[slot] == EMPTY) {
+                return MISSING;
+            }
+        }
+    }
+
+    void put(long key, int value) {
+        if (size + 1 > keys.length * 3 / 4) {
+            resize();
+        }
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            size++;
+        }
+        values[slot] = value;
+    }
+
+    /**
+     * Removes {@code key} and returns its value, or {@link #MISSING}.
+     */
+    int remove(long key) {
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        while (keys[slot] != key) {
+            if (keys[slot] == EMPTY) {
+                return MISSING;
+            }
+            slot = (slot + 1) & mask;
+        }
+        int value = values[slot];
+        // Shift later entries of the probe run back, so lookups never stop early at the freed slot.
+        int free = slot;
+        for (int next = (free + 1) & mask; keys[next] != EMPTY; next = (next + 1) & mask) {
+            int home = slot(keys[next], mask);
+            if (((next - home) & mask) >= ((next - free) & mask)) {
+                keys[free] = keys[next];
+                values[free] = values[next];
+                free = next;
+            }
+        }
+        keys[free] = EMPTY;
+        size--;
+        return value;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new int[oldKeys.length * 2];
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private static int slot(long key, int mask) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+}
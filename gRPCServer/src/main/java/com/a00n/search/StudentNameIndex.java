@@ -0,0 +1,536 @@
+package com.a00n.search;
+
+import com.a00n.entities.Student;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * In-process trigram index over student names, used by SearchStudents. Students are grouped by their exact first
+ * and last name, and every trigram of a group's lower-cased {@code " first last"} points to the groups containing
+ * it. The leading space makes word starts searchable: only names with a word starting with {@code "ann"} have the
+ * trigram {@code " an"}. A search looks up exact first and last names in a hash map, intersects the posting lists
+ * of {@code " " + query} for full names and word starts, then those of {@code query} for the rest. Each step walks names in the order
+ * they were first indexed and stops once it has enough students, so a search costs about the number of candidate
+ * names it looks at before filling the limit, however many students share those names.
+ * <p>
+ * The gRPC service applies writes after the store has committed them. Rows changed in the database by anything
+ * else are only seen after a restart.
+ */
+@Component
+public class StudentNameIndex {
+
+    public static final int MIN_QUERY_LENGTH = 3;
+
+    private static final long DEAD = Long.MIN_VALUE;
+    private static final long NO_AGE = Long.MIN_VALUE;
+    private static final int MIN_DEAD_TO_COMPACT = 1 << 16;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // A group whose students are all gone stops matching, and is dropped at the next compaction.
+    private Map<String, NameGroup> groupsByName = new HashMap<>();
+    private List<NameGroup> groups = new ArrayList<>();
+    private Map<Long, IntList> postings = new HashMap<>();
+    // Lower-cased first and last names to the ordinals of the groups having them.
+    private Map<String, IntList> exactNames = new HashMap<>();
+    private LongIntHashMap docsById = new LongIntHashMap(16);
+    private long[] docIds = new long[16];
+    private long[] docAges = new long[16];
+    private int[] docGroups = new int[16];
+    private int docCount;
+    private int deadCount;
+
+    /**
+     * Replaces the contents with {@code pages}, read in order on the calling thread. Pages are grouped by name and
+     * split into trigrams on {@code threads} workers while the next pages are read, then merged in page order.
+     */
+    public void rebuild(Iterable<List<Student>> pages, int threads) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Chunk>> chunks = new ArrayList<>();
+            for (List<Student> page : pages) {
+                chunks.add(executor.submit(() -> Chunk.of(page)));
+            }
+            Built built = new Built();
+            for (Future<Chunk> chunk : chunks) {
+                built.merge(chunk.get());
+            }
+            lock.writeLock().lock();
+            try {
+                groupsByName = built.groupsByName;
+                groups = built.groups;
+                postings = built.postings;
+                exactNames = built.exactNames;
+                docsById = built.docsById;
+                docIds = built.docIds;
+                docAges = built.docAges;
+                docGroups = built.docGroups;
+                docCount = built.docCount;
+                deadCount = 0;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("index build interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("index build failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Adds a student, replacing the entry with the same id if there is one.
+     */
+    public void put(Student student) {
+        putAll(List.of(student));
+    }
+
+    public void putAll(Collection<Student> students) {
+        lock.writeLock().lock();
+        try {
+            for (Student student : students) {
+                removeLocked(student.getId());
+                int doc = appendDoc(student.getId(), student.getAge());
+                NameGroup group = groupsByName.get(NameGroup.key(student));
+                if (group == null) {
+                    group = newGroup(student.getFirstName(), student.getLastName(), groupsByName, groups, postings,
+                            exactNames, trigrams(NameGroup.text(student.getFirstName(), student.getLastName())));
+                }
+                docGroups[doc] = group.ordinal;
+                group.add(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Number of name groups, including those whose students are all gone but not yet compacted away.
+     */
+    int groupCount() {
+        lock.readLock().lock();
+        try {
+            return groups.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} students whose {@code "first last"} name contains {@code query}, ignoring case
+     * and repeated spaces. Exact full names come first, then exact first or last names, then names with a word
+     * starting with the query, then names containing it anywhere; within each, in the order the names were first
+     * indexed.
+     *
+     * @throws IllegalArgumentException if the query is shorter than {@link #MIN_QUERY_LENGTH}
+     */
+    public List<Student> search(String query, int limit) {
+        String normalized = query.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        if (normalized.length() < MIN_QUERY_LENGTH) {
+            throw new IllegalArgumentException("query must have at least " + MIN_QUERY_LENGTH + " characters");
+        }
+        String wordStart = " " + normalized;
+        List<Student> found = new ArrayList<>(Math.min(limit, 256));
+        lock.readLock().lock();
+        try {
+            // A full name is an exact first name and an exact last name, split at one of the query's spaces.
+            for (int space = normalized.indexOf(' '); space > 0 && found.size() < limit;
+                 space = normalized.indexOf(' ', space + 1)) {
+                IntList firstNames = exactNames.get(normalized.substring(0, space));
+                IntList lastNames = exactNames.get(normalized.substring(space + 1));
+                if (firstNames != null && lastNames != null) {
+                    scan(new IntList[]{firstNames, lastNames}, group -> {
+                        if (group.text.equals(wordStart)) {
+                            addStudents(group, found, limit);
+                        }
+                        return found.size() < limit;
+                    });
+                }
+            }
+            IntList exact = exactNames.get(normalized);
+            for (int i = 0; exact != null && i < exact.size && found.size() < limit; i++) {
+                NameGroup group = groups.get(exact.values[i]);
+                if (!group.text.equals(wordStart)) {
+                    addStudents(group, found, limit);
+                }
+            }
+            if (found.size() < limit) {
+                scan(trigrams(wordStart), group -> {
+                    if (!group.isExactly(normalized) && group.text.contains(wordStart)) {
+                        addStudents(group, found, limit);
+                    }
+                    return found.size() < limit;
+                });
+            }
+            if (found.size() < limit) {
+                scan(trigrams(normalized), group -> {
+                    if (!group.text.contains(wordStart) && group.text.contains(normalized)) {
+                        addStudents(group, found, limit);
+                    }
+                    return found.size() < limit;
+                });
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Visits the groups having every trigram, in ordinal order, until the visitor returns false.
+    private void scan(long[] trigrams, Predicate<NameGroup> visitor) {
+        IntList[] lists = new IntList[trigrams.length];
+        for (int i = 0; i < trigrams.length; i++) {
+            lists[i] = postings.get(trigrams[i]);
+            if (lists[i] == null) {
+                return;
+            }
+        }
+        scan(lists, visitor);
+    }
+
+    // Visits the groups in every list, in ordinal order, until the visitor returns false.
+    private void scan(IntList[] lists, Predicate<NameGroup> visitor) {
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+        int[] cursors = new int[lists.length];
+        candidates:
+        for (int i = 0; i < lists[0].size; i++) {
+            int ordinal = lists[0].values[i];
+            for (int k = 1; k < lists.length; k++) {
+                cursors[k] = lists[k].seek(cursors[k], ordinal);
+                if (cursors[k] == lists[k].size || lists[k].values[cursors[k]] != ordinal) {
+                    continue candidates;
+                }
+            }
+            NameGroup group = groups.get(ordinal);
+            if (group.live > 0 && !visitor.test(group)) {
+                return;
+            }
+        }
+    }
+
+    private void addStudents(NameGroup group, List<Student> found, int limit) {
+        for (int j = 0; j < group.docs.size && found.size() < limit; j++) {
+            int doc = group.docs.values[j];
+            if (docIds[doc] != DEAD) {
+                found.add(new Student(docIds[doc], group.firstName, group.lastName,
+                        docAges[doc] == NO_AGE ? null : docAges[doc]));
+            }
+        }
+    }
+
+    private int appendDoc(long id, Long age) {
+        if (docCount == docIds.length) {
+            docIds = Arrays.copyOf(docIds, docCount * 2);
+            docAges = Arrays.copyOf(docAges, docCount * 2);
+            docGroups = Arrays.copyOf(docGroups, docCount * 2);
+        }
+        int doc = docCount++;
+        docIds[doc] = id;
+        docAges[doc] = age == null ? NO_AGE : age;
+        docsById.put(id, doc);
+        return doc;
+    }
+
+    private void removeLocked(long id) {
+        int doc = docsById.remove(id);
+        if (doc == LongIntHashMap.MISSING) {
+            return;
+        }
+        docIds[doc] = DEAD;
+        groups.get(docGroups[doc]).live--;
+        deadCount++;
+        if (deadCount >= MIN_DEAD_TO_COMPACT && deadCount > docsById.size()) {
+            compact();
+        }
+    }
+
+    // Renumbers the live documents and the groups that still have some, so that deleted and replaced students and
+    // names no student has any more stop taking space. Groups keep their order, and so does every posting list.
+    private void compact() {
+        int[] renumbered = new int[docCount];
+        int live = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (docIds[doc] != DEAD) {
+                renumbered[doc] = live;
+                docIds[live] = docIds[doc];
+                docAges[live] = docAges[doc];
+                docGroups[live] = docGroups[doc];
+                docsById.put(docIds[live], live);
+                live++;
+            } else {
+                renumbered[doc] = -1;
+            }
+        }
+        int[] ordinals = new int[groups.size()];
+        Map<String, NameGroup> keptByName = new HashMap<>();
+        List<NameGroup> kept = new ArrayList<>();
+        Map<Long, IntList> keptPostings = new HashMap<>();
+        Map<String, IntList> keptExactNames = new HashMap<>();
+        for (NameGroup group : groups) {
+            if (group.live == 0) {
+                continue;
+            }
+            IntList docs = new IntList(group.live);
+            for (int j = 0; j < group.docs.size; j++) {
+                int doc = renumbered[group.docs.values[j]];
+                if (doc >= 0) {
+                    docs.add(doc);
+                }
+            }
+            group.docs = docs;
+            ordinals[group.ordinal] = kept.size();
+            group.ordinal = kept.size();
+            kept.add(group);
+            keptByName.put(NameGroup.key(group.firstName, group.lastName), group);
+            index(group, keptPostings, keptExactNames, trigrams(group.text));
+        }
+        for (int doc = 0; doc < live; doc++) {
+            docGroups[doc] = ordinals[docGroups[doc]];
+        }
+        groupsByName = keptByName;
+        groups = kept;
+        postings = keptPostings;
+        exactNames = keptExactNames;
+        docCount = live;
+        deadCount = 0;
+    }
+
+    private static NameGroup newGroup(String firstName, String lastName, Map<String, NameGroup> groupsByName,
+                                      List<NameGroup> groups, Map<Long, IntList> postings,
+                                      Map<String, IntList> exactNames, long[] trigrams) {
+        NameGroup group = new NameGroup(groups.size(), firstName, lastName);
+        groups.add(group);
+        groupsByName.put(NameGroup.key(firstName, lastName), group);
+        index(group, postings, exactNames, trigrams);
+        return group;
+    }
+
+    // Appends the group to the posting list of each trigram and to the lists of its exact first and last names.
+    private static void index(NameGroup group, Map<Long, IntList> postings, Map<String, IntList> exactNames,
+                              long[] trigrams) {
+        for (long trigram : trigrams) {
+            postings.computeIfAbsent(trigram, t -> new IntList(4)).add(group.ordinal);
+        }
+        String text = group.text;
+        int lastStart = group.firstLength + 2;
+        for (String name : new String[]{text.substring(1, lastStart - 1), text.substring(lastStart)}) {
+            IntList ordinals = exactNames.computeIfAbsent(name, n -> new IntList(1));
+            if (ordinals.size == 0 || ordinals.values[ordinals.size - 1] != group.ordinal) {
+                ordinals.add(group.ordinal);
+            }
+        }
+    }
+
+    /**
+     * Distinct trigrams of {@code text}, each packed as three UTF-16 chars.
+     */
+    static long[] trigrams(String text) {
+        if (text.length() < 3) {
+            return new long[0];
+        }
+        long[] trigrams = new long[text.length() - 2];
+        for (int i = 0; i < trigrams.length; i++) {
+            trigrams[i] = (long) text.charAt(i) << 32 | (long) text.charAt(i + 1) << 16 | text.charAt(i + 2);
+        }
+        Arrays.sort(trigrams);
+        int distinct = 0;
+        for (int i = 0; i < trigrams.length; i++) {
+            if (i == 0 || trigrams[i] != trigrams[i - 1]) {
+                trigrams[distinct++] = trigrams[i];
+            }
+        }
+        return Arrays.copyOf(trigrams, distinct);
+    }
+
+    private static final class NameGroup {
+
+        int ordinal;
+        final String firstName;
+        final String lastName;
+        final String text;
+        final int firstLength;
+        IntList docs = new IntList(2);
+        int live;
+
+        NameGroup(int ordinal, String firstName, String lastName) {
+            this.ordinal = ordinal;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.text = text(firstName, lastName);
+            this.firstLength = firstName == null ? 0 : firstName.toLowerCase(Locale.ROOT).length();
+        }
+
+        void add(int doc) {
+            docs.add(doc);
+            live++;
+        }
+
+        // Whether the query is the whole first, last or full name, i.e. it was found through exactNames.
+        boolean isExactly(String query) {
+            int lastLength = text.length() - firstLength - 2;
+            return text.length() - 1 == query.length() && text.startsWith(query, 1)
+                    || firstLength == query.length() && text.startsWith(query, 1)
+                    || lastLength == query.length() && text.endsWith(query);
+        }
+
+        static String text(String firstName, String lastName) {
+            return (" " + (firstName == null ? "" : firstName) + " " + (lastName == null ? "" : lastName)).toLowerCase(Locale.ROOT);
+        }
+
+        static String key(Student student) {
+            return key(student.getFirstName(), student.getLastName());
+        }
+
+        static String key(String firstName, String lastName) {
+            return firstName + "\u0000" + lastName;
+        }
+    }
+
+    private static final class IntList {
+
+        int[] values;
+        int size;
+
+        IntList(int capacity) {
+            values = new int[capacity];
+        }
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        /**
+         * First position at or after {@code from} whose value is not less than {@code target}. Values are ascending.
+         */
+        int seek(int from, int target) {
+            int step = 1;
+            int low = from;
+            int high = from;
+            while (high < size && values[high] < target) {
+                low = high + 1;
+                high += step;
+                step <<= 1;
+            }
+            high = Math.min(high, size);
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (values[middle] < target) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * One page of a rebuild, grouped by name in encounter order, with the trigrams of each name.
+     */
+    private record Chunk(long[] ids, long[] ages, Map<String, ChunkGroup> groups) {
+
+        static Chunk of(List<Student> page) {
+            long[] ids = new long[page.size()];
+            long[] ages = new long[page.size()];
+            Map<String, ChunkGroup> groups = new LinkedHashMap<>();
+            for (int i = 0; i < page.size(); i++) {
+                Student student = page.get(i);
+                ids[i] = student.getId();
+                ages[i] = student.getAge() == null ? NO_AGE : student.getAge();
+                groups.computeIfAbsent(NameGroup.key(student), key -> new ChunkGroup(student.getFirstName(),
+                        student.getLastName(), trigrams(NameGroup.text(student.getFirstName(), student.getLastName()))))
+                        .positions.add(i);
+            }
+            return new Chunk(ids, ages, groups);
+        }
+    }
+
+    private record ChunkGroup(String firstName, String lastName, long[] trigrams, IntList positions) {
+
+        ChunkGroup(String firstName, String lastName, long[] trigrams) {
+            this(firstName, lastName, trigrams, new IntList(4));
+        }
+    }
+
+    /**
+     * Index contents being rebuilt, swapped in once every chunk is merged.
+     */
+    private static final class Built {
+
+        final Map<String, NameGroup> groupsByName = new HashMap<>();
+        final List<NameGroup> groups = new ArrayList<>();
+        final Map<Long, IntList> postings = new HashMap<>();
+        final Map<String, IntList> exactNames = new HashMap<>();
+        final LongIntHashMap docsById = new LongIntHashMap(1 << 16);
+        long[] docIds = new long[1 << 16];
+        long[] docAges = new long[1 << 16];
+        int[] docGroups = new int[1 << 16];
+        int docCount;
+
+        void merge(Chunk chunk) {
+            int base = docCount;
+            int needed = base + chunk.ids().length;
+            if (needed > docIds.length) {
+                int capacity = Math.max(needed, docIds.length * 2);
+                docIds = Arrays.copyOf(docIds, capacity);
+                docAges = Arrays.copyOf(docAges, capacity);
+                docGroups = Arrays.copyOf(docGroups, capacity);
+            }
+            System.arraycopy(chunk.ids(), 0, docIds, base, chunk.ids().length);
+            System.arraycopy(chunk.ages(), 0, docAges, base, chunk.ages().length);
+            for (int i = 0; i < chunk.ids().length; i++) {
+                docsById.put(chunk.ids()[i], base + i);
+            }
+            docCount = needed;
+            for (Map.Entry<String, ChunkGroup> entry : chunk.groups().entrySet()) {
+                ChunkGroup chunkGroup = entry.getValue();
+                NameGroup group = groupsByName.get(entry.getKey());
+                if (group == null) {
+                    group = newGroup(chunkGroup.firstName(), chunkGroup.lastName(), groupsByName, groups, postings,
+                            exactNames, chunkGroup.trigrams());
+                }
+                for (int j = 0; j < chunkGroup.positions().size; j++) {
+                    int doc = base + chunkGroup.positions().values[j];
+                    docGroups[doc] = group.ordinal;
+                    group.add(doc);
+                }
+            }
+        }
+    }
+}
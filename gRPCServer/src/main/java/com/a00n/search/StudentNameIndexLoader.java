@@ -0,0 +1,86 @@
+package com.a00n.search;
+
+import com.a00n.entities.Student;
+import com.a00n.store.StudentStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the {@link StudentNameIndex} from the store at startup. It runs after the seeder and before the gRPC
+ * server, so no write can happen while the index is built and none is missed.
+ */
+@Slf4j
+@Component
+public class StudentNameIndexLoader implements SmartLifecycle {
+
+    // After StudentSeeder (Integer.MAX_VALUE - 1000), before the gRPC server (Integer.MAX_VALUE).
+    private static final int PHASE = Integer.MAX_VALUE - 500;
+
+    private final StudentStore studentStore;
+    private final StudentNameIndex nameIndex;
+    private final int pageSize;
+    private final int threads;
+    private volatile boolean running;
+
+    public StudentNameIndexLoader(StudentStore studentStore, StudentNameIndex nameIndex,
+                                  @Value("${students.search.load-page-size:10000}") int pageSize,
+                                  @Value("${students.search.build-threads:0}") int threads) {
+        this.studentStore = studentStore;
+        this.nameIndex = nameIndex;
+        this.pageSize = pageSize;
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        long started = System.nanoTime();
+        nameIndex.rebuild(this::pages, threads);
+        log.info("indexed {} student names in {} ms on {} threads", nameIndex.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), threads);
+    }
+
+    private Iterator<List<Student>> pages() {
+        return new Iterator<>() {
+            private List<Student> next = studentStore.findPage(0, pageSize);
+
+            @Override
+            public boolean hasNext() {
+                return !next.isEmpty();
+            }
+
+            @Override
+            public List<Student> next() {
+                if (next.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                List<Student> page = next;
+                next = page.size() < pageSize ? List.of()
+                        : studentStore.findPage(page.get(page.size() - 1).getId(), pageSize);
+                return page;
+            }
+        };
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
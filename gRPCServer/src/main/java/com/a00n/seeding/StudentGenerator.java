@@ -0,0 +1,94 @@
+package com.a00n.seeding;
+
+import com.a00n.entities.Student;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generates synthetic students with a realistic shape: names follow a Zipf distribution over fixed name lists, so
+ * a few names are very common and most are rare, and ages cluster around typical student ages with a long tail of
+ * mature students. Output is deterministic for a given seed.
+ */
+class StudentGenerator {
+
+    private static final String[] FIRST_NAMES = {
+            "Mohamed", "Sara", "Youssef", "Fatima", "Adam", "Lina", "Omar", "Emma", "Ayoub", "Noah", "Olivia", "Amine",
+            "Sofia", "Liam", "Imane", "Lucas", "Meryem", "Mateo", "Hana", "Ethan", "Chloe", "Ali", "Mia", "Karim",
+            "Zineb", "Hugo", "Salma", "Leo", "Aya", "Elias", "Nora", "Rayan", "Ines", "Samuel", "Yasmine", "Daniel",
+            "Maya", "Ibrahim", "Alice", "Anas", "Laura", "Hamza", "Julia", "Mehdi", "Clara", "Ilyas", "Anna", "Walid",
+            "Leila", "Victor", "Hiba", "Oscar", "Rania", "Felix", "Nadia", "Arthur", "Dounia", "Tom", "Kenza", "Jules"
+    };
+    private static final String[] LAST_NAMES = {
+            "El Amrani", "Smith", "Benali", "Garcia", "Nouri", "Martin", "Alaoui", "Muller", "Haddad", "Rossi", "Idrissi",
+            "Dubois", "Tazi", "Johnson", "Bennani", "Leroy", "Chraibi", "Schmidt", "Berrada", "Lopez", "Fassi", "Moreau",
+            "Ziani", "Brown", "Kettani", "Fischer", "Lahlou", "Bernard", "Mansouri", "Romano", "Ouazzani", "Petit",
+            "Sebti", "Wilson", "Skalli", "Weber", "Bouzid", "Lefevre", "Naciri", "Martinez", "Cherkaoui", "Laurent",
+            "Hajji", "Taylor", "Benjelloun", "Wagner", "Lamrani", "Bianchi", "Rahmani", "Durand", "Kabbaj", "Meyer",
+            "Saidi", "Anderson", "Guessous", "Ricci", "Belkadi", "Girard", "Filali", "Thomas"
+    };
+    private static final double NAME_SKEW = 1.1;
+
+    private final double[] firstNameWeights = zipfCumulative(FIRST_NAMES.length);
+    private final double[] lastNameWeights = zipfCumulative(LAST_NAMES.length);
+    private final long seed;
+
+    StudentGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Generates the {@code chunk}-th batch. Chunks are independent, so they can be generated in parallel and in any
+     * order while the overall output stays the same.
+     */
+    List<Student> batch(long chunk, int size) {
+        SplittableRandom random = new SplittableRandom(seed * 31 + chunk);
+        List<Student> students = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            students.add(Student.builder()
+                    .firstName(FIRST_NAMES[pick(firstNameWeights, random)])
+                    .lastName(LAST_NAMES[pick(lastNameWeights, random)])
+                    .age(age(random))
+                    .build());
+        }
+        return students;
+    }
+
+    private static long age(SplittableRandom random) {
+        if (random.nextInt(100) < 85) {
+            // Approximately normal around 21 (sum of uniforms), clipped to 17..30.
+            double sum = 0;
+            for (int i = 0; i < 4; i++) {
+                sum += random.nextDouble();
+            }
+            return Math.max(17, Math.min(30, Math.round(21 + (sum - 2) * 4)));
+        }
+        return random.nextLong(25, 66);
+    }
+
+    private static int pick(double[] cumulative, SplittableRandom random) {
+        double target = random.nextDouble() * cumulative[cumulative.length - 1];
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static double[] zipfCumulative(int size) {
+        double[] cumulative = new double[size];
+        double total = 0;
+        for (int rank = 1; rank <= size; rank++) {
+            total += 1 / Math.pow(rank, NAME_SKEW);
+            cumulative[rank - 1] = total;
+        }
+        return cumulative;
+    }
+}
@@ -0,0 +1,124 @@
+package com.a00n.seeding;
+
+import com.a00n.store.StudentStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fills the store with {@code students.seed.count} generated students at startup. It runs as a lifecycle bean in
+ * an earlier phase than the gRPC server, so the server only starts accepting calls once seeding is done. Batches
+ * are generated and inserted in parallel through {@link StudentStore#insertAll}.
+ */
+@Slf4j
+@Component
+public class StudentSeeder implements SmartLifecycle {
+
+    // The gRPC server lifecycle runs in phase Integer.MAX_VALUE.
+    private static final int PHASE = Integer.MAX_VALUE - 1000;
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final StudentStore studentStore;
+    private final long count;
+    private final int batchSize;
+    private final int threads;
+    private final long randomSeed;
+    private final boolean onlyIfEmpty;
+    private volatile boolean running;
+
+    public StudentSeeder(StudentStore studentStore,
+                         @Value("${students.seed.count:10}") long count,
+                         @Value("${students.seed.batch-size:1000}") int batchSize,
+                         @Value("${students.seed.threads:0}") int threads,
+                         @Value("${students.seed.random-seed:42}") long randomSeed,
+                         @Value("${students.seed.only-if-empty:true}") boolean onlyIfEmpty) {
+        this.studentStore = studentStore;
+        this.count = count;
+        this.batchSize = batchSize;
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.randomSeed = randomSeed;
+        this.onlyIfEmpty = onlyIfEmpty;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (count <= 0) {
+            return;
+        }
+        if (onlyIfEmpty && studentStore.count() > 0) {
+            log.info("store already has students, skipping seeding");
+            return;
+        }
+        seed();
+    }
+
+    private void seed() {
+        StudentGenerator generator = new StudentGenerator(randomSeed);
+        AtomicLong inserted = new AtomicLong();
+        long chunks = (count + batchSize - 1) / batchSize;
+        long started = System.nanoTime();
+        log.info("seeding {} students in batches of {} on {} threads", count, batchSize, threads);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>((int) Math.min(chunks, Integer.MAX_VALUE));
+            for (long chunk = 0; chunk < chunks; chunk++) {
+                long current = chunk;
+                int size = (int) Math.min(batchSize, count - chunk * batchSize);
+                futures.add(executor.submit(() -> {
+                    studentStore.insertAll(generator.batch(current, size));
+                    inserted.addAndGet(size);
+                }));
+            }
+            long lastReport = started;
+            for (Future<?> future : futures) {
+                future.get();
+                long now = System.nanoTime();
+                if (now - lastReport >= PROGRESS_INTERVAL_NANOS) {
+                    log.info("seeded {}/{} students ({} rows/s)", inserted.get(), count, rate(inserted.get(), now - started));
+                    lastReport = now;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("seeding interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("seeding failed after " + inserted.get() + " students", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        long elapsed = System.nanoTime() - started;
+        log.info("seeded {} students in {} ms ({} rows/s)", inserted.get(), TimeUnit.NANOSECONDS.toMillis(elapsed),
+                rate(inserted.get(), elapsed));
+    }
+
+    private static long rate(long rows, long nanos) {
+        return nanos == 0 ? rows : rows * TimeUnit.SECONDS.toNanos(1) / nanos;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
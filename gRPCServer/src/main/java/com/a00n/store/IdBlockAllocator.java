@@ -0,0 +1,82 @@
+package com.a00n.store;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out student ids from blocks reserved in the {@code student_id_blocks} table, the table behind the
+ * {@code Student} entity's id generator. Hibernate runs that generator with the pooled-lo optimizer and, by default,
+ * {@code hibernate.id.generator.stored_last_used}, so {@code next_val} holds the last id of the newest block: a
+ * reservation reads it as {@code v}, advances it to {@code v + size} and owns ids {@code v + 1 .. v + size}, and a
+ * missing row counts as 0. This class does the same, so ids never collide with ones assigned through JPA;
+ * {@code JpaStudentStoreTests} interleaves both stores to keep it that way.
+ */
+class IdBlockAllocator {
+
+    private static final String SEGMENT = "student";
+    private static final String SELECT_FOR_UPDATE = "SELECT next_val FROM student_id_blocks WHERE name = ? FOR UPDATE";
+    private static final String ADVANCE = "UPDATE student_id_blocks SET next_val = ? WHERE name = ?";
+    private static final String INITIALIZE = "INSERT INTO student_id_blocks (name, next_val) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate newTransaction;
+    private final int blockSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private long next;
+    private long limit;
+
+    IdBlockAllocator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, int blockSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+    }
+
+    long nextId() {
+        return nextIds(1)[0];
+    }
+
+    long[] nextIds(int count) {
+        long[] ids = new long[count];
+        lock.lock();
+        try {
+            for (int i = 0; i < count; i++) {
+                if (next == limit) {
+                    int size = Math.max(blockSize, count - i);
+                    next = reserve(size) + 1;
+                    limit = next + size;
+                }
+                ids[i] = next++;
+            }
+        } finally {
+            lock.unlock();
+        }
+        return ids;
+    }
+
+    private long reserve(int size) {
+        try {
+            return newTransaction.execute(status -> reserveInTransaction(size));
+        } catch (DuplicateKeyException e) {
+            // Another node created the row first; it exists now.
+            return newTransaction.execute(status -> reserveInTransaction(size));
+        }
+    }
+
+    private long reserveInTransaction(int size) {
+        List<Long> current = jdbcTemplate.queryForList(SELECT_FOR_UPDATE, Long.class, SEGMENT);
+        if (current.isEmpty()) {
+            jdbcTemplate.update(INITIALIZE, SEGMENT, (long) size);
+            return 0L;
+        }
+        long start = current.get(0);
+        jdbcTemplate.update(ADVANCE, start + size, SEGMENT);
+        return start;
+    }
+}
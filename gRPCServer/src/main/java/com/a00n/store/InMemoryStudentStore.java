@@ -0,0 +1,162 @@
+package com.a00n.store;
+
+import com.a00n.entities.Student;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Non-durable store backed by a concurrent skip list, ordered by id so keyset pages are a sub-map view.
+ */
+@Component
+@ConditionalOnProperty(name = "students.store", havingValue = "memory")
+public class InMemoryStudentStore implements StudentStore {
+
+    private final ConcurrentNavigableMap<Long, Student> students = new ConcurrentSkipListMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    @Override
+    public Optional<Student> findById(long id) {
+        return Optional.ofNullable(students.get(id)).map(InMemoryStudentStore::copy);
+    }
+
+    @Override
+    public List<Student> findAllById(Collection<Long> ids) {
+        List<Student> found = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Student student = students.get(id);
+            if (student != null) {
+                found.add(copy(student));
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public List<Student> findPage(long afterId, int limit) {
+        List<Student> page = new ArrayList<>(Math.min(limit, 1024));
+        Iterator<Student> iterator = students.tailMap(afterId, false).values().iterator();
+        while (page.size() < limit && iterator.hasNext()) {
+            page.add(copy(iterator.next()));
+        }
+        return page;
+    }
+
+    // Id order walks the skip list and stops at the limit. There are no secondary indexes, so the other sorts scan
+    // every student and keep the first matches in a bounded heap.
+    @Override
+    public List<Student> findPage(StudentQuery query, Student after, int limit) {
+        if (query.sort() == StudentQuery.Sort.ID) {
+            ConcurrentNavigableMap<Long, Student> range = query.descending() ? students.descendingMap() : students;
+            if (after != null) {
+                range = range.tailMap(after.getId(), false);
+            }
+            List<Student> page = new ArrayList<>(Math.min(limit, 1024));
+            Iterator<Student> iterator = range.values().iterator();
+            while (page.size() < limit && iterator.hasNext()) {
+                Student student = iterator.next();
+                if (query.matches(student)) {
+                    page.add(copy(student));
+                }
+            }
+            return page;
+        }
+        Comparator<Student> order = query.comparator();
+        PriorityQueue<Student> lowest = new PriorityQueue<>(order.reversed());
+        for (Student student : students.values()) {
+            if (query.matches(student) && (after == null || order.compare(student, after) > 0)) {
+                lowest.add(student);
+                if (lowest.size() > limit) {
+                    lowest.poll();
+                }
+            }
+        }
+        List<Student> page = new ArrayList<>(lowest.size());
+        while (!lowest.isEmpty()) {
+            page.add(copy(lowest.poll()));
+        }
+        Collections.reverse(page);
+        return page;
+    }
+
+    @Override
+    public boolean existsById(long id) {
+        return students.containsKey(id);
+    }
+
+    @Override
+    public Student insert(Student student) {
+        Student stored = copy(student);
+        stored.setId(nextId.getAndIncrement());
+        students.put(stored.getId(), stored);
+        return copy(stored);
+    }
+
+    @Override
+    public List<Student> insertAll(List<Student> batch) {
+        long firstId = nextId.getAndAdd(batch.size());
+        List<Student> inserted = new ArrayList<>(batch.size());
+        for (Student student : batch) {
+            Student stored = copy(student);
+            stored.setId(firstId++);
+            inserted.add(stored);
+        }
+        inserted.forEach(stored -> students.put(stored.getId(), stored));
+        return inserted.stream().map(InMemoryStudentStore::copy).toList();
+    }
+
+    @Override
+    public Optional<Student> update(Student student) {
+        Student stored = copy(student);
+        return Optional.ofNullable(students.computeIfPresent(student.getId(), (id, existing) -> stored))
+                .map(InMemoryStudentStore::copy);
+    }
+
+    @Override
+    public boolean deleteById(long id) {
+        return students.remove(id) != null;
+    }
+
+    @Override
+    public long count() {
+        return students.size();
+    }
+
+    /**
+     * Stores a student under its own id, as when restoring a snapshot, and keeps new ids above it.
+     */
+    void put(Student student) {
+        students.put(student.getId(), copy(student));
+        nextId.accumulateAndGet(student.getId() + 1, Math::max);
+    }
+
+    /**
+     * Reserves {@code count} consecutive ids for students that will be {@link #put} later, and returns the first.
+     */
+    long reserveIds(int count) {
+        return nextId.getAndAdd(count);
+    }
+
+    long nextId() {
+        return nextId.get();
+    }
+
+    void restoreNextId(long id) {
+        nextId.accumulateAndGet(id, Math::max);
+    }
+
+    private static Student copy(Student student) {
+        return new Student(student.getId(), student.getFirstName(), student.getLastName(), student.getAge());
+    }
+}
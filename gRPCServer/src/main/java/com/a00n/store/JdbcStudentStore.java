@@ -0,0 +1,167 @@
+package com.a00n.store;
+
+import com.a00n.entities.Student;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Store that talks to the {@code student} table with fixed SQL and no persistence context. Every statement text is
+ * a constant, and IN lists are padded to a few fixed sizes, so the driver's prepared-statement cache
+ * ({@code cachePrepStmts} on MySQL) reuses statements instead of preparing new ones.
+ */
+@Component
+@ConditionalOnProperty(name = "students.store", havingValue = "jdbc")
+public class JdbcStudentStore implements StudentStore {
+
+    private static final String COLUMNS = "SELECT id, first_name, last_name, age FROM student";
+    private static final String SELECT_BY_ID = COLUMNS + " WHERE id = ?";
+    private static final String SELECT_PAGE = COLUMNS + " WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String EXISTS = "SELECT COUNT(*) FROM student WHERE id = ?";
+    private static final String INSERT = "INSERT INTO student (id, first_name, last_name, age) VALUES (?, ?, ?, ?)";
+    // Full-size chunks of insertAll go out as one multi-row statement; the tail uses the single-row batch.
+    private static final int MULTI_ROW_SIZE = 64;
+    private static final String INSERT_MULTI = "INSERT INTO student (id, first_name, last_name, age) VALUES "
+            + "(?, ?, ?, ?), ".repeat(MULTI_ROW_SIZE - 1) + "(?, ?, ?, ?)";
+    private static final String UPDATE = "UPDATE student SET first_name = ?, last_name = ?, age = ? WHERE id = ?";
+    private static final String DELETE = "DELETE FROM student WHERE id = ?";
+    private static final String COUNT = "SELECT COUNT(*) FROM student";
+    private static final int[] IN_LIST_SIZES = {1, 4, 16, 64, 256};
+    private static final String[] SELECT_IN = new String[IN_LIST_SIZES.length];
+
+    static {
+        for (int i = 0; i < IN_LIST_SIZES.length; i++) {
+            SELECT_IN[i] = COLUMNS + " WHERE id IN (" + "?, ".repeat(IN_LIST_SIZES[i] - 1) + "?)";
+        }
+    }
+
+    private static final RowMapper<Student> ROW_MAPPER = (rs, rowNum) -> new Student(
+            rs.getLong(1), rs.getString(2), rs.getString(3), rs.getObject(4, Long.class));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final IdBlockAllocator idAllocator;
+
+    public JdbcStudentStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                            @Value("${students.store.jdbc.id-block-size:100}") int idBlockSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.idAllocator = new IdBlockAllocator(jdbcTemplate, transactionManager, idBlockSize);
+    }
+
+    @Override
+    public Optional<Student> findById(long id) {
+        return jdbcTemplate.query(SELECT_BY_ID, ROW_MAPPER, id).stream().findFirst();
+    }
+
+    @Override
+    public List<Student> findAllById(Collection<Long> ids) {
+        List<Student> found = new ArrayList<>(ids.size());
+        Long[] remaining = ids.toArray(Long[]::new);
+        int maxSize = IN_LIST_SIZES[IN_LIST_SIZES.length - 1];
+        for (int offset = 0; offset < remaining.length; offset += maxSize) {
+            int length = Math.min(maxSize, remaining.length - offset);
+            int bucket = 0;
+            while (IN_LIST_SIZES[bucket] < length) {
+                bucket++;
+            }
+            // Pad with the last id so the statement text only depends on the bucket size.
+            Object[] args = new Object[IN_LIST_SIZES[bucket]];
+            for (int i = 0; i < args.length; i++) {
+                args[i] = remaining[offset + Math.min(i, length - 1)];
+            }
+            found.addAll(jdbcTemplate.query(SELECT_IN[bucket], ROW_MAPPER, args));
+        }
+        return found;
+    }
+
+    @Override
+    public List<Student> findPage(long afterId, int limit) {
+        return jdbcTemplate.query(SELECT_PAGE, ROW_MAPPER, afterId, limit);
+    }
+
+    @Override
+    public List<Student> findPage(StudentQuery query, Student after, int limit) {
+        StudentQuerySql page = StudentQuerySql.page(query, after, limit);
+        return namedJdbcTemplate.query(page.sql(), page.parameters(), ROW_MAPPER);
+    }
+
+    @Override
+    public boolean existsById(long id) {
+        Integer count = jdbcTemplate.queryForObject(EXISTS, Integer.class, id);
+        return count != null && count > 0;
+    }
+
+    @Override
+    public Student insert(Student student) {
+        Student inserted = new Student(idAllocator.nextId(), student.getFirstName(), student.getLastName(), student.getAge());
+        jdbcTemplate.update(INSERT, inserted.getId(), inserted.getFirstName(), inserted.getLastName(), inserted.getAge());
+        return inserted;
+    }
+
+    @Override
+    public List<Student> insertAll(List<Student> students) {
+        long[] ids = idAllocator.nextIds(students.size());
+        List<Student> inserted = new ArrayList<>(students.size());
+        for (int i = 0; i < ids.length; i++) {
+            Student student = students.get(i);
+            inserted.add(new Student(ids[i], student.getFirstName(), student.getLastName(), student.getAge()));
+        }
+        int multiRowEnd = inserted.size() - inserted.size() % MULTI_ROW_SIZE;
+        List<Object[]> multiRows = new ArrayList<>(multiRowEnd / MULTI_ROW_SIZE);
+        for (int offset = 0; offset < multiRowEnd; offset += MULTI_ROW_SIZE) {
+            Object[] args = new Object[MULTI_ROW_SIZE * 4];
+            for (int i = 0; i < MULTI_ROW_SIZE; i++) {
+                Student student = inserted.get(offset + i);
+                args[i * 4] = student.getId();
+                args[i * 4 + 1] = student.getFirstName();
+                args[i * 4 + 2] = student.getLastName();
+                args[i * 4 + 3] = student.getAge();
+            }
+            multiRows.add(args);
+        }
+        List<Object[]> rows = new ArrayList<>(inserted.size() - multiRowEnd);
+        for (Student student : inserted.subList(multiRowEnd, inserted.size())) {
+            rows.add(new Object[]{student.getId(), student.getFirstName(), student.getLastName(), student.getAge()});
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!multiRows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_MULTI, multiRows);
+            }
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT, rows);
+            }
+        });
+        return inserted;
+    }
+
+    @Override
+    public Optional<Student> update(Student student) {
+        int updated = jdbcTemplate.update(UPDATE, student.getFirstName(), student.getLastName(), student.getAge(), student.getId());
+        return updated == 0 ? Optional.empty()
+                : Optional.of(new Student(student.getId(), student.getFirstName(), student.getLastName(), student.getAge()));
+    }
+
+    @Override
+    public boolean deleteById(long id) {
+        return jdbcTemplate.update(DELETE, id) > 0;
+    }
+
+    @Override
+    public long count() {
+        Long count = jdbcTemplate.queryForObject(COUNT, Long.class);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,75 @@
+package com.a00n.store;
+
+import com.a00n.entities.Student;
+import com.a00n.repositories.StudentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@ConditionalOnProperty(name = "students.store", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaStudentStore implements StudentStore {
+
+    private final StudentRepository studentRepository;
+
+    @Override
+    public Optional<Student> findById(long id) {
+        return studentRepository.findById(id);
+    }
+
+    @Override
+    public List<Student> findAllById(Collection<Long> ids) {
+        return studentRepository.findAllById(ids);
+    }
+
+    @Override
+    public List<Student> findPage(long afterId, int limit) {
+        return studentRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<Student> findPage(StudentQuery query, Student after, int limit) {
+        return studentRepository.findPage(query, after, limit);
+    }
+
+    @Override
+    public boolean existsById(long id) {
+        return studentRepository.existsById(id);
+    }
+
+    @Override
+    public Student insert(Student student) {
+        student.setId(null);
+        return studentRepository.save(student);
+    }
+
+    @Override
+    public List<Student> insertAll(List<Student> students) {
+        students.forEach(student -> student.setId(null));
+        return studentRepository.saveAll(students);
+    }
+
+    @Override
+    public Optional<Student> update(Student student) {
+        if (!studentRepository.existsById(student.getId())) {
+            return Optional.empty();
+        }
+        return Optional.of(studentRepository.save(student));
+    }
+
+    @Override
+    public boolean deleteById(long id) {
+        return studentRepository.deleteByIdReturningCount(id) > 0;
+    }
+
+    @Override
+    public long count() {
+        return studentRepository.count();
+    }
+}
@@ -0,0 +1,638 @@
+package com.a00n.store;
+
+import com.a00n.entities.Student;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Durable store that appends fixed-size student records to memory-mapped segment files under
+ * {@code students.store.mmap.directory}, without a database. An update appends the new version and a delete appends a
+ * marker. Reads go through an in-heap map from id to record location, which is rebuilt at startup by replaying the
+ * segments in order.
+ * <p>
+ * A write is in the page cache when it returns, so it survives a crash of the process. With
+ * {@code students.store.mmap.force-on-write} it is also flushed to disk first, once per call, and survives a crash of
+ * the machine. Every record carries a CRC: replay drops a torn record at the end of the newest segment and everything
+ * after it, and fails on a bad record in an older segment, which is always flushed before the next one is started.
+ * <p>
+ * Every {@code students.store.mmap.compact-interval}, a background task copies the current records of older segments
+ * that are mostly dead into the newest one, flushes it, and deletes them.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "students.store", havingValue = "mmap")
+public class MappedStudentStore implements StudentStore, AutoCloseable {
+
+    static final int RECORD_SIZE = 256;
+    static final int MAX_NAME_BYTES = 116;
+
+    // Record layout. The CRC32C covers every byte after it; a zero kind marks a slot that was never written.
+    private static final int CRC = 0;
+    private static final int KIND = 4;
+    private static final int NULLS = 5;
+    private static final int FIRST_NAME_LENGTH = 6;
+    private static final int LAST_NAME_LENGTH = 7;
+    private static final int ID = 8;
+    private static final int AGE = 16;
+    private static final int FIRST_NAME = 24;
+    private static final int LAST_NAME = FIRST_NAME + MAX_NAME_BYTES;
+
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final int NULL_FIRST_NAME = 1;
+    private static final int NULL_LAST_NAME = 2;
+    private static final int NULL_AGE = 4;
+    // Records copied per write-lock hold while compacting, so writes keep flowing.
+    private static final int COMPACT_CHUNK = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Path directory;
+    private final int segmentRecords;
+    private final boolean forceOnWrite;
+    private final ScheduledExecutorService compactor;
+    private final Map<Integer, Segment> segments = new HashMap<>();
+    private final LongLongHashMap locations = new LongLongHashMap(1024);
+    private final byte[] record = new byte[RECORD_SIZE];
+    private final ByteBuffer recordBuffer = ByteBuffer.wrap(record);
+    private final CRC32C crc = new CRC32C();
+    private Segment active;
+    private int unforced;
+    // Ids in ascending order for pages; deleted ids stay until they are half of the array.
+    private long[] orderedIds = new long[1024];
+    private int orderedCount;
+    private int orderedDead;
+    private long nextId = 1;
+
+    public MappedStudentStore(@Value("${students.store.mmap.directory:data/students}") String directory,
+                              @Value("${students.store.mmap.segment-size:64MB}") DataSize segmentSize,
+                              @Value("${students.store.mmap.force-on-write:false}") boolean forceOnWrite,
+                              @Value("${students.store.mmap.compact-interval:30s}") Duration compactInterval) {
+        this.directory = Path.of(directory);
+        this.segmentRecords = (int) Math.min(Integer.MAX_VALUE / RECORD_SIZE, segmentSize.toBytes() / RECORD_SIZE);
+        this.forceOnWrite = forceOnWrite;
+        if (segmentRecords < 1) {
+            throw new IllegalArgumentException("students.store.mmap.segment-size must hold at least one record");
+        }
+        long started = System.nanoTime();
+        recover();
+        log.info("replayed {} students from {} segments in {} ms", locations.size(), segments.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        if (compactInterval.isZero()) {
+            compactor = null;
+        } else {
+            compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "student-store-compactor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            compactor.scheduleWithFixedDelay(this::compactQuietly, compactInterval.toMillis(),
+                    compactInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public Optional<Student> findById(long id) {
+        lock.readLock().lock();
+        try {
+            long location = locations.get(id);
+            return location == LongLongHashMap.MISSING ? Optional.empty() : Optional.of(read(location));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Student> findAllById(Collection<Long> ids) {
+        List<Student> found = new ArrayList<>(ids.size());
+        lock.readLock().lock();
+        try {
+            for (Long id : ids) {
+                long location = locations.get(id);
+                if (location != LongLongHashMap.MISSING) {
+                    found.add(read(location));
+                }
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Student> findPage(long afterId, int limit) {
+        List<Student> page = new ArrayList<>(Math.min(limit, 1024));
+        lock.readLock().lock();
+        try {
+            for (int i = firstIndexAfter(afterId); i < orderedCount && page.size() < limit; i++) {
+                long location = locations.get(orderedIds[i]);
+                if (location != LongLongHashMap.MISSING) {
+                    page.add(read(location));
+                }
+            }
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Id order walks the ordered ids and stops at the limit. The other sorts read every record and keep the first
+    // matches in a bounded heap.
+    @Override
+    public List<Student> findPage(StudentQuery query, Student after, int limit) {
+        lock.readLock().lock();
+        try {
+            List<Student> page = new ArrayList<>(Math.min(limit, 1024));
+            if (query.sort() == StudentQuery.Sort.ID) {
+                int step = query.descending() ? -1 : 1;
+                int start = query.descending()
+                        ? (after == null ? orderedCount : firstIndexAfter(after.getId() - 1)) - 1
+                        : after == null ? 0 : firstIndexAfter(after.getId());
+                for (int i = start; i >= 0 && i < orderedCount && page.size() < limit; i += step) {
+                    long location = locations.get(orderedIds[i]);
+                    if (location != LongLongHashMap.MISSING) {
+                        Student student = read(location);
+                        if (query.matches(student)) {
+                            page.add(student);
+                        }
+                    }
+                }
+                return page;
+            }
+            Comparator<Student> order = query.comparator();
+            PriorityQueue<Student> lowest = new PriorityQueue<>(order.reversed());
+            for (int i = 0; i < orderedCount; i++) {
+                long location = locations.get(orderedIds[i]);
+                if (location == LongLongHashMap.MISSING) {
+                    continue;
+                }
+                Student student = read(location);
+                if (query.matches(student) && (after == null || order.compare(student, after) > 0)) {
+                    lowest.add(student);
+                    if (lowest.size() > limit) {
+                        lowest.poll();
+                    }
+                }
+            }
+            while (!lowest.isEmpty()) {
+                page.add(lowest.poll());
+            }
+            Collections.reverse(page);
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean existsById(long id) {
+        lock.readLock().lock();
+        try {
+            return locations.get(id) != LongLongHashMap.MISSING;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Student insert(Student student) {
+        return insertAll(List.of(student)).get(0);
+    }
+
+    @Override
+    public List<Student> insertAll(List<Student> students) {
+        students.forEach(MappedStudentStore::checkNames);
+        List<Student> inserted = new ArrayList<>(students.size());
+        lock.writeLock().lock();
+        try {
+            for (Student student : students) {
+                long id = nextId++;
+                put(id, student);
+                if (orderedCount == orderedIds.length) {
+                    orderedIds = Arrays.copyOf(orderedIds, orderedCount * 2);
+                }
+                orderedIds[orderedCount++] = id;
+                inserted.add(new Student(id, student.getFirstName(), student.getLastName(), student.getAge()));
+            }
+            sync();
+            return inserted;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Student> update(Student student) {
+        checkNames(student);
+        lock.writeLock().lock();
+        try {
+            if (locations.get(student.getId()) == LongLongHashMap.MISSING) {
+                return Optional.empty();
+            }
+            put(student.getId(), student);
+            sync();
+            return Optional.of(new Student(student.getId(), student.getFirstName(), student.getLastName(), student.getAge()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean deleteById(long id) {
+        lock.writeLock().lock();
+        try {
+            long location = locations.remove(id);
+            if (location == LongLongHashMap.MISSING) {
+                return false;
+            }
+            segmentOf(location).live--;
+            encode(DELETE, id, null);
+            append();
+            sync();
+            if (++orderedDead > 1024 && orderedDead > orderedCount / 2) {
+                dropDeletedIds();
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public long count() {
+        lock.readLock().lock();
+        try {
+            return locations.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rewrites every older segment in which fewer than half of the records are current, then deletes it. Runs on the
+     * compactor thread; public so that it can be triggered on demand.
+     */
+    public void compact() {
+        List<Segment> candidates = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Segment segment : segments.values()) {
+                if (segment != active && segment.live * 2 < segment.records) {
+                    candidates.add(segment);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        candidates.sort(Comparator.comparingInt(segment -> segment.number));
+        for (Segment segment : candidates) {
+            for (int from = 0; from < segment.records; from += COMPACT_CHUNK) {
+                lock.writeLock().lock();
+                try {
+                    copyCurrentRecords(segment, from, Math.min(segment.records, from + COMPACT_CHUNK));
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+            lock.writeLock().lock();
+            try {
+                // The copies must be on disk before the only other copy goes away.
+                active.buffer.force();
+                unforced = active.records;
+                segments.remove(segment.number);
+                Files.delete(segment.path);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("compacted segment {}", segment.path.getFileName());
+        }
+    }
+
+    @Override
+    public void close() {
+        if (compactor != null) {
+            compactor.shutdownNow();
+        }
+        lock.writeLock().lock();
+        try {
+            active.buffer.force();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void compactQuietly() {
+        try {
+            compact();
+        } catch (RuntimeException e) {
+            log.warn("segment compaction failed", e);
+        }
+    }
+
+    // Current versions move to the active segment. A delete marker is only needed while an older segment may still
+    // hold a version of its student, or when it is for the highest id ever assigned: replay sets the next id from the
+    // highest id it sees, so that id must keep a record or a restart would hand it out again.
+    private void copyCurrentRecords(Segment segment, int from, int to) {
+        boolean olderSegments = segments.keySet().stream().anyMatch(number -> number < segment.number);
+        for (int index = from; index < to; index++) {
+            int position = index * RECORD_SIZE;
+            byte kind = segment.buffer.get(position + KIND);
+            long id = segment.buffer.getLong(position + ID);
+            boolean current = kind == PUT && locations.get(id) == location(segment.number, index);
+            if (current || kind == DELETE && (olderSegments || id == nextId - 1)) {
+                segment.buffer.get(position, record);
+                long location = append();
+                if (current) {
+                    locations.put(id, location);
+                    segment.live--;
+                    active.live++;
+                }
+            }
+        }
+    }
+
+    private void put(long id, Student student) {
+        encode(PUT, id, student);
+        long location = append();
+        long previous = locations.put(id, location);
+        if (previous != LongLongHashMap.MISSING) {
+            segmentOf(previous).live--;
+        }
+        active.live++;
+    }
+
+    private void encode(byte kind, long id, Student student) {
+        Arrays.fill(record, (byte) 0);
+        recordBuffer.put(KIND, kind).putLong(ID, id);
+        if (student != null) {
+            int nulls = 0;
+            if (student.getFirstName() == null) {
+                nulls |= NULL_FIRST_NAME;
+            } else {
+                byte[] firstName = student.getFirstName().getBytes(StandardCharsets.UTF_8);
+                recordBuffer.put(FIRST_NAME_LENGTH, (byte) firstName.length).put(FIRST_NAME, firstName);
+            }
+            if (student.getLastName() == null) {
+                nulls |= NULL_LAST_NAME;
+            } else {
+                byte[] lastName = student.getLastName().getBytes(StandardCharsets.UTF_8);
+                recordBuffer.put(LAST_NAME_LENGTH, (byte) lastName.length).put(LAST_NAME, lastName);
+            }
+            if (student.getAge() == null) {
+                nulls |= NULL_AGE;
+            } else {
+                recordBuffer.putLong(AGE, student.getAge());
+            }
+            recordBuffer.put(NULLS, (byte) nulls);
+        }
+        crc.reset();
+        crc.update(record, KIND, RECORD_SIZE - KIND);
+        recordBuffer.putInt(CRC, (int) crc.getValue());
+    }
+
+    // Writes the encoded record at the end of the active segment, starting a new one when it is full.
+    private long append() {
+        if (active.records == active.capacity()) {
+            active.buffer.force();
+            active = createSegment(active.number + 1);
+            unforced = 0;
+        }
+        active.buffer.put(active.records * RECORD_SIZE, record);
+        return location(active.number, active.records++);
+    }
+
+    private void sync() {
+        if (forceOnWrite && unforced < active.records) {
+            active.buffer.force(unforced * RECORD_SIZE, (active.records - unforced) * RECORD_SIZE);
+            unforced = active.records;
+        }
+    }
+
+    private Student read(long location) {
+        ByteBuffer buffer = segmentOf(location).buffer;
+        int position = (int) location * RECORD_SIZE;
+        int nulls = buffer.get(position + NULLS);
+        String firstName = null;
+        String lastName = null;
+        if ((nulls & NULL_FIRST_NAME) == 0) {
+            byte[] bytes = new byte[buffer.get(position + FIRST_NAME_LENGTH) & 0xFF];
+            buffer.get(position + FIRST_NAME, bytes);
+            firstName = new String(bytes, StandardCharsets.UTF_8);
+        }
+        if ((nulls & NULL_LAST_NAME) == 0) {
+            byte[] bytes = new byte[buffer.get(position + LAST_NAME_LENGTH) & 0xFF];
+            buffer.get(position + LAST_NAME, bytes);
+            lastName = new String(bytes, StandardCharsets.UTF_8);
+        }
+        Long age = (nulls & NULL_AGE) == 0 ? buffer.getLong(position + AGE) : null;
+        return new Student(buffer.getLong(position + ID), firstName, lastName, age);
+    }
+
+    private void recover() {
+        List<Path> files;
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> listing = Files.list(directory)) {
+                files = listing.filter(path -> path.getFileName().toString().endsWith(".seg")).sorted().toList();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        long maxId = 0;
+        for (int i = 0; i < files.size(); i++) {
+            Segment segment = openSegment(files.get(i));
+            segments.put(segment.number, segment);
+            maxId = Math.max(maxId, replay(segment, i == files.size() - 1));
+            active = segment;
+        }
+        if (active == null) {
+            active = createSegment(1);
+        }
+        unforced = active.records;
+        nextId = maxId + 1;
+        long[] ids = locations.keys();
+        Arrays.parallelSort(ids);
+        orderedIds = Arrays.copyOf(ids, Math.max(1024, ids.length));
+        orderedCount = ids.length;
+    }
+
+    // Applies the segment's records to the index and returns the highest id seen.
+    private long replay(Segment segment, boolean newest) {
+        long maxId = 0;
+        int index = 0;
+        for (; index < segment.capacity(); index++) {
+            int position = index * RECORD_SIZE;
+            byte kind = segment.buffer.get(position + KIND);
+            if (kind == 0) {
+                break;
+            }
+            if (!hasValidCrc(segment.buffer, position)) {
+                if (!newest) {
+                    throw new IllegalStateException("corrupt record " + index + " in " + segment.path);
+                }
+                log.warn("dropping torn record {} and later records of {}", index, segment.path);
+                break;
+            }
+            long id = segment.buffer.getLong(position + ID);
+            maxId = Math.max(maxId, id);
+            long previous = kind == PUT
+                    ? locations.put(id, location(segment.number, index))
+                    : locations.remove(id);
+            if (previous != LongLongHashMap.MISSING) {
+                segmentOf(previous).live--;
+            }
+            if (kind == PUT) {
+                segment.live++;
+            }
+        }
+        segment.records = index;
+        if (newest) {
+            // Nothing past the end may be replayed later, once new records are appended in front of it.
+            byte[] zeros = new byte[RECORD_SIZE];
+            for (int position = index * RECORD_SIZE; position < segment.buffer.capacity(); position += RECORD_SIZE) {
+                if (!isZero(segment.buffer, position)) {
+                    segment.buffer.put(position, zeros);
+                }
+            }
+            segment.buffer.force();
+        }
+        return maxId;
+    }
+
+    private boolean hasValidCrc(ByteBuffer buffer, int position) {
+        buffer.get(position, record);
+        crc.reset();
+        crc.update(record, KIND, RECORD_SIZE - KIND);
+        return recordBuffer.getInt(CRC) == (int) crc.getValue();
+    }
+
+    private static boolean isZero(ByteBuffer buffer, int position) {
+        for (int offset = 0; offset < RECORD_SIZE; offset += Long.BYTES) {
+            if (buffer.getLong(position + offset) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Segment createSegment(int number) {
+        Segment segment = mapSegment(directory.resolve(String.format("%08d.seg", number)), number,
+                (long) segmentRecords * RECORD_SIZE, StandardOpenOption.CREATE_NEW);
+        segments.put(number, segment);
+        return segment;
+    }
+
+    private Segment openSegment(Path path) {
+        String name = path.getFileName().toString();
+        try {
+            return mapSegment(path, Integer.parseInt(name.substring(0, name.length() - ".seg".length())),
+                    Files.size(path) / RECORD_SIZE * RECORD_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Segment mapSegment(Path path, int number, long size, StandardOpenOption... options) {
+        List<StandardOpenOption> openOptions = new ArrayList<>(List.of(StandardOpenOption.READ, StandardOpenOption.WRITE));
+        openOptions.addAll(List.of(options));
+        try (FileChannel channel = FileChannel.open(path, openOptions.toArray(StandardOpenOption[]::new))) {
+            // The mapping stays valid after the channel is closed.
+            return new Segment(number, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void dropDeletedIds() {
+        int kept = 0;
+        for (int i = 0; i < orderedCount; i++) {
+            if (locations.get(orderedIds[i]) != LongLongHashMap.MISSING) {
+                orderedIds[kept++] = orderedIds[i];
+            }
+        }
+        orderedCount = kept;
+        orderedDead = 0;
+    }
+
+    // First index in orderedIds whose id is greater than id; orderedCount if there is none.
+    private int firstIndexAfter(long id) {
+        int low = 0;
+        int high = orderedCount;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (orderedIds[middle] <= id) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private Segment segmentOf(long location) {
+        return segments.get((int) (location >>> 32));
+    }
+
+    private static long location(int segment, int index) {
+        return (long) segment << 32 | index;
+    }
+
+    private static void checkNames(Student student) {
+        for (String name : new String[]{student.getFirstName(), student.getLastName()}) {
+            if (name != null && name.getBytes(StandardCharsets.UTF_8).length > MAX_NAME_BYTES) {
+                throw new IllegalArgumentException("names are limited to " + MAX_NAME_BYTES + " UTF-8 bytes");
+            }
+        }
+    }
+
+    private static final class Segment {
+
+        final int number;
+        final Path path;
+        final MappedByteBuffer buffer;
+        // Records written, and how many of them are the current version of a student.
+        int records;
+        int live;
+
+        Segment(int number, Path path, MappedByteBuffer buffer) {
+            this.number = number;
+            this.path = path;
+            this.buffer = buffer;
+        }
+
+        int capacity() {
+            return buffer.capacity() / RECORD_SIZE;
+        }
+    }
+}
@@ -0,0 +1,527 @@
+package com.a00n.store;
+
+import com.a00n.entities.Student;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Non-durable store that keeps students outside the heap, in columns: ids and ages as packed longs, first and last
+ * names as int codes into a dictionary of distinct names. A row takes 25 bytes of direct memory and nothing on the
+ * heap; only the distinct names do. Rows are appended in id order, the order ids are assigned in, so a lookup is a
+ * binary search of the id column and an id page is a sequential walk. Other sorts scan the columns and only build
+ * {@link Student} objects for the rows they return.
+ * <p>
+ * Updates overwrite a row in place and deletes mark it dead. Dead rows are dropped, and unused names forgotten, once
+ * they outnumber live ones, or once the dictionary holds over twice the names the live rows can use, which is how
+ * names replaced by updates are reclaimed. Reads share a lock that writes take exclusively, so a full scan delays
+ * writes.
+ */
+@Component
+@ConditionalOnProperty(name = "students.store", havingValue = "offheap")
+public class OffHeapStudentStore implements StudentStore {
+
+    private static final long NO_AGE = Long.MIN_VALUE;
+    private static final int NO_NAME = -1;
+    private static final byte LIVE = 1;
+    private static final int MIN_DEAD_TO_COMPACT = 1 << 16;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int segmentRows;
+    private final int segmentShift;
+    private Segment[] segments = new Segment[0];
+    private Map<String, Integer> nameCodes = new HashMap<>();
+    private List<String> names = new ArrayList<>();
+    private int rowCount;
+    private int deadCount;
+    private long nextId = 1;
+
+    public OffHeapStudentStore(@Value("${students.store.offheap.segment-rows:65536}") int segmentRows) {
+        if (Integer.bitCount(segmentRows) != 1) {
+            throw new IllegalArgumentException("students.store.offheap.segment-rows must be a power of two");
+        }
+        this.segmentRows = segmentRows;
+        this.segmentShift = Integer.numberOfTrailingZeros(segmentRows);
+    }
+
+    @Override
+    public Optional<Student> findById(long id) {
+        lock.readLock().lock();
+        try {
+            int row = rowOf(id);
+            return row < 0 ? Optional.empty() : Optional.of(read(row));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Student> findAllById(Collection<Long> ids) {
+        List<Student> found = new ArrayList<>(ids.size());
+        lock.readLock().lock();
+        try {
+            for (Long id : ids) {
+                int row = rowOf(id);
+                if (row >= 0) {
+                    found.add(read(row));
+                }
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Student> findPage(long afterId, int limit) {
+        List<Student> page = new ArrayList<>(Math.min(limit, 1024));
+        lock.readLock().lock();
+        try {
+            for (int row = firstRowAfter(afterId); row < rowCount && page.size() < limit; row++) {
+                if (isLive(row)) {
+                    page.add(read(row));
+                }
+            }
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Id order walks the id column from the binary search and stops at the limit. The other sorts scan every row and
+    // keep the first matches in a bounded heap of row numbers.
+    @Override
+    public List<Student> findPage(StudentQuery query, Student after, int limit) {
+        lock.readLock().lock();
+        try {
+            Filter filter = filter(query);
+            List<Student> page = new ArrayList<>(Math.min(limit, 1024));
+            if (query.sort() == StudentQuery.Sort.ID && !query.descending()) {
+                for (int row = after == null ? 0 : firstRowAfter(after.getId()); row < rowCount && page.size() < limit; row++) {
+                    if (filter.matches(row)) {
+                        page.add(read(row));
+                    }
+                }
+                return page;
+            }
+            if (query.sort() == StudentQuery.Sort.ID) {
+                for (int row = (after == null ? rowCount : firstRowAfter(after.getId() - 1)) - 1; row >= 0 && page.size() < limit; row--) {
+                    if (filter.matches(row)) {
+                        page.add(read(row));
+                    }
+                }
+                return page;
+            }
+            int direction = query.descending() ? -1 : 1;
+            TopRows lowest = new TopRows(limit, (a, b) -> direction * compare(query.sort(), a,
+                    name(lastNameAt(b)), name(firstNameAt(b)), ageAt(b), idAt(b)));
+            String afterLast = after == null ? null : after.getLastName();
+            String afterFirst = after == null ? null : after.getFirstName();
+            long afterAge = after == null || after.getAge() == null ? NO_AGE : after.getAge();
+            for (int row = 0; row < rowCount; row++) {
+                if (filter.matches(row) && (after == null
+                        || direction * compare(query.sort(), row, afterLast, afterFirst, afterAge, after.getId()) > 0)) {
+                    lowest.offer(row);
+                }
+            }
+            for (int row : lowest.sorted()) {
+                page.add(read(row));
+            }
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean existsById(long id) {
+        lock.readLock().lock();
+        try {
+            return rowOf(id) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Student insert(Student student) {
+        return insertAll(List.of(student)).get(0);
+    }
+
+    @Override
+    public List<Student> insertAll(List<Student> batch) {
+        List<Student> inserted = new ArrayList<>(batch.size());
+        lock.writeLock().lock();
+        try {
+            for (Student student : batch) {
+                int row = appendRow(nextId);
+                write(row, student);
+                segments[row >>> segmentShift].live.put(row & (segmentRows - 1), LIVE);
+                inserted.add(new Student(nextId++, student.getFirstName(), student.getLastName(), student.getAge()));
+            }
+            return inserted;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Student> update(Student student) {
+        lock.writeLock().lock();
+        try {
+            int row = rowOf(student.getId());
+            if (row < 0) {
+                return Optional.empty();
+            }
+            write(row, student);
+            compactIfWasteful();
+            return Optional.of(new Student(student.getId(), student.getFirstName(), student.getLastName(), student.getAge()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean deleteById(long id) {
+        lock.writeLock().lock();
+        try {
+            int row = rowOf(id);
+            if (row < 0) {
+                return false;
+            }
+            segments[row >>> segmentShift].live.put(row & (segmentRows - 1), (byte) 0);
+            deadCount++;
+            compactIfWasteful();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public long count() {
+        lock.readLock().lock();
+        try {
+            return rowCount - deadCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of names in the dictionary, used or not.
+     */
+    int dictionarySize() {
+        lock.readLock().lock();
+        try {
+            return names.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Each live row uses at most two names, so past four per live row over half of the dictionary is unused. Both
+    // triggers need garbage proportional to what compaction copies, which keeps its cost amortized.
+    private void compactIfWasteful() {
+        int liveRows = rowCount - deadCount;
+        if (deadCount >= MIN_DEAD_TO_COMPACT && deadCount > liveRows
+                || names.size() >= MIN_DEAD_TO_COMPACT && names.size() > 4L * liveRows) {
+            compact();
+        }
+    }
+
+    // Copies the live rows into new segments with a dictionary of the names still in use. The old segments' memory
+    // is released when the buffers are collected.
+    private void compact() {
+        Segment[] oldSegments = segments;
+        List<String> oldNames = names;
+        int oldRowCount = rowCount;
+        segments = new Segment[0];
+        nameCodes = new HashMap<>();
+        names = new ArrayList<>();
+        rowCount = 0;
+        deadCount = 0;
+        for (int row = 0; row < oldRowCount; row++) {
+            Segment from = oldSegments[row >>> segmentShift];
+            int offset = row & (segmentRows - 1);
+            if (from.live.get(offset) != LIVE) {
+                continue;
+            }
+            int to = appendRow(from.ids.get(offset));
+            Segment segment = segments[to >>> segmentShift];
+            int toOffset = to & (segmentRows - 1);
+            int firstName = from.firstNames.get(offset);
+            int lastName = from.lastNames.get(offset);
+            segment.ages.put(toOffset, from.ages.get(offset));
+            segment.firstNames.put(toOffset, code(firstName == NO_NAME ? null : oldNames.get(firstName)));
+            segment.lastNames.put(toOffset, code(lastName == NO_NAME ? null : oldNames.get(lastName)));
+            segment.live.put(toOffset, LIVE);
+        }
+    }
+
+    // Adds a dead row with this id at the end, in a new segment when the last one is full, and returns its number.
+    private int appendRow(long id) {
+        int row = rowCount;
+        if (row >>> segmentShift == segments.length) {
+            segments = Arrays.copyOf(segments, segments.length + 1);
+            segments[segments.length - 1] = new Segment(segmentRows);
+        }
+        segments[row >>> segmentShift].ids.put(row & (segmentRows - 1), id);
+        rowCount++;
+        return row;
+    }
+
+    private void write(int row, Student student) {
+        Segment segment = segments[row >>> segmentShift];
+        int offset = row & (segmentRows - 1);
+        segment.ages.put(offset, student.getAge() == null ? NO_AGE : student.getAge());
+        segment.firstNames.put(offset, code(student.getFirstName()));
+        segment.lastNames.put(offset, code(student.getLastName()));
+    }
+
+    private Student read(int row) {
+        Segment segment = segments[row >>> segmentShift];
+        int offset = row & (segmentRows - 1);
+        long age = segment.ages.get(offset);
+        return new Student(segment.ids.get(offset), name(segment.firstNames.get(offset)),
+                name(segment.lastNames.get(offset)), age == NO_AGE ? null : age);
+    }
+
+    private int code(String name) {
+        if (name == null) {
+            return NO_NAME;
+        }
+        Integer code = nameCodes.get(name);
+        if (code == null) {
+            code = names.size();
+            names.add(name);
+            nameCodes.put(name, code);
+        }
+        return code;
+    }
+
+    private String name(int code) {
+        return code == NO_NAME ? null : names.get(code);
+    }
+
+    // Row of a live student, or -1.
+    private int rowOf(long id) {
+        int row = firstRowAfter(id - 1);
+        return row < rowCount && idAt(row) == id && isLive(row) ? row : -1;
+    }
+
+    // First row, live or dead, whose id is greater than id; rowCount if there is none.
+    private int firstRowAfter(long id) {
+        int low = 0;
+        int high = rowCount;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (idAt(middle) <= id) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // Compares a row's sort key to the given one; only the fields in the key are read.
+    private int compare(StudentQuery.Sort sort, int row, String lastName, String firstName, long age, long id) {
+        int order = switch (sort) {
+            case ID -> 0;
+            case AGE -> Long.compare(ageAt(row), age);
+            case LAST_NAME -> {
+                int byLast = name(lastNameAt(row)).compareTo(lastName);
+                yield byLast != 0 ? byLast : name(firstNameAt(row)).compareTo(firstName);
+            }
+            case FIRST_NAME -> {
+                int byFirst = name(firstNameAt(row)).compareTo(firstName);
+                yield byFirst != 0 ? byFirst : name(lastNameAt(row)).compareTo(lastName);
+            }
+        };
+        return order != 0 ? order : Long.compare(idAt(row), id);
+    }
+
+    private Filter filter(StudentQuery query) {
+        return new Filter(
+                query.minAge() == null ? Long.MIN_VALUE : query.minAge(),
+                query.maxAge() == null ? Long.MAX_VALUE : query.maxAge(),
+                query.sort() == StudentQuery.Sort.AGE || query.minAge() != null || query.maxAge() != null,
+                query.sort() == StudentQuery.Sort.LAST_NAME || query.sort() == StudentQuery.Sort.FIRST_NAME,
+                codesWithPrefix(query.firstNamePrefix()),
+                codesWithPrefix(query.lastNamePrefix()));
+    }
+
+    private BitSet codesWithPrefix(String prefix) {
+        if (prefix == null) {
+            return null;
+        }
+        BitSet codes = new BitSet(names.size());
+        for (int code = 0; code < names.size(); code++) {
+            if (names.get(code).startsWith(prefix)) {
+                codes.set(code);
+            }
+        }
+        return codes;
+    }
+
+    private long idAt(int row) {
+        return segments[row >>> segmentShift].ids.get(row & (segmentRows - 1));
+    }
+
+    private long ageAt(int row) {
+        return segments[row >>> segmentShift].ages.get(row & (segmentRows - 1));
+    }
+
+    private int firstNameAt(int row) {
+        return segments[row >>> segmentShift].firstNames.get(row & (segmentRows - 1));
+    }
+
+    private int lastNameAt(int row) {
+        return segments[row >>> segmentShift].lastNames.get(row & (segmentRows - 1));
+    }
+
+    private boolean isLive(int row) {
+        return segments[row >>> segmentShift].live.get(row & (segmentRows - 1)) == LIVE;
+    }
+
+    // The query's conditions on the raw columns; a prefix is a set of dictionary codes. Students with a null key
+    // column are left out, as StudentQuery#matches does.
+    private final class Filter {
+
+        final long minAge;
+        final long maxAge;
+        final boolean needsAge;
+        final boolean needsNames;
+        final BitSet firstNames;
+        final BitSet lastNames;
+
+        Filter(long minAge, long maxAge, boolean needsAge, boolean needsNames, BitSet firstNames, BitSet lastNames) {
+            this.minAge = minAge;
+            this.maxAge = maxAge;
+            this.needsAge = needsAge;
+            this.needsNames = needsNames;
+            this.firstNames = firstNames;
+            this.lastNames = lastNames;
+        }
+
+        boolean matches(int row) {
+            if (!isLive(row)) {
+                return false;
+            }
+            long age = ageAt(row);
+            if (needsAge && (age == NO_AGE || age < minAge || age > maxAge)) {
+                return false;
+            }
+            int firstName = firstNameAt(row);
+            int lastName = lastNameAt(row);
+            if (needsNames && (firstName == NO_NAME || lastName == NO_NAME)) {
+                return false;
+            }
+            return (firstNames == null || firstName != NO_NAME && firstNames.get(firstName))
+                    && (lastNames == null || lastName != NO_NAME && lastNames.get(lastName));
+        }
+    }
+
+    private interface RowOrder {
+        int compare(int a, int b);
+    }
+
+    // The lowest rows offered so far by an order, at most limit of them, in a max-heap of row numbers.
+    private static final class TopRows {
+
+        private final int[] heap;
+        private final RowOrder order;
+        private int size;
+
+        TopRows(int limit, RowOrder order) {
+            this.heap = new int[limit];
+            this.order = order;
+        }
+
+        void offer(int row) {
+            if (size < heap.length) {
+                heap[size] = row;
+                siftUp(size++);
+            } else if (size > 0 && order.compare(row, heap[0]) < 0) {
+                heap[0] = row;
+                siftDown(0);
+            }
+        }
+
+        int[] sorted() {
+            int[] rows = new int[size];
+            while (size > 0) {
+                rows[size - 1] = heap[0];
+                heap[0] = heap[--size];
+                siftDown(0);
+            }
+            return rows;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (order.compare(heap[i], heap[parent]) <= 0) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int largest = i;
+                for (int child = 2 * i + 1; child <= 2 * i + 2 && child < size; child++) {
+                    if (order.compare(heap[child], heap[largest]) > 0) {
+                        largest = child;
+                    }
+                }
+                if (largest == i) {
+                    return;
+                }
+                swap(i, largest);
+                i = largest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int row = heap[a];
+            heap[a] = heap[b];
+            heap[b] = row;
+        }
+    }
+
+    // One block of rows; each column is its own native-order direct buffer. A zero live byte is a deleted row.
+    private static final class Segment {
+
+        final LongBuffer ids;
+        final LongBuffer ages;
+        final IntBuffer firstNames;
+        final IntBuffer lastNames;
+        final ByteBuffer live;
+
+        Segment(int rows) {
+            ids = ByteBuffer.allocateDirect(rows * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer();
+            ages = ByteBuffer.allocateDirect(rows * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer();
+            firstNames = ByteBuffer.allocateDirect(rows * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+            lastNames = ByteBuffer.allocateDirect(rows * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+            live = ByteBuffer.allocateDirect(rows);
+        }
+    }
+}
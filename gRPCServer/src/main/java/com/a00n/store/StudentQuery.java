@@ -0,0 +1,92 @@
+package com.a00n.store;
+
+import com.a00n.entities.Student;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Filter and sort order for {@link StudentStore#findPage(StudentQuery, Student, int)}. Null bounds and prefixes
+ * are not applied. Each sort has a unique key ending in the id, and students with a null key column are left out,
+ * so a page can always continue after the last student of the previous one.
+ */
+public record StudentQuery(Long minAge, Long maxAge, String firstNamePrefix, String lastNamePrefix,
+                           Sort sort, boolean descending) {
+
+    public static final StudentQuery ALL = new StudentQuery(null, null, null, null, Sort.ID, false);
+
+    public enum Sort {
+        ID(List.of("id")),
+        LAST_NAME(List.of("last_name", "first_name", "id")),
+        FIRST_NAME(List.of("first_name", "last_name", "id")),
+        AGE(List.of("age", "id"));
+
+        private final List<String> columns;
+
+        Sort(List<String> columns) {
+            this.columns = columns;
+        }
+
+        /**
+         * Key columns, most significant first. Each sort is backed by an index on these columns.
+         */
+        public List<String> columns() {
+            return columns;
+        }
+
+        /**
+         * Values of the key columns for {@code student}, in {@link #columns()} order.
+         */
+        public Object[] key(Student student) {
+            return switch (this) {
+                case ID -> new Object[]{student.getId()};
+                case LAST_NAME -> new Object[]{student.getLastName(), student.getFirstName(), student.getId()};
+                case FIRST_NAME -> new Object[]{student.getFirstName(), student.getLastName(), student.getId()};
+                case AGE -> new Object[]{student.getAge(), student.getId()};
+            };
+        }
+    }
+
+    public boolean matches(Student student) {
+        for (Object value : sort.key(student)) {
+            if (value == null) {
+                return false;
+            }
+        }
+        Long age = student.getAge();
+        return (minAge == null || age != null && age >= minAge)
+                && (maxAge == null || age != null && age <= maxAge)
+                && hasPrefix(student.getFirstName(), firstNamePrefix)
+                && hasPrefix(student.getLastName(), lastNamePrefix);
+    }
+
+    /**
+     * Order of the results, for stores that sort in memory. Only defined for students that {@link #matches}.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Comparator<Student> comparator() {
+        Comparator<Student> ascending = (a, b) -> {
+            Object[] left = sort.key(a);
+            Object[] right = sort.key(b);
+            for (int i = 0; i < left.length; i++) {
+                int order = ((Comparable) left[i]).compareTo(right[i]);
+                if (order != 0) {
+                    return order;
+                }
+            }
+            return 0;
+        };
+        return descending ? ascending.reversed() : ascending;
+    }
+
+    /**
+     * SQL {@code LIKE} pattern for a prefix, with {@code !} as the escape character.
+     */
+    public static String likePrefix(String prefix) {
+        return prefix.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+    }
+
+    private static boolean hasPrefix(String value, String prefix) {
+        return prefix == null || value != null && value.startsWith(prefix);
+    }
+}
@@ -0,0 +1,63 @@
+package com.a00n.store;
+
+import com.a00n.entities.Student;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * SQL for a filtered, sorted keyset page of the {@code student} table, with named parameters. The page continues
+ * after a row value comparison on the sort key, {@code (c1, c2, id) > (:k0, :k1, :k2)}, which MySQL and H2 answer
+ * with a range scan of the index on those columns, so a page reads about {@code limit} index entries wherever it
+ * starts. The statement text only depends on which filters are set and on the sort, so it stays cacheable.
+ */
+public record StudentQuerySql(String sql, Map<String, Object> parameters) {
+
+    private static final String COLUMNS = "SELECT id, first_name, last_name, age FROM student";
+
+    public static StudentQuerySql page(StudentQuery query, Student after, int limit) {
+        List<String> key = query.sort().columns();
+        StringJoiner where = new StringJoiner(" AND ", " WHERE ", "").setEmptyValue("");
+        Map<String, Object> parameters = new HashMap<>();
+        for (String column : key.subList(0, key.size() - 1)) {
+            where.add(column + " IS NOT NULL");
+        }
+        if (query.minAge() != null) {
+            where.add("age >= :minAge");
+            parameters.put("minAge", query.minAge());
+        }
+        if (query.maxAge() != null) {
+            where.add("age <= :maxAge");
+            parameters.put("maxAge", query.maxAge());
+        }
+        if (query.firstNamePrefix() != null) {
+            where.add("first_name LIKE :firstNamePrefix ESCAPE '!'");
+            parameters.put("firstNamePrefix", StudentQuery.likePrefix(query.firstNamePrefix()));
+        }
+        if (query.lastNamePrefix() != null) {
+            where.add("last_name LIKE :lastNamePrefix ESCAPE '!'");
+            parameters.put("lastNamePrefix", StudentQuery.likePrefix(query.lastNamePrefix()));
+        }
+        if (after != null) {
+            Object[] values = query.sort().key(after);
+            StringJoiner placeholders = new StringJoiner(", ", "(", ")");
+            for (int i = 0; i < values.length; i++) {
+                placeholders.add(":k" + i);
+                parameters.put("k" + i, values[i]);
+            }
+            if (key.size() > 1) {
+                // Redundant, but H2 only starts an index range from a bound on a single column.
+                where.add(key.get(0) + (query.descending() ? " <= :k0" : " >= :k0"));
+            }
+            where.add("(" + String.join(", ", key) + ")" + (query.descending() ? " < " : " > ") + placeholders);
+        }
+        StringJoiner orderBy = new StringJoiner(", ", " ORDER BY ", "");
+        for (String column : key) {
+            orderBy.add(query.descending() ? column + " DESC" : column);
+        }
+        parameters.put("limit", limit);
+        return new StudentQuerySql(COLUMNS + where + orderBy + " LIMIT :limit", parameters);
+    }
+}
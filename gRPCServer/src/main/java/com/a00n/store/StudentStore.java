@@ -0,0 +1,57 @@
+package com.a00n.store;
+
+import com.a00n.entities.Student;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Storage SPI used by the gRPC service. The implementation is chosen with {@code students.store}
+ * ({@code jpa}, {@code jdbc}, {@code memory}, {@code offheap}, {@code mmap} or {@code wal}). Returned students are
+ * detached copies: changing them does not change the store.
+ */
+public interface StudentStore {
+
+    Optional<Student> findById(long id);
+
+    /**
+     * Returns the students that exist among {@code ids}, in no particular order.
+     */
+    List<Student> findAllById(Collection<Long> ids);
+
+    /**
+     * Returns up to {@code limit} students with an id greater than {@code afterId}, in id order.
+     */
+    List<Student> findPage(long afterId, int limit);
+
+    /**
+     * Returns up to {@code limit} students matching {@code query}, in its order, that come after {@code after}, or
+     * from the first one when {@code after} is null. Only the sort key fields of {@code after} are read.
+     */
+    List<Student> findPage(StudentQuery query, Student after, int limit);
+
+    boolean existsById(long id);
+
+    /**
+     * Inserts a new student and returns it with its assigned id.
+     */
+    Student insert(Student student);
+
+    /**
+     * Inserts all students as one unit of work and returns them, in the same order, with their assigned ids.
+     */
+    List<Student> insertAll(List<Student> students);
+
+    /**
+     * Replaces an existing student, or returns empty if there is no student with that id.
+     */
+    Optional<Student> update(Student student);
+
+    /**
+     * Deletes a student and returns whether it existed.
+     */
+    boolean deleteById(long id);
+
+    long count();
+}
@@ -0,0 +1,348 @@
+package com.a00n.store;
+
+import com.a00n.entities.Student;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+
+/**
+ * Store that keeps every student in an {@link InMemoryStudentStore}, so reads never leave the JVM, and makes writes
+ * durable with a {@link WriteAheadLog} under {@code students.store.wal.directory}. A write returns once its log entry
+ * is on disk and applied; reads only see such writes.
+ * <p>
+ * Every {@code students.store.wal.snapshot-interval}, the log moves to a new file and the students are written to a
+ * snapshot, after which the older logs are deleted. The snapshot is taken while writes continue, so it may already
+ * contain some writes of the newer log; replaying that log over it reaches the same state, because ids are never
+ * reused and every entry sets a student's final value. At startup the newest snapshot is loaded and the logs after
+ * it are read at the same time, then the log entries are applied on several threads, split by id.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "students.store", havingValue = "wal")
+public class WalStudentStore implements StudentStore, AutoCloseable {
+
+    private static final int SNAPSHOT_MAGIC = 0x53545553;
+    private static final int SNAPSHOT_CHUNK = 65_536;
+
+    private final InMemoryStudentStore students = new InMemoryStudentStore();
+    private final Path directory;
+    private final int replayThreads;
+    private final WriteAheadLog wal;
+    private final ScheduledExecutorService snapshotter;
+
+    public WalStudentStore(@Value("${students.store.wal.directory:data/wal}") String directory,
+                           @Value("${students.store.wal.snapshot-interval:5m}") Duration snapshotInterval,
+                           @Value("${students.store.wal.replay-threads:0}") int replayThreads) {
+        this.directory = Path.of(directory);
+        this.replayThreads = replayThreads > 0 ? replayThreads : Runtime.getRuntime().availableProcessors();
+        long started = System.nanoTime();
+        long lastLog = recover();
+        log.info("recovered {} students in {} ms on {} threads", students.count(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), this.replayThreads);
+        this.wal = new WriteAheadLog(this.directory, lastLog, this::apply);
+        if (snapshotInterval.isZero()) {
+            snapshotter = null;
+        } else {
+            snapshotter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "student-wal-snapshotter");
+                thread.setDaemon(true);
+                return thread;
+            });
+            snapshotter.scheduleWithFixedDelay(this::snapshotQuietly, snapshotInterval.toMillis(),
+                    snapshotInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public Optional<Student> findById(long id) {
+        return students.findById(id);
+    }
+
+    @Override
+    public List<Student> findAllById(Collection<Long> ids) {
+        return students.findAllById(ids);
+    }
+
+    @Override
+    public List<Student> findPage(long afterId, int limit) {
+        return students.findPage(afterId, limit);
+    }
+
+    @Override
+    public List<Student> findPage(StudentQuery query, Student after, int limit) {
+        return students.findPage(query, after, limit);
+    }
+
+    @Override
+    public boolean existsById(long id) {
+        return students.existsById(id);
+    }
+
+    @Override
+    public Student insert(Student student) {
+        return insertAll(List.of(student)).get(0);
+    }
+
+    @Override
+    public List<Student> insertAll(List<Student> batch) {
+        long id = students.reserveIds(batch.size());
+        List<WriteAheadLog.Entry> entries = new ArrayList<>(batch.size());
+        for (Student student : batch) {
+            entries.add(new WriteAheadLog.Entry(WriteAheadLog.INSERT,
+                    new Student(id++, student.getFirstName(), student.getLastName(), student.getAge())));
+        }
+        write(entries);
+        return entries.stream().map(WriteAheadLog.Entry::student).toList();
+    }
+
+    // Whether the student exists is decided when the entry is applied, in log order; the check before only avoids
+    // logging updates and deletes that cannot apply.
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<Student> update(Student student) {
+        if (!students.existsById(student.getId())) {
+            return Optional.empty();
+        }
+        Student copy = new Student(student.getId(), student.getFirstName(), student.getLastName(), student.getAge());
+        return (Optional<Student>) write(List.of(new WriteAheadLog.Entry(WriteAheadLog.UPDATE, copy))).get(0);
+    }
+
+    @Override
+    public boolean deleteById(long id) {
+        if (!students.existsById(id)) {
+            return false;
+        }
+        Student key = Student.builder().id(id).build();
+        return (Boolean) write(List.of(new WriteAheadLog.Entry(WriteAheadLog.DELETE, key))).get(0);
+    }
+
+    @Override
+    public long count() {
+        return students.count();
+    }
+
+    /**
+     * Writes a snapshot of all students and deletes the logs and snapshots it replaces. Runs on the snapshot thread;
+     * public so that it can be triggered on demand.
+     */
+    public void snapshot() {
+        long covered = wal.rotate().join();
+        long nextId = students.nextId();
+        Path temporary = directory.resolve(String.format("%08d.snapshot.tmp", covered));
+        try {
+            int written = 0;
+            try (FileChannel file = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                writeFully(file, ByteBuffer.allocate(Integer.BYTES + Long.BYTES).putInt(SNAPSHOT_MAGIC).putLong(nextId).flip());
+                List<Student> page;
+                long afterId = 0;
+                while (!(page = students.findPage(afterId, SNAPSHOT_CHUNK)).isEmpty()) {
+                    writeFully(file, encodeChunk(page));
+                    written += page.size();
+                    afterId = page.get(page.size() - 1).getId();
+                }
+                // An empty chunk marks the end, so a snapshot cut short is never taken for a complete one.
+                writeFully(file, encodeChunk(List.of()));
+                file.force(true);
+            }
+            Files.move(temporary, snapshotPath(covered), StandardCopyOption.ATOMIC_MOVE);
+            WriteAheadLog.syncDirectory(directory);
+            for (Path path : WriteAheadLog.list(directory, ".log")) {
+                if (WriteAheadLog.number(path) <= covered) {
+                    Files.delete(path);
+                }
+            }
+            for (Path path : WriteAheadLog.list(directory, ".snapshot")) {
+                if (WriteAheadLog.number(path) < covered) {
+                    Files.delete(path);
+                }
+            }
+            log.info("snapshot {} written with {} students", covered, written);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (snapshotter != null) {
+            snapshotter.shutdownNow();
+        }
+        wal.close();
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (RuntimeException e) {
+            log.warn("snapshot failed", e);
+        }
+    }
+
+    private List<Object> write(List<WriteAheadLog.Entry> entries) {
+        try {
+            return wal.append(entries).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+        }
+    }
+
+    // Called by the log's committer, in log order, and by replay.
+    private Object apply(WriteAheadLog.Entry entry) {
+        return switch (entry.kind()) {
+            case WriteAheadLog.INSERT -> {
+                students.put(entry.student());
+                yield entry.student();
+            }
+            case WriteAheadLog.UPDATE -> students.update(entry.student());
+            case WriteAheadLog.DELETE -> students.deleteById(entry.student().getId());
+            default -> throw new IllegalStateException("unknown log entry kind " + entry.kind());
+        };
+    }
+
+    // Loads the newest snapshot while reading the logs after it, then applies their entries. Returns the number of
+    // the last log.
+    private long recover() {
+        ExecutorService executor = Executors.newFixedThreadPool(replayThreads);
+        try {
+            Files.createDirectories(directory);
+            for (Path path : WriteAheadLog.list(directory, ".tmp")) {
+                Files.delete(path);
+            }
+            List<Path> snapshots = WriteAheadLog.list(directory, ".snapshot");
+            long covered = snapshots.isEmpty() ? 0 : WriteAheadLog.number(snapshots.get(snapshots.size() - 1));
+            List<Path> logs = WriteAheadLog.list(directory, ".log").stream()
+                    .filter(path -> WriteAheadLog.number(path) > covered)
+                    .toList();
+            Future<List<WriteAheadLog.Entry>> tail = executor.submit(() -> {
+                List<WriteAheadLog.Entry> entries = new ArrayList<>();
+                for (int i = 0; i < logs.size(); i++) {
+                    entries.addAll(WriteAheadLog.read(logs.get(i), i == logs.size() - 1));
+                }
+                return entries;
+            });
+            if (!snapshots.isEmpty()) {
+                loadSnapshot(snapshots.get(snapshots.size() - 1), executor);
+            }
+            applyInParallel(tail.get(), executor);
+            long lastLog = covered;
+            for (Path path : logs) {
+                lastLog = Math.max(lastLog, WriteAheadLog.number(path));
+            }
+            return lastLog;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("recovery interrupted", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void loadSnapshot(Path path, ExecutorService executor) throws IOException, InterruptedException,
+            ExecutionException {
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer data = file.map(FileChannel.MapMode.READ_ONLY, 0, file.size());
+            if (data.getInt() != SNAPSHOT_MAGIC) {
+                throw new IllegalStateException(path + " is not a snapshot");
+            }
+            students.restoreNextId(data.getLong());
+            List<Future<?>> chunks = new ArrayList<>();
+            while (true) {
+                int count = data.getInt();
+                int length = data.getInt();
+                int checksum = data.getInt();
+                ByteBuffer chunk = data.slice(data.position(), length);
+                data.position(data.position() + length);
+                if (count == 0) {
+                    break;
+                }
+                chunks.add(executor.submit(() -> {
+                    CRC32C crc = new CRC32C();
+                    crc.update(chunk.duplicate());
+                    if ((int) crc.getValue() != checksum) {
+                        throw new IllegalStateException("corrupt chunk in " + path);
+                    }
+                    for (int i = 0; i < count; i++) {
+                        students.put(WriteAheadLog.readStudent(chunk));
+                    }
+                }));
+            }
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+        }
+    }
+
+    // Entries of one student stay in log order on one thread; different students are independent.
+    private void applyInParallel(List<WriteAheadLog.Entry> entries, ExecutorService executor)
+            throws InterruptedException, ExecutionException {
+        List<List<WriteAheadLog.Entry>> partitions = new ArrayList<>();
+        for (int i = 0; i < replayThreads; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (WriteAheadLog.Entry entry : entries) {
+            partitions.get((int) Long.remainderUnsigned(entry.student().getId(), replayThreads)).add(entry);
+        }
+        List<Future<?>> applied = new ArrayList<>();
+        for (List<WriteAheadLog.Entry> partition : partitions) {
+            applied.add(executor.submit(() -> partition.forEach(this::apply)));
+        }
+        for (Future<?> future : applied) {
+            future.get();
+        }
+    }
+
+    private static ByteBuffer encodeChunk(List<Student> page) {
+        int capacity = 3 * Integer.BYTES;
+        for (Student student : page) {
+            capacity += WriteAheadLog.maxLength(student);
+        }
+        ByteBuffer chunk = ByteBuffer.allocate(capacity);
+        chunk.position(3 * Integer.BYTES);
+        for (Student student : page) {
+            WriteAheadLog.writeStudent(chunk, student);
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(chunk.slice(3 * Integer.BYTES, chunk.position() - 3 * Integer.BYTES));
+        chunk.putInt(0, page.size()).putInt(Integer.BYTES, chunk.position() - 3 * Integer.BYTES)
+                .putInt(2 * Integer.BYTES, (int) crc.getValue());
+        return chunk.flip();
+    }
+
+    private static void writeFully(FileChannel file, ByteBuffer data) throws IOException {
+        while (data.hasRemaining()) {
+            file.write(data);
+        }
+    }
+
+    private Path snapshotPath(long covered) {
+        return directory.resolve(String.format("%08d.snapshot", covered));
+    }
+}
@@ -0,0 +1,334 @@
+package com.a00n.store;
+
+import com.a00n.entities.Student;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.zip.CRC32C;
+
+/**
+ * Group-committed log of student writes, in numbered files {@code 00000001.log}, {@code 00000002.log}, ... One
+ * committer thread takes every entry queued since its last flush, writes them with one {@code write} and one
+ * {@code force}, hands them in log order to the applier, and only then completes the callers' futures. Callers
+ * therefore wait for their own entries to be durable, while concurrent callers share the cost of the fsync.
+ * <p>
+ * Each entry is {@code [int length][int crc32c][payload]}. A log always starts in a new file, so only the end of a
+ * file can be torn.
+ */
+@Slf4j
+final class WriteAheadLog implements AutoCloseable {
+
+    static final byte INSERT = 1;
+    static final byte UPDATE = 2;
+    static final byte DELETE = 3;
+
+    private static final int HEADER = 2 * Integer.BYTES;
+    private static final int NULL_FIRST_NAME = 1;
+    private static final int NULL_LAST_NAME = 2;
+    private static final int NULL_AGE = 4;
+
+    /**
+     * One write. A delete only uses the student's id.
+     */
+    record Entry(byte kind, Student student) {
+    }
+
+    private record Pending(List<Entry> entries, CompletableFuture<List<Object>> result) {
+    }
+
+    private final Path directory;
+    private final Function<Entry, Object> applier;
+    private final Thread committer;
+    private final ArrayDeque<Pending> queue = new ArrayDeque<>();
+    private final List<CompletableFuture<Long>> rotations = new ArrayList<>();
+    private final CRC32C crc = new CRC32C();
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16);
+    private FileChannel channel;
+    private long number;
+    private boolean closed;
+    private IOException failure;
+
+    /**
+     * Starts a new log file numbered after {@code lastNumber}; the caller has already replayed the existing ones.
+     */
+    WriteAheadLog(Path directory, long lastNumber, Function<Entry, Object> applier) {
+        this.directory = directory;
+        this.applier = applier;
+        this.number = lastNumber + 1;
+        this.channel = create(number);
+        this.committer = new Thread(this::commitLoop, "student-wal-committer");
+        committer.setDaemon(true);
+        committer.start();
+    }
+
+    /**
+     * Queues entries and returns a future that completes with the applier's results, in order, once they are on disk
+     * and applied. It fails if the log can no longer be written.
+     */
+    CompletableFuture<List<Object>> append(List<Entry> entries) {
+        CompletableFuture<List<Object>> result = new CompletableFuture<>();
+        synchronized (queue) {
+            if (closed || failure != null) {
+                result.completeExceptionally(new IllegalStateException("write-ahead log is closed", failure));
+                return result;
+            }
+            queue.add(new Pending(entries, result));
+            queue.notifyAll();
+        }
+        return result;
+    }
+
+    /**
+     * Starts a new log file after the entries queued so far, and returns the number of the last finished one. Every
+     * entry in it and in earlier logs has been applied when the future completes.
+     */
+    CompletableFuture<Long> rotate() {
+        CompletableFuture<Long> result = new CompletableFuture<>();
+        synchronized (queue) {
+            rotations.add(result);
+            queue.notifyAll();
+        }
+        return result;
+    }
+
+    @Override
+    public void close() {
+        synchronized (queue) {
+            closed = true;
+            queue.notifyAll();
+        }
+        try {
+            committer.join();
+            channel.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void commitLoop() {
+        while (true) {
+            List<Pending> batch = new ArrayList<>();
+            List<CompletableFuture<Long>> rotationsDue;
+            synchronized (queue) {
+                while (queue.isEmpty() && rotations.isEmpty() && !closed) {
+                    try {
+                        queue.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (queue.isEmpty() && rotations.isEmpty()) {
+                    return;
+                }
+                batch.addAll(queue);
+                queue.clear();
+                rotationsDue = new ArrayList<>(rotations);
+                rotations.clear();
+            }
+            try {
+                if (!batch.isEmpty()) {
+                    commit(batch);
+                }
+                if (!rotationsDue.isEmpty()) {
+                    channel.close();
+                    channel = create(++number);
+                    rotationsDue.forEach(rotation -> rotation.complete(number - 1));
+                }
+            } catch (IOException | RuntimeException e) {
+                fail(batch, rotationsDue, e);
+                return;
+            }
+        }
+    }
+
+    private void commit(List<Pending> batch) throws IOException {
+        buffer.clear();
+        for (Pending pending : batch) {
+            for (Entry entry : pending.entries()) {
+                encode(entry);
+            }
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+        for (Pending pending : batch) {
+            List<Object> results = new ArrayList<>(pending.entries().size());
+            for (Entry entry : pending.entries()) {
+                results.add(applier.apply(entry));
+            }
+            pending.result().complete(results);
+        }
+    }
+
+    // Nothing queued after a failed write is acknowledged: the log cannot tell which entries reached the disk.
+    private void fail(List<Pending> batch, List<CompletableFuture<Long>> rotationsDue, Exception e) {
+        log.error("write-ahead log failed, rejecting all further writes", e);
+        List<Pending> failed = new ArrayList<>(batch);
+        synchronized (queue) {
+            failure = e instanceof IOException io ? io : new IOException(e);
+            failed.addAll(queue);
+            queue.clear();
+            rotationsDue.addAll(rotations);
+            rotations.clear();
+        }
+        failed.forEach(pending -> pending.result().completeExceptionally(e));
+        rotationsDue.forEach(rotation -> rotation.completeExceptionally(e));
+    }
+
+    private void encode(Entry entry) {
+        int start = buffer.position();
+        ensureCapacity(HEADER + 1 + maxLength(entry.student()));
+        buffer.position(start + HEADER);
+        buffer.put(entry.kind());
+        if (entry.kind() == DELETE) {
+            buffer.putLong(entry.student().getId());
+        } else {
+            writeStudent(buffer, entry.student());
+        }
+        int end = buffer.position();
+        crc.reset();
+        crc.update(buffer.slice(start + HEADER, end - start - HEADER));
+        buffer.putInt(start, end - start - HEADER).putInt(start + Integer.BYTES, (int) crc.getValue());
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (buffer.remaining() < bytes) {
+            ByteBuffer larger = ByteBuffer.allocateDirect(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+            buffer.flip();
+            larger.put(buffer);
+            buffer = larger;
+        }
+    }
+
+    private FileChannel create(long logNumber) {
+        try {
+            FileChannel created = FileChannel.open(path(directory, logNumber), StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.WRITE);
+            syncDirectory(directory);
+            return created;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static Path path(Path directory, long logNumber) {
+        return directory.resolve(String.format("%08d.log", logNumber));
+    }
+
+    /**
+     * Reads a log's entries in order. A torn or corrupt entry ends the log: it is cut off there when
+     * {@code truncateTornTail} is set, and is an error otherwise.
+     */
+    static List<Entry> read(Path path, boolean truncateTornTail) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer data = file.map(FileChannel.MapMode.READ_ONLY, 0, file.size());
+            CRC32C checksum = new CRC32C();
+            while (data.remaining() > 0) {
+                int start = data.position();
+                int length = data.remaining() >= HEADER ? data.getInt(start) : -1;
+                if (length <= 0 || length > data.remaining() - HEADER) {
+                    cutTornTail(path, file, start, truncateTornTail);
+                    break;
+                }
+                checksum.reset();
+                checksum.update(data.slice(start + HEADER, length));
+                if (data.getInt(start + Integer.BYTES) != (int) checksum.getValue()) {
+                    cutTornTail(path, file, start, truncateTornTail);
+                    break;
+                }
+                ByteBuffer payload = data.slice(start + HEADER, length);
+                byte kind = payload.get();
+                entries.add(new Entry(kind, kind == DELETE
+                        ? Student.builder().id(payload.getLong()).build()
+                        : readStudent(payload)));
+                data.position(start + HEADER + length);
+            }
+        }
+        return entries;
+    }
+
+    private static void cutTornTail(Path path, FileChannel file, long at, boolean truncate) throws IOException {
+        if (!truncate) {
+            throw new IllegalStateException("corrupt entry at " + at + " in " + path);
+        }
+        log.warn("dropping torn entries after byte {} of {}", at, path);
+        file.truncate(at);
+        file.force(true);
+    }
+
+    static void writeStudent(ByteBuffer target, Student student) {
+        byte[] firstName = student.getFirstName() == null ? null : student.getFirstName().getBytes(StandardCharsets.UTF_8);
+        byte[] lastName = student.getLastName() == null ? null : student.getLastName().getBytes(StandardCharsets.UTF_8);
+        int nulls = (firstName == null ? NULL_FIRST_NAME : 0) | (lastName == null ? NULL_LAST_NAME : 0)
+                | (student.getAge() == null ? NULL_AGE : 0);
+        target.putLong(student.getId()).put((byte) nulls);
+        if (student.getAge() != null) {
+            target.putLong(student.getAge());
+        }
+        if (firstName != null) {
+            target.putInt(firstName.length).put(firstName);
+        }
+        if (lastName != null) {
+            target.putInt(lastName.length).put(lastName);
+        }
+    }
+
+    static Student readStudent(ByteBuffer source) {
+        long id = source.getLong();
+        int nulls = source.get();
+        Long age = (nulls & NULL_AGE) == 0 ? source.getLong() : null;
+        String firstName = (nulls & NULL_FIRST_NAME) == 0 ? readString(source) : null;
+        String lastName = (nulls & NULL_LAST_NAME) == 0 ? readString(source) : null;
+        return new Student(id, firstName, lastName, age);
+    }
+
+    /**
+     * Upper bound of the bytes {@link #writeStudent} uses.
+     */
+    static int maxLength(Student student) {
+        return Long.BYTES + 1 + Long.BYTES + 2 * Integer.BYTES
+                + 3 * (student.getFirstName() == null ? 0 : student.getFirstName().length())
+                + 3 * (student.getLastName() == null ? 0 : student.getLastName().length());
+    }
+
+    private static String readString(ByteBuffer source) {
+        byte[] bytes = new byte[source.getInt()];
+        source.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static void syncDirectory(Path directory) throws IOException {
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        }
+    }
+
+
+    static long number(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.indexOf('.')));
+    }
+
+    static List<Path> list(Path directory, String suffix) throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(suffix)).sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+CREATE TABLE IF NOT EXISTS student (
+    id         BIGINT       NOT NULL,
+    first_name VARCHAR(255),
+    last_name  VARCHAR(255),
+    age        BIGINT,
+    PRIMARY KEY (id)
+);
+
+-- One index per ListStudents sort key, see db/mysql/schema.sql.
+CREATE INDEX IF NOT EXISTS idx_student_name ON student (last_name, first_name, id);
+CREATE INDEX IF NOT EXISTS idx_student_first_name ON student (first_name, last_name, id);
+CREATE INDEX IF NOT EXISTS idx_student_age ON student (age, id);
+
+-- Backs the Student id generator; rows are created on first use.
+CREATE TABLE IF NOT EXISTS student_id_blocks (
+    name     VARCHAR(255) NOT NULL,
+    next_val BIGINT,
+    PRIMARY KEY (name)
+);
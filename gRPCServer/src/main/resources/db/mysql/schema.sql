@@ -0,0 +1,58 @@
+-- Applied at startup (spring.sql.init.mode=always), so every statement must be idempotent.
+-- Names use a binary collation so that prefix filters are case-sensitive and name order matches the other stores.
+CREATE TABLE IF NOT EXISTS student (
+    id         BIGINT       NOT NULL,
+    first_name VARCHAR(255) COLLATE utf8mb4_bin,
+    last_name  VARCHAR(255) COLLATE utf8mb4_bin,
+    age        BIGINT,
+    PRIMARY KEY (id),
+    -- One index per ListStudents sort key; a filtered page is a range scan of the index for its sort.
+    INDEX idx_student_name (last_name, first_name, id),
+    INDEX idx_student_first_name (first_name, last_name, id),
+    INDEX idx_student_age (age, id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- Backs the Student id generator; rows are created on first use.
+CREATE TABLE IF NOT EXISTS student_id_blocks (
+    name     VARCHAR(255) NOT NULL,
+    next_val BIGINT,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- Upgrades a student table created by Hibernate (ddl-auto=create), which CREATE TABLE IF NOT EXISTS leaves as it is.
+-- MySQL has no IF NOT EXISTS for these, so each statement is built from information_schema and is DO 0 when the
+-- table is already up to date. The collation comes first, so that the indexes are built on the final columns.
+SET @ddl = (SELECT IF(COUNT(*) > 0,
+        'ALTER TABLE student MODIFY first_name VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin, MODIFY last_name VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin',
+        'DO 0')
+    FROM information_schema.columns
+    WHERE table_schema = DATABASE() AND table_name = 'student' AND column_name IN ('first_name', 'last_name')
+      AND collation_name <> 'utf8mb4_bin');
+PREPARE upgrade FROM @ddl;
+EXECUTE upgrade;
+DEALLOCATE PREPARE upgrade;
+
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_student_name ON student (last_name, first_name, id)', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'student' AND index_name = 'idx_student_name');
+PREPARE upgrade FROM @ddl;
+EXECUTE upgrade;
+DEALLOCATE PREPARE upgrade;
+
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_student_first_name ON student (first_name, last_name, id)', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'student' AND index_name = 'idx_student_first_name');
+PREPARE upgrade FROM @ddl;
+EXECUTE upgrade;
+DEALLOCATE PREPARE upgrade;
+
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_student_age ON student (age, id)', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'student' AND index_name = 'idx_student_age');
+PREPARE upgrade FROM @ddl;
+EXECUTE upgrade;
+DEALLOCATE PREPARE upgrade;
+
+-- Ids of an upgraded table were assigned by IDENTITY, outside the generator. next_val holds the last id handed out,
+-- so starting it at the highest existing id keeps new ids clear of them. A no-op once the row exists.
+INSERT IGNORE INTO student_id_blocks (name, next_val) SELECT 'student', COALESCE(MAX(id), 0) FROM student;
@@ -0,0 +1,81 @@
+package com.a00n.cache;
+
+import com.a00n.grpc.stubs.StudentOuterClass;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StudentCacheTests {
+
+    private final StudentCache cache = new StudentCache(100, Duration.ofMinutes(1));
+
+    @Test
+    void concurrentReadersShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<StudentOuterClass.Student> first = CompletableFuture.supplyAsync(() -> cache.get(1, id -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return student(id, 20);
+        }));
+        loading.await(5, TimeUnit.SECONDS);
+        CompletableFuture<StudentOuterClass.Student> second = CompletableFuture.supplyAsync(() -> cache.get(1, id -> {
+            loads.incrementAndGet();
+            return student(id, 99);
+        }));
+
+        release.countDown();
+        assertEquals(20, first.get(5, TimeUnit.SECONDS).getAge());
+        assertEquals(20, second.get(5, TimeUnit.SECONDS).getAge());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void writeDuringLoadIsNotOverwrittenByTheLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<StudentOuterClass.Student> stale = CompletableFuture.supplyAsync(() -> cache.get(2, id -> {
+            loading.countDown();
+            await(release);
+            return student(id, 20);
+        }));
+        loading.await(5, TimeUnit.SECONDS);
+
+        cache.put(student(2, 21));
+        release.countDown();
+        stale.get(5, TimeUnit.SECONDS);
+
+        assertEquals(21, cache.get(2, id -> student(id, 0)).getAge());
+    }
+
+    @Test
+    void missesAndFailuresAreNotCached() {
+        assertNull(cache.get(3, id -> null));
+        assertThrows(IllegalStateException.class, () -> cache.get(3, id -> {
+            throw new IllegalStateException("database down");
+        }));
+        assertEquals(22, cache.get(3, id -> student(id, 22)).getAge());
+    }
+
+    private static StudentOuterClass.Student student(long id, long age) {
+        return StudentOuterClass.Student.newBuilder().setId(id).setFirstName("first").setLastName("last").setAge(age).build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.a00n.grpc.interceptors;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class AuthAuditLogTests {
+
+    private final List<AuthAuditLog.AuthAuditEvent> events = new ArrayList<>();
+
+    @Test
+    void drainsEventsInOrderAndDropsWhenFull() {
+        AuthAuditLog auditLog = new AuthAuditLog(4, 1, 1, events::add);
+        for (int i = 0; i < 6; i++) {
+            auditLog.record("method " + i, null, i % 2 == 0);
+        }
+
+        assertEquals(4, auditLog.drain());
+        assertEquals(List.of("method 0", "method 1", "method 2", "method 3"),
+                events.stream().map(AuthAuditLog.AuthAuditEvent::method).toList());
+        assertEquals(2, auditLog.dropped());
+
+        auditLog.record("method 6", null, false);
+        assertEquals(1, auditLog.drain());
+        assertFalse(events.get(4).granted());
+    }
+
+    @Test
+    void samplesGrantedAndDeniedSeparately() {
+        AuthAuditLog auditLog = new AuthAuditLog(1024, 0, 1, events::add);
+        for (int i = 0; i < 100; i++) {
+            auditLog.record("granted", null, true);
+            auditLog.record("denied", null, false);
+        }
+
+        assertEquals(100, auditLog.drain());
+        assertEquals(100, events.stream().filter(event -> !event.granted()).count());
+    }
+
+    @Test
+    void backgroundThreadDrainsRecordedEvents() throws InterruptedException {
+        AuthAuditLog auditLog = new AuthAuditLog(64, 1, 1, event -> {
+            synchronized (events) {
+                events.add(event);
+            }
+        });
+        auditLog.start();
+        try {
+            auditLog.record("method", null, true);
+            for (int i = 0; i < 100; i++) {
+                synchronized (events) {
+                    if (!events.isEmpty()) {
+                        break;
+                    }
+                }
+                Thread.sleep(10);
+            }
+        } finally {
+            auditLog.stop();
+        }
+        assertEquals(1, events.size());
+    }
+}
@@ -0,0 +1,31 @@
+package com.a00n.grpc.interceptors;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuthInterceptorTests {
+
+    private final AuthInterceptor interceptor = new AuthInterceptor(List.of("ay0ub", "second-key"),
+            new AuthAuditLog(16, 0, 0, event -> {
+            }));
+
+    @Test
+    void acceptsAnyConfiguredKey() {
+        assertTrue(interceptor.isValid("ay0ub"));
+        assertTrue(interceptor.isValid("second-key"));
+    }
+
+    @Test
+    void rejectsMissingPartialAndLongerKeys() {
+        assertFalse(interceptor.isValid(null));
+        assertFalse(interceptor.isValid(""));
+        assertFalse(interceptor.isValid("ay0u"));
+        assertFalse(interceptor.isValid("ay0ubb"));
+        assertFalse(interceptor.isValid("Ay0ub"));
+        assertFalse(interceptor.isValid("second-keŹ"));
+    }
+}
@@ -0,0 +1,71 @@
+package com.a00n.grpc.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashedWheelSchedulerTests {
+
+    private final HashedWheelScheduler scheduler = new HashedWheelScheduler("test", Duration.ofMillis(5), 64, 2);
+
+    @AfterEach
+    void close() {
+        scheduler.close();
+    }
+
+    @Test
+    void runsUntilStepReturnsFalse() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch finished = new CountDownLatch(1);
+        scheduler.schedule(Duration.ofMillis(10), () -> {
+            if (runs.incrementAndGet() < 5) {
+                return true;
+            }
+            finished.countDown();
+            return false;
+        });
+
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        assertEquals(5, runs.get());
+        assertEquals(0, scheduler.activeTasks());
+    }
+
+    @Test
+    void cancelledTaskIsNotRunAgain() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch firstRun = new CountDownLatch(1);
+        HashedWheelScheduler.PacedTask task = scheduler.schedule(Duration.ofMillis(50), () -> {
+            runs.incrementAndGet();
+            firstRun.countDown();
+            return true;
+        });
+
+        assertTrue(firstRun.await(5, TimeUnit.SECONDS));
+        task.cancel();
+        int runsAtCancel = runs.get();
+        Thread.sleep(200);
+        assertEquals(runsAtCancel, runs.get());
+        assertEquals(0, scheduler.activeTasks());
+    }
+
+    @Test
+    void pacesAtTheRequestedInterval() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        HashedWheelScheduler.PacedTask task = scheduler.schedule(Duration.ofMillis(100), () -> {
+            runs.incrementAndGet();
+            return true;
+        });
+
+        Thread.sleep(550);
+        task.cancel();
+        assertTrue(runs.get() >= 4 && runs.get() <= 7, "unexpected run count " + runs.get());
+    }
+}
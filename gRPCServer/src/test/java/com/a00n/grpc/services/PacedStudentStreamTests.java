@@ -0,0 +1,133 @@
+package com.a00n.grpc.services;
+
+import com.a00n.grpc.scheduler.HashedWheelScheduler;
+import com.a00n.grpc.stubs.StudentOuterClass;
+import com.a00n.grpc.stubs.StudentServiceGrpc;
+import com.a00n.grpcstudentserver.GrpcStudentServerApplication;
+import io.grpc.Context;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.MetadataUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Paced ListStudentsStream over an in-process channel, on a database of its own seeded with 12 students.
+ */
+@SpringBootTest(classes = GrpcStudentServerApplication.class, properties = {
+        "grpc.server.port=-1",
+        "grpc.server.in-process-name=paced-student-stream-test",
+        "students.metrics.port=0",
+        "students.seed.count=12",
+        "students.stream.page-size=5",
+        "students.stream.pacing.max-burst=3",
+        "spring.datasource.url=jdbc:h2:mem:grpc_student_paced;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+})
+@ActiveProfiles("embedded")
+class PacedStudentStreamTests {
+
+    private static final long INTERVAL_MILLIS = 200;
+
+    @Autowired
+    private HashedWheelScheduler streamScheduler;
+
+    private ManagedChannel channel;
+    private StudentServiceGrpc.StudentServiceBlockingStub blockingStub;
+    private StudentServiceGrpc.StudentServiceStub asyncStub;
+
+    @BeforeEach
+    void connect() {
+        Metadata headers = new Metadata();
+        headers.put(Metadata.Key.of("grpc-api-key", Metadata.ASCII_STRING_MARSHALLER), "ay0ub");
+        channel = InProcessChannelBuilder.forName("paced-student-stream-test")
+                .intercept(MetadataUtils.newAttachHeadersInterceptor(headers))
+                .build();
+        blockingStub = StudentServiceGrpc.newBlockingStub(channel);
+        asyncStub = StudentServiceGrpc.newStub(channel);
+    }
+
+    @AfterEach
+    void disconnect() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    // The requested burst of 10 is capped at 3, so student i + 3 comes from a later tick than student i. Half an
+    // interval of slack absorbs delivery jitter. The client asks for every student up front, so the server's pacing
+    // is the only limit.
+    @Test
+    void emitsAtMostTheCappedBurstPerInterval() throws Exception {
+        List<Long> arrivals = new ArrayList<>();
+        CompletableFuture<Void> completed = new CompletableFuture<>();
+        asyncStub.listStudentsStream(StudentOuterClass.ListStudentsStreamRequest.newBuilder()
+                .setIntervalMillis(INTERVAL_MILLIS).setBurst(10).build(), new ClientResponseObserver<
+                StudentOuterClass.ListStudentsStreamRequest, StudentOuterClass.Student>() {
+            @Override
+            public void beforeStart(ClientCallStreamObserver<StudentOuterClass.ListStudentsStreamRequest> call) {
+                call.disableAutoRequestWithInitial(100);
+            }
+
+            @Override
+            public void onNext(StudentOuterClass.Student student) {
+                arrivals.add(System.nanoTime());
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                completed.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+                completed.complete(null);
+            }
+        });
+        completed.get(10, TimeUnit.SECONDS);
+
+        assertEquals(12, arrivals.size());
+        for (int i = 0; i + 3 < arrivals.size(); i++) {
+            long gapMillis = TimeUnit.NANOSECONDS.toMillis(arrivals.get(i + 3) - arrivals.get(i));
+            assertTrue(gapMillis >= INTERVAL_MILLIS / 2, "students " + i + " and " + (i + 3) + " arrived "
+                    + gapMillis + " ms apart");
+        }
+        awaitNoActiveTasks();
+    }
+
+    // The first tick runs at once, the next only after the interval, so only the cancel handler can remove the
+    // task before the wait below runs out.
+    @Test
+    void clientCancelRemovesThePacedTask() throws Exception {
+        Context.CancellableContext call = Context.current().withCancellation();
+        Iterator<StudentOuterClass.Student> students = call.call(() -> blockingStub.listStudentsStream(
+                StudentOuterClass.ListStudentsStreamRequest.newBuilder().setIntervalMillis(30_000).setBurst(1).build()));
+        students.next();
+        assertEquals(1, streamScheduler.activeTasks());
+
+        call.cancel(null);
+
+        awaitNoActiveTasks();
+    }
+
+    private void awaitNoActiveTasks() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (streamScheduler.activeTasks() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, streamScheduler.activeTasks());
+    }
+}
@@ -0,0 +1,58 @@
+package com.a00n.grpc.services;
+
+import com.a00n.entities.Student;
+import com.a00n.store.StudentQuery;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PageTokensTests {
+
+    private static final StudentQuery BY_LAST_NAME =
+            new StudentQuery(null, null, null, null, StudentQuery.Sort.LAST_NAME, false);
+
+    @Test
+    void namesLongerThanWriteUtfAllowsRoundTrip() {
+        String lastName = "é".repeat(40_000);
+        Student last = new Student(7L, "Zoë", lastName, 20L);
+
+        Student after = PageTokens.decode(PageTokens.encode(BY_LAST_NAME, last), BY_LAST_NAME);
+
+        assertEquals(new Student(7L, "Zoë", lastName, null), after);
+    }
+
+    @Test
+    void versionTwoTokensStillContinue() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(2);
+            out.writeInt(Objects.hash(null, null, null, null, "LAST_NAME", false));
+            out.writeUTF("Lovelace");
+            out.writeUTF("Ada");
+            out.writeLong(3L);
+        }
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+
+        assertEquals(new Student(3L, "Ada", "Lovelace", null), PageTokens.decode(token, BY_LAST_NAME));
+    }
+
+    @Test
+    void rejectsNameLengthsPastTheEndOfTheToken() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(3);
+            out.writeInt(Objects.hash(null, null, null, null, "LAST_NAME", false));
+            out.writeInt(Integer.MAX_VALUE);
+        }
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+
+        assertThrows(IllegalArgumentException.class, () -> PageTokens.decode(token, BY_LAST_NAME));
+    }
+}
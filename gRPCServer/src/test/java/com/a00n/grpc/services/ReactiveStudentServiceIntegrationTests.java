@@ -0,0 +1,64 @@
+package com.a00n.grpc.services;
+
+import com.a00n.entities.Student;
+import com.a00n.grpcstudentserver.GrpcStudentServerApplication;
+import com.a00n.reactive.ReactiveStudentStore;
+import com.a00n.store.StudentStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the StudentService contract tests against the R2DBC implementation, on a database of its own so that the
+ * two contexts do not see each other's writes.
+ */
+@SpringBootTest(classes = GrpcStudentServerApplication.class, properties = {
+        "grpc.server.port=-1",
+        "grpc.server.in-process-name=reactive-student-service-test",
+        "students.metrics.port=0",
+        "students.service.mode=reactive",
+        "spring.datasource.url=jdbc:h2:mem:grpc_student_reactive;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "students.reactive.r2dbc.url=r2dbc:h2:mem:///grpc_student_reactive?options=MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+})
+@ActiveProfiles("embedded")
+class ReactiveStudentServiceIntegrationTests extends StudentServiceIntegrationTests {
+
+    @Autowired
+    private ReactiveStudentStore reactiveStore;
+
+    @Autowired
+    private StudentStore jpaStore;
+
+    // Both reserve id blocks in student_id_blocks of the same database.
+    @Test
+    void reactiveAndJpaInsertsNeverShareAnId() {
+        List<Student> inserted = new ArrayList<>();
+        for (int round = 0; round < 5; round++) {
+            inserted.add(reactiveStore.insert(new Student(null, "reactive", "single " + round, 20L)).block());
+            inserted.add(jpaStore.insert(new Student(null, "jpa", "single " + round, 20L)));
+            inserted.addAll(reactiveStore.insertAll(batch("reactive", 40)).block());
+            inserted.addAll(jpaStore.insertAll(batch("jpa", 130)));
+        }
+
+        Set<Long> ids = new HashSet<>();
+        for (Student student : inserted) {
+            assertTrue(ids.add(student.getId()), "id " + student.getId() + " assigned twice");
+        }
+    }
+
+    private static List<Student> batch(String firstName, int size) {
+        List<Student> batch = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            batch.add(new Student(null, firstName, "batch " + i, 20L + i % 40));
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,286 @@
+package com.a00n.grpc.services;
+
+import com.a00n.grpc.stubs.StudentOuterClass;
+import com.a00n.grpc.stubs.StudentServiceGrpc;
+import com.a00n.grpcstudentserver.GrpcStudentServerApplication;
+import com.a00n.metrics.GrpcServerMetrics;
+import com.a00n.metrics.MethodMetrics;
+import com.a00n.metrics.PrometheusExporter;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = GrpcStudentServerApplication.class, properties = {
+        "grpc.server.port=-1",
+        "grpc.server.in-process-name=student-service-test",
+        "students.metrics.port=0"
+})
+@ActiveProfiles("embedded")
+class StudentServiceIntegrationTests {
+
+    @Autowired
+    private GrpcServerMetrics metrics;
+
+    @Autowired
+    private PrometheusExporter exporter;
+
+    @Value("${grpc.server.in-process-name}")
+    private String inProcessName;
+
+    private ManagedChannel channel;
+    private StudentServiceGrpc.StudentServiceBlockingStub blockingStub;
+    private StudentServiceGrpc.StudentServiceStub asyncStub;
+
+    @BeforeEach
+    void connect() {
+        Metadata headers = new Metadata();
+        headers.put(Metadata.Key.of("grpc-api-key", Metadata.ASCII_STRING_MARSHALLER), "ay0ub");
+        channel = InProcessChannelBuilder.forName(inProcessName)
+                .intercept(MetadataUtils.newAttachHeadersInterceptor(headers))
+                .build();
+        blockingStub = StudentServiceGrpc.newBlockingStub(channel);
+        asyncStub = StudentServiceGrpc.newStub(channel);
+    }
+
+    @AfterEach
+    void disconnect() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void listStudentsPagesThroughEveryStudentOnce() {
+        Set<Long> ids = new HashSet<>();
+        String pageToken = "";
+        do {
+            StudentOuterClass.ListStudentsResponse page = blockingStub.listStudents(StudentOuterClass.ListStudentsRequest
+                    .newBuilder().setPageSize(3).setPageToken(pageToken).build());
+            assertTrue(page.getStudentsCount() <= 3);
+            page.getStudentsList().forEach(student -> assertTrue(ids.add(student.getId())));
+            pageToken = page.getNextPageToken();
+        } while (!pageToken.isEmpty());
+
+        List<Long> streamed = new ArrayList<>();
+        Iterator<StudentOuterClass.Student> stream = blockingStub.listStudentsStream(
+                StudentOuterClass.ListStudentsStreamRequest.getDefaultInstance());
+        stream.forEachRemaining(student -> streamed.add(student.getId()));
+
+        assertEquals(ids, new HashSet<>(streamed));
+        assertEquals(streamed.stream().sorted().toList(), streamed);
+    }
+
+    @Test
+    void listStudentsRejectsMalformedPageToken() {
+        StatusRuntimeException error = assertThrows(StatusRuntimeException.class, () -> blockingStub.listStudents(
+                StudentOuterClass.ListStudentsRequest.newBuilder().setPageToken("not-a-token").build()));
+        assertEquals(Status.Code.INVALID_ARGUMENT, error.getStatus().getCode());
+    }
+
+    @Test
+    void listStudentsFiltersAndSortsOnTheServer() {
+        String lastName = "Filtered" + System.nanoTime();
+        StudentOuterClass.Student young = blockingStub.createStudent(createRequest("ann", lastName, 19));
+        StudentOuterClass.Student old = blockingStub.createStudent(createRequest("bob", lastName, 70));
+        StudentOuterClass.Student middle = blockingStub.createStudent(createRequest("cid", lastName, 45));
+        blockingStub.createStudent(createRequest("dan", lastName + "x", 45));
+        StudentOuterClass.ListStudentsRequest.Builder request = StudentOuterClass.ListStudentsRequest.newBuilder()
+                .setPageSize(2)
+                .setFilter(StudentOuterClass.StudentFilter.newBuilder().setLastNamePrefix(lastName).setMaxAge(60))
+                .setSort(StudentOuterClass.StudentSort.newBuilder()
+                        .setField(StudentOuterClass.StudentSort.Field.AGE).setDescending(true));
+
+        List<StudentOuterClass.Student> seen = new ArrayList<>();
+        String pageToken = "";
+        do {
+            StudentOuterClass.ListStudentsResponse page = blockingStub.listStudents(
+                    request.setPageToken(pageToken).build());
+            seen.addAll(page.getStudentsList());
+            pageToken = page.getNextPageToken();
+        } while (!pageToken.isEmpty());
+
+        assertEquals(List.of(middle.getId(), young.getId()), seen.stream()
+                .filter(student -> student.getLastName().equals(lastName))
+                .map(StudentOuterClass.Student::getId).toList());
+        assertTrue(seen.stream().noneMatch(student -> student.getId() == old.getId()));
+        assertEquals(3, seen.size());
+
+        String firstPageToken = blockingStub.listStudents(request.setPageSize(1).setPageToken("").build())
+                .getNextPageToken();
+        StatusRuntimeException error = assertThrows(StatusRuntimeException.class, () -> blockingStub.listStudents(
+                StudentOuterClass.ListStudentsRequest.newBuilder().setPageToken(firstPageToken).build()));
+        assertEquals(Status.Code.INVALID_ARGUMENT, error.getStatus().getCode());
+        error = assertThrows(StatusRuntimeException.class, () -> blockingStub.listStudents(
+                StudentOuterClass.ListStudentsRequest.newBuilder()
+                        .setFilter(StudentOuterClass.StudentFilter.newBuilder().setMinAge(30).setMaxAge(20)).build()));
+        assertEquals(Status.Code.INVALID_ARGUMENT, error.getStatus().getCode());
+    }
+
+    @Test
+    void listStudentsSeesWritesAfterTheyComplete() {
+        StudentOuterClass.ListStudentsRequest lastPage = StudentOuterClass.ListStudentsRequest.newBuilder()
+                .setPageSize(1000).build();
+        int before = blockingStub.listStudents(lastPage).getStudentsCount();
+
+        StudentOuterClass.Student created = blockingStub.createStudent(createRequest("new", "student", 20));
+
+        StudentOuterClass.ListStudentsResponse after = blockingStub.listStudents(lastPage);
+        assertEquals(before + 1, after.getStudentsCount());
+        assertTrue(after.getStudentsList().contains(created));
+    }
+
+    @Test
+    void bulkCreateReportsBatchesAndBatchGetReportsMissingIds() throws Exception {
+        CompletableFuture<StudentOuterClass.BulkCreateStudentsResponse> result = new CompletableFuture<>();
+        StreamObserver<StudentOuterClass.CreateStudentRequest> requests = asyncStub.bulkCreateStudents(
+                new StreamObserver<>() {
+                    @Override
+                    public void onNext(StudentOuterClass.BulkCreateStudentsResponse response) {
+                        result.complete(response);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        result.completeExceptionally(t);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                    }
+                });
+        for (int i = 0; i < 2500; i++) {
+            requests.onNext(createRequest("bulk " + i, "student " + i, 18 + i % 30));
+        }
+        requests.onCompleted();
+
+        StudentOuterClass.BulkCreateStudentsResponse response = result.get(30, TimeUnit.SECONDS);
+        assertEquals(2500, response.getCreatedCount());
+        assertEquals(List.of(1000, 1000, 500), response.getBatchesList().stream()
+                .map(StudentOuterClass.StudentIdRange::getCount).toList());
+
+        StudentOuterClass.StudentIdRange firstBatch = response.getBatches(0);
+        StudentOuterClass.BatchGetStudentsResponse batch = blockingStub.batchGetStudents(
+                StudentOuterClass.BatchGetStudentsRequest.newBuilder()
+                        .addIds(firstBatch.getFirstId())
+                        .addIds(-1)
+                        .addIds(firstBatch.getLastId())
+                        .addIds(firstBatch.getFirstId())
+                        .build());
+        assertEquals(List.of(firstBatch.getFirstId(), firstBatch.getLastId()),
+                batch.getStudentsList().stream().map(StudentOuterClass.Student::getId).toList());
+        assertEquals(List.of(-1L), batch.getMissingIdsList());
+    }
+
+    @Test
+    void getStudentNeverReturnsDataOlderThanTheLastWrite() {
+        StudentOuterClass.Student created = blockingStub.createStudent(createRequest("cached", "student", 30));
+        assertEquals(created, blockingStub.getStudent(getRequest(created.getId())));
+
+        StudentOuterClass.Student updated = blockingStub.updateStudent(created.toBuilder().setAge(31).build());
+        assertEquals(updated, blockingStub.getStudent(getRequest(created.getId())));
+
+        blockingStub.deleteStudent(StudentOuterClass.DeleteStudentRequest.newBuilder().setId(created.getId()).build());
+        assertThrows(StatusRuntimeException.class, () -> blockingStub.getStudent(getRequest(created.getId())));
+    }
+
+    @Test
+    void searchStudentsFindsSeededStudentsAndFollowsWrites() {
+        StudentOuterClass.Student seeded = blockingStub.listStudents(
+                StudentOuterClass.ListStudentsRequest.newBuilder().setPageSize(1).build()).getStudents(0);
+        assertTrue(search(seeded.getFirstName() + " " + seeded.getLastName()).contains(seeded));
+
+        String lastName = "Searchable" + System.nanoTime();
+        StudentOuterClass.Student created = blockingStub.createStudent(createRequest("Quentin", lastName, 30));
+        assertEquals(List.of(created), search("quentin " + lastName.toLowerCase()));
+
+        StudentOuterClass.Student renamed = blockingStub.updateStudent(created.toBuilder().setFirstName("Rosalind").build());
+        assertEquals(List.of(), search("quentin " + lastName));
+        assertEquals(List.of(renamed), search("rosalind " + lastName));
+
+        blockingStub.deleteStudent(StudentOuterClass.DeleteStudentRequest.newBuilder().setId(created.getId()).build());
+        assertEquals(List.of(), search(lastName));
+
+        StatusRuntimeException error = assertThrows(StatusRuntimeException.class, () -> search("ab"));
+        assertEquals(Status.Code.INVALID_ARGUMENT, error.getStatus().getCode());
+    }
+
+    private List<StudentOuterClass.Student> search(String query) {
+        return blockingStub.searchStudents(StudentOuterClass.SearchStudentsRequest.newBuilder()
+                .setQuery(query).setLimit(100).build()).getStudentsList();
+    }
+
+    @Test
+    void metricsCountCallsStatusesAndStreamedMessages() throws Exception {
+        MethodMetrics stream = metrics.forMethod(StudentServiceGrpc.getListStudentsStreamMethod());
+        MethodMetrics get = metrics.forMethod(StudentServiceGrpc.getGetStudentMethod());
+        long streamsBefore = stream.handled(Status.Code.OK);
+        long sentBefore = stream.sent();
+        long rejectedBefore = get.handled(Status.Code.UNAUTHENTICATED);
+
+        List<StudentOuterClass.Student> streamed = new ArrayList<>();
+        blockingStub.listStudentsStream(StudentOuterClass.ListStudentsStreamRequest.getDefaultInstance())
+                .forEachRemaining(streamed::add);
+        ManagedChannel anonymous = InProcessChannelBuilder.forName(inProcessName).build();
+        try {
+            assertThrows(StatusRuntimeException.class,
+                    () -> StudentServiceGrpc.newBlockingStub(anonymous).getStudent(getRequest(1)));
+        } finally {
+            anonymous.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+
+        assertEquals(streamsBefore + 1, stream.handled(Status.Code.OK));
+        assertEquals(sentBefore + streamed.size(), stream.sent());
+        assertEquals(rejectedBefore + 1, get.handled(Status.Code.UNAUTHENTICATED));
+        assertEquals(0, stream.inFlight());
+
+        HttpResponse<String> scrape = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + exporter.port() + "/metrics")).build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, scrape.statusCode());
+        assertTrue(scrape.body().contains("grpc_server_handled_total{grpc_service=\"StudentService\","
+                + "grpc_method=\"GetStudent\",grpc_type=\"UNARY\",grpc_code=\"UNAUTHENTICATED\"}"));
+        assertTrue(scrape.body().contains("grpc_server_msg_sent_bytes_count{grpc_service=\"StudentService\","
+                + "grpc_method=\"ListStudentsStream\",grpc_type=\"SERVER_STREAMING\"}"));
+        assertTrue(scrape.body().contains("grpc_server_handling_seconds_bucket{grpc_service=\"StudentService\","
+                + "grpc_method=\"GetStudent\",grpc_type=\"UNARY\",le=\"0.0005\"}"));
+        assertFalse(scrape.body().contains("E-"));
+    }
+
+    private static StudentOuterClass.CreateStudentRequest createRequest(String firstName, String lastName, long age) {
+        return StudentOuterClass.CreateStudentRequest.newBuilder()
+                .setFirstName(firstName)
+                .setLastName(lastName)
+                .setAge(age)
+                .build();
+    }
+
+    private static StudentOuterClass.GetStudentRequest getRequest(long id) {
+        return StudentOuterClass.GetStudentRequest.newBuilder().setId(id).build();
+    }
+}
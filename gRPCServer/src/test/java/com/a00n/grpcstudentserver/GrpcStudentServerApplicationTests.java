@@ -2,8 +2,10 @@ package com.a00n.grpcstudentserver;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
-@SpringBootTest
+@SpringBootTest(properties = "students.metrics.port=0")
+@ActiveProfiles("embedded")
 class GrpcStudentServerApplicationTests {
 
     @Test
@@ -0,0 +1,34 @@
+package com.a00n.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LongIntHashMapTests {
+
+    @Test
+    void behavesLikeHashMapUnderRandomPutsAndRemoves() {
+        LongIntHashMap map = new LongIntHashMap(4);
+        Map<Long, Integer> expected = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 200_000; i++) {
+            long key = 1 + random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.getOrDefault(key, LongIntHashMap.MISSING), map.remove(key));
+                expected.remove(key);
+            } else {
+                map.put(key, i);
+                expected.put(key, i);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (long key = 1; key <= 5_000; key++) {
+            assertEquals(expected.getOrDefault(key, LongIntHashMap.MISSING), map.get(key));
+        }
+    }
+}
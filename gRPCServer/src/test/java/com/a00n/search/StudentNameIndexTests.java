@@ -0,0 +1,104 @@
+package com.a00n.search;
+
+import com.a00n.entities.Student;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StudentNameIndexTests {
+
+    private final StudentNameIndex index = new StudentNameIndex();
+
+    @Test
+    void ranksExactNamesThenWordStartsThenSubstrings() {
+        index.putAll(List.of(
+                new Student(1L, "Marianne", "Smith", 30L),
+                new Student(2L, "Ann", "Lee", 20L),
+                new Student(3L, "Joanna", "Annerstedt", 25L),
+                new Student(4L, "Ann", "Lee", 22L),
+                new Student(5L, "Zed", "Vann", 40L)));
+
+        assertEquals(List.of(2L, 4L, 3L, 1L, 5L), ids(index.search("ann", 10)));
+        assertEquals(List.of(2L, 4L), ids(index.search("  ANN   lee ", 10)));
+        assertEquals(List.of(2L, 4L, 3L), ids(index.search("ann", 3)));
+        assertEquals(List.of(), index.search("xyz", 10));
+        assertEquals(new Student(4L, "Ann", "Lee", 22L), index.search("ann lee", 10).get(1));
+        assertThrows(IllegalArgumentException.class, () -> index.search(" an ", 10));
+    }
+
+    @Test
+    void putReplacesAndRemoveDeletes() {
+        index.put(new Student(1L, "Grace", "Hopper", 85L));
+        index.put(new Student(2L, "Grace", "Murray", 80L));
+
+        index.put(new Student(1L, "Ada", "Lovelace", 36L));
+        index.remove(2L);
+
+        assertEquals(List.of(), index.search("grace", 10));
+        assertEquals(List.of(new Student(1L, "Ada", "Lovelace", 36L)), index.search("lovelace", 10));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void compactionKeepsLiveStudents() {
+        for (long id = 1; id <= 200_000; id++) {
+            index.put(new Student(id, "First" + (id % 100), "Last", id % 50));
+            if (id % 3 != 0) {
+                index.remove(id);
+            }
+        }
+
+        List<Student> found = index.search("first7 last", 100_000);
+        assertEquals(666, found.size());
+        assertTrue(found.stream().allMatch(student -> student.getId() % 3 == 0 && student.getId() % 100 == 7
+                && student.getAge() == student.getId() % 50));
+        assertEquals(200_000 / 3, index.size());
+    }
+
+    @Test
+    void compactionDropsNamesNoStudentHasAnyMore() {
+        index.put(new Student(1L, "Ada", "Lovelace", 36L));
+        for (int i = 0; i < 200_000; i++) {
+            index.put(new Student(2L, "Renamed" + i, "Student" + i, 20L));
+        }
+
+        assertTrue(index.groupCount() <= (1 << 16) + 2, index.groupCount() + " name groups for 2 students");
+        assertEquals(List.of(new Student(2L, "Renamed199999", "Student199999", 20L)), index.search("renamed199999", 10));
+        assertEquals(List.of(new Student(2L, "Renamed199999", "Student199999", 20L)),
+                index.search("renamed199999 student199999", 10));
+        assertEquals(List.of(), index.search("renamed199998", 10));
+        assertEquals(List.of(new Student(1L, "Ada", "Lovelace", 36L)), index.search("ada lovelace", 10));
+        assertEquals(List.of(new Student(1L, "Ada", "Lovelace", 36L)), index.search("ovelac", 10));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void parallelRebuildMatchesIncrementalInserts() {
+        List<Student> students = new ArrayList<>();
+        for (long id = 1; id <= 5_000; id++) {
+            students.add(new Student(id, "Name" + id % 37, "Family" + id % 11, id % 60));
+        }
+        StudentNameIndex incremental = new StudentNameIndex();
+        incremental.putAll(students);
+        List<List<Student>> pages = new ArrayList<>();
+        for (int i = 0; i < students.size(); i += 700) {
+            pages.add(students.subList(i, Math.min(students.size(), i + 700)));
+        }
+
+        index.rebuild(pages, 4);
+
+        assertEquals(5_000, index.size());
+        for (String query : List.of("name3", "family1", "name12 family", "ame")) {
+            assertEquals(incremental.search(query, 1_000), index.search(query, 1_000));
+        }
+    }
+
+    private static List<Long> ids(List<Student> students) {
+        return students.stream().map(Student::getId).toList();
+    }
+}
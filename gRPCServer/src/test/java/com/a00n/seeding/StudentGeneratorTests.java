@@ -0,0 +1,38 @@
+package com.a00n.seeding;
+
+import com.a00n.entities.Student;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StudentGeneratorTests {
+
+    @Test
+    void batchesAreDeterministicPerSeedAndChunk() {
+        assertEquals(new StudentGenerator(7).batch(3, 100), new StudentGenerator(7).batch(3, 100));
+        assertNotEquals(new StudentGenerator(7).batch(3, 100), new StudentGenerator(7).batch(4, 100));
+        assertNotEquals(new StudentGenerator(7).batch(3, 100), new StudentGenerator(8).batch(3, 100));
+    }
+
+    @Test
+    void namesAreSkewedAndAgesClusterAroundStudentAges() {
+        List<Student> students = new StudentGenerator(42).batch(0, 20_000);
+
+        Map<String, Long> firstNames = students.stream()
+                .collect(Collectors.groupingBy(Student::getFirstName, Collectors.counting()));
+        long mostCommon = firstNames.values().stream().mapToLong(Long::longValue).max().orElseThrow();
+        long leastCommon = firstNames.values().stream().mapToLong(Long::longValue).min().orElseThrow();
+        assertTrue(mostCommon > 10 * leastCommon, "expected a skewed name distribution: " + firstNames);
+
+        long typical = students.stream().filter(s -> s.getAge() >= 18 && s.getAge() <= 25).count();
+        assertTrue(typical > students.size() * 0.6, "expected most ages in 18..25, got " + typical);
+        assertTrue(students.stream().map(Student::getAge).allMatch(age -> age >= 17 && age <= 65));
+        assertTrue(students.stream().map(Student::getId).allMatch(id -> id == null));
+    }
+}
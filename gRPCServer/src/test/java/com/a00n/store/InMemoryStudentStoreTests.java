@@ -0,0 +1,11 @@
+package com.a00n.store;
+
+class InMemoryStudentStoreTests extends StudentStoreContractTests {
+
+    private final InMemoryStudentStore store = new InMemoryStudentStore();
+
+    @Override
+    protected StudentStore store() {
+        return store;
+    }
+}
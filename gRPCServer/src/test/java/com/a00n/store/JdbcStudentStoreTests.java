@@ -0,0 +1,29 @@
+package com.a00n.store;
+
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+class JdbcStudentStoreTests extends StudentStoreContractTests {
+
+    private final EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .addScript("db/embedded/schema.sql")
+            .build();
+    private final JdbcStudentStore store = new JdbcStudentStore(new JdbcTemplate(database),
+            new DataSourceTransactionManager(database), 16);
+
+    @AfterEach
+    void shutdown() {
+        database.shutdown();
+    }
+
+    @Override
+    protected StudentStore store() {
+        return store;
+    }
+}
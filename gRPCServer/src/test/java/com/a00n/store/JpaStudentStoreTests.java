@@ -0,0 +1,82 @@
+package com.a00n.store;
+
+import com.a00n.entities.Student;
+import com.a00n.grpcstudentserver.GrpcStudentServerApplication;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Its own in-memory database, emptied before every test, so that the contract's counts hold.
+@SpringBootTest(classes = GrpcStudentServerApplication.class, properties = {
+        "grpc.server.port=-1",
+        "students.metrics.port=0",
+        "students.seed.count=0",
+        "students.store=jpa",
+        "spring.datasource.url=jdbc:h2:mem:jpa_store_tests;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"
+})
+@ActiveProfiles("embedded")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class JpaStudentStoreTests extends StudentStoreContractTests {
+
+    @Autowired
+    private JpaStudentStore store;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void empty() {
+        jdbcTemplate.update("DELETE FROM student");
+    }
+
+    @Override
+    protected StudentStore store() {
+        return store;
+    }
+
+    // Switching students.store on an existing database must not hand out ids that JPA already used, or the reverse.
+    // Runs first, so that the JDBC store also creates the id row the way Hibernate would.
+    @Test
+    @Order(1)
+    void jpaAndJdbcStoresNeverAssignTheSameId() {
+        JdbcStudentStore jdbc = new JdbcStudentStore(jdbcTemplate, transactionManager, 16);
+        List<Student> inserted = new ArrayList<>();
+        for (int round = 0; round < 5; round++) {
+            inserted.add(jdbc.insert(student("jdbc", "single " + round, 20)));
+            inserted.add(store.insert(student("jpa", "single " + round, 20)));
+            inserted.addAll(jdbc.insertAll(batch("jdbc", 40)));
+            inserted.addAll(store.insertAll(batch("jpa", 130)));
+        }
+
+        Set<Long> ids = new HashSet<>();
+        for (Student student : inserted) {
+            assertTrue(ids.add(student.getId()), "id " + student.getId() + " assigned twice");
+        }
+        assertTrue(ids.stream().allMatch(id -> id > 0));
+    }
+
+    private static List<Student> batch(String firstName, int size) {
+        List<Student> batch = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            batch.add(student(firstName, "batch " + i, 20 + i % 40));
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,151 @@
+package com.a00n.store;
+
+import com.a00n.entities.Student;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Reopening a directory without closing the first store stands in for a restart after the process was killed: the
+// second store sees exactly what the first one left in the page cache.
+class MappedStudentStoreTests extends StudentStoreContractTests {
+
+    @TempDir
+    Path directory;
+
+    private MappedStudentStore store;
+
+    @BeforeEach
+    void open() {
+        store = reopen();
+    }
+
+    @AfterEach
+    void close() {
+        store.close();
+    }
+
+    @Override
+    protected StudentStore store() {
+        return store;
+    }
+
+    @Test
+    void restartReplaysEveryAcknowledgedWrite() {
+        Student ada = store.insert(student("ada", "lovelace", 36));
+        Student grace = store.insert(student("grace", "hopper", 85));
+        Student alan = store.insert(new Student(null, "alan", null, null));
+        store.update(new Student(grace.getId(), "grace", "murray", 86L));
+        store.deleteById(ada.getId());
+
+        MappedStudentStore restarted = reopen();
+
+        assertEquals(List.of(new Student(grace.getId(), "grace", "murray", 86L), alan), restarted.findPage(0, 10));
+        assertEquals(Optional.empty(), restarted.findById(ada.getId()));
+        assertEquals(alan.getId() + 1, restarted.insert(student("edsger", "dijkstra", 72)).getId());
+    }
+
+    @Test
+    void tornRecordIsDroppedWithEverythingAfterIt() throws IOException {
+        Student kept = store.insert(student("ada", "lovelace", 36));
+        store.insert(student("grace", "hopper", 85));
+        store.insert(student("alan", "turing", 41));
+        corrupt(1, 1);
+
+        MappedStudentStore restarted = reopen();
+        Student appended = restarted.insert(student("barbara", "liskov", 84));
+
+        assertEquals(List.of(kept, appended), restarted.findPage(0, 10));
+        assertEquals(List.of(kept, appended), reopen().findPage(0, 10));
+    }
+
+    @Test
+    void corruptRecordInAnOlderSegmentFailsStartup() throws IOException {
+        for (int i = 0; i < 20; i++) {
+            store.insert(student("first " + i, "last " + i, 20 + i));
+        }
+        corrupt(1, 3);
+
+        assertThrows(IllegalStateException.class, this::reopen);
+    }
+
+    @Test
+    void compactionDeletesMostlyDeadSegmentsAndSurvivesRestart() throws IOException {
+        List<Student> expected = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Student student = store.insert(student("first " + i, "last " + i, 20 + i % 40));
+            if (i % 4 == 0) {
+                expected.add(student);
+            } else if (i % 4 == 1) {
+                Student updated = new Student(student.getId(), "first " + i, "changed", 60L);
+                store.update(updated);
+                expected.add(updated);
+            } else {
+                store.deleteById(student.getId());
+            }
+        }
+        long segmentsBefore = segmentFiles();
+
+        store.compact();
+
+        assertTrue(segmentFiles() < segmentsBefore / 2, segmentFiles() + " segments left of " + segmentsBefore);
+        assertEquals(expected, store.findPage(0, 1000));
+        assertEquals(expected, reopen().findPage(0, 1000));
+    }
+
+    @Test
+    void idsAreNotReusedAfterTheHighestIsDeletedAndCompactedAway() {
+        List<Student> inserted = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            inserted.add(store.insert(student("first " + i, "last " + i, 20 + i)));
+        }
+        for (Student student : inserted.subList(7, 16)) {
+            store.deleteById(student.getId());
+        }
+        for (Student student : inserted.subList(0, 7)) {
+            store.update(new Student(student.getId(), student.getFirstName(), "changed", 60L));
+        }
+        // Starts a third segment, so that the one holding the delete markers can be compacted.
+        store.update(new Student(inserted.get(0).getId(), "first 0", "changed again", 61L));
+
+        store.compact();
+
+        assertEquals(inserted.get(15).getId() + 1, reopen().insert(student("alan", "turing", 41)).getId());
+    }
+
+    private MappedStudentStore reopen() {
+        return new MappedStudentStore(directory.toString(), DataSize.ofBytes(16L * MappedStudentStore.RECORD_SIZE),
+                false, Duration.ZERO);
+    }
+
+    // Overwrites a few bytes in the middle of a record, as a write cut short by a crash would leave it.
+    private void corrupt(int segment, int record) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory.resolve(String.format("%08d.seg", segment)),
+                StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{'x', 'y', 'z'}), record * MappedStudentStore.RECORD_SIZE + 30L);
+        }
+    }
+
+    private long segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.a00n.store;
+
+import com.a00n.entities.Student;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OffHeapStudentStoreTests extends StudentStoreContractTests {
+
+    // Small segments, so the contract tests cross segment boundaries.
+    private final OffHeapStudentStore store = new OffHeapStudentStore(4);
+
+    @Override
+    protected StudentStore store() {
+        return store;
+    }
+
+    @Test
+    void compactionKeepsLiveStudentsAndTheirOrder() {
+        List<Student> kept = new ArrayList<>();
+        for (int i = 0; i < 200_000; i++) {
+            Student student = store.insert(student("first " + i % 1000, "last " + i, 18 + i % 40));
+            if (i % 3 == 0) {
+                kept.add(student);
+            } else {
+                store.deleteById(student.getId());
+            }
+        }
+
+        assertEquals(kept.size(), store.count());
+        assertEquals(Optional.of(kept.get(kept.size() / 2)), store.findById(kept.get(kept.size() / 2).getId()));
+        assertEquals(kept.subList(0, 100), store.findPage(0, 100));
+        assertEquals(kept.subList(kept.size() - 3, kept.size()).reversed(),
+                store.findPage(new StudentQuery(null, null, null, null, StudentQuery.Sort.ID, true), null, 3));
+        assertEquals(List.of(kept.get(0)),
+                store.findPage(new StudentQuery(null, null, "first 0", "last 0", StudentQuery.Sort.LAST_NAME, false), null, 10));
+    }
+
+    @Test
+    void namesReplacedByUpdatesAreForgotten() {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            students.add(store.insert(student("first " + i, "last " + i, 20)));
+        }
+        for (int round = 0; round < 2_000; round++) {
+            for (Student student : students) {
+                store.update(new Student(student.getId(), "first " + round, "renamed " + round + " " + student.getId(), 21L));
+            }
+        }
+
+        assertTrue(store.dictionarySize() < 70_000, store.dictionarySize() + " names for 100 students");
+        Student last = students.get(99);
+        assertEquals(Optional.of(new Student(last.getId(), "first 1999", "renamed 1999 " + last.getId(), 21L)),
+                store.findById(last.getId()));
+        assertEquals(1, store.findPage(new StudentQuery(null, null, "first 1999", "renamed 1999 " + last.getId(),
+                StudentQuery.Sort.ID, false), null, 10).size());
+    }
+}
@@ -0,0 +1,143 @@
+package com.a00n.store;
+
+import com.a00n.entities.Student;
+import com.a00n.grpcstudentserver.GrpcStudentServerApplication;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+/**
+ * Runs the same CRUD mix against each {@link StudentStore} backend, starting the application once per backend
+ * against the configured database, and prints throughput and latency percentiles per backend.
+ * <p>
+ * Mix: 60% findById, 15% findPage(50), 10% insert, 10% update, 5% delete.
+ * <p>
+ * Usage: {@code StudentStoreBenchmark [stores=jpa,jdbc,memory,offheap,mmap,wal] [threads=8] [opsPerThread=20000] [preload=10000]
+ * [spring args...]}; pass {@code --spring.profiles.active=embedded} to run against H2 instead of MySQL.
+ */
+public class StudentStoreBenchmark {
+
+    private static final Map<String, Class<? extends StudentStore>> STORES = Map.of(
+            "jpa", JpaStudentStore.class,
+            "jdbc", JdbcStudentStore.class,
+            "memory", InMemoryStudentStore.class,
+            "offheap", OffHeapStudentStore.class,
+            "mmap", MappedStudentStore.class,
+            "wal", WalStudentStore.class);
+
+    public static void main(String[] args) throws Exception {
+        String[] stores = (args.length > 0 ? args[0] : "jpa,jdbc,memory,offheap,mmap,wal").split(",");
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int opsPerThread = args.length > 2 ? Integer.parseInt(args[2]) : 20_000;
+        int preload = args.length > 3 ? Integer.parseInt(args[3]) : 10_000;
+        List<String> springArgs = new ArrayList<>(List.of("--grpc.server.port=-1", "--spring.jpa.show-sql=false",
+                "--spring.main.banner-mode=off", "--logging.level.root=WARN"));
+        springArgs.addAll(Arrays.asList(args).subList(Math.min(4, args.length), args.length));
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        System.out.println("store    threads  ops/s      p50(us)  p99(us)  p99.9(us)");
+        for (String name : stores) {
+            Class<?> expected = STORES.get(name);
+            if (expected == null) {
+                throw new IllegalArgumentException("unknown store " + name + ", expected one of " + STORES.keySet());
+            }
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(GrpcStudentServerApplication.class)
+                    .web(WebApplicationType.NONE)
+                    // An argument, not a default property, so that it overrides application.properties.
+                    .run(Stream.concat(springArgs.stream(), Stream.of("--students.store=" + name)).toArray(String[]::new))) {
+                StudentStore store = context.getBean(StudentStore.class);
+                // Checks the bean, not the property: a store bean that ignores the setting would otherwise be
+                // measured under the wrong name.
+                Class<?> actual = AopUtils.getTargetClass(store);
+                if (actual != expected) {
+                    throw new IllegalStateException("asked for store " + name + " but got " + actual.getSimpleName());
+                }
+                long[] ids = preload(store, preload);
+                run(store, ids, threads, opsPerThread / 10, null);
+                long[] latencies = new long[threads * opsPerThread];
+                long elapsed = run(store, ids, threads, opsPerThread, latencies);
+                Arrays.sort(latencies);
+                System.out.printf("%-8s %7d  %9.0f  %7d  %7d  %9d%n", name, threads,
+                        latencies.length / (elapsed / 1e9),
+                        percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 0.999));
+            }
+        }
+    }
+
+    private static long[] preload(StudentStore store, int count) {
+        List<Long> ids = new ArrayList<>(count);
+        List<Student> batch = new ArrayList<>(1000);
+        for (int i = 0; i < count; i++) {
+            batch.add(randomStudent());
+            if (batch.size() == 1000 || i == count - 1) {
+                store.insertAll(batch).forEach(student -> ids.add(student.getId()));
+                batch = new ArrayList<>(1000);
+            }
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static long run(StudentStore store, long[] ids, int threads, int opsPerThread, long[] latencies)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int t = 0; t < threads; t++) {
+                int offset = t * opsPerThread;
+                futures.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < opsPerThread; i++) {
+                        long id = ids[random.nextInt(ids.length)];
+                        int op = random.nextInt(100);
+                        long began = System.nanoTime();
+                        if (op < 60) {
+                            store.findById(id);
+                        } else if (op < 75) {
+                            store.findPage(id, 50);
+                        } else if (op < 85) {
+                            store.insert(randomStudent());
+                        } else if (op < 95) {
+                            store.update(new Student(id, "updated", "student", (long) random.nextInt(18, 60)));
+                        } else {
+                            store.deleteById(id);
+                        }
+                        if (latencies != null) {
+                            latencies[offset + i] = (System.nanoTime() - began) / 1000;
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return System.nanoTime() - start;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static Student randomStudent() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return Student.builder()
+                .firstName("first " + random.nextInt(10_000))
+                .lastName("last " + random.nextInt(10_000))
+                .age((long) random.nextInt(18, 60))
+                .build();
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * percentile))];
+    }
+}
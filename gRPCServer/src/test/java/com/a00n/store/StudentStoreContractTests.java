@@ -0,0 +1,149 @@
+package com.a00n.store;
+
+import com.a00n.entities.Student;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Behaviour every {@link StudentStore} must share. Subclasses provide an empty store.
+ */
+abstract class StudentStoreContractTests {
+
+    protected abstract StudentStore store();
+
+    @Test
+    void insertAssignsIdsAndFindsById() {
+        Student first = store().insert(student("ada", "lovelace", 36));
+        Student second = store().insert(student("alan", "turing", 41));
+
+        assertNotNull(first.getId());
+        assertNotEquals(first.getId(), second.getId());
+        assertEquals(Optional.of(first), store().findById(first.getId()));
+        assertTrue(store().existsById(second.getId()));
+        assertEquals(2, store().count());
+    }
+
+    @Test
+    void insertAllReturnsStudentsInOrderWithIds() {
+        List<Student> batch = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            batch.add(student("first " + i, "last " + i, 18 + i % 40));
+        }
+
+        List<Student> inserted = store().insertAll(batch);
+
+        assertEquals(250, inserted.size());
+        for (int i = 0; i < inserted.size(); i++) {
+            assertEquals("first " + i, inserted.get(i).getFirstName());
+            assertEquals(Optional.of(inserted.get(i)), store().findById(inserted.get(i).getId()));
+        }
+        assertEquals(250, inserted.stream().map(Student::getId).distinct().count());
+    }
+
+    @Test
+    void pagesAreOrderedById() {
+        List<Student> inserted = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            inserted.add(store().insert(student("s" + i, "t" + i, i)));
+        }
+
+        List<Long> seen = new ArrayList<>();
+        long afterId = 0;
+        List<Student> page;
+        while (!(page = store().findPage(afterId, 10)).isEmpty()) {
+            page.forEach(student -> seen.add(student.getId()));
+            afterId = page.get(page.size() - 1).getId();
+        }
+
+        assertEquals(inserted.stream().map(Student::getId).sorted().toList(), seen);
+    }
+
+    @Test
+    void filteredPagesFollowTheSortKey() {
+        Student lovelace = store().insert(student("ada", "lovelace", 36));
+        Student turing = store().insert(student("alan", "turing", 41));
+        Student hopper = store().insert(student("grace", "hopper", 85));
+        Student kay = store().insert(student("alan", "kay", 84));
+        Student liskov = store().insert(student("barbara", "liskov", 84));
+        Student yonath = store().insert(student("ada", "yonath", 86));
+        Student underscore = store().insert(student("a_b", "zed", 20));
+        Student letter = store().insert(student("axb", "zed", 20));
+        store().insert(new Student(null, "nadia", "unknown", null));
+
+        assertEquals(List.of(kay, liskov, hopper, yonath),
+                pageThrough(new StudentQuery(80L, null, null, null, StudentQuery.Sort.AGE, false)));
+        assertEquals(List.of(letter, underscore, yonath, turing, lovelace, kay),
+                pageThrough(new StudentQuery(null, null, "a", null, StudentQuery.Sort.LAST_NAME, true)));
+        assertEquals(List.of(underscore),
+                pageThrough(new StudentQuery(null, null, "a_", null, StudentQuery.Sort.FIRST_NAME, false)));
+        assertEquals(List.of(letter, underscore, lovelace),
+                pageThrough(new StudentQuery(null, 40L, null, null, StudentQuery.Sort.ID, true)));
+        assertEquals(8, pageThrough(new StudentQuery(null, null, null, null, StudentQuery.Sort.AGE, true)).size());
+    }
+
+    private List<Student> pageThrough(StudentQuery query) {
+        List<Student> seen = new ArrayList<>();
+        Student after = null;
+        List<Student> page;
+        while (!(page = store().findPage(query, after, 2)).isEmpty()) {
+            assertTrue(page.size() <= 2);
+            seen.addAll(page);
+            after = page.get(page.size() - 1);
+        }
+        return seen;
+    }
+
+    @Test
+    void findAllByIdSkipsMissingIds() {
+        Student a = store().insert(student("a", "a", 1));
+        Student b = store().insert(student("b", "b", 2));
+
+        List<Student> found = store().findAllById(List.of(a.getId(), -1L, b.getId()));
+
+        assertEquals(2, found.size());
+        assertTrue(found.contains(a) && found.contains(b));
+    }
+
+    @Test
+    void updateReplacesExistingStudentOnly() {
+        Student student = store().insert(student("grace", "hopper", 85));
+
+        Optional<Student> updated = store().update(new Student(student.getId(), "grace", "murray", 86L));
+
+        assertEquals("murray", updated.orElseThrow().getLastName());
+        assertEquals(updated, store().findById(student.getId()));
+        assertEquals(Optional.empty(), store().update(new Student(-1L, "no", "one", 1L)));
+    }
+
+    @Test
+    void deleteReportsWhetherStudentExisted() {
+        Student student = store().insert(student("edsger", "dijkstra", 72));
+
+        assertTrue(store().deleteById(student.getId()));
+        assertFalse(store().deleteById(student.getId()));
+        assertFalse(store().existsById(student.getId()));
+        assertEquals(0, store().count());
+    }
+
+    @Test
+    void returnedStudentsAreDetached() {
+        Student student = store().insert(student("barbara", "liskov", 84));
+
+        store().findById(student.getId()).orElseThrow().setLastName("changed");
+
+        assertEquals("liskov", store().findById(student.getId()).orElseThrow().getLastName());
+    }
+
+    protected static Student student(String firstName, String lastName, long age) {
+        return Student.builder().firstName(firstName).lastName(lastName).age(age).build();
+    }
+}
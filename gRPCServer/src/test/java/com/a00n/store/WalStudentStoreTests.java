@@ -0,0 +1,131 @@
+package com.a00n.store;
+
+import com.a00n.entities.Student;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// As in MappedStudentStoreTests, reopening a directory without closing the first store stands in for a restart
+// after the process was killed.
+class WalStudentStoreTests extends StudentStoreContractTests {
+
+    @TempDir
+    Path directory;
+
+    private final List<WalStudentStore> opened = new ArrayList<>();
+    private WalStudentStore store;
+
+    @BeforeEach
+    void open() {
+        store = reopen();
+    }
+
+    @AfterEach
+    void close() {
+        opened.forEach(WalStudentStore::close);
+    }
+
+    @Override
+    protected StudentStore store() {
+        return store;
+    }
+
+    @Test
+    void restartReplaysEveryAcknowledgedWrite() {
+        Student ada = store.insert(student("ada", "lovelace", 36));
+        Student grace = store.insert(student("grace", "hopper", 85));
+        Student alan = store.insert(new Student(null, "alan", null, null));
+        store.update(new Student(grace.getId(), "grace", "murray", 86L));
+        store.deleteById(ada.getId());
+
+        WalStudentStore restarted = reopen();
+
+        assertEquals(List.of(new Student(grace.getId(), "grace", "murray", 86L), alan), restarted.findPage(0, 10));
+        assertEquals(Optional.empty(), restarted.findById(ada.getId()));
+        assertEquals(alan.getId() + 1, restarted.insert(student("edsger", "dijkstra", 72)).getId());
+    }
+
+    @Test
+    void concurrentWritersAreAllDurable() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Student>> inserts = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            Student student = student("first " + i, "last " + i, 20 + i % 40);
+            inserts.add(executor.submit(() -> store.insert(student)));
+        }
+        List<Student> expected = new ArrayList<>();
+        for (Future<Student> insert : inserts) {
+            expected.add(insert.get());
+        }
+        executor.shutdown();
+        expected.sort(Comparator.comparing(Student::getId));
+
+        assertEquals(expected, reopen().findPage(0, 1000));
+    }
+
+    @Test
+    void snapshotReplacesOlderLogsAndRestoresWithTheLogAfterIt() throws IOException {
+        Student ada = store.insert(student("ada", "lovelace", 36));
+        Student grace = store.insert(student("grace", "hopper", 85));
+        Student alan = store.insert(student("alan", "turing", 41));
+        store.snapshot();
+        Student updated = new Student(grace.getId(), "grace", "murray", 86L);
+        store.update(updated);
+        store.deleteById(alan.getId());
+        Student barbara = store.insert(student("barbara", "liskov", 84));
+
+        assertEquals(List.of(directory.resolve("00000001.snapshot")), WriteAheadLog.list(directory, ".snapshot"));
+        assertEquals(List.of(directory.resolve("00000002.log")), WriteAheadLog.list(directory, ".log"));
+        assertEquals(List.of(ada, updated, barbara), reopen().findPage(0, 10));
+    }
+
+    @Test
+    void idsAreNotReusedAfterTheHighestIsDeletedBeforeASnapshot() {
+        store.insert(student("ada", "lovelace", 36));
+        Student last = store.insert(student("grace", "hopper", 85));
+        store.deleteById(last.getId());
+        store.snapshot();
+
+        assertEquals(last.getId() + 1, reopen().insert(student("alan", "turing", 41)).getId());
+    }
+
+    @Test
+    void tornEntryAtTheEndOfTheLogIsDropped() throws IOException {
+        Student ada = store.insert(student("ada", "lovelace", 36));
+        Student grace = store.insert(student("grace", "hopper", 85));
+        // The length of an entry, and only part of the entry, as a write cut short by a crash leaves it.
+        try (FileChannel log = FileChannel.open(directory.resolve("00000001.log"), StandardOpenOption.APPEND)) {
+            log.write(ByteBuffer.allocate(12).putInt(64).putInt(7).putInt(1).flip());
+        }
+
+        WalStudentStore restarted = reopen();
+        Student appended = restarted.insert(student("barbara", "liskov", 84));
+
+        assertEquals(List.of(ada, grace, appended), restarted.findPage(0, 10));
+        assertEquals(List.of(ada, grace, appended), reopen().findPage(0, 10));
+    }
+
+    private WalStudentStore reopen() {
+        WalStudentStore reopened = new WalStudentStore(directory.toString(), Duration.ZERO, 4);
+        opened.add(reopened);
+        return reopened;
+    }
+}
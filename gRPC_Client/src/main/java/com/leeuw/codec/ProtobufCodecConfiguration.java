@@ -0,0 +1,22 @@
+package com.leeuw.codec;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.google.protobuf.Message;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Teaches Boot's ObjectMapper to write protobuf messages, which the WebFlux JSON and server-sent-event encoders
+ * then pick up. The binary side needs nothing here: WebFlux registers its protobuf reader and writer whenever
+ * protobuf-java is on the classpath, serving {@code application/x-protobuf} and, for streams, length-delimited
+ * messages.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ProtobufCodecConfiguration {
+
+    @Bean
+    public Module protobufJsonModule() {
+        return new SimpleModule("protobuf-json").addSerializer(Message.class, new ProtobufJsonSerializer());
+    }
+}
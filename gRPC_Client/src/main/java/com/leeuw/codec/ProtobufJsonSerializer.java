@@ -0,0 +1,189 @@
+package com.leeuw.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.Message;
+import com.leeuw.grpc.stubs.StudentOuterClass;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes generated protobuf messages straight to a Jackson generator, so controllers can return gRPC responses
+ * without copying them into DTOs first. Per message class, field names (the proto JSON names) are encoded once and
+ * the generated getters are bound as method handles with primitive return types, so nothing is boxed on the way
+ * out. Unlike the canonical proto3 JSON mapping, every field is written and 64-bit integers stay numbers, which
+ * keeps the output identical to what the DTOs produced. The one exception to writing strings as they are is an empty
+ * {@link StudentOuterClass.ListStudentsResponse#getNextPageToken() ListStudentsResponse.next_page_token}, written as
+ * {@code null} the way the DTOs reported the last page; a field of that name in any other message is left alone.
+ */
+public class ProtobufJsonSerializer extends StdSerializer<Message> {
+
+    private static final Descriptors.FieldDescriptor PAGE_TOKEN = StudentOuterClass.ListStudentsResponse.getDescriptor()
+            .findFieldByNumber(StudentOuterClass.ListStudentsResponse.NEXT_PAGE_TOKEN_FIELD_NUMBER);
+
+    // Keyed by class, then by descriptor: a generated class has one descriptor, a DynamicMessage one per type.
+    private static final ClassValue<Map<Descriptors.Descriptor, FieldWriter[]>> WRITERS = new ClassValue<>() {
+        @Override
+        protected Map<Descriptors.Descriptor, FieldWriter[]> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    public ProtobufJsonSerializer() {
+        super(Message.class);
+    }
+
+    @Override
+    public void serialize(Message message, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(message);
+        for (FieldWriter writer : writers(message)) {
+            generator.writeFieldName(writer.name);
+            if (writer.count == null) {
+                writeValue(writer, message, 0, generator, provider);
+            } else {
+                generator.writeStartArray();
+                int count = count(writer, message);
+                for (int i = 0; i < count; i++) {
+                    writeValue(writer, message, i, generator, provider);
+                }
+                generator.writeEndArray();
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeValue(FieldWriter writer, Message message, int index, JsonGenerator generator,
+                            SerializerProvider provider) throws IOException {
+        if (writer.getter == null) {
+            writeReflected(writer, writer.field.isRepeated()
+                    ? message.getRepeatedField(writer.field, index) : message.getField(writer.field), generator, provider);
+            return;
+        }
+        try {
+            switch (writer.field.getJavaType()) {
+                case INT -> generator.writeNumber((int) writer.getter.invokeExact(message, index));
+                case LONG -> generator.writeNumber((long) writer.getter.invokeExact(message, index));
+                case FLOAT -> generator.writeNumber((float) writer.getter.invokeExact(message, index));
+                case DOUBLE -> generator.writeNumber((double) writer.getter.invokeExact(message, index));
+                case BOOLEAN -> generator.writeBoolean((boolean) writer.getter.invokeExact(message, index));
+                case STRING -> writeString(writer, (String) writer.getter.invokeExact(message, index), generator);
+                case BYTE_STRING -> generator.writeBinary(((ByteString) writer.getter.invokeExact(message, index)).toByteArray());
+                case MESSAGE -> serialize((Message) writer.getter.invokeExact(message, index), generator, provider);
+                case ENUM -> throw new IllegalStateException("enum fields are written reflectively");
+            }
+        } catch (IOException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    private void writeReflected(FieldWriter writer, Object value, JsonGenerator generator,
+                                SerializerProvider provider) throws IOException {
+        switch (writer.field.getJavaType()) {
+            case INT -> generator.writeNumber((Integer) value);
+            case LONG -> generator.writeNumber((Long) value);
+            case FLOAT -> generator.writeNumber((Float) value);
+            case DOUBLE -> generator.writeNumber((Double) value);
+            case BOOLEAN -> generator.writeBoolean((Boolean) value);
+            case STRING -> writeString(writer, (String) value, generator);
+            case BYTE_STRING -> generator.writeBinary(((ByteString) value).toByteArray());
+            case ENUM -> generator.writeString(((Descriptors.EnumValueDescriptor) value).getName());
+            case MESSAGE -> serialize((Message) value, generator, provider);
+        }
+    }
+
+    private static void writeString(FieldWriter writer, String value, JsonGenerator generator) throws IOException {
+        if (writer.emptyAsNull && value.isEmpty()) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value);
+        }
+    }
+
+    private static int count(FieldWriter writer, Message message) {
+        if (writer.count == NO_HANDLE) {
+            return message.getRepeatedFieldCount(writer.field);
+        }
+        try {
+            return (int) writer.count.invokeExact(message);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    // Marks a repeated field whose count is read reflectively.
+    private static final MethodHandle NO_HANDLE = MethodHandles.constant(int.class, 0);
+
+    private static FieldWriter[] writers(Message message) {
+        Map<Descriptors.Descriptor, FieldWriter[]> byDescriptor = WRITERS.get(message.getClass());
+        Descriptors.Descriptor descriptor = message.getDescriptorForType();
+        FieldWriter[] writers = byDescriptor.get(descriptor);
+        return writers != null ? writers
+                : byDescriptor.computeIfAbsent(descriptor, key -> plan(message.getClass(), key));
+    }
+
+    private static FieldWriter[] plan(Class<? extends Message> type, Descriptors.Descriptor descriptor) {
+        List<Descriptors.FieldDescriptor> fields = descriptor.getFields();
+        FieldWriter[] plan = new FieldWriter[fields.size()];
+        for (int i = 0; i < plan.length; i++) {
+            Descriptors.FieldDescriptor field = fields.get(i);
+            MethodHandle getter = null;
+            MethodHandle count = field.isRepeated() ? NO_HANDLE : null;
+            if (field.getJavaType() != Descriptors.FieldDescriptor.JavaType.ENUM && !field.isMapField()) {
+                try {
+                    String property = Character.toUpperCase(field.getJsonName().charAt(0)) + field.getJsonName().substring(1);
+                    MethodType getterType = MethodType.methodType(valueType(field), Message.class, int.class);
+                    if (field.isRepeated()) {
+                        getter = MethodHandles.publicLookup()
+                                .unreflect(type.getMethod("get" + property, int.class))
+                                .asType(getterType);
+                        count = MethodHandles.publicLookup()
+                                .unreflect(type.getMethod("get" + property + "Count"))
+                                .asType(MethodType.methodType(int.class, Message.class));
+                    } else {
+                        getter = MethodHandles.dropArguments(MethodHandles.publicLookup()
+                                .unreflect(type.getMethod("get" + property))
+                                .asType(MethodType.methodType(valueType(field), Message.class)), 1, int.class);
+                    }
+                } catch (ReflectiveOperationException e) {
+                    // Renamed accessors (name clashes) and dynamic messages go through the descriptor instead.
+                    getter = null;
+                    count = field.isRepeated() ? NO_HANDLE : null;
+                }
+            }
+            plan[i] = new FieldWriter(field, new SerializedString(field.getJsonName()), getter, count,
+                    field == PAGE_TOKEN);
+        }
+        return plan;
+    }
+
+    private static Class<?> valueType(Descriptors.FieldDescriptor field) {
+        return switch (field.getJavaType()) {
+            case INT -> int.class;
+            case LONG -> long.class;
+            case FLOAT -> float.class;
+            case DOUBLE -> double.class;
+            case BOOLEAN -> boolean.class;
+            case STRING -> String.class;
+            case BYTE_STRING -> ByteString.class;
+            case ENUM, MESSAGE -> Message.class;
+        };
+    }
+
+    private record FieldWriter(Descriptors.FieldDescriptor field, SerializedString name, MethodHandle getter,
+                               MethodHandle count, boolean emptyAsNull) {
+    }
+}
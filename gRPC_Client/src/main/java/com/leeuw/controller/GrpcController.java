@@ -1,25 +1,29 @@
 package com.leeuw.controller;
 
-import com.leeuw.dto.CustomResponse;
 import com.leeuw.dto.Student;
 import com.leeuw.grpc.stubs.StudentOuterClass;
 import com.leeuw.service.GrpcClientService;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.publisher.Mono;
 
-import java.time.Duration;
-import java.util.ArrayList;
 import java.util.List;
 
 @RestController
 @RequestMapping("/students")
 public class GrpcController {
 
+    private static final Logger log = LoggerFactory.getLogger(GrpcController.class);
+    private static final String PROTOBUF = "application/x-protobuf";
+
     private GrpcClientService grpcStudentClient;
 
     @Autowired
@@ -27,102 +31,58 @@ public class GrpcController {
         this.grpcStudentClient = grpcStudentClient;
     }
 
-    @GetMapping
-    public ResponseEntity<List<Student>> getStudentList() {
-        try {
-            // Call gRPC service to get a list of students
-            StudentOuterClass.ListStudentsResponse studentList = grpcStudentClient.listStudents();
-
-            // Convert gRPC response to DTOs
-            List<Student> responseList = new ArrayList<>();
-            for (StudentOuterClass.Student student : studentList.getStudentsList()) {
-                Student studentDTO = new Student();
-                studentDTO.setId(student.getId());
-                studentDTO.setFirstName(student.getFirstName());
-                studentDTO.setLastName(student.getLastName());
-                studentDTO.setAge(student.getAge());
-
-                responseList.add(studentDTO);
-            }
-
-            return ResponseEntity.ok(responseList);
-        } catch (Exception e) {
-            // Handle the exception, you can log it or return a specific error response
-            e.printStackTrace();
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
-        }
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, PROTOBUF})
+    public Mono<ResponseEntity<StudentOuterClass.ListStudentsResponse>> getStudentList(
+            @RequestParam(defaultValue = "0") int pageSize, @RequestParam(required = false) String pageToken,
+            @RequestParam(defaultValue = "0") long minAge, @RequestParam(defaultValue = "0") long maxAge,
+            @RequestParam(defaultValue = "") String firstNamePrefix, @RequestParam(defaultValue = "") String lastNamePrefix,
+            @RequestParam(defaultValue = "ID") StudentOuterClass.StudentSort.Field sort,
+            @RequestParam(defaultValue = "false") boolean descending) {
+        // Filtering and sorting happen on the server, against its indexes
+        StudentOuterClass.StudentFilter filter = StudentOuterClass.StudentFilter.newBuilder()
+            .setMinAge(minAge)
+            .setMaxAge(maxAge)
+            .setFirstNamePrefix(firstNamePrefix)
+            .setLastNamePrefix(lastNamePrefix)
+            .build();
+        StudentOuterClass.StudentSort order = StudentOuterClass.StudentSort.newBuilder()
+            .setField(sort)
+            .setDescending(descending)
+            .build();
+        return grpcStudentClient.listStudents(pageSize, pageToken, filter, order)
+            .map(ResponseEntity::ok)
+            .onErrorResume(GrpcController::errorResponse);
     }
 
-    @GetMapping(value = "/{id}")
-        public ResponseEntity<Student> getStudentById(@PathVariable Long id) {
-
-        try{
-            StudentOuterClass.Student student = grpcStudentClient.getStudentById(id);
-            // Convert gRPC response to DTO
-            Student createdStudentDTO = new Student();
-            createdStudentDTO.setId(student.getId());
-            createdStudentDTO.setFirstName(student.getFirstName());
-            createdStudentDTO.setLastName(student.getLastName());
-            createdStudentDTO.setAge(student.getAge());
-            return ResponseEntity.ok(createdStudentDTO);
-
-        }catch (Exception e){
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
-        }
+    @GetMapping(value = "/batch", produces = {MediaType.APPLICATION_JSON_VALUE, PROTOBUF})
+    public Mono<ResponseEntity<StudentOuterClass.BatchGetStudentsResponse>> getStudentsByIds(@RequestParam List<Long> ids) {
+        return grpcStudentClient.getStudentsByIds(ids)
+            .map(ResponseEntity::ok)
+            .onErrorResume(GrpcController::errorResponse);
     }
 
-    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public Flux<Student> streamStudents() {
-        return Flux.fromStream(grpcStudentClient.listStudentsStream().toStream())
-            .map(student -> {
-                Student studentDTO = new Student();
-                studentDTO.setId(student.getId());
-                studentDTO.setFirstName(student.getFirstName());
-                studentDTO.setLastName(student.getLastName());
-                studentDTO.setAge(student.getAge());
-                return studentDTO;
-            });
-
-//        return Flux.interval(Duration.ofSeconds(5))
-//                .publishOn(Schedulers.boundedElastic())
-//                .flatMap(sequence -> {
-//                    // Convert the gRPC stream to a Flux
-//                    Flux<StudentOuterClass.Student> grpcStudentStream = Flux.fromStream(grpcStudentClient.listStudentsStream().toStream());
-//
-//                    // Map each gRPC student to a Student DTO
-//                    return grpcStudentStream.map(student -> {
-//                        Student studentDTO = new Student();
-//                        studentDTO.setId(student.getId());
-//                        studentDTO.setFirstName(student.getFirstNname());
-//                        studentDTO.setLastName(student.getLastName());
-//                        studentDTO.setAge(student.getAge());
-//                        return studentDTO;
-//                    });
-//                });
+    @GetMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, PROTOBUF})
+    public Mono<ResponseEntity<StudentOuterClass.Student>> getStudentById(@PathVariable Long id) {
+        return grpcStudentClient.getStudentById(id)
+            .map(ResponseEntity::ok)
+            .onErrorResume(GrpcController::errorResponse);
     }
 
-
-    @PostMapping
-    public ResponseEntity<Student> createStudent(@RequestBody Student request) {
-        String firstName = request.getFirstName();
-        String lastName = request.getLastName();
-        long age = request.getAge();
-        System.out.println(firstName);
-        StudentOuterClass.Student createdStudent = grpcStudentClient.createStudent(firstName, lastName, age);
-
-        // Convert gRPC response to DTO
-        Student createdStudentDTO = new Student();
-        createdStudentDTO.setId(createdStudent.getId());
-        createdStudentDTO.setFirstName(createdStudent.getFirstName());
-        createdStudentDTO.setLastName(createdStudent.getLastName());
-        createdStudentDTO.setAge(createdStudent.getAge());
-
-        return ResponseEntity.ok(createdStudentDTO);
+    // Protobuf clients get the stream as length-delimited messages.
+    @GetMapping(value = "/stream", produces = {MediaType.TEXT_EVENT_STREAM_VALUE, PROTOBUF})
+    public Flux<StudentOuterClass.Student> streamStudents() {
+        return grpcStudentClient.listStudentsStream();
     }
 
+    @PostMapping(produces = {MediaType.APPLICATION_JSON_VALUE, PROTOBUF})
+    public Mono<ResponseEntity<StudentOuterClass.Student>> createStudent(@RequestBody Student request) {
+        return grpcStudentClient.createStudent(request.getFirstName(), request.getLastName(), request.getAge())
+            .map(ResponseEntity::ok)
+            .onErrorResume(GrpcController::errorResponse);
+    }
 
-    @PutMapping("/{id}")
-    public ResponseEntity<Student> updateStudent(@PathVariable Long id, @RequestBody Student updatedStudentDTO) {
+    @PutMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, PROTOBUF})
+    public Mono<ResponseEntity<StudentOuterClass.Student>> updateStudent(@PathVariable Long id, @RequestBody Student updatedStudentDTO) {
         StudentOuterClass.Student updatedStudent = StudentOuterClass.Student.newBuilder()
             .setId(id)
             .setFirstName(updatedStudentDTO.getFirstName())
@@ -131,29 +91,52 @@ public class GrpcController {
             .build();
 
         // Call gRPC service to update student
-        StudentOuterClass.Student updatedStudentResponse = grpcStudentClient.updateStudent(updatedStudent);
-
-        // Convert gRPC response to DTO
-        Student updatedStudentResponseDTO = new Student();
-        updatedStudentResponseDTO.setId(updatedStudentResponse.getId());
-        updatedStudentResponseDTO.setFirstName(updatedStudentResponse.getFirstName());
-        updatedStudentResponseDTO.setLastName(updatedStudentResponse.getLastName());
-        updatedStudentResponseDTO.setAge(updatedStudentResponse.getAge());
-
-        return ResponseEntity.ok(updatedStudentResponseDTO);
+        return grpcStudentClient.updateStudent(updatedStudent)
+            .map(ResponseEntity::ok)
+            .onErrorResume(GrpcController::errorResponse);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<String> deleteStudent(@PathVariable Long id) {
+    public Mono<ResponseEntity<String>> deleteStudent(@PathVariable Long id) {
         // Call gRPC service to delete student
-        StudentOuterClass.DeleteStudentResponse deleteResponse = grpcStudentClient.deleteStudent(id);
+        return grpcStudentClient.deleteStudent(id)
+            .map(deleteResponse -> {
+                // Check if the deletion was successful
+                if ("Student Deleted".equalsIgnoreCase(deleteResponse.getMessage())) {
+                    return ResponseEntity.ok("Student deleted successfully.");
+                } else {
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Failed to delete student.");
+                }
+            })
+            .onErrorResume(GrpcController::errorResponse);
+    }
 
-        // Check if the deletion was successful
-        if (deleteResponse != null && "Student Deleted".equalsIgnoreCase(deleteResponse.getMessage())) {
-            return ResponseEntity.ok("Student deleted successfully.");
-        } else {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Failed to delete student.");
+    // INVALID_ARGUMENT from the server is the caller's fault, and a missing student is a 404. The server reports
+    // that as INTERNAL "student not found", so the description is checked as well as NOT_FOUND. An unreachable or
+    // slow server is a gateway error; everything else is ours.
+    private static <T> Mono<ResponseEntity<T>> errorResponse(Throwable e) {
+        if (e instanceof StatusRuntimeException statusException) {
+            Status status = statusException.getStatus();
+            switch (status.getCode()) {
+                case INVALID_ARGUMENT:
+                    return Mono.just(ResponseEntity.badRequest().build());
+                case NOT_FOUND:
+                    return Mono.just(ResponseEntity.notFound().build());
+                case UNAVAILABLE:
+                    return Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+                case DEADLINE_EXCEEDED:
+                    return Mono.just(ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).build());
+                case INTERNAL:
+                    if ("student not found".equals(status.getDescription())) {
+                        return Mono.just(ResponseEntity.notFound().build());
+                    }
+                    break;
+                default:
+                    break;
+            }
         }
+        log.error("gRPC call failed", e);
+        return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
     }
 
 }
@@ -2,20 +2,31 @@ package com.leeuw.grpc.interceptors;
 
 import io.grpc.*;
 import net.devh.boot.grpc.client.interceptor.GrpcGlobalClientInterceptor;
+import org.springframework.beans.factory.annotation.Value;
 
+/**
+ * Attaches the configured {@code grpc-api-key} to every call.
+ */
 @GrpcGlobalClientInterceptor
 public class AuthInterceptor implements ClientInterceptor {
 
+    private static final Metadata.Key<String> API_KEY = Metadata.Key.of("grpc-api-key", Metadata.ASCII_STRING_MARSHALLER);
+
+    private final String apiKey;
+
+    public AuthInterceptor(@Value("${students.auth.api-key:ay0ub}") String apiKey) {
+        this.apiKey = apiKey;
+    }
+
     @Override
     public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> methodDescriptor,
             CallOptions callOptions, Channel channel) {
-        System.out.println("client interceptor " + methodDescriptor.getFullMethodName());
         return new ForwardingClientCall.SimpleForwardingClientCall<>(channel.newCall(methodDescriptor, callOptions)) {
             @Override
             public void start(Listener<RespT> responseListener, Metadata headers) {
-                headers.put(Metadata.Key.of("grpc-api-key", Metadata.ASCII_STRING_MARSHALLER), "ay0ub");
+                headers.put(API_KEY, apiKey);
                 super.start(responseListener, headers);
             }
         };
     }
-}
\ No newline at end of file
+}
@@ -8,7 +8,8 @@ import org.springframework.context.annotation.ComponentScan;
 @ComponentScan(basePackages = {
     "com.leeuw.service",
     "com.leeuw.grpc.interceptors",
-    "com.leeuw.controller"
+    "com.leeuw.controller",
+    "com.leeuw.codec"
 })
 public class GrpcClientApplication {
 
@@ -1,83 +1,164 @@
 package com.leeuw.service;
 
-import com.google.protobuf.Empty;
 import com.leeuw.grpc.stubs.StudentOuterClass;
 import com.leeuw.grpc.stubs.StudentServiceGrpc;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
 import io.grpc.stub.StreamObserver;
 import net.devh.boot.grpc.client.inject.GrpcClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.Collection;
+import java.util.function.Consumer;
 
+/**
+ * Calls the student service through the async stub. Nothing here blocks: each method returns a publisher that
+ * starts the call on subscription and cancels it if the subscriber goes away first.
+ */
 @Service
 public class GrpcClientService {
-    @GrpcClient("service")
-    StudentServiceGrpc.StudentServiceBlockingStub studentServiceStub;
 
     @GrpcClient("service")
     StudentServiceGrpc.StudentServiceStub asyncStudentServiceStub;
-    public StudentOuterClass.ListStudentsResponse listStudents() {
-        return studentServiceStub.listStudents(StudentOuterClass.Empty.newBuilder().build());
+
+    @Value("${students.stream.prefetch:32}")
+    int streamPrefetch;
+
+    public Mono<StudentOuterClass.ListStudentsResponse> listStudents(int pageSize, String pageToken,
+                                                                     StudentOuterClass.StudentFilter filter,
+                                                                     StudentOuterClass.StudentSort sort) {
+        StudentOuterClass.ListStudentsRequest request = StudentOuterClass.ListStudentsRequest.newBuilder()
+            .setPageSize(pageSize)
+            .setPageToken(pageToken == null ? "" : pageToken)
+            .setFilter(filter)
+            .setSort(sort)
+            .build();
+        return unary(observer -> asyncStudentServiceStub.listStudents(request, observer));
     }
 
+    /**
+     * Streams every student. Demand from the subscriber is passed to the call as {@code request(n)}, in batches
+     * of {@code students.stream.prefetch}, so messages that nobody has asked for stay in the HTTP/2 flow-control
+     * window and a slow consumer slows the server down instead of filling a buffer here.
+     */
     public Flux<StudentOuterClass.Student> listStudentsStream() {
-        // Use Flux.create to handle the asynchronous nature of gRPC streaming
-        return Flux.create(emitter -> {
-            asyncStudentServiceStub.listStudentsStream(StudentOuterClass.Empty.newBuilder().build(),
-                new StreamObserver<StudentOuterClass.Student>() {
-                    @Override
-                    public void onNext(StudentOuterClass.Student student) {
-                        // Emit each student to the Flux
-                        emitter.next(student);
-                    }
-
-                    @Override
-                    public void onError(Throwable throwable) {
-                        // Signal error to the Flux
-                        emitter.error(throwable);
-                    }
-
-                    @Override
-                    public void onCompleted() {
-                        // Signal completion to the Flux
-                        emitter.complete();
-                    }
-                });
-        }, FluxSink.OverflowStrategy.BUFFER);
+        return serverStreaming(observer -> asyncStudentServiceStub.listStudentsStream(
+            StudentOuterClass.ListStudentsStreamRequest.getDefaultInstance(), observer));
     }
 
-
-
-
-    public StudentOuterClass.Student getStudentById(long id) {
+    public Mono<StudentOuterClass.Student> getStudentById(long id) {
         StudentOuterClass.GetStudentRequest request = StudentOuterClass.GetStudentRequest.newBuilder().setId(id).build();
-        return studentServiceStub.getStudent(request);
+        return unary(observer -> asyncStudentServiceStub.getStudent(request, observer));
     }
 
-    public StudentOuterClass.Student createStudent(String firstName, String lastName, long age) {
+    public Mono<StudentOuterClass.BatchGetStudentsResponse> getStudentsByIds(Collection<Long> ids) {
+        StudentOuterClass.BatchGetStudentsRequest request = StudentOuterClass.BatchGetStudentsRequest.newBuilder()
+            .addAllIds(ids)
+            .build();
+        return unary(observer -> asyncStudentServiceStub.batchGetStudents(request, observer));
+    }
+
+    public Mono<StudentOuterClass.Student> createStudent(String firstName, String lastName, long age) {
         StudentOuterClass.CreateStudentRequest request = StudentOuterClass.CreateStudentRequest.newBuilder()
             .setFirstName(firstName)
             .setLastName(lastName)
             .setAge(age)
             .build();
-
-        return studentServiceStub.createStudent(request);
+        return unary(observer -> asyncStudentServiceStub.createStudent(request, observer));
     }
 
-    public StudentOuterClass.Student updateStudent(StudentOuterClass.Student student) {
-        return studentServiceStub.updateStudent(student);
+    public Mono<StudentOuterClass.Student> updateStudent(StudentOuterClass.Student student) {
+        return unary(observer -> asyncStudentServiceStub.updateStudent(student, observer));
     }
 
-    public StudentOuterClass.DeleteStudentResponse deleteStudent(long id) {
+    public Mono<StudentOuterClass.DeleteStudentResponse> deleteStudent(long id) {
         StudentOuterClass.DeleteStudentRequest request = StudentOuterClass.DeleteStudentRequest.newBuilder().setId(id).build();
-        return studentServiceStub.deleteStudent(request);
+        return unary(observer -> asyncStudentServiceStub.deleteStudent(request, observer));
+    }
+
+    private <ReqT, RespT> Flux<RespT> serverStreaming(Consumer<StreamObserver<RespT>> call) {
+        return Flux.<RespT>create(sink -> {
+            StreamingObserver<ReqT, RespT> observer = new StreamingObserver<>(sink);
+            call.accept(observer);
+            observer.forwardDemand();
+        }, FluxSink.OverflowStrategy.ERROR).limitRate(streamPrefetch);
     }
-}
 
+    private static <ReqT, RespT> Mono<RespT> unary(Consumer<StreamObserver<RespT>> call) {
+        return Mono.create(sink -> call.accept(new UnaryObserver<ReqT, RespT>(sink)));
+    }
+
+    /**
+     * Starts the call with no messages requested. Only after the stub has started it can demand be forwarded,
+     * and the call never delivers more than was requested, so the sink never has to buffer.
+     */
+    private static final class StreamingObserver<ReqT, RespT> implements ClientResponseObserver<ReqT, RespT> {
+
+        private final FluxSink<RespT> sink;
+        private ClientCallStreamObserver<ReqT> requestStream;
+
+        StreamingObserver(FluxSink<RespT> sink) {
+            this.sink = sink;
+        }
+
+        @Override
+        public void beforeStart(ClientCallStreamObserver<ReqT> requestStream) {
+            this.requestStream = requestStream;
+            requestStream.disableAutoRequestWithInitial(0);
+        }
+
+        void forwardDemand() {
+            sink.onRequest(n -> requestStream.request((int) Math.min(n, Integer.MAX_VALUE)));
+            sink.onCancel(() -> requestStream.cancel("cancelled by subscriber", null));
+        }
+
+        @Override
+        public void onNext(RespT value) {
+            sink.next(value);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            sink.error(t);
+        }
+
+        @Override
+        public void onCompleted() {
+            sink.complete();
+        }
+    }
+
+    private static final class UnaryObserver<ReqT, RespT> implements ClientResponseObserver<ReqT, RespT> {
+
+        private final MonoSink<RespT> sink;
+
+        UnaryObserver(MonoSink<RespT> sink) {
+            this.sink = sink;
+        }
+
+        @Override
+        public void beforeStart(ClientCallStreamObserver<ReqT> requestStream) {
+            sink.onCancel(() -> requestStream.cancel("cancelled by subscriber", null));
+        }
+
+        @Override
+        public void onNext(RespT value) {
+            sink.success(value);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            sink.error(t);
+        }
+
+        @Override
+        public void onCompleted() {
+            sink.success();
+        }
+    }
+}
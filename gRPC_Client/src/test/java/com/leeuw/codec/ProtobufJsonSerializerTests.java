@@ -0,0 +1,68 @@
+package com.leeuw.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.DescriptorProtos;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import com.leeuw.grpc.stubs.StudentOuterClass;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ProtobufJsonSerializerTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new ProtobufCodecConfiguration().protobufJsonModule());
+
+    @Test
+    void writesMessagesTheWayTheDtosDid() throws Exception {
+        StudentOuterClass.Student student = StudentOuterClass.Student.newBuilder()
+                .setId(7).setFirstName("Sara").setLastName("Alaoui").setAge(21).build();
+
+        assertEquals("{\"students\":[{\"id\":7,\"firstName\":\"Sara\",\"lastName\":\"Alaoui\",\"age\":21}],"
+                        + "\"nextPageToken\":null}",
+                objectMapper.writeValueAsString(StudentOuterClass.ListStudentsResponse.newBuilder()
+                        .addStudents(student).build()));
+        assertEquals("{\"students\":[],\"missingIds\":[1,2]}",
+                objectMapper.writeValueAsString(StudentOuterClass.BatchGetStudentsResponse.newBuilder()
+                        .addMissingIds(1).addMissingIds(2).build()));
+    }
+
+    @Test
+    void writesEmptyNamesAsEmptyStrings() throws Exception {
+        StudentOuterClass.Student student = StudentOuterClass.Student.newBuilder().setId(8).setAge(30).build();
+
+        assertEquals("{\"id\":8,\"firstName\":\"\",\"lastName\":\"\",\"age\":30}",
+                objectMapper.writeValueAsString(student));
+    }
+
+    @Test
+    void writesDynamicMessagesThroughTheirDescriptor() throws Exception {
+        StudentOuterClass.Student student = StudentOuterClass.Student.newBuilder()
+                .setId(7).setFirstName("Sara").setLastName("Alaoui").setAge(21).build();
+        DynamicMessage dynamic = DynamicMessage.newBuilder(student.getDescriptorForType())
+                .mergeFrom(student.toByteString()).build();
+
+        assertEquals(objectMapper.writeValueAsString(student), objectMapper.writeValueAsString(dynamic));
+    }
+
+    @Test
+    void writesOtherPageTokensAsEmptyStrings() throws Exception {
+        DescriptorProtos.FileDescriptorProto file = DescriptorProtos.FileDescriptorProto.newBuilder()
+                .setName("other.proto")
+                .setSyntax("proto3")
+                .addMessageType(DescriptorProtos.DescriptorProto.newBuilder()
+                        .setName("OtherPage")
+                        .addField(DescriptorProtos.FieldDescriptorProto.newBuilder()
+                                .setName("next_page_token")
+                                .setJsonName("nextPageToken")
+                                .setNumber(1)
+                                .setType(DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING)))
+                .build();
+        Descriptors.Descriptor otherPage = Descriptors.FileDescriptor.buildFrom(file, new Descriptors.FileDescriptor[0])
+                .findMessageTypeByName("OtherPage");
+
+        assertEquals("{\"nextPageToken\":\"\"}",
+                objectMapper.writeValueAsString(DynamicMessage.getDefaultInstance(otherPage)));
+    }
+}
@@ -0,0 +1,60 @@
+package com.leeuw.controller;
+
+import com.leeuw.dto.Student;
+import com.leeuw.grpc.stubs.StudentOuterClass;
+import com.leeuw.service.GrpcClientService;
+import io.grpc.Status;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GrpcControllerTests {
+
+    private final GrpcClientService service = mock(GrpcClientService.class);
+    private final GrpcController controller = new GrpcController(service);
+
+    @Test
+    void missingStudentIsNotFound() {
+        when(service.getStudentById(1)).thenReturn(Mono.error(Status.NOT_FOUND.asRuntimeException()));
+        when(service.deleteStudent(1)).thenReturn(
+                Mono.error(Status.INTERNAL.withDescription("student not found").asRuntimeException()));
+        when(service.updateStudent(any())).thenReturn(
+                Mono.error(Status.INTERNAL.withDescription("student not found").asRuntimeException()));
+
+        assertEquals(HttpStatus.NOT_FOUND, controller.getStudentById(1L).block().getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, controller.deleteStudent(1L).block().getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, controller.updateStudent(1L, new Student("ada", "lovelace", 36L))
+                .block().getStatusCode());
+    }
+
+    @Test
+    void serverFailuresAreNotReportedAsNotFound() {
+        when(service.getStudentById(1)).thenReturn(Mono.error(Status.UNAVAILABLE.asRuntimeException()));
+        when(service.getStudentById(2)).thenReturn(Mono.error(Status.DEADLINE_EXCEEDED.asRuntimeException()));
+        when(service.getStudentById(3)).thenReturn(Mono.error(Status.UNAUTHENTICATED.asRuntimeException()));
+        when(service.createStudent(anyString(), anyString(), anyLong()))
+                .thenReturn(Mono.error(Status.INVALID_ARGUMENT.asRuntimeException()));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, controller.getStudentById(1L).block().getStatusCode());
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, controller.getStudentById(2L).block().getStatusCode());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, controller.getStudentById(3L).block().getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, controller.createStudent(new Student("ada", "lovelace", 36L))
+                .block().getStatusCode());
+    }
+
+    @Test
+    void successfulWritesAreOk() {
+        StudentOuterClass.Student created = StudentOuterClass.Student.newBuilder()
+                .setId(5).setFirstName("ada").setLastName("lovelace").setAge(36).build();
+        when(service.createStudent("ada", "lovelace", 36)).thenReturn(Mono.just(created));
+
+        assertEquals(created, controller.createStudent(new Student("ada", "lovelace", 36L)).block().getBody());
+    }
+}
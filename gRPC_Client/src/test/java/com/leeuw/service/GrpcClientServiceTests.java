@@ -0,0 +1,104 @@
+package com.leeuw.service;
+
+import com.leeuw.grpc.stubs.StudentOuterClass;
+import com.leeuw.grpc.stubs.StudentServiceGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GrpcClientServiceTests {
+
+    private static final int STUDENTS = 1000;
+    private static final int PREFETCH = 8;
+
+    private final AtomicInteger sent = new AtomicInteger();
+    private final CountDownLatch cancelled = new CountDownLatch(1);
+    private Server server;
+    private ManagedChannel channel;
+    private GrpcClientService service;
+
+    @BeforeEach
+    void start() throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).directExecutor().addService(new StreamingService()).build().start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        service = new GrpcClientService();
+        service.asyncStudentServiceStub = StudentServiceGrpc.newStub(channel);
+        service.streamPrefetch = PREFETCH;
+    }
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void listStudentsStreamOnlyPullsWhatTheSubscriberAskedFor() throws Exception {
+        CountDownLatch received = new CountDownLatch(3);
+        BaseSubscriber<StudentOuterClass.Student> subscriber = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                subscription.request(3);
+            }
+
+            @Override
+            protected void hookOnNext(StudentOuterClass.Student student) {
+                received.countDown();
+            }
+        };
+        service.listStudentsStream().subscribe(subscriber);
+
+        assertTrue(received.await(5, TimeUnit.SECONDS));
+        assertEquals(PREFETCH, sent.get());
+
+        subscriber.cancel();
+        assertTrue(cancelled.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void listStudentsStreamDeliversEverythingToAnUnboundedSubscriber() {
+        assertEquals(STUDENTS, service.listStudentsStream().count().block());
+        assertEquals(STUDENTS, sent.get());
+    }
+
+    private class StreamingService extends StudentServiceGrpc.StudentServiceImplBase {
+
+        @Override
+        public void listStudentsStream(StudentOuterClass.ListStudentsStreamRequest request,
+                                       StreamObserver<StudentOuterClass.Student> responseObserver) {
+            ServerCallStreamObserver<StudentOuterClass.Student> call =
+                    (ServerCallStreamObserver<StudentOuterClass.Student>) responseObserver;
+            call.setOnCancelHandler(cancelled::countDown);
+            call.setOnReadyHandler(new Runnable() {
+                private boolean completed;
+
+                @Override
+                public void run() {
+                    while (call.isReady() && sent.get() < STUDENTS) {
+                        call.onNext(StudentOuterClass.Student.newBuilder().setId(sent.incrementAndGet()).build());
+                    }
+                    if (sent.get() == STUDENTS && !completed) {
+                        completed = true;
+                        call.onCompleted();
+                    }
+                }
+            });
+        }
+    }
+}